@@ -0,0 +1,244 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.StartAndResultFlow;
+import net.objectzoo.ebc.executor.FlowExecutor;
+import net.objectzoo.ebc.executor.FlowFactory;
+
+/**
+ * The {@code AsyncFlowExecutor} extends the {@link FlowExecutor} by methods that execute flows
+ * sending their final result asynchronously. Instead of expecting the result before the input
+ * action returns these methods return a {@link CompletableFuture} that is completed as soon as the
+ * flow sends its result, regardless of the thread sending it.
+ * 
+ * The returned future subscribes to the result event of the flow before the flow is executed and
+ * unsubscribes when it is completed. This happens when the result is sent, the timeout elapses
+ * with a {@link java.util.concurrent.TimeoutException}, the future is cancelled or the input
+ * action of the flow throws an exception. Since the first result sent by the flow completes the
+ * future the methods are not thread safe regarding simultaneous executions of the same flow
+ * instance!
+ * 
+ * @author tilmann
+ */
+public class AsyncFlowExecutor extends FlowExecutor
+{
+	/**
+	 * Creates a new {@code AsyncFlowExecutor} using the given {@link FlowFactory} to create new
+	 * flow instances
+	 * 
+	 * @param theFlowCreator
+	 *        the {@link FlowFactory} used to create flow instances
+	 */
+	public AsyncFlowExecutor(FlowFactory theFlowCreator)
+	{
+		super(theFlowCreator);
+	}
+	
+	/**
+	 * Creates the flow determined by the given flow class using this executor's {@link FlowFactory}
+	 * instance and then executes the flow as described by
+	 * {@link #processAsync(ProcessAndResultFlow, Object)}
+	 * 
+	 * @param flowClass
+	 *        the {@link Class} of the flow to be created
+	 * @param input
+	 *        the input parameter to be processed by the flow
+	 * @return the future completed by the final result sent by the flow
+	 */
+	public <ProcessParameter, ResultParameter, FlowType extends ProcessAndResultFlow<ProcessParameter, ResultParameter>> CompletableFuture<ResultParameter> processAsync(Class<FlowType> flowClass,
+																																										 ProcessParameter input)
+	{
+		return processAsync(createFlow(flowClass), input);
+	}
+	
+	/**
+	 * Creates the flow determined by the given flow class using this executor's {@link FlowFactory}
+	 * instance and then executes the flow as described by
+	 * {@link #processAsync(ProcessAndResultFlow, Object, long, TimeUnit)}
+	 * 
+	 * @param flowClass
+	 *        the {@link Class} of the flow to be created
+	 * @param input
+	 *        the input parameter to be processed by the flow
+	 * @param timeout
+	 *        the time to wait for the result
+	 * @param unit
+	 *        the unit of the timeout
+	 * @return the future completed by the final result sent by the flow
+	 */
+	public <ProcessParameter, ResultParameter, FlowType extends ProcessAndResultFlow<ProcessParameter, ResultParameter>> CompletableFuture<ResultParameter> processAsync(Class<FlowType> flowClass,
+																																										 ProcessParameter input,
+																																										 long timeout,
+																																										 TimeUnit unit)
+	{
+		return processAsync(createFlow(flowClass), input, timeout, unit);
+	}
+	
+	/**
+	 * Creates the flow determined by the given flow class using this executor's {@link FlowFactory}
+	 * instance and then executes the flow as described by {@link #startAsync(StartAndResultFlow)}
+	 * 
+	 * @param flowClass
+	 *        the {@link Class} of the flow to be created
+	 * @return the future completed by the final result sent by the flow
+	 */
+	public <ResultParameter, FlowType extends StartAndResultFlow<ResultParameter>> CompletableFuture<ResultParameter> startAsync(Class<FlowType> flowClass)
+	{
+		return startAsync(createFlow(flowClass));
+	}
+	
+	/**
+	 * Creates the flow determined by the given flow class using this executor's {@link FlowFactory}
+	 * instance and then executes the flow as described by
+	 * {@link #startAsync(StartAndResultFlow, long, TimeUnit)}
+	 * 
+	 * @param flowClass
+	 *        the {@link Class} of the flow to be created
+	 * @param timeout
+	 *        the time to wait for the result
+	 * @param unit
+	 *        the unit of the timeout
+	 * @return the future completed by the final result sent by the flow
+	 */
+	public <ResultParameter, FlowType extends StartAndResultFlow<ResultParameter>> CompletableFuture<ResultParameter> startAsync(Class<FlowType> flowClass,
+																																 long timeout,
+																																 TimeUnit unit)
+	{
+		return startAsync(createFlow(flowClass), timeout, unit);
+	}
+	
+	/**
+	 * Executes the given {@link ProcessAndResultFlow} flow with the given input parameter and
+	 * returns a future that is completed by the first result the flow sends. If the input action of
+	 * the flow throws an exception the returned future is completed exceptionally with it.
+	 * 
+	 * @param flow
+	 *        the flow to be executed
+	 * @param input
+	 *        the input parameter to be processed by the flow
+	 * @return the future completed by the final result sent by the flow
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public static <ProcessParameter, ResultParameter, FlowType extends ProcessAndResultFlow<ProcessParameter, ResultParameter>> CompletableFuture<ResultParameter> processAsync(FlowType flow,
+																																												ProcessParameter input)
+	{
+		ResultFuture<ResultParameter> result = new ResultFuture<ResultParameter>(flow);
+		
+		return execute(result, () -> flow.processAction().accept(input));
+	}
+	
+	/**
+	 * Executes the given {@link ProcessAndResultFlow} flow as described by
+	 * {@link #processAsync(ProcessAndResultFlow, Object)} and completes the returned future with a
+	 * {@link java.util.concurrent.TimeoutException} if the flow does not send a result within the
+	 * given time.
+	 * 
+	 * @param flow
+	 *        the flow to be executed
+	 * @param input
+	 *        the input parameter to be processed by the flow
+	 * @param timeout
+	 *        the time to wait for the result
+	 * @param unit
+	 *        the unit of the timeout
+	 * @return the future completed by the final result sent by the flow
+	 * @throws IllegalArgumentException
+	 *         if the given flow or unit is {@code null}
+	 */
+	public static <ProcessParameter, ResultParameter, FlowType extends ProcessAndResultFlow<ProcessParameter, ResultParameter>> CompletableFuture<ResultParameter> processAsync(FlowType flow,
+																																												ProcessParameter input,
+																																												long timeout,
+																																												TimeUnit unit)
+	{
+		ResultFuture<ResultParameter> result = new ResultFuture<ResultParameter>(flow);
+		result.failAfter(timeout, unit);
+		
+		return execute(result, () -> flow.processAction().accept(input));
+	}
+	
+	/**
+	 * Executes the given {@link StartAndResultFlow} flow and returns a future that is completed by
+	 * the first result the flow sends. If the start action of the flow throws an exception the
+	 * returned future is completed exceptionally with it.
+	 * 
+	 * @param flow
+	 *        the flow to be executed
+	 * @return the future completed by the final result sent by the flow
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public static <ResultParameter, FlowType extends StartAndResultFlow<ResultParameter>> CompletableFuture<ResultParameter> startAsync(FlowType flow)
+	{
+		ResultFuture<ResultParameter> result = new ResultFuture<ResultParameter>(flow);
+		
+		return execute(result, () -> flow.startAction().start());
+	}
+	
+	/**
+	 * Executes the given {@link StartAndResultFlow} flow as described by
+	 * {@link #startAsync(StartAndResultFlow)} and completes the returned future with a
+	 * {@link java.util.concurrent.TimeoutException} if the flow does not send a result within the
+	 * given time.
+	 * 
+	 * @param flow
+	 *        the flow to be executed
+	 * @param timeout
+	 *        the time to wait for the result
+	 * @param unit
+	 *        the unit of the timeout
+	 * @return the future completed by the final result sent by the flow
+	 * @throws IllegalArgumentException
+	 *         if the given flow or unit is {@code null}
+	 */
+	public static <ResultParameter, FlowType extends StartAndResultFlow<ResultParameter>> CompletableFuture<ResultParameter> startAsync(FlowType flow,
+																																		long timeout,
+																																		TimeUnit unit)
+	{
+		ResultFuture<ResultParameter> result = new ResultFuture<ResultParameter>(flow);
+		result.failAfter(timeout, unit);
+		
+		return execute(result, () -> flow.startAction().start());
+	}
+	
+	private static <ResultParameter> CompletableFuture<ResultParameter> execute(ResultFuture<ResultParameter> result,
+																				Runnable flowInput)
+	{
+		try
+		{
+			flowInput.run();
+		}
+		catch (RuntimeException e)
+		{
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+}
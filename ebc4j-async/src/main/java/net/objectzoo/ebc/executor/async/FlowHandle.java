@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor.async;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.ebc.SendsResult;
+
+/**
+ * This is the base class of the compiled flow handles. A flow handle subscribes to the final result
+ * event of its flow only once at construction time and captures the results into a slot that is
+ * bound to the executing thread. Thus executing a flow by a handle does neither allocate memory nor
+ * acquire locks and the same flow instance may be executed by multiple threads simultaneously as
+ * long as the flow itself supports this, e.g. by using {@code ThreadLocalStateFactory} for its
+ * stateful EBCs.
+ * 
+ * Like the synchronous adapters of {@code FlowExecutor} the handles expect the flow to send
+ * exactly one result synchronously in the executing thread. Results sent by other threads or
+ * outside of a handle execution are ignored. Executions of the same handle may be nested, e.g. when
+ * an EBC of a flow executes the flow recursively.
+ * 
+ * @author tilmann
+ * 
+ * @param <ProcessParameter>
+ *        the process parameter type of the flow
+ * @param <ResultParameter>
+ *        the result parameter type of the flow
+ */
+abstract class FlowHandle<ProcessParameter, ResultParameter> implements AutoCloseable
+{
+	/**
+	 * The per thread storage of the result of the currently running execution
+	 */
+	private static final class ResultSlot
+	{
+		Object result;
+		
+		boolean capturing;
+		
+		boolean captured;
+	}
+	
+	private final SendsResult<ResultParameter> flow;
+	
+	private final ThreadLocal<ResultSlot> resultSlots = ThreadLocal.withInitial(ResultSlot::new);
+	
+	private final Action<ResultParameter> resultCapture = this::captureResult;
+	
+	private volatile boolean closed;
+	
+	FlowHandle(SendsResult<ResultParameter> flow)
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		
+		this.flow = flow;
+		flow.resultEvent().subscribe(resultCapture);
+	}
+	
+	/**
+	 * Executes the flow with the given input. Implementations invoke the input action of the flow.
+	 * 
+	 * @param input
+	 *        the input parameter for the flow
+	 */
+	abstract void executeFlow(ProcessParameter input);
+	
+	/**
+	 * Executes the flow with the given input and returns the result it sent
+	 * 
+	 * @param input
+	 *        the input parameter for the flow
+	 * @return the result sent by the flow
+	 * @throws IllegalStateException
+	 *         if this handle has been closed or the flow did not send a result
+	 */
+	@SuppressWarnings("unchecked")
+	final ResultParameter executeAndReturnResult(ProcessParameter input)
+	{
+		if (closed)
+		{
+			throw new IllegalStateException("This flow handle has already been closed");
+		}
+		
+		ResultSlot slot = resultSlots.get();
+		Object outerResult = slot.result;
+		boolean outerCapturing = slot.capturing;
+		boolean outerCaptured = slot.captured;
+		
+		slot.result = null;
+		slot.capturing = true;
+		slot.captured = false;
+		try
+		{
+			executeFlow(input);
+			
+			if (!slot.captured)
+			{
+				throw new IllegalStateException("The flow did not send a result synchronously");
+			}
+			return (ResultParameter) slot.result;
+		}
+		finally
+		{
+			slot.result = outerResult;
+			slot.capturing = outerCapturing;
+			slot.captured = outerCaptured;
+		}
+	}
+	
+	private void captureResult(ResultParameter result)
+	{
+		ResultSlot slot = resultSlots.get();
+		if (!slot.capturing)
+		{
+			return;
+		}
+		if (slot.captured)
+		{
+			throw new IllegalStateException("The flow sent the result " + result
+				+ " after it has already sent the result " + slot.result);
+		}
+		
+		slot.result = result;
+		slot.captured = true;
+	}
+	
+	/**
+	 * Unsubscribes this handle from the result event of its flow. Afterwards the handle can not be
+	 * used to execute the flow anymore.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		flow.resultEvent().unsubscribe(resultCapture);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor.async;
+
+import java.util.function.Function;
+
+import net.objectzoo.ebc.ProcessAndResultFlow;
+
+/**
+ * This handle adapts a {@link ProcessAndResultFlow} to a {@link Function} that can be invoked
+ * repeatedly and by multiple threads simultaneously. In contrast to the
+ * {@code ProcessAndResultFlowToFunctionAdapter} the handle subscribes to the final result event
+ * only once when it is created and captures the result of each execution in a slot bound to the
+ * executing thread without allocating memory or acquiring a lock. When the handle is not needed
+ * anymore it should be {@link #close() closed} to unsubscribe it from the flow.
+ * 
+ * @author tilmann
+ * 
+ * @param <ProcessParameter>
+ *        the process parameter type of the flow
+ * @param <ResultParameter>
+ *        the result parameter type of the flow
+ */
+public class ProcessAndResultFlowHandle<ProcessParameter, ResultParameter> extends
+	FlowHandle<ProcessParameter, ResultParameter> implements Function<ProcessParameter, ResultParameter>
+{
+	private final ProcessAndResultFlow<ProcessParameter, ResultParameter> flow;
+	
+	/**
+	 * Creates a new {@code ProcessAndResultFlowHandle} and subscribes it to the result event of the
+	 * given flow
+	 * 
+	 * @param flow
+	 *        the flow to be executed by this handle
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public ProcessAndResultFlowHandle(ProcessAndResultFlow<ProcessParameter, ResultParameter> flow)
+	{
+		super(flow);
+		this.flow = flow;
+	}
+	
+	/**
+	 * Executes the flow with the given input and returns the result it sent
+	 * 
+	 * @param input
+	 *        the input parameter to be processed by the flow
+	 * @return the result sent by the flow
+	 * @throws IllegalStateException
+	 *         if this handle has been closed or the flow did not send a result
+	 */
+	@Override
+	public ResultParameter apply(ProcessParameter input)
+	{
+		return executeAndReturnResult(input);
+	}
+	
+	@Override
+	void executeFlow(ProcessParameter input)
+	{
+		flow.processAction().accept(input);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.ebc.SendsResult;
+
+/**
+ * A {@link CompletableFuture} that subscribes to the result event of a flow and is completed by the
+ * first result the flow sends, regardless of the thread sending it. As soon as the future is
+ * completed in any way, i.e. by a result, exceptionally, by a timeout or by cancellation, it
+ * unsubscribes from the flow again.
+ * 
+ * @author tilmann
+ * 
+ * @param <ResultParameter>
+ *        the result parameter type of the flow
+ */
+final class ResultFuture<ResultParameter> extends CompletableFuture<ResultParameter> implements
+	Action<ResultParameter>
+{
+	/**
+	 * Lazily creates the single daemon thread that fails futures whose timeout has elapsed
+	 */
+	private static final class TimeoutScheduler
+	{
+		static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+		
+		private static ScheduledThreadPoolExecutor createScheduler()
+		{
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "ebc4j-flow-timeout");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+	}
+	
+	private final SendsResult<ResultParameter> flow;
+	
+	private volatile ScheduledFuture<?> timeout;
+	
+	ResultFuture(SendsResult<ResultParameter> flow)
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		
+		this.flow = flow;
+		flow.resultEvent().subscribe(this);
+		whenComplete((result, error) -> release());
+	}
+	
+	/**
+	 * Fails this future with a {@link TimeoutException} if it has not been completed within the
+	 * given time
+	 * 
+	 * @param time
+	 *        the time to wait for the result
+	 * @param unit
+	 *        the unit of the given time
+	 */
+	void failAfter(long time, TimeUnit unit)
+	{
+		if (unit == null)
+		{
+			throw new IllegalArgumentException("unit=null");
+		}
+		
+		ScheduledFuture<?> scheduled = TimeoutScheduler.INSTANCE.schedule(
+			() -> completeExceptionally(new TimeoutException("The flow did not send a result within " + time + " "
+				+ unit)), time, unit);
+		timeout = scheduled;
+		if (isDone())
+		{
+			scheduled.cancel(false);
+		}
+	}
+	
+	@Override
+	public void accept(ResultParameter result)
+	{
+		complete(result);
+	}
+	
+	private void release()
+	{
+		flow.resultEvent().unsubscribe(this);
+		ScheduledFuture<?> scheduled = timeout;
+		if (scheduled != null)
+		{
+			scheduled.cancel(false);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor.async;
+
+import java.util.function.Supplier;
+
+import net.objectzoo.ebc.StartAndResultFlow;
+
+/**
+ * This handle adapts a {@link StartAndResultFlow} to a {@link Supplier} that can be invoked
+ * repeatedly and by multiple threads simultaneously. In contrast to the
+ * {@code StartAndResultFlowToSupplierAdapter} the handle subscribes to the final result event only
+ * once when it is created and captures the result of each execution in a slot bound to the
+ * executing thread without allocating memory or acquiring a lock. When the handle is not needed
+ * anymore it should be {@link #close() closed} to unsubscribe it from the flow.
+ * 
+ * @author tilmann
+ * 
+ * @param <ResultParameter>
+ *        the result parameter type of the flow
+ */
+public class StartAndResultFlowHandle<ResultParameter> extends FlowHandle<Void, ResultParameter> implements
+	Supplier<ResultParameter>
+{
+	private final StartAndResultFlow<ResultParameter> flow;
+	
+	/**
+	 * Creates a new {@code StartAndResultFlowHandle} and subscribes it to the result event of the
+	 * given flow
+	 * 
+	 * @param flow
+	 *        the flow to be executed by this handle
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public StartAndResultFlowHandle(StartAndResultFlow<ResultParameter> flow)
+	{
+		super(flow);
+		this.flow = flow;
+	}
+	
+	/**
+	 * Starts the flow and returns the result it sent
+	 * 
+	 * @return the result sent by the flow
+	 * @throws IllegalStateException
+	 *         if this handle has been closed or the flow did not send a result
+	 */
+	@Override
+	public ResultParameter get()
+	{
+		return executeAndReturnResult(null);
+	}
+	
+	@Override
+	void executeFlow(Void input)
+	{
+		flow.startAction().start();
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains executors for flows that are executed repeatedly and potentially by
+ * multiple threads simultaneously or that send their results asynchronously.
+ */
+package net.objectzoo.ebc.executor.async;
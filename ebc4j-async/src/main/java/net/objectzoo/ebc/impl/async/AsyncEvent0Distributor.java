@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.concurrent.Executor;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
+import net.objectzoo.events.impl.Event0Delegate;
+
+/**
+ * The {@code AsyncEvent0Distributor} is a {@link Event0Delegate} implementation that distributes
+ * the signals to its subscribers asynchronously. Like the {@link AsyncEventDistributor} it hands
+ * each invocation to a {@link SerialExecutor} and returns immediately.
+ * 
+ * @author tilmann
+ */
+public class AsyncEvent0Distributor implements Event0Delegate
+{
+	private final CopyOnWriteEvent0Distributor distributor = new CopyOnWriteEvent0Distributor();
+	
+	private final SerialExecutor serialExecutor;
+	
+	private final Runnable distribution = distributor::start;
+	
+	/**
+	 * Creates a new {@code AsyncEvent0Distributor} distributing the signals using the given
+	 * {@link Executor}
+	 * 
+	 * @param executor
+	 *        the {@link Executor} to invoke the subscribers with
+	 * @throws IllegalArgumentException
+	 *         if the given executor is {@code null}
+	 */
+	public AsyncEvent0Distributor(Executor executor)
+	{
+		serialExecutor = new SerialExecutor(executor);
+	}
+	
+	/**
+	 * This {@code start} implementation queues the invocation of all event subscribers in the order
+	 * they have been subscribed.
+	 */
+	@Override
+	public void start()
+	{
+		serialExecutor.execute(distribution);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(Action0 action) throws IllegalArgumentException
+	{
+		distributor.subscribe(action);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unsubscribe(Action0 action) throws IllegalArgumentException
+	{
+		distributor.unsubscribe(action);
+	}
+	
+	/**
+	 * Retrieve the number of invocations that have been queued but not completed yet
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return serialExecutor.getQueueDepth();
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.events.impl.EventDelegate;
+
+/**
+ * The {@code AsyncEventDistributor} is a {@link EventDelegate} implementation that distributes the
+ * events to its subscribers asynchronously. Each invocation is handed to a {@link SerialExecutor}
+ * wrapping the given {@link Executor} and returns immediately. The subscribers are invoked in the
+ * order of the invocations, one invocation after the other.
+ * 
+ * It can be placed between two EBCs to decouple them: {@code await(a).then(distributor)} and
+ * {@code await(distributor).then(b)}.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        The type of the information parameter the event provides
+ */
+public class AsyncEventDistributor<T> implements EventDelegate<T>
+{
+	private final CopyOnWriteEventDistributor<T> distributor = new CopyOnWriteEventDistributor<T>();
+	
+	private final SerialExecutor serialExecutor;
+	
+	/**
+	 * Creates a new {@code AsyncEventDistributor} distributing the events using the given
+	 * {@link Executor}
+	 * 
+	 * @param executor
+	 *        the {@link Executor} to invoke the subscribers with
+	 * @throws IllegalArgumentException
+	 *         if the given executor is {@code null}
+	 */
+	public AsyncEventDistributor(Executor executor)
+	{
+		serialExecutor = new SerialExecutor(executor);
+	}
+	
+	/**
+	 * This {@code accept} implementation queues the invocation of all event subscribers in the
+	 * order they have been subscribed.
+	 * 
+	 * @param parameter
+	 *        the parameter to invoke the subscribers with
+	 */
+	@Override
+	public void accept(final T parameter)
+	{
+		serialExecutor.execute(() -> distributor.accept(parameter));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(Consumer<? super T> consumer) throws IllegalArgumentException
+	{
+		distributor.subscribe(consumer);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unsubscribe(Consumer<? super T> consumer) throws IllegalArgumentException
+	{
+		distributor.unsubscribe(consumer);
+	}
+	
+	/**
+	 * Retrieve the number of invocations that have been queued but not completed yet
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return serialExecutor.getQueueDepth();
+	}
+}
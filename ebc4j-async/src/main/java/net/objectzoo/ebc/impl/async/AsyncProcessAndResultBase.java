@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.Executor;
+
+import net.objectzoo.ebc.CanProcess;
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.impl.ProcessAndResultBoard;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * A base class for an EBC that {@link CanProcess} and {@link SendsResult} asynchronously.
+ * 
+ * Like the {@code ProcessAndResultBase} the implementation contains the boilerplate code required to
+ * implement the interfaces and provides trace logging of action and event invocations. But instead
+ * of processing the input on the caller's stack each invocation of the process action is queued and
+ * {@link #process(Object)} is invoked by a {@link SerialExecutor} using the given {@link Executor}.
+ * Thus the inputs are processed one after the other in the order they have been received and the
+ * results are sent from the executing thread.
+ * 
+ * @author tilmann
+ * 
+ * @param <ProcessParameter>
+ *        the type of input processed by this EBC
+ * @param <ResultParameter>
+ *        the type of output of this EBC
+ */
+public abstract class AsyncProcessAndResultBase<ProcessParameter, ResultParameter> extends
+	ProcessAndResultBoard<ProcessParameter, ResultParameter>
+{
+	private final SerialExecutor serialExecutor;
+	
+	/**
+	 * Creates a new {@code AsyncProcessAndResultBase}
+	 * 
+	 * @param executor
+	 *        the {@link Executor} used to process the inputs
+	 * @throws IllegalArgumentException
+	 *         if the given executor is {@code null}
+	 */
+	public AsyncProcessAndResultBase(Executor executor)
+	{
+		serialExecutor = new SerialExecutor(executor);
+		await(processAction).then(this::queueProcess);
+	}
+	
+	private void queueProcess(final ProcessParameter parameter)
+	{
+		serialExecutor.execute(() -> receiveProcess(parameter));
+	}
+	
+	private void receiveProcess(ProcessParameter parameter)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving parameter to process: ", parameter);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			process(parameter);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, parameter, () -> process(parameter));
+	}
+	
+	/**
+	 * This method is to be provided by subclasses to actually implement what's taking place when
+	 * the process action is invoked. It is invoked by the executor of this EBC.
+	 * 
+	 * @param parameter
+	 *        the parameter value for the invocation
+	 */
+	protected abstract void process(ProcessParameter parameter);
+	
+	/**
+	 * This method can be used by subclasses to send the result.
+	 * 
+	 * @param parameter
+	 *        the parameter value for the invocation
+	 */
+	protected void sendResult(ResultParameter parameter)
+	{
+		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
+		resultEvent.accept(parameter);
+	}
+	
+	/**
+	 * Retrieve the number of process invocations that have been queued but not completed yet
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return serialExecutor.getQueueDepth();
+	}
+}
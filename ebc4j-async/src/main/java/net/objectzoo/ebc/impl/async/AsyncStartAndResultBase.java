@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.Executor;
+
+import net.objectzoo.ebc.CanStart;
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.impl.StartAndResultBoard;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * A base class for an EBC that {@link CanStart} and {@link SendsResult} asynchronously.
+ * 
+ * Like the {@code StartAndResultBase} the implementation contains the boilerplate code required to
+ * implement the interfaces and provides trace logging of action and event invocations. But each
+ * invocation of the start action is queued and {@link #start()} is invoked by a
+ * {@link SerialExecutor} using the given {@link Executor}.
+ * 
+ * @author tilmann
+ * 
+ * @param <ResultParameter>
+ *        the type of output of this EBC
+ */
+public abstract class AsyncStartAndResultBase<ResultParameter> extends StartAndResultBoard<ResultParameter>
+{
+	private final SerialExecutor serialExecutor;
+	
+	private final Runnable receiveStart = this::receiveStart;
+	
+	/**
+	 * Creates a new {@code AsyncStartAndResultBase}
+	 * 
+	 * @param executor
+	 *        the {@link Executor} used to execute the starts
+	 * @throws IllegalArgumentException
+	 *         if the given executor is {@code null}
+	 */
+	public AsyncStartAndResultBase(Executor executor)
+	{
+		serialExecutor = new SerialExecutor(executor);
+		await(startAction).then(this::queueStart);
+	}
+	
+	private void queueStart()
+	{
+		serialExecutor.execute(receiveStart);
+	}
+	
+	private void receiveStart()
+	{
+		logger.log(logLevel, "receiving start");
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			start();
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.START, null, this::start);
+	}
+	
+	/**
+	 * This method is to be provided by subclasses to actually implement what's taking place when
+	 * the start action is invoked. It is invoked by the executor of this EBC.
+	 */
+	protected abstract void start();
+	
+	/**
+	 * This method can be used by subclasses to send the result.
+	 * 
+	 * @param parameter
+	 *        the parameter value for the invocation
+	 */
+	protected void sendResult(ResultParameter parameter)
+	{
+		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
+		resultEvent.accept(parameter);
+	}
+	
+	/**
+	 * Retrieve the number of start invocations that have been queued but not completed yet
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return serialExecutor.getQueueDepth();
+	}
+}
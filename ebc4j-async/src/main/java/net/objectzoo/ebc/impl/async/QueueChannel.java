@@ -0,0 +1,426 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBoard;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * The {@code QueueChannel} is a hop between two EBCs that decouples the sender of its input from
+ * the receivers of its result by a bounded queue. The values received by the process action are
+ * queued and sent as results one after the other in the order they have been queued by a task of
+ * the given {@link Executor}. It is inserted into a flow like any other EBC, e.g.
+ * 
+ * <pre>
+ * await(ingest).then(new QueueChannel&lt;Packet&gt;(1000, executor, OverflowPolicy.BLOCK)).then(persistence);
+ * </pre>
+ * 
+ * If a value is received while the queue is full the {@link OverflowPolicy} of the
+ * {@code QueueChannel} determines whether the sender is blocked, a value is dropped or the value is
+ * rejected. Note that a blocked sender can only continue if the results are sent by a thread other
+ * than the sender's, so the receivers of a blocking {@code QueueChannel} must not send to it
+ * themselves.
+ * 
+ * The {@code QueueChannel} provides live metrics of its current queue depth, the number of sent and
+ * dropped values and the latency between queuing and sending the values.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of the values passed through this channel
+ */
+public class QueueChannel<T> extends ProcessAndResultBoard<T, T>
+{
+	private final Executor executor;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	
+	private final Condition notFull = lock.newCondition();
+	
+	private final Object[] values;
+	
+	private final long[] queueTimes;
+	
+	private final Runnable drainQueue = this::drainQueue;
+	
+	private int head;
+	
+	private int size;
+	
+	private boolean draining;
+	
+	private long sentCount;
+	
+	private long droppedCount;
+	
+	private long totalLatencyNanos;
+	
+	private long maxLatencyNanos;
+	
+	/**
+	 * Creates a new {@code QueueChannel} that blocks its senders while the queue is full
+	 * 
+	 * @param capacity
+	 *        the maximum number of queued values
+	 * @param executor
+	 *        the {@link Executor} used to send the results
+	 * @throws IllegalArgumentException
+	 *         if the capacity is not positive or the executor is {@code null}
+	 */
+	public QueueChannel(int capacity, Executor executor)
+	{
+		this(capacity, executor, OverflowPolicy.BLOCK);
+	}
+	
+	/**
+	 * Creates a new {@code QueueChannel}
+	 * 
+	 * @param capacity
+	 *        the maximum number of queued values
+	 * @param executor
+	 *        the {@link Executor} used to send the results
+	 * @param overflowPolicy
+	 *        the {@link OverflowPolicy} applied while the queue is full
+	 * @throws IllegalArgumentException
+	 *         if the capacity is not positive or the executor or overflow policy is {@code null}
+	 */
+	public QueueChannel(int capacity, Executor executor, OverflowPolicy overflowPolicy)
+	{
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("capacity=" + capacity);
+		}
+		if (executor == null)
+		{
+			throw new IllegalArgumentException("executor=null");
+		}
+		if (overflowPolicy == null)
+		{
+			throw new IllegalArgumentException("overflowPolicy=null");
+		}
+		
+		this.executor = executor;
+		this.overflowPolicy = overflowPolicy;
+		this.values = new Object[capacity];
+		this.queueTimes = new long[capacity];
+		await(processAction).then(this::queueValue);
+	}
+	
+	private void queueValue(T value)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving parameter to queue: ", value);
+		
+		boolean scheduleDrain;
+		lock.lock();
+		try
+		{
+			if (size == values.length && !makeSpace())
+			{
+				return;
+			}
+			
+			int tail = (head + size) % values.length;
+			values[tail] = value;
+			queueTimes[tail] = System.nanoTime();
+			size++;
+			
+			scheduleDrain = !draining;
+			draining = true;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		if (scheduleDrain)
+		{
+			scheduleDrain();
+		}
+	}
+	
+	private boolean makeSpace()
+	{
+		switch (overflowPolicy)
+		{
+			case BLOCK:
+				awaitSpace();
+				return true;
+			case DROP_OLDEST:
+				removeHead();
+				droppedCount++;
+				return true;
+			case DROP_NEWEST:
+				droppedCount++;
+				return false;
+			default:
+				droppedCount++;
+				throw new RejectedExecutionException("queue is full");
+		}
+	}
+	
+	private void awaitSpace()
+	{
+		try
+		{
+			while (size == values.length)
+			{
+				notFull.await();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			droppedCount++;
+			throw new RejectedExecutionException("interrupted while waiting for space in the queue", e);
+		}
+	}
+	
+	private Object removeHead()
+	{
+		Object value = values[head];
+		values[head] = null;
+		head = (head + 1) % values.length;
+		size--;
+		notFull.signal();
+		return value;
+	}
+	
+	private void scheduleDrain()
+	{
+		try
+		{
+			executor.execute(drainQueue);
+		}
+		catch (RejectedExecutionException e)
+		{
+			// nothing is draining, so the queue is ours to discard
+			discardQueue();
+			throw e;
+		}
+	}
+	
+	private void discardQueue()
+	{
+		lock.lock();
+		try
+		{
+			while (size > 0)
+			{
+				removeHead();
+				droppedCount++;
+			}
+			draining = false;
+			notFull.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void drainQueue()
+	{
+		while (true)
+		{
+			T value;
+			lock.lock();
+			try
+			{
+				if (size == 0)
+				{
+					draining = false;
+					return;
+				}
+				
+				long latencyNanos = System.nanoTime() - queueTimes[head];
+				value = (T) removeHead();
+				sentCount++;
+				totalLatencyNanos += latencyNanos;
+				maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+			}
+			finally
+			{
+				lock.unlock();
+			}
+			
+			try
+			{
+				sendResult(value);
+			}
+			catch (RuntimeException | Error e)
+			{
+				continueDrainElsewhere();
+				throw e;
+			}
+		}
+	}
+	
+	private void continueDrainElsewhere()
+	{
+		boolean scheduleDrain;
+		lock.lock();
+		try
+		{
+			scheduleDrain = size > 0;
+			draining = scheduleDrain;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		
+		if (scheduleDrain)
+		{
+			scheduleDrain();
+		}
+	}
+	
+	private void sendResult(T parameter)
+	{
+		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
+		
+		resultEvent.accept(parameter);
+	}
+	
+	/**
+	 * Retrieve the maximum number of queued values
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return values.length;
+	}
+	
+	/**
+	 * Retrieve the {@link OverflowPolicy} applied while the queue is full
+	 * 
+	 * @return the overflow policy
+	 */
+	public OverflowPolicy getOverflowPolicy()
+	{
+		return overflowPolicy;
+	}
+	
+	/**
+	 * Retrieve the number of values currently queued and not sent yet
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		lock.lock();
+		try
+		{
+			return size;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of values that have been taken from the queue to be sent so far
+	 * 
+	 * @return the number of sent values
+	 */
+	public long getSentCount()
+	{
+		lock.lock();
+		try
+		{
+			return sentCount;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of values that have been dropped or rejected so far
+	 * 
+	 * @return the number of dropped values
+	 */
+	public long getDroppedCount()
+	{
+		lock.lock();
+		try
+		{
+			return droppedCount;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the average time the sent values have been waiting in the queue
+	 * 
+	 * @return the average latency in nanoseconds or {@code 0} if no value has been sent yet
+	 */
+	public long getAverageLatencyNanos()
+	{
+		lock.lock();
+		try
+		{
+			return sentCount == 0 ? 0 : totalLatencyNanos / sentCount;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the longest time a sent value has been waiting in the queue
+	 * 
+	 * @return the maximum latency in nanoseconds
+	 */
+	public long getMaxLatencyNanos()
+	{
+		lock.lock();
+		try
+		{
+			return maxLatencyNanos;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
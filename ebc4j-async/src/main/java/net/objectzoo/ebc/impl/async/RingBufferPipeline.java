@@ -0,0 +1,461 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.impl.ProcessAndResultBoard;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * The {@code RingBufferPipeline} runs a linear chain of {@link ProcessAndResultFlow} stages, each
+ * on its own thread, over a preallocated ring buffer. The values received by the process action are
+ * written to the ring buffer and handed from stage to stage by sequence numbers only, so passing a
+ * value through the pipeline neither allocates memory nor acquires locks. Each stage processes all
+ * values available to it as one batch before it publishes its progress to the next stage. The
+ * results of the last stage are sent by the thread of the last stage. The stage boundaries are
+ * declared like a flow:
+ * 
+ * <pre>
+ * RingBufferPipeline&lt;Tick, Order&gt; pipeline = RingBufferPipeline.from(decode).then(enrich).then(decide)
+ * 	.build(1024, executor, WaitStrategy.BUSY_SPIN);
+ * await(feed).then(pipeline).then(gateway);
+ * </pre>
+ * 
+ * The pipeline has a single producer, i.e. its process action must not be invoked by multiple
+ * threads simultaneously. While the ring buffer is full the producer waits for the last stage using
+ * the {@link WaitStrategy} of the pipeline. A stage is expected to send at most one result
+ * synchronously for each value it processes. A value a stage sends no result for or fails to process
+ * is dropped, a failure is logged and counted.
+ * 
+ * The stage threads are started by the given {@link Executor} when the pipeline is built and run
+ * until the pipeline is {@link #close() closed} and all values received before have passed the
+ * pipeline.
+ * 
+ * @author tilmann
+ * 
+ * @param <ProcessParameter>
+ *        the process parameter type of the first stage
+ * @param <ResultParameter>
+ *        the result parameter type of the last stage
+ */
+public final class RingBufferPipeline<ProcessParameter, ResultParameter> extends
+	ProcessAndResultBoard<ProcessParameter, ResultParameter> implements AutoCloseable
+{
+	/**
+	 * Declares the stages of a {@link RingBufferPipeline}
+	 * 
+	 * @param <ProcessParameter>
+	 *        the process parameter type of the first stage
+	 * @param <ResultParameter>
+	 *        the result parameter type of the last declared stage
+	 */
+	public static final class Builder<ProcessParameter, ResultParameter>
+	{
+		private final List<ProcessAndResultFlow<?, ?>> stages;
+		
+		Builder(List<ProcessAndResultFlow<?, ?>> stages, ProcessAndResultFlow<?, ?> stage)
+		{
+			if (stage == null)
+			{
+				throw new IllegalArgumentException("stage=null");
+			}
+			
+			this.stages = new ArrayList<ProcessAndResultFlow<?, ?>>(stages);
+			this.stages.add(stage);
+		}
+		
+		/**
+		 * Appends the given stage that processes the results of the previously declared stage on its
+		 * own thread
+		 * 
+		 * @param stage
+		 *        the stage to append
+		 * @return a builder for the pipeline ending with the given stage
+		 * @throws IllegalArgumentException
+		 *         if the given stage is {@code null}
+		 */
+		public <NextResult> Builder<ProcessParameter, NextResult> then(ProcessAndResultFlow<? super ResultParameter, NextResult> stage)
+		{
+			return new Builder<ProcessParameter, NextResult>(stages, stage);
+		}
+		
+		/**
+		 * Creates the pipeline of the declared stages and starts the stage threads
+		 * 
+		 * @param capacity
+		 *        the size of the ring buffer, rounded up to the next power of two
+		 * @param executor
+		 *        the {@link Executor} running the stage threads, it must be able to run one task per
+		 *        stage simultaneously
+		 * @param waitStrategy
+		 *        the {@link WaitStrategy} used by the producer and the stages
+		 * @return the started pipeline
+		 * @throws IllegalArgumentException
+		 *         if the capacity is not positive or the executor or wait strategy is {@code null}
+		 */
+		public RingBufferPipeline<ProcessParameter, ResultParameter> build(int capacity, Executor executor,
+																		   WaitStrategy waitStrategy)
+		{
+			return new RingBufferPipeline<ProcessParameter, ResultParameter>(stages, capacity, executor,
+				waitStrategy);
+		}
+	}
+	
+	/**
+	 * Marks a slot whose value has been dropped by a stage
+	 */
+	private static final Object DROPPED = new Object();
+	
+	private static final int MAX_CAPACITY = 1 << 30;
+	
+	private final Object[] values;
+	
+	private final int mask;
+	
+	private final WaitStrategy waitStrategy;
+	
+	private final Sequence published = new Sequence(-1);
+	
+	private final List<StageRunner> runners;
+	
+	private final StageRunner lastRunner;
+	
+	private final CountDownLatch terminated;
+	
+	private volatile boolean closed;
+	
+	private long nextSequence;
+	
+	private long cachedGatingSequence = -1;
+	
+	/**
+	 * Declares the first stage of a pipeline
+	 * 
+	 * @param firstStage
+	 *        the stage processing the values received by the pipeline
+	 * @return a builder to declare further stages
+	 * @throws IllegalArgumentException
+	 *         if the given stage is {@code null}
+	 */
+	public static <ProcessParameter, ResultParameter> Builder<ProcessParameter, ResultParameter> from(ProcessAndResultFlow<ProcessParameter, ResultParameter> firstStage)
+	{
+		return new Builder<ProcessParameter, ResultParameter>(new ArrayList<ProcessAndResultFlow<?, ?>>(),
+			firstStage);
+	}
+	
+	private RingBufferPipeline(List<ProcessAndResultFlow<?, ?>> stages, int capacity, Executor executor,
+							   WaitStrategy waitStrategy)
+	{
+		if (capacity <= 0 || capacity > MAX_CAPACITY)
+		{
+			throw new IllegalArgumentException("capacity=" + capacity);
+		}
+		if (executor == null)
+		{
+			throw new IllegalArgumentException("executor=null");
+		}
+		if (waitStrategy == null)
+		{
+			throw new IllegalArgumentException("waitStrategy=null");
+		}
+		
+		int size = Integer.highestOneBit(capacity);
+		size = size < capacity ? size << 1 : size;
+		this.values = new Object[size];
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+		this.runners = new ArrayList<StageRunner>(stages.size());
+		this.terminated = new CountDownLatch(stages.size());
+		
+		StageRunner previous = null;
+		for (int i = 0; i < stages.size(); i++)
+		{
+			previous = new StageRunner(stages.get(i), previous, i == stages.size() - 1);
+			runners.add(previous);
+		}
+		this.lastRunner = previous;
+		await(processAction).then(this::publish);
+		for (StageRunner runner : runners)
+		{
+			executor.execute(runner);
+		}
+	}
+	
+	private void publish(ProcessParameter value)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving parameter to publish: ", value);
+		
+		if (closed)
+		{
+			throw new IllegalStateException("The pipeline has already been closed");
+		}
+		
+		long sequence = nextSequence;
+		long wrapPoint = sequence - values.length;
+		if (wrapPoint > cachedGatingSequence)
+		{
+			long gatingSequence;
+			while ((gatingSequence = lastRunner.processed.get()) < wrapPoint)
+			{
+				if (lastRunner.terminated)
+				{
+					throw new IllegalStateException("The pipeline has terminated");
+				}
+				waitStrategy.idle();
+			}
+			cachedGatingSequence = gatingSequence;
+		}
+		
+		values[(int) sequence & mask] = value;
+		nextSequence = sequence + 1;
+		published.set(sequence);
+	}
+	
+	/**
+	 * Closes the pipeline. The values received before are still passed through the pipeline and
+	 * then the stage threads terminate. Afterwards the pipeline rejects values with an
+	 * {@link IllegalStateException}.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+	}
+	
+	/**
+	 * Waits until all stage threads have terminated after the pipeline has been closed
+	 * 
+	 * @param timeout
+	 *        the maximum time to wait
+	 * @param unit
+	 *        the unit of the timeout
+	 * @return {@code true} if the stage threads have terminated, {@code false} if the timeout
+	 *         elapsed before
+	 * @throws InterruptedException
+	 *         if the current thread is interrupted while waiting
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit)
+		throws InterruptedException
+	{
+		return terminated.await(timeout, unit);
+	}
+	
+	/**
+	 * Retrieve the size of the ring buffer
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return values.length;
+	}
+	
+	/**
+	 * Retrieve the number of stages of this pipeline
+	 * 
+	 * @return the stage count
+	 */
+	public int getStageCount()
+	{
+		return runners.size();
+	}
+	
+	/**
+	 * Retrieve the number of values that have been dropped so far because a stage failed to
+	 * process them or failed to send its result
+	 * 
+	 * @return the number of failures
+	 */
+	public long getFailedCount()
+	{
+		long failedCount = 0;
+		for (StageRunner runner : runners)
+		{
+			failedCount += runner.failedCount;
+		}
+		return failedCount;
+	}
+	
+	/**
+	 * Runs one stage of the pipeline on its own thread. All fields except the sequence, the failure
+	 * count and the termination flag are only accessed by this thread.
+	 */
+	private final class StageRunner implements Runnable
+	{
+		final Sequence processed = new Sequence(-1);
+		
+		volatile boolean terminated;
+		
+		volatile long failedCount;
+		
+		private final ProcessAndResultFlow<Object, Object> stage;
+		
+		private final StageRunner previous;
+		
+		private final Sequence upstream;
+		
+		private final boolean last;
+		
+		private final Action<Object> capture = this::capture;
+		
+		private int currentIndex;
+		
+		private boolean capturing;
+		
+		private boolean captured;
+		
+		@SuppressWarnings("unchecked")
+		StageRunner(ProcessAndResultFlow<?, ?> stage, StageRunner previous, boolean last)
+		{
+			this.stage = (ProcessAndResultFlow<Object, Object>) stage;
+			this.previous = previous;
+			this.upstream = previous == null ? published : previous.processed;
+			this.last = last;
+			this.stage.resultEvent().subscribe(capture);
+		}
+		
+		@Override
+		public void run()
+		{
+			try
+			{
+				long next = 0;
+				while (true)
+				{
+					boolean upstreamDone = previous == null ? closed : previous.terminated;
+					long available = upstream.get();
+					if (available < next)
+					{
+						if (upstreamDone)
+						{
+							return;
+						}
+						waitStrategy.idle();
+						continue;
+					}
+					
+					for (long sequence = next; sequence <= available; sequence++)
+					{
+						process((int) sequence & mask);
+					}
+					processed.set(available);
+					next = available + 1;
+				}
+			}
+			finally
+			{
+				stage.resultEvent().unsubscribe(capture);
+				terminated = true;
+				RingBufferPipeline.this.terminated.countDown();
+			}
+		}
+		
+		private void process(int index)
+		{
+			Object value = values[index];
+			if (value != DROPPED)
+			{
+				currentIndex = index;
+				capturing = true;
+				captured = false;
+				try
+				{
+					stage.processAction().accept(value);
+				}
+				catch (RuntimeException e)
+				{
+					fail(e);
+					captured = false;
+				}
+				finally
+				{
+					capturing = false;
+				}
+				if (!captured)
+				{
+					values[index] = DROPPED;
+				}
+			}
+			
+			if (last)
+			{
+				sendResult(index);
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		private void sendResult(int index)
+		{
+			Object result = values[index];
+			values[index] = null;
+			if (result == DROPPED)
+			{
+				return;
+			}
+			
+			LoggingUtils.log(logger, logLevel, "sending result: ", result);
+			try
+			{
+				resultEvent.accept((ResultParameter) result);
+			}
+			catch (RuntimeException e)
+			{
+				fail(e);
+			}
+		}
+		
+		private void capture(Object result)
+		{
+			if (!capturing)
+			{
+				return;
+			}
+			if (captured)
+			{
+				throw new IllegalStateException("The stage sent the result " + result
+					+ " after it has already sent the result " + values[currentIndex]);
+			}
+			
+			values[currentIndex] = result;
+			captured = true;
+		}
+		
+		private void fail(RuntimeException e)
+		{
+			failedCount++;
+			logger.log(Level.WARNING, "The stage " + stage + " failed", e);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The published position of a producer or stage in a {@link RingBufferPipeline}. The value is
+ * padded on both sides so that sequences updated by different threads do not share a cache line.
+ * 
+ * @author tilmann
+ */
+@SuppressWarnings("unused")
+final class Sequence
+{
+	private static final AtomicLongFieldUpdater<Sequence> VALUE = AtomicLongFieldUpdater.newUpdater(Sequence.class,
+		"value");
+	
+	private long p1, p2, p3, p4, p5, p6, p7;
+	
+	private volatile long value;
+	
+	private long p9, p10, p11, p12, p13, p14, p15;
+	
+	Sequence(long initialValue)
+	{
+		value = initialValue;
+	}
+	
+	long get()
+	{
+		return value;
+	}
+	
+	/**
+	 * Publishes the given value with release semantics, i.e. all writes before are visible to a
+	 * thread that reads the new value
+	 * 
+	 * @param newValue
+	 *        the new value
+	 */
+	void set(long newValue)
+	{
+		VALUE.lazySet(this, newValue);
+	}
+}
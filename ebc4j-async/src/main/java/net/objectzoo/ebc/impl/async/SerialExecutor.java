@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code SerialExecutor} executes the tasks given to it one after the other in the order of
+ * their submission using an underlying {@link Executor}. At most one task of a
+ * {@code SerialExecutor} is running at any time, so the tasks need no synchronization among each
+ * other, but tasks of different {@code SerialExecutor}s sharing the same underlying
+ * {@link Executor} run concurrently.
+ * 
+ * The underlying {@link Executor} may be any {@link Executor} e.g. a thread pool or an executor
+ * starting a virtual thread per task. Consecutive tasks are executed within a single task of the
+ * underlying {@link Executor} as long as the queue of this {@code SerialExecutor} is not empty.
+ * 
+ * If the underlying {@link Executor} rejects a drain the task that caused it is removed again and
+ * the {@link RejectedExecutionException} is thrown to its submitter. Tasks that have already been
+ * accepted from other submitters in the meantime are never discarded: they are executed by the
+ * current thread instead.
+ * 
+ * @author tilmann
+ */
+public class SerialExecutor implements Executor
+{
+	private final Executor executor;
+	
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+	
+	private final AtomicInteger queueDepth = new AtomicInteger();
+	
+	private final Runnable drainTasks = this::drainTasks;
+	
+	/**
+	 * Creates a new {@code SerialExecutor} executing its tasks using the given {@link Executor}
+	 * 
+	 * @param executor
+	 *        the underlying {@link Executor}
+	 * @throws IllegalArgumentException
+	 *         if the given executor is {@code null}
+	 */
+	public SerialExecutor(Executor executor)
+	{
+		if (executor == null)
+		{
+			throw new IllegalArgumentException("executor=null");
+		}
+		
+		this.executor = executor;
+	}
+	
+	/**
+	 * Queues the given task to be executed after all tasks submitted before
+	 * 
+	 * @param task
+	 *        the task to be executed
+	 * @throws IllegalArgumentException
+	 *         if the given task is {@code null}
+	 * @throws RejectedExecutionException
+	 *         if the underlying {@link Executor} rejects the execution, the given task is not
+	 *         executed then
+	 */
+	@Override
+	public void execute(Runnable task)
+	{
+		if (task == null)
+		{
+			throw new IllegalArgumentException("task=null");
+		}
+		
+		tasks.add(task);
+		if (queueDepth.getAndIncrement() == 0)
+		{
+			try
+			{
+				executor.execute(drainTasks);
+			}
+			catch (RejectedExecutionException e)
+			{
+				rejectTask(task, e);
+			}
+		}
+	}
+	
+	private void rejectTask(Runnable task, RejectedExecutionException rejection)
+	{
+		tasks.remove(task);
+		if (queueDepth.decrementAndGet() > 0)
+		{
+			// tasks of other submitters have been accepted meanwhile and no drain is scheduled
+			try
+			{
+				drainTasks();
+			}
+			catch (RuntimeException | Error e)
+			{
+				rejection.addSuppressed(e);
+			}
+		}
+		throw rejection;
+	}
+	
+	/**
+	 * Retrieve the number of tasks that have been submitted but not completed yet including the
+	 * currently running task
+	 * 
+	 * @return the current queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return queueDepth.get();
+	}
+	
+	private void continueDrain(Throwable failure)
+	{
+		try
+		{
+			executor.execute(drainTasks);
+		}
+		catch (RejectedExecutionException e)
+		{
+			// the remaining tasks have been accepted, so they are executed here instead of being lost
+			try
+			{
+				drainTasks();
+			}
+			catch (RuntimeException | Error later)
+			{
+				failure.addSuppressed(later);
+			}
+		}
+	}
+	
+	private void drainTasks()
+	{
+		int remaining;
+		do
+		{
+			Runnable task = tasks.poll();
+			try
+			{
+				task.run();
+			}
+			catch (RuntimeException | Error e)
+			{
+				if (queueDepth.decrementAndGet() > 0)
+				{
+					continueDrain(e);
+				}
+				throw e;
+			}
+			remaining = queueDepth.decrementAndGet();
+		}
+		while (remaining > 0);
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code TimerWheel} is a hashed timer wheel that runs many short, coarse grained timeouts on a
+ * single daemon thread. The wheel is divided into buckets each covering one tick. A scheduled task
+ * is put into the bucket of its deadline together with the number of wheel rotations remaining
+ * until then, so scheduling a task and advancing the wheel by one tick is independent of the number
+ * of scheduled tasks. Tasks run on the timer thread at most one tick after their deadline, thus they
+ * must be short and must not block.
+ * 
+ * One {@code TimerWheel} is meant to be shared by many EBCs, e.g. the {@link #shared() shared}
+ * instance. Tasks can not be cancelled, a task that became obsolete simply does nothing when it
+ * runs.
+ * 
+ * @author tilmann
+ */
+public class TimerWheel implements AutoCloseable
+{
+	/** The default duration of a tick in milliseconds */
+	public static final long DEFAULT_TICK_MILLIS = 1;
+	
+	/** The default number of buckets of a {@code TimerWheel} */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+	
+	private static final Logger logger = Logger.getLogger(TimerWheel.class.getName());
+	
+	private static final class SharedInstance
+	{
+		static final TimerWheel INSTANCE = new TimerWheel();
+	}
+	
+	/**
+	 * A scheduled task and its position on the wheel, only accessed by the timer thread once it has
+	 * been transferred to a bucket
+	 */
+	private static final class Entry
+	{
+		final Runnable task;
+		
+		final long deadlineNanos;
+		
+		long remainingRounds;
+		
+		Entry(Runnable task, long deadlineNanos)
+		{
+			this.task = task;
+			this.deadlineNanos = deadlineNanos;
+		}
+	}
+	
+	private final long tickNanos;
+	
+	private final List<List<Entry>> buckets;
+	
+	private final int mask;
+	
+	private final Queue<Entry> scheduledEntries = new ConcurrentLinkedQueue<Entry>();
+	
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	
+	private final long startNanos = System.nanoTime();
+	
+	private final Thread timerThread;
+	
+	private volatile boolean closed;
+	
+	/**
+	 * Retrieve the {@code TimerWheel} shared by all EBCs that are not given their own. It ticks
+	 * every {@link #DEFAULT_TICK_MILLIS} milliseconds and is never closed.
+	 * 
+	 * @return the shared instance
+	 */
+	public static TimerWheel shared()
+	{
+		return SharedInstance.INSTANCE;
+	}
+	
+	/**
+	 * Creates a new {@code TimerWheel} with the default tick duration and wheel size and starts its
+	 * timer thread
+	 */
+	public TimerWheel()
+	{
+		this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+	}
+	
+	/**
+	 * Creates a new {@code TimerWheel} and starts its timer thread
+	 * 
+	 * @param tickDuration
+	 *        the duration of a tick, i.e. the precision of the timeouts
+	 * @param unit
+	 *        the unit of the tick duration
+	 * @param wheelSize
+	 *        the number of buckets, rounded up to the next power of two
+	 * @throws IllegalArgumentException
+	 *         if the tick duration or wheel size is not positive or the unit is {@code null}
+	 */
+	public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize)
+	{
+		if (unit == null)
+		{
+			throw new IllegalArgumentException("unit=null");
+		}
+		if (tickDuration <= 0)
+		{
+			throw new IllegalArgumentException("tickDuration=" + tickDuration);
+		}
+		if (wheelSize <= 0 || wheelSize > 1 << 30)
+		{
+			throw new IllegalArgumentException("wheelSize=" + wheelSize);
+		}
+		
+		int size = Integer.highestOneBit(wheelSize);
+		size = size < wheelSize ? size << 1 : size;
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.mask = size - 1;
+		this.buckets = new ArrayList<List<Entry>>(size);
+		for (int i = 0; i < size; i++)
+		{
+			buckets.add(new ArrayList<Entry>());
+		}
+		this.timerThread = new Thread(this::runWheel, "ebc4j-timer-wheel");
+		timerThread.setDaemon(true);
+		timerThread.start();
+	}
+	
+	/**
+	 * Schedules the given task to be run by the timer thread once the given delay has elapsed
+	 * 
+	 * @param task
+	 *        the task to run
+	 * @param delay
+	 *        the delay after which the task is run
+	 * @param unit
+	 *        the unit of the delay
+	 * @throws IllegalArgumentException
+	 *         if the task or unit is {@code null}
+	 * @throws IllegalStateException
+	 *         if this {@code TimerWheel} has been closed
+	 */
+	public void schedule(Runnable task, long delay, TimeUnit unit)
+	{
+		if (task == null)
+		{
+			throw new IllegalArgumentException("task=null");
+		}
+		if (unit == null)
+		{
+			throw new IllegalArgumentException("unit=null");
+		}
+		if (closed)
+		{
+			throw new IllegalStateException("The timer wheel has already been closed");
+		}
+		
+		pendingCount.incrementAndGet();
+		scheduledEntries.add(new Entry(task, System.nanoTime() + unit.toNanos(Math.max(delay, 0))));
+	}
+	
+	/**
+	 * Retrieve the duration of a tick of this wheel
+	 * 
+	 * @return the tick duration in nanoseconds
+	 */
+	public long getTickNanos()
+	{
+		return tickNanos;
+	}
+	
+	/**
+	 * Retrieve the number of scheduled tasks that have not been run yet
+	 * 
+	 * @return the number of pending tasks
+	 */
+	public int getPendingCount()
+	{
+		return pendingCount.get();
+	}
+	
+	/**
+	 * Stops the timer thread. Pending tasks are not run anymore.
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		LockSupport.unpark(timerThread);
+	}
+	
+	private void runWheel()
+	{
+		long tick = 0;
+		while (!closed)
+		{
+			long tickDeadline = startNanos + (tick + 1) * tickNanos;
+			long now;
+			while ((now = System.nanoTime()) < tickDeadline && !closed)
+			{
+				LockSupport.parkNanos(this, tickDeadline - now);
+			}
+			if (closed)
+			{
+				return;
+			}
+			
+			transferScheduledEntries(tick);
+			expireBucket(buckets.get((int) tick & mask), now);
+			tick++;
+		}
+	}
+	
+	private void transferScheduledEntries(long currentTick)
+	{
+		Entry entry;
+		while ((entry = scheduledEntries.poll()) != null)
+		{
+			long deadlineTick = (entry.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1;
+			long targetTick = Math.max(deadlineTick, currentTick);
+			entry.remainingRounds = (targetTick - currentTick) / buckets.size();
+			buckets.get((int) targetTick & mask).add(entry);
+		}
+	}
+	
+	private void expireBucket(List<Entry> bucket, long now)
+	{
+		Iterator<Entry> entries = bucket.iterator();
+		while (entries.hasNext())
+		{
+			Entry entry = entries.next();
+			if (entry.remainingRounds > 0)
+			{
+				entry.remainingRounds--;
+				continue;
+			}
+			
+			entries.remove();
+			pendingCount.decrementAndGet();
+			try
+			{
+				entry.task.run();
+			}
+			catch (RuntimeException e)
+			{
+				logger.log(Level.WARNING, "A timer task failed", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl.async;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code WaitStrategy} determines how a thread of a {@link RingBufferPipeline} waits for a
+ * sequence to become available, i.e. how latency is traded for CPU usage.
+ * 
+ * @author tilmann
+ */
+public enum WaitStrategy
+{
+	/** The thread spins on the sequence giving the lowest latency but occupying a whole core */
+	BUSY_SPIN
+	{
+		@Override
+		void idle()
+		{
+			// spin
+		}
+	},
+	
+	/** The thread yields to other threads between checks of the sequence */
+	YIELD
+	{
+		@Override
+		void idle()
+		{
+			Thread.yield();
+		}
+	},
+	
+	/** The thread is parked for a microsecond between checks of the sequence */
+	PARK
+	{
+		@Override
+		void idle()
+		{
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+	};
+	
+	private static final long PARK_NANOS = 1000;
+	
+	/**
+	 * Is invoked each time a thread found the sequence it waits for unavailable
+	 */
+	abstract void idle();
+}
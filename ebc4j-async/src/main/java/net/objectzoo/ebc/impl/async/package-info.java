@@ -0,0 +1,5 @@
+/**
+ * This package contains base classes, event implementations and channels that dispatch action and
+ * event invocations asynchronously using an {@link java.util.concurrent.Executor}.
+ */
+package net.objectzoo.ebc.impl.async;
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+
+import net.objectzoo.ebc.join.JoinOutputCreator;
+import net.objectzoo.ebc.join.ObjectAndCollectionOutputCreator;
+
+/**
+ * This {@link JoinOutputCreator} implementation takes an input object and an input
+ * {@link Collection} and creates an output {@link List} with one output value for every value in
+ * the input collection just like the {@link ObjectAndCollectionOutputCreator}. If the input
+ * collection contains at least the threshold number of values the output elements are created in
+ * parallel by the given {@link ForkJoinPool}. The output keeps the order of the input. Inputs that
+ * are not {@link RandomAccess} {@link List}s are copied to an array before they are split.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of the first input of this Join output creator
+ * @param <Input2Element>
+ *        the element type of the second input collection two of this Join output creator
+ * @param <OutputElement>
+ *        the element type of the output list of this Join output creator
+ */
+public class ForkJoinObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement> implements
+	JoinOutputCreator<Input1, Collection<Input2Element>, List<OutputElement>>
+{
+	private final JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
+	private final ObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement> sequentialOutputCreator;
+	
+	private final ForkJoinPool pool;
+	
+	private final int threshold;
+	
+	/**
+	 * Creates a new {@code ForkJoinObjectAndCollectionOutputCreator} that uses the given
+	 * {@link JoinOutputCreator} to join the given first input type and second input element type to
+	 * the output element type.
+	 * 
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @param pool
+	 *        the pool used to create the output elements in parallel
+	 * @param threshold
+	 *        the minimum number of output elements to be created in parallel
+	 * @throws IllegalArgumentException
+	 *         if the output element creator or the pool is {@code null} or the threshold is not
+	 *         positive
+	 */
+	public ForkJoinObjectAndCollectionOutputCreator(JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+													ForkJoinPool pool, int threshold)
+	{
+		if (elementOutputCreator == null)
+		{
+			throw new IllegalArgumentException("elementOutputCreator=null");
+		}
+		if (pool == null)
+		{
+			throw new IllegalArgumentException("pool=null");
+		}
+		if (threshold <= 0)
+		{
+			throw new IllegalArgumentException("threshold=" + threshold);
+		}
+		this.sequentialOutputCreator = new ObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement>(
+			elementOutputCreator);
+		this.elementOutputCreator = elementOutputCreator;
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<OutputElement> createOutput(Input1 input1, Collection<Input2Element> input2)
+	{
+		int count = input2.size();
+		if (count < threshold)
+		{
+			return sequentialOutputCreator.createOutput(input1, input2);
+		}
+		
+		List<Input2Element> input2List = RandomAccessInputs.asRandomAccessList(input2);
+		
+		return OutputElementsTask.<OutputElement> createOutputElements(pool, count,
+			index -> elementOutputCreator.createOutput(input1, input2List.get(index)));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import net.objectzoo.ebc.join.CollectionOutputCreatorFactory;
+import net.objectzoo.ebc.join.JoinOutputCreator;
+
+/**
+ * A {@link CollectionOutputCreatorFactory} implementation that creates
+ * {@link ForkJoinCollectionsOutputCreator} and {@link ForkJoinObjectAndCollectionOutputCreator}
+ * instances which create the output elements of large inputs in parallel using a
+ * {@link ForkJoinPool}.
+ * 
+ * @author tilmann
+ */
+public class ForkJoinOutputCreatorFactory implements CollectionOutputCreatorFactory
+{
+	/** The default minimum number of output elements to be created in parallel */
+	public static final int DEFAULT_THRESHOLD = 1000;
+	
+	private final ForkJoinPool pool;
+	
+	private final int threshold;
+	
+	/**
+	 * Creates a new {@code ForkJoinOutputCreatorFactory} using the common {@link ForkJoinPool} and
+	 * the {@link #DEFAULT_THRESHOLD}
+	 */
+	public ForkJoinOutputCreatorFactory()
+	{
+		this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+	
+	/**
+	 * Creates a new {@code ForkJoinOutputCreatorFactory}
+	 * 
+	 * @param pool
+	 *        the pool used to create the output elements in parallel
+	 * @param threshold
+	 *        the minimum number of output elements to be created in parallel
+	 * @throws IllegalArgumentException
+	 *         if the pool is {@code null} or the threshold is not positive
+	 */
+	public ForkJoinOutputCreatorFactory(ForkJoinPool pool, int threshold)
+	{
+		if (pool == null)
+		{
+			throw new IllegalArgumentException("pool=null");
+		}
+		if (threshold <= 0)
+		{
+			throw new IllegalArgumentException("threshold=" + threshold);
+		}
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <Input1Element, Input2Element, OutputElement> JoinOutputCreator<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>> createCollectionsOutputCreator(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new ForkJoinCollectionsOutputCreator<Input1Element, Input2Element, OutputElement>(elementOutputCreator,
+			pool, threshold);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <Input1, Input2Element, OutputElement> JoinOutputCreator<Input1, Collection<Input2Element>, List<OutputElement>> createObjectAndCollectionOutputCreator(JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new ForkJoinObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement>(
+			elementOutputCreator, pool, threshold);
+	}
+}
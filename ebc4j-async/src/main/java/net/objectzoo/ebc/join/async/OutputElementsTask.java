@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link RecursiveAction} that creates the output elements for a range of indices by splitting the
+ * range in halves until the range is small enough to be processed by a single task. Each output
+ * element is stored at its index of a presized {@link ArrayList} so the output keeps the order of
+ * the input and is a mutable list like the output of the sequential output creators.
+ * 
+ * @author tilmann
+ */
+class OutputElementsTask extends RecursiveAction
+{
+	private static final long serialVersionUID = 1L;
+	
+	/** The number of leaf tasks created per thread of the pool to balance uneven element costs */
+	private static final int TASKS_PER_THREAD = 4;
+	
+	private final IntFunction<?> outputElementCreator;
+	
+	private final List<Object> outputElements;
+	
+	private final int from;
+	
+	private final int to;
+	
+	private final int leafSize;
+	
+	private OutputElementsTask(IntFunction<?> outputElementCreator, List<Object> outputElements, int from, int to,
+							   int leafSize)
+	{
+		this.outputElementCreator = outputElementCreator;
+		this.outputElements = outputElements;
+		this.from = from;
+		this.to = to;
+		this.leafSize = leafSize;
+	}
+	
+	/**
+	 * Creates the given number of output elements in parallel using the given pool
+	 * 
+	 * @param pool
+	 *        the pool executing the tasks
+	 * @param count
+	 *        the number of output elements to create
+	 * @param outputElementCreator
+	 *        the function creating the output element for an index
+	 * @return the list of output elements in index order
+	 */
+	@SuppressWarnings("unchecked")
+	static <OutputElement> List<OutputElement> createOutputElements(ForkJoinPool pool, int count,
+																	IntFunction<? extends OutputElement> outputElementCreator)
+	{
+		List<Object> outputElements = new ArrayList<Object>(Collections.nCopies(count, null));
+		int leafSize = Math.max(1, count / (pool.getParallelism() * TASKS_PER_THREAD));
+		
+		pool.invoke(new OutputElementsTask(outputElementCreator, outputElements, 0, count, leafSize));
+		
+		return (List<OutputElement>) (List<?>) outputElements;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void compute()
+	{
+		if (to - from <= leafSize)
+		{
+			for (int i = from; i < to; i++)
+			{
+				outputElements.set(i, outputElementCreator.apply(i));
+			}
+		}
+		else
+		{
+			int middle = (from + to) >>> 1;
+			invokeAll(new OutputElementsTask(outputElementCreator, outputElements, from, middle, leafSize),
+				new OutputElementsTask(outputElementCreator, outputElements, middle, to, leafSize));
+		}
+	}
+}
@@ -0,0 +1,539 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+import net.objectzoo.ebc.join.Join;
+import net.objectzoo.ebc.join.JoinOutputCreator;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * This Join pairs its two inputs in the order of their arrival instead of joining the last values
+ * received, i.e. the n-th value of input one is joined with the n-th value of input two. Values
+ * that have not been paired yet are held in a bounded FIFO queue per input, so in contrast to the
+ * {@link Join} no input is overwritten if one input bursts ahead of the other.
+ * 
+ * If a value is received while the queue of its input is full the {@link OverflowPolicy} of the
+ * {@code QueuedJoin} determines whether the sender is blocked, a value is dropped or the value is
+ * rejected. Note that a blocked sender can only continue if the other input is sent by another
+ * thread.
+ * 
+ * The outputs are created by the thread sending the value that completes a pair. They are sent in
+ * the order their pairs have been completed even if the inputs are sent by several threads. If the
+ * output of an earlier pair has not been sent yet, a completed output is handed to the thread that
+ * sends the earlier output and is sent by that thread. To clear all queued values the
+ * {@link #resetAction()} can be invoked.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of input one of this Join
+ * @param <Input2>
+ *        the type of input two of this Join
+ * @param <Output>
+ *        the type of output of this Join
+ */
+public class QueuedJoin<Input1, Input2, Output> extends ResultBase<Output>
+{
+	/** The default maximum number of queued values per input of a {@code QueuedJoin} */
+	public static final int DEFAULT_CAPACITY = 1024;
+	
+	private static final Object NO_OUTPUT = new Object();
+	
+	/**
+	 * A value paired with an input together with the sequence number of the pair
+	 */
+	private static final class Match
+	{
+		final long sequence;
+		
+		final Object pairedInput;
+		
+		Match(long sequence, Object pairedInput)
+		{
+			this.sequence = sequence;
+			this.pairedInput = pairedInput;
+		}
+	}
+	
+	/**
+	 * A bounded FIFO queue of the values of one input, guarded by the lock of the Join
+	 */
+	private static final class InputQueue
+	{
+		private final Object[] values;
+		
+		private int head;
+		
+		private int size;
+		
+		InputQueue(int capacity)
+		{
+			values = new Object[capacity];
+		}
+		
+		boolean isEmpty()
+		{
+			return size == 0;
+		}
+		
+		boolean isFull()
+		{
+			return size == values.length;
+		}
+		
+		int size()
+		{
+			return size;
+		}
+		
+		void add(Object value)
+		{
+			values[(head + size) % values.length] = value;
+			size++;
+		}
+		
+		Object removeHead()
+		{
+			Object value = values[head];
+			values[head] = null;
+			head = (head + 1) % values.length;
+			size--;
+			return value;
+		}
+		
+		void clear()
+		{
+			while (size > 0)
+			{
+				removeHead();
+			}
+		}
+	}
+	
+	private final JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
+	
+	private final int capacity;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	
+	private final InputQueue input1Queue;
+	
+	private final InputQueue input2Queue;
+	
+	private final Condition input1NotFull = lock.newCondition();
+	
+	private final Condition input2NotFull = lock.newCondition();
+	
+	private long matchedCount;
+	
+	private final Map<Long, Object> completedOutputs = new HashMap<Long, Object>();
+	
+	private long nextSentSequence;
+	
+	private boolean sending;
+	
+	private long droppedCount;
+	
+	/**
+	 * Creates a new {@code QueuedJoin} with the {@link #DEFAULT_CAPACITY} that blocks its senders
+	 * while the queue of their input is full
+	 * 
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @throws IllegalArgumentException
+	 *         if the output creator is {@code null}
+	 */
+	public QueuedJoin(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator)
+	{
+		this(outputCreator, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+	}
+	
+	/**
+	 * Creates a new {@code QueuedJoin}
+	 * 
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @param capacity
+	 *        the maximum number of queued values per input
+	 * @param overflowPolicy
+	 *        the {@link OverflowPolicy} applied while the queue of an input is full
+	 * @throws IllegalArgumentException
+	 *         if the output creator or overflow policy is {@code null} or the capacity is not
+	 *         positive
+	 */
+	public QueuedJoin(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator,
+					  int capacity, OverflowPolicy overflowPolicy)
+	{
+		if (outputCreator == null)
+		{
+			throw new IllegalArgumentException("outputCreator=null");
+		}
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("capacity=" + capacity);
+		}
+		if (overflowPolicy == null)
+		{
+			throw new IllegalArgumentException("overflowPolicy=null");
+		}
+		
+		this.outputCreator = outputCreator;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.input1Queue = new InputQueue(capacity);
+		this.input2Queue = new InputQueue(capacity);
+	}
+	
+	private final Action<Input1> input1Action = this::processInput1;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input one to this Join
+	 * 
+	 * @return the input1 action of this Join
+	 */
+	public Action<Input1> input1Action()
+	{
+		return input1Action;
+	}
+	
+	private final Action<Input2> input2Action = this::processInput2;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input two to this Join
+	 * 
+	 * @return the input2 action of this Join
+	 */
+	public Action<Input2> input2Action()
+	{
+		return input2Action;
+	}
+	
+	private final Action0 resetAction = this::processReset;
+	
+	/**
+	 * Provides an {@link Action0} that is used to clear all queued values of this Join
+	 * 
+	 * @return the reset action of this Join
+	 */
+	public Action0 resetAction()
+	{
+		return resetAction;
+	}
+	
+	private void processReset()
+	{
+		logger.log(logLevel, "receiving reset");
+		
+		lock.lock();
+		try
+		{
+			input1Queue.clear();
+			input2Queue.clear();
+			input1NotFull.signalAll();
+			input2NotFull.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	private void processInput1(Input1 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input1: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput1(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput1(input));
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void storeInput1(Input1 input)
+	{
+		Match match = enqueueOrPair(input, input1Queue, input1NotFull, input2Queue, input2NotFull);
+		if (match != null)
+		{
+			createAndSendResult(match.sequence, input, (Input2) match.pairedInput);
+		}
+	}
+	
+	private void processInput2(Input2 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input2: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput2(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput2(input));
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void storeInput2(Input2 input)
+	{
+		Match match = enqueueOrPair(input, input2Queue, input2NotFull, input1Queue, input1NotFull);
+		if (match != null)
+		{
+			createAndSendResult(match.sequence, (Input1) match.pairedInput, input);
+		}
+	}
+	
+	/*
+	 * Returns the head of the other queue paired with the given input or null if the input has
+	 * been queued or dropped. The other queue is checked again after the sender has been
+	 * blocked, because values of the other input may have been queued while it was waiting.
+	 */
+	private Match enqueueOrPair(Object input, InputQueue queue, Condition notFull, InputQueue otherQueue,
+								 Condition otherNotFull)
+	{
+		lock.lock();
+		try
+		{
+			while (otherQueue.isEmpty())
+			{
+				if (!queue.isFull())
+				{
+					queue.add(input);
+					return null;
+				}
+				
+				switch (overflowPolicy)
+				{
+					case BLOCK:
+						awaitSpace(notFull);
+						break;
+					case DROP_OLDEST:
+						queue.removeHead();
+						droppedCount++;
+						break;
+					case DROP_NEWEST:
+						droppedCount++;
+						return null;
+					default:
+						droppedCount++;
+						throw new RejectedExecutionException("input queue is full");
+				}
+			}
+			
+			Object pairedInput = otherQueue.removeHead();
+			otherNotFull.signal();
+			return new Match(matchedCount++, pairedInput);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	private void awaitSpace(Condition notFull)
+	{
+		try
+		{
+			notFull.await();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			droppedCount++;
+			throw new RejectedExecutionException("interrupted while waiting for space in the input queue", e);
+		}
+	}
+	
+	private void createAndSendResult(long sequence, Input1 input1, Input2 input2)
+	{
+		Object output = NO_OUTPUT;
+		try
+		{
+			output = outputCreator.createOutput(input1, input2);
+		}
+		finally
+		{
+			// a failed output is skipped so the outputs of the following pairs are still sent
+			sendInOrder(sequence, output);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void sendInOrder(long sequence, Object output)
+	{
+		synchronized (completedOutputs)
+		{
+			completedOutputs.put(sequence, output);
+			if (sending)
+			{
+				return;
+			}
+			sending = true;
+		}
+		
+		boolean completed = false;
+		try
+		{
+			while (true)
+			{
+				Object nextOutput;
+				synchronized (completedOutputs)
+				{
+					if (!completedOutputs.containsKey(nextSentSequence))
+					{
+						sending = false;
+						completed = true;
+						return;
+					}
+					nextOutput = completedOutputs.remove(nextSentSequence++);
+				}
+				if (nextOutput != NO_OUTPUT)
+				{
+					sendResult((Output) nextOutput);
+				}
+			}
+		}
+		finally
+		{
+			if (!completed)
+			{
+				synchronized (completedOutputs)
+				{
+					sending = false;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Retrieve the maximum number of queued values per input
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return capacity;
+	}
+	
+	/**
+	 * Retrieve the {@link OverflowPolicy} applied while the queue of an input is full
+	 * 
+	 * @return the overflow policy
+	 */
+	public OverflowPolicy getOverflowPolicy()
+	{
+		return overflowPolicy;
+	}
+	
+	/**
+	 * Retrieve the number of input one values currently waiting for their pair
+	 * 
+	 * @return the number of queued input one values
+	 */
+	public int getPendingInput1Count()
+	{
+		lock.lock();
+		try
+		{
+			return input1Queue.size();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of input two values currently waiting for their pair
+	 * 
+	 * @return the number of queued input two values
+	 */
+	public int getPendingInput2Count()
+	{
+		lock.lock();
+		try
+		{
+			return input2Queue.size();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of pairs that have been sent as output so far
+	 * 
+	 * @return the number of matched pairs
+	 */
+	public long getMatchedCount()
+	{
+		lock.lock();
+		try
+		{
+			return matchedCount;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of values that have been dropped or rejected so far
+	 * 
+	 * @return the number of dropped values
+	 */
+	public long getDroppedCount()
+	{
+		lock.lock();
+		try
+		{
+			return droppedCount;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
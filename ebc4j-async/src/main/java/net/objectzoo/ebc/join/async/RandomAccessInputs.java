@@ -0,0 +1,62 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Utility methods providing indexed access to the input collections of the parallel output
+ * creators.
+ * 
+ * @author tilmann
+ */
+final class RandomAccessInputs
+{
+	private RandomAccessInputs()
+	{
+		// No instances will be made
+	}
+	
+	/**
+	 * Provides the given collection as a {@link RandomAccess} {@link List} by copying its elements
+	 * only if the collection is not already one
+	 * 
+	 * @param collection
+	 *        the collection to provide
+	 * @return the collection as a random access list
+	 */
+	@SuppressWarnings("unchecked")
+	static <Element> List<Element> asRandomAccessList(Collection<Element> collection)
+	{
+		if (collection instanceof List && collection instanceof RandomAccess)
+		{
+			return (List<Element>) collection;
+		}
+		return (List<Element>) Arrays.asList(collection.toArray());
+	}
+}
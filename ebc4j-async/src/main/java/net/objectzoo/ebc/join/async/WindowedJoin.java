@@ -0,0 +1,465 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.impl.async.TimerWheel;
+import net.objectzoo.ebc.join.Join;
+import net.objectzoo.ebc.join.JoinOutputCreator;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.state.State;
+import net.objectzoo.ebc.state.StateFactory;
+import net.objectzoo.ebc.util.LoggingUtils;
+import net.objectzoo.events.Event;
+import net.objectzoo.events.impl.EventDelegate;
+
+/**
+ * This Join pairs its two inputs like a {@link Join} that is reset after each result event, but only
+ * if they have been received within a time window. Each stored input is stamped when it is received.
+ * An input that is older than the window when the other input arrives is not paired but expired,
+ * and the arriving input is stored instead. Thus a stale input never pairs with an unrelated later
+ * input.
+ * 
+ * Additionally stored inputs are expired by a {@link TimerWheel} at most one tick after their window
+ * elapsed, so that inputs that are never paired do not pile up, e.g. in the states of a
+ * thread-local {@link StateFactory}. Each input storage is scheduled on the wheel at most once at a
+ * time, no task is scheduled per input. Expired inputs are sent by the expired input events, on the
+ * timer thread if they are expired by the wheel.
+ * 
+ * If an input is received twice before it has been paired the later value wins and its window
+ * starts anew. To clear the stored inputs the {@link #resetAction()} can be invoked.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of input one of this Join
+ * @param <Input2>
+ *        the type of input two of this Join
+ * @param <Output>
+ *        the type of output of this Join
+ */
+public class WindowedJoin<Input1, Input2, Output> extends ResultBase<Output>
+{
+	/**
+	 * The stored inputs of this Join together with the time they have been received. All fields
+	 * are guarded by the storage itself.
+	 */
+	private final class InputStorage implements Runnable
+	{
+		Input1 input1;
+		
+		Input2 input2;
+		
+		boolean input1Set;
+		
+		boolean input2Set;
+		
+		long input1Nanos;
+		
+		long input2Nanos;
+		
+		boolean scheduled;
+		
+		void clearInput1()
+		{
+			input1 = null;
+			input1Set = false;
+		}
+		
+		void clearInput2()
+		{
+			input2 = null;
+			input2Set = false;
+		}
+		
+		void scheduleExpiry(long delayNanos)
+		{
+			if (!scheduled)
+			{
+				scheduled = true;
+				timerWheel.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+		
+		@Override
+		public void run()
+		{
+			expireInputs(this);
+		}
+	}
+	
+	private final JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
+	
+	private final long windowNanos;
+	
+	private final TimerWheel timerWheel;
+	
+	private final State<InputStorage> inputStorage;
+	
+	private final EventDelegate<Input1> expiredInput1Event = new CopyOnWriteEventDistributor<Input1>();
+	
+	private final EventDelegate<Input2> expiredInput2Event = new CopyOnWriteEventDistributor<Input2>();
+	
+	private final LongAdder matchedCount = new LongAdder();
+	
+	private final LongAdder expiredCount = new LongAdder();
+	
+	/**
+	 * Creates a new {@code WindowedJoin} using the {@link Join#DEFAULT_STATE_FACTORY} and the
+	 * {@link TimerWheel#shared() shared} {@link TimerWheel}
+	 * 
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @param window
+	 *        the maximum age of a stored input to be paired
+	 * @param unit
+	 *        the unit of the window
+	 * @throws IllegalArgumentException
+	 *         if the output creator or unit is {@code null} or the window is not positive
+	 */
+	public WindowedJoin(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator,
+						long window, TimeUnit unit)
+	{
+		this(outputCreator, window, unit, null, null);
+	}
+	
+	/**
+	 * Creates a new {@code WindowedJoin}
+	 * 
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @param window
+	 *        the maximum age of a stored input to be paired
+	 * @param unit
+	 *        the unit of the window
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link Join#DEFAULT_STATE_FACTORY} is used.
+	 * @param timerWheel
+	 *        the {@link TimerWheel} expiring the stored inputs. If {@code null} is given then the
+	 *        {@link TimerWheel#shared() shared} instance is used.
+	 * @throws IllegalArgumentException
+	 *         if the output creator or unit is {@code null} or the window is not positive
+	 */
+	public WindowedJoin(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator,
+						long window, TimeUnit unit, StateFactory stateFactory, TimerWheel timerWheel)
+	{
+		if (outputCreator == null)
+		{
+			throw new IllegalArgumentException("outputCreator=null");
+		}
+		if (unit == null)
+		{
+			throw new IllegalArgumentException("unit=null");
+		}
+		if (window <= 0)
+		{
+			throw new IllegalArgumentException("window=" + window);
+		}
+		if (stateFactory == null)
+		{
+			if (Join.DEFAULT_STATE_FACTORY == null)
+			{
+				throw new IllegalArgumentException(
+					"Either stateFactory must be given or Join.DEFAULT_STATE_FACTORY must be set.");
+			}
+			stateFactory = Join.DEFAULT_STATE_FACTORY;
+		}
+		
+		this.outputCreator = outputCreator;
+		this.windowNanos = unit.toNanos(window);
+		this.timerWheel = timerWheel == null ? TimerWheel.shared() : timerWheel;
+		this.inputStorage = stateFactory.create(InputStorage::new);
+	}
+	
+	private final Action<Input1> input1Action = this::processInput1;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input one to this Join
+	 * 
+	 * @return the input1 action of this Join
+	 */
+	public Action<Input1> input1Action()
+	{
+		return input1Action;
+	}
+	
+	private final Action<Input2> input2Action = this::processInput2;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input two to this Join
+	 * 
+	 * @return the input2 action of this Join
+	 */
+	public Action<Input2> input2Action()
+	{
+		return input2Action;
+	}
+	
+	private final Action0 resetAction = this::processReset;
+	
+	/**
+	 * Provides an {@link Action0} that is used to clear the stored inputs of this Join
+	 * 
+	 * @return the reset action of this Join
+	 */
+	public Action0 resetAction()
+	{
+		return resetAction;
+	}
+	
+	/**
+	 * Provides the {@link Event} that sends the input one values that expired unpaired
+	 * 
+	 * @return the expired input1 event of this Join
+	 */
+	public Event<Input1> expiredInput1Event()
+	{
+		return expiredInput1Event;
+	}
+	
+	/**
+	 * Provides the {@link Event} that sends the input two values that expired unpaired
+	 * 
+	 * @return the expired input2 event of this Join
+	 */
+	public Event<Input2> expiredInput2Event()
+	{
+		return expiredInput2Event;
+	}
+	
+	private void processReset()
+	{
+		logger.log(logLevel, "receiving reset");
+		
+		InputStorage storage = inputStorage.get();
+		synchronized (storage)
+		{
+			storage.clearInput1();
+			storage.clearInput2();
+		}
+	}
+	
+	private void processInput1(Input1 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input1: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput1(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput1(input));
+	}
+	
+	private void storeInput1(Input1 input)
+	{
+		long now = System.nanoTime();
+		InputStorage storage = inputStorage.get();
+		Input2 stored = null;
+		boolean paired = false;
+		boolean expired = false;
+		synchronized (storage)
+		{
+			if (storage.input2Set)
+			{
+				stored = storage.input2;
+				paired = now - storage.input2Nanos < windowNanos;
+				expired = !paired;
+				storage.clearInput2();
+			}
+			if (!paired)
+			{
+				storage.input1 = input;
+				storage.input1Set = true;
+				storage.input1Nanos = now;
+				storage.scheduleExpiry(windowNanos);
+			}
+		}
+		
+		if (expired)
+		{
+			sendExpiredInput2(stored);
+		}
+		if (paired)
+		{
+			createAndSendResult(input, stored);
+		}
+	}
+	
+	private void processInput2(Input2 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input2: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput2(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput2(input));
+	}
+	
+	private void storeInput2(Input2 input)
+	{
+		long now = System.nanoTime();
+		InputStorage storage = inputStorage.get();
+		Input1 stored = null;
+		boolean paired = false;
+		boolean expired = false;
+		synchronized (storage)
+		{
+			if (storage.input1Set)
+			{
+				stored = storage.input1;
+				paired = now - storage.input1Nanos < windowNanos;
+				expired = !paired;
+				storage.clearInput1();
+			}
+			if (!paired)
+			{
+				storage.input2 = input;
+				storage.input2Set = true;
+				storage.input2Nanos = now;
+				storage.scheduleExpiry(windowNanos);
+			}
+		}
+		
+		if (expired)
+		{
+			sendExpiredInput1(stored);
+		}
+		if (paired)
+		{
+			createAndSendResult(stored, input);
+		}
+	}
+	
+	private void expireInputs(InputStorage storage)
+	{
+		long now = System.nanoTime();
+		Input1 expiredInput1 = null;
+		Input2 expiredInput2 = null;
+		boolean input1Expired = false;
+		boolean input2Expired = false;
+		synchronized (storage)
+		{
+			storage.scheduled = false;
+			if (storage.input1Set && now - storage.input1Nanos >= windowNanos)
+			{
+				expiredInput1 = storage.input1;
+				input1Expired = true;
+				storage.clearInput1();
+			}
+			if (storage.input2Set && now - storage.input2Nanos >= windowNanos)
+			{
+				expiredInput2 = storage.input2;
+				input2Expired = true;
+				storage.clearInput2();
+			}
+			if (storage.input1Set)
+			{
+				storage.scheduleExpiry(storage.input1Nanos + windowNanos - now);
+			}
+			else if (storage.input2Set)
+			{
+				storage.scheduleExpiry(storage.input2Nanos + windowNanos - now);
+			}
+		}
+		
+		if (input1Expired)
+		{
+			sendExpiredInput1(expiredInput1);
+		}
+		if (input2Expired)
+		{
+			sendExpiredInput2(expiredInput2);
+		}
+	}
+	
+	private void sendExpiredInput1(Input1 input)
+	{
+		expiredCount.increment();
+		LoggingUtils.log(logger, logLevel, "sending expired input1: ", input);
+		
+		expiredInput1Event.accept(input);
+	}
+	
+	private void sendExpiredInput2(Input2 input)
+	{
+		expiredCount.increment();
+		LoggingUtils.log(logger, logLevel, "sending expired input2: ", input);
+		
+		expiredInput2Event.accept(input);
+	}
+	
+	private void createAndSendResult(Input1 input1, Input2 input2)
+	{
+		matchedCount.increment();
+		Output output = outputCreator.createOutput(input1, input2);
+		sendResult(output);
+	}
+	
+	/**
+	 * Retrieve the maximum age of a stored input to be paired
+	 * 
+	 * @return the window in nanoseconds
+	 */
+	public long getWindowNanos()
+	{
+		return windowNanos;
+	}
+	
+	/**
+	 * Retrieve the number of input pairs that have been sent as output so far
+	 * 
+	 * @return the number of matched pairs
+	 */
+	public long getMatchedCount()
+	{
+		return matchedCount.sum();
+	}
+	
+	/**
+	 * Retrieve the number of inputs that expired unpaired so far
+	 * 
+	 * @return the number of expired inputs
+	 */
+	public long getExpiredCount()
+	{
+		return expiredCount.sum();
+	}
+}
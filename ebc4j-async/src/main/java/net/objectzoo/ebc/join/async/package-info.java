@@ -0,0 +1,6 @@
+/**
+ * This package contains Joins that rely on timers or blocking queues and Join output creators that
+ * create the output elements of collection Joins in parallel using a
+ * {@link java.util.concurrent.ForkJoinPool}.
+ */
+package net.objectzoo.ebc.join.async;
@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code EbcMetrics} are recorded by a {@link MetricsObserver} for an EBC or an EBC class.
+ * 
+ * The latency is measured for each invocation including the dispatches that are triggered
+ * synchronously by sending results. The self latency excludes the time spent in the invocations
+ * of other observed EBCs triggered synchronously, so it tells which EBC of a flow is slow.
+ * 
+ * @author tilmann
+ */
+public final class EbcMetrics implements EbcMetricsMXBean
+{
+	private final String name;
+	
+	private final LongAdder invocationCount = new LongAdder();
+	
+	private final LongAdder resultCount = new LongAdder();
+	
+	private final LongAdder errorCount = new LongAdder();
+	
+	private final LatencyHistogram latency = new LatencyHistogram();
+	
+	private final LatencyHistogram selfLatency = new LatencyHistogram();
+	
+	EbcMetrics(String name)
+	{
+		this.name = name;
+	}
+	
+	void recordInvocation(long latencyNanos, long selfLatencyNanos, boolean failed)
+	{
+		invocationCount.increment();
+		if (failed)
+		{
+			errorCount.increment();
+		}
+		latency.record(latencyNanos);
+		selfLatency.record(selfLatencyNanos);
+	}
+	
+	void recordResult()
+	{
+		resultCount.increment();
+	}
+	
+	/**
+	 * Creates an immutable snapshot of the current metrics
+	 * 
+	 * @return the snapshot created
+	 */
+	public EbcMetricsSnapshot snapshot()
+	{
+		return new EbcMetricsSnapshot(name, invocationCount.sum(), resultCount.sum(), errorCount.sum(),
+			latency.snapshot(), selfLatency.snapshot());
+	}
+	
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+	
+	@Override
+	public long getInvocationCount()
+	{
+		return invocationCount.sum();
+	}
+	
+	@Override
+	public long getResultCount()
+	{
+		return resultCount.sum();
+	}
+	
+	@Override
+	public long getErrorCount()
+	{
+		return errorCount.sum();
+	}
+	
+	@Override
+	public double getMeanLatency()
+	{
+		return latency.snapshot().getMean();
+	}
+	
+	@Override
+	public long getMedianLatency()
+	{
+		return latency.snapshot().getValueAtPercentile(50);
+	}
+	
+	@Override
+	public long get99thPercentileLatency()
+	{
+		return latency.snapshot().getValueAtPercentile(99);
+	}
+	
+	@Override
+	public long getMaxLatency()
+	{
+		return latency.snapshot().getMax();
+	}
+	
+	@Override
+	public double getMeanSelfLatency()
+	{
+		return selfLatency.snapshot().getMean();
+	}
+	
+	@Override
+	public long get99thPercentileSelfLatency()
+	{
+		return selfLatency.snapshot().getValueAtPercentile(99);
+	}
+	
+	@Override
+	public void reset()
+	{
+		invocationCount.reset();
+		resultCount.reset();
+		errorCount.reset();
+		latency.reset();
+		selfLatency.reset();
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+/**
+ * The management interface of the {@link EbcMetrics} exposed by JMX. All latencies are given in
+ * nanoseconds.
+ * 
+ * @author tilmann
+ */
+public interface EbcMetricsMXBean
+{
+	/**
+	 * @return the name of the EBC or EBC class the metrics are recorded for
+	 */
+	String getName();
+	
+	/**
+	 * @return the number of process and start invocations
+	 */
+	long getInvocationCount();
+	
+	/**
+	 * @return the number of results and signals sent
+	 */
+	long getResultCount();
+	
+	/**
+	 * @return the number of invocations that have been terminated by an exception
+	 */
+	long getErrorCount();
+	
+	/**
+	 * @return the mean latency of the invocations including the synchronously triggered dispatches
+	 */
+	double getMeanLatency();
+	
+	/**
+	 * @return the median latency of the invocations including the synchronously triggered
+	 *         dispatches
+	 */
+	long getMedianLatency();
+	
+	/**
+	 * @return the 99th percentile latency of the invocations including the synchronously triggered
+	 *         dispatches
+	 */
+	long get99thPercentileLatency();
+	
+	/**
+	 * @return the maximum latency of the invocations including the synchronously triggered
+	 *         dispatches
+	 */
+	long getMaxLatency();
+	
+	/**
+	 * @return the mean latency of the invocations excluding the synchronously triggered dispatches
+	 */
+	double getMeanSelfLatency();
+	
+	/**
+	 * @return the 99th percentile latency of the invocations excluding the synchronously triggered
+	 *         dispatches
+	 */
+	long get99thPercentileSelfLatency();
+	
+	/**
+	 * Resets all metrics to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+/**
+ * An immutable snapshot of the {@link EbcMetrics} recorded for an EBC or an EBC class.
+ * 
+ * @author tilmann
+ */
+public final class EbcMetricsSnapshot
+{
+	private final String name;
+	
+	private final long invocationCount;
+	
+	private final long resultCount;
+	
+	private final long errorCount;
+	
+	private final HistogramSnapshot latency;
+	
+	private final HistogramSnapshot selfLatency;
+	
+	EbcMetricsSnapshot(String name, long invocationCount, long resultCount, long errorCount,
+					   HistogramSnapshot latency, HistogramSnapshot selfLatency)
+	{
+		this.name = name;
+		this.invocationCount = invocationCount;
+		this.resultCount = resultCount;
+		this.errorCount = errorCount;
+		this.latency = latency;
+		this.selfLatency = selfLatency;
+	}
+	
+	/**
+	 * @return the name of the EBC or EBC class the metrics are recorded for
+	 */
+	public String getName()
+	{
+		return name;
+	}
+	
+	/**
+	 * @return the number of process and start invocations
+	 */
+	public long getInvocationCount()
+	{
+		return invocationCount;
+	}
+	
+	/**
+	 * @return the number of results and signals sent
+	 */
+	public long getResultCount()
+	{
+		return resultCount;
+	}
+	
+	/**
+	 * @return the number of invocations that have been terminated by an exception
+	 */
+	public long getErrorCount()
+	{
+		return errorCount;
+	}
+	
+	/**
+	 * @return the latencies in nanoseconds of the invocations including the synchronously triggered
+	 *         dispatches
+	 */
+	public HistogramSnapshot getLatency()
+	{
+		return latency;
+	}
+	
+	/**
+	 * @return the latencies in nanoseconds of the invocations excluding the synchronously triggered
+	 *         dispatches
+	 */
+	public HistogramSnapshot getSelfLatency()
+	{
+		return selfLatency;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "EbcMetricsSnapshot [name=" + name + ", invocationCount=" + invocationCount + ", resultCount="
+			+ resultCount + ", errorCount=" + errorCount + ", latency=" + latency + ", selfLatency=" + selfLatency
+			+ "]";
+	}
+}
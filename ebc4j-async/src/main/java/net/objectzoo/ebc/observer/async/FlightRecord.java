@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+import net.objectzoo.ebc.observer.DispatchKind;
+
+/**
+ * An immutable record of a dispatch captured by a {@link FlightRecorder}.
+ * 
+ * @author tilmann
+ */
+public final class FlightRecord
+{
+	/**
+	 * The phases of a dispatch captured.
+	 */
+	public enum Phase
+	{
+		/** A process or start dispatch has been started */
+		STARTED,
+		
+		/** A process or start dispatch has completed normally */
+		COMPLETED,
+		
+		/** A process or start dispatch has been terminated by an exception */
+		FAILED,
+		
+		/** A result or signal has been sent */
+		SENT
+	}
+	
+	private final long timestampNanos;
+	
+	private final String threadName;
+	
+	private final Class<?> componentType;
+	
+	private final int componentId;
+	
+	private final DispatchKind kind;
+	
+	private final Phase phase;
+	
+	private final long durationNanos;
+	
+	private final String payload;
+	
+	FlightRecord(long timestampNanos, String threadName, Class<?> componentType, int componentId,
+				 DispatchKind kind, Phase phase, long durationNanos, String payload)
+	{
+		this.timestampNanos = timestampNanos;
+		this.threadName = threadName;
+		this.componentType = componentType;
+		this.componentId = componentId;
+		this.kind = kind;
+		this.phase = phase;
+		this.durationNanos = durationNanos;
+		this.payload = payload;
+	}
+	
+	/**
+	 * @return the time the record has been captured as given by {@link System#nanoTime()}
+	 */
+	public long getTimestampNanos()
+	{
+		return timestampNanos;
+	}
+	
+	/**
+	 * @return the name of the thread that has been dispatching
+	 */
+	public String getThreadName()
+	{
+		return threadName;
+	}
+	
+	/**
+	 * @return the class of the EBC that has been dispatching
+	 */
+	public Class<?> getComponentType()
+	{
+		return componentType;
+	}
+	
+	/**
+	 * @return the identity hash code of the EBC that has been dispatching
+	 */
+	public int getComponentId()
+	{
+		return componentId;
+	}
+	
+	/**
+	 * @return the name of the EBC that has been dispatching made of its class name and its
+	 *         {@link #getComponentId()}
+	 */
+	public String getComponentName()
+	{
+		return componentType.getName() + "@" + Integer.toHexString(componentId);
+	}
+	
+	/**
+	 * @return the kind of dispatch
+	 */
+	public DispatchKind getKind()
+	{
+		return kind;
+	}
+	
+	/**
+	 * @return the phase of the dispatch
+	 */
+	public Phase getPhase()
+	{
+		return phase;
+	}
+	
+	/**
+	 * @return the duration of the dispatch in nanoseconds for {@link Phase#COMPLETED} and
+	 *         {@link Phase#FAILED} or {@code -1} otherwise
+	 */
+	public long getDurationNanos()
+	{
+		return durationNanos;
+	}
+	
+	/**
+	 * @return the summary of the dispatched parameter or the exception that has terminated the
+	 *         dispatch or {@code null} if no summary has been captured
+	 */
+	public String getPayload()
+	{
+		return payload;
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder();
+		builder.append(timestampNanos).append(" [").append(threadName).append("] ").append(getComponentName());
+		builder.append(' ').append(kind).append(' ').append(phase);
+		if (durationNanos >= 0)
+		{
+			builder.append(" in ").append(durationNanos).append("ns");
+		}
+		if (payload != null)
+		{
+			builder.append(": ").append(payload);
+		}
+		return builder.toString();
+	}
+}
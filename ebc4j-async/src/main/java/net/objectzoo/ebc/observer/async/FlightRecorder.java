@@ -0,0 +1,426 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.observer.async.FlightRecord.Phase;
+
+/**
+ * The {@code FlightRecorder} is an {@link EbcObserver} capturing the last dispatches of every
+ * thread in memory. To start recording it has to be added to the {@link EbcObservers}.
+ * 
+ * Every thread writes compact records into its own ring buffer without locking and without
+ * allocation, so only the last {@code capacity} records of each thread are kept. A summary of the
+ * dispatched parameters is only captured if a payload summarizer has been set. With a sampling
+ * interval of {@code n} only every n-th dispatch or send made by a thread outside of any other
+ * dispatch is captured together with all its nested dispatches.
+ * 
+ * The records can be obtained by {@link #dump()} at any time. If an error handler has been set it
+ * is given a dump whenever a dispatch captured is terminated by an exception. Records written
+ * while a dump is created are left out, so a dump is a best effort view of the dispatches.
+ * 
+ * The records of threads that have terminated are kept so they can be dumped after the failure of
+ * a thread. To bound the memory held for pools replacing their threads only the buffers of the
+ * last {@link #MAX_TERMINATED_BUFFERS} terminated threads are kept and {@link #clear()} releases
+ * them all.
+ * 
+ * @author tilmann
+ */
+public class FlightRecorder implements EbcObserver
+{
+	/** The number of records kept for each thread by default */
+	public static final int DEFAULT_CAPACITY = 4096;
+	
+	/** The number of buffers of terminated threads kept at most */
+	public static final int MAX_TERMINATED_BUFFERS = 16;
+	
+	private static final long NO_DURATION = -1;
+	
+	private static final DispatchKind[] KINDS = DispatchKind.values();
+	
+	private static final Phase[] PHASES = Phase.values();
+	
+	private final int capacity;
+	
+	private final int samplingInterval;
+	
+	private final List<RecordBuffer> buffers = new CopyOnWriteArrayList<>();
+	
+	private final ThreadLocal<RecordBuffer> threadBuffer = ThreadLocal.withInitial(this::createBuffer);
+	
+	private volatile Function<Object, String> payloadSummarizer;
+	
+	private volatile Consumer<List<FlightRecord>> errorHandler;
+	
+	/**
+	 * Creates a new {@code FlightRecorder} keeping the {@link #DEFAULT_CAPACITY} records per thread
+	 * and capturing all dispatches
+	 */
+	public FlightRecorder()
+	{
+		this(DEFAULT_CAPACITY, 1);
+	}
+	
+	/**
+	 * Creates a new {@code FlightRecorder}
+	 * 
+	 * @param capacity
+	 *        the number of records kept for each thread. It is rounded up to the next power of two.
+	 * @param samplingInterval
+	 *        the interval n to capture only every n-th dispatch
+	 * @throws IllegalArgumentException
+	 *         if the given capacity or sampling interval is less than {@code 1}
+	 */
+	public FlightRecorder(int capacity, int samplingInterval) throws IllegalArgumentException
+	{
+		if (capacity < 1)
+		{
+			throw new IllegalArgumentException("capacity must be at least 1");
+		}
+		if (samplingInterval < 1)
+		{
+			throw new IllegalArgumentException("samplingInterval must be at least 1");
+		}
+		this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+		this.samplingInterval = samplingInterval;
+	}
+	
+	/**
+	 * Sets the function used to summarize the dispatched parameters. As it is invoked for every
+	 * dispatch captured it should be cheap, for instance by just returning the type of the
+	 * parameter.
+	 * 
+	 * @param summarizer
+	 *        the function used or {@code null} to capture no payload summaries
+	 */
+	public void setPayloadSummarizer(Function<Object, String> summarizer)
+	{
+		this.payloadSummarizer = summarizer;
+	}
+	
+	/**
+	 * Sets the handler given a dump whenever a dispatch captured is terminated by an exception. The
+	 * handler is invoked by the failing thread only once for each exception propagating through
+	 * several dispatches.
+	 * 
+	 * @param handler
+	 *        the handler or {@code null} to not dump on errors
+	 */
+	public void setErrorHandler(Consumer<List<FlightRecord>> handler)
+	{
+		this.errorHandler = handler;
+	}
+	
+	/**
+	 * Returns the capacity of the ring buffer of each thread
+	 * 
+	 * @return the number of records kept for each thread
+	 */
+	public int getCapacity()
+	{
+		return capacity;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatchStarted(Object ebc, DispatchKind kind, Object parameter)
+	{
+		RecordBuffer buffer = threadBuffer.get();
+		if (buffer.enter())
+		{
+			buffer.write(ebc, kind, Phase.STARTED, NO_DURATION, summarize(parameter));
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatchCompleted(Object ebc, DispatchKind kind, long durationNanos, Throwable error)
+	{
+		RecordBuffer buffer = threadBuffer.get();
+		if (!buffer.leave())
+		{
+			return;
+		}
+		
+		if (error == null)
+		{
+			buffer.write(ebc, kind, Phase.COMPLETED, durationNanos, null);
+			return;
+		}
+		
+		buffer.write(ebc, kind, Phase.FAILED, durationNanos, error.toString());
+		Consumer<List<FlightRecord>> handler = errorHandler;
+		if (handler != null && buffer.lastError != error)
+		{
+			buffer.lastError = error;
+			handler.accept(dump());
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sent(Object ebc, DispatchKind kind, Object parameter)
+	{
+		RecordBuffer buffer = threadBuffer.get();
+		if (buffer.captureSent())
+		{
+			buffer.write(ebc, kind, Phase.SENT, NO_DURATION, summarize(parameter));
+		}
+	}
+	
+	private String summarize(Object parameter)
+	{
+		Function<Object, String> summarizer = payloadSummarizer;
+		return summarizer == null ? null : summarizer.apply(parameter);
+	}
+	
+	/**
+	 * Creates a dump of the records captured by all threads ordered by their time stamps.
+	 * 
+	 * @return the records captured
+	 */
+	public List<FlightRecord> dump()
+	{
+		List<FlightRecord> records = new ArrayList<>();
+		for (RecordBuffer buffer : buffers)
+		{
+			buffer.readInto(records);
+		}
+		records.sort(Comparator.comparingLong(FlightRecord::getTimestampNanos));
+		return records;
+	}
+	
+	/**
+	 * Removes the records captured so far and releases the buffers of terminated threads
+	 */
+	public void clear()
+	{
+		for (RecordBuffer buffer : buffers)
+		{
+			buffer.clear();
+		}
+		removeTerminatedBuffers(0);
+	}
+	
+	private RecordBuffer createBuffer()
+	{
+		RecordBuffer buffer = new RecordBuffer(Thread.currentThread(), capacity, samplingInterval);
+		removeTerminatedBuffers(MAX_TERMINATED_BUFFERS);
+		buffers.add(buffer);
+		return buffer;
+	}
+	
+	private void removeTerminatedBuffers(int kept)
+	{
+		List<RecordBuffer> terminated = new ArrayList<>();
+		for (RecordBuffer buffer : buffers)
+		{
+			if (buffer.isOwnerTerminated())
+			{
+				terminated.add(buffer);
+			}
+		}
+		if (terminated.size() > kept)
+		{
+			// the buffers are in creation order so the oldest are removed
+			buffers.removeAll(terminated.subList(0, terminated.size() - kept));
+		}
+	}
+	
+	/* Just for the test */
+	int getBufferCount()
+	{
+		return buffers.size();
+	}
+	
+	/**
+	 * The ring buffer written by a single thread. The records are stored in arrays of their fields
+	 * and published by an ordered write of the position.
+	 */
+	private static final class RecordBuffer
+	{
+		private final WeakReference<Thread> owner;
+		
+		private final String threadName;
+		
+		private final int mask;
+		
+		private final int samplingInterval;
+		
+		private final long[] timestamps;
+		
+		private final long[] durations;
+		
+		private final Class<?>[] componentTypes;
+		
+		private final int[] componentIds;
+		
+		private final byte[] kinds;
+		
+		private final byte[] phases;
+		
+		private final String[] payloads;
+		
+		private final AtomicLong position = new AtomicLong();
+		
+		private volatile long clearedPosition;
+		
+		private int depth;
+		
+		private int skippedDepth;
+		
+		private int sampleCounter;
+		
+		Throwable lastError;
+		
+		RecordBuffer(Thread owner, int capacity, int samplingInterval)
+		{
+			this.owner = new WeakReference<>(owner);
+			this.threadName = owner.getName();
+			this.mask = capacity - 1;
+			this.samplingInterval = samplingInterval;
+			timestamps = new long[capacity];
+			durations = new long[capacity];
+			componentTypes = new Class<?>[capacity];
+			componentIds = new int[capacity];
+			kinds = new byte[capacity];
+			phases = new byte[capacity];
+			payloads = new String[capacity];
+		}
+		
+		boolean isOwnerTerminated()
+		{
+			Thread thread = owner.get();
+			return thread == null || !thread.isAlive();
+		}
+		
+		boolean enter()
+		{
+			if (skippedDepth > 0)
+			{
+				skippedDepth++;
+				return false;
+			}
+			if (depth == 0 && !sample())
+			{
+				skippedDepth = 1;
+				return false;
+			}
+			depth++;
+			return true;
+		}
+		
+		boolean leave()
+		{
+			if (skippedDepth > 0)
+			{
+				skippedDepth--;
+				return false;
+			}
+			if (depth == 0)
+			{
+				// the dispatch has been started before the recorder has been added
+				return false;
+			}
+			depth--;
+			return true;
+		}
+		
+		boolean captureSent()
+		{
+			if (skippedDepth > 0)
+			{
+				return false;
+			}
+			return depth > 0 || sample();
+		}
+		
+		private boolean sample()
+		{
+			if (++sampleCounter < samplingInterval)
+			{
+				return false;
+			}
+			sampleCounter = 0;
+			return true;
+		}
+		
+		void write(Object ebc, DispatchKind kind, Phase phase, long durationNanos, String payload)
+		{
+			long current = position.get();
+			int index = (int) current & mask;
+			timestamps[index] = System.nanoTime();
+			durations[index] = durationNanos;
+			componentTypes[index] = ebc.getClass();
+			componentIds[index] = System.identityHashCode(ebc);
+			kinds[index] = (byte) kind.ordinal();
+			phases[index] = (byte) phase.ordinal();
+			payloads[index] = payload;
+			position.lazySet(current + 1);
+		}
+		
+		void readInto(List<FlightRecord> records)
+		{
+			long end = position.get();
+			long start = Math.max(clearedPosition, end - timestamps.length);
+			List<FlightRecord> read = new ArrayList<>((int) (end - start));
+			for (long i = start; i < end; i++)
+			{
+				int index = (int) i & mask;
+				read.add(new FlightRecord(timestamps[index], threadName, componentTypes[index],
+					componentIds[index], KINDS[kinds[index]], PHASES[phases[index]], durations[index],
+					payloads[index]));
+			}
+			long overwritten = position.get() - timestamps.length - start;
+			if (overwritten > 0)
+			{
+				read = read.subList((int) Math.min(overwritten, read.size()), read.size());
+			}
+			records.addAll(read);
+		}
+		
+		void clear()
+		{
+			clearedPosition = position.get();
+		}
+	}
+}
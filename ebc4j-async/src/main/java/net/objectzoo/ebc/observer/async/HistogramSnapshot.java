@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+/**
+ * An immutable snapshot of the values recorded by a {@link LatencyHistogram}.
+ * 
+ * @author tilmann
+ */
+public final class HistogramSnapshot
+{
+	private final long[] counts;
+	
+	private final long count;
+	
+	private final long totalValue;
+	
+	private final long maxValue;
+	
+	HistogramSnapshot(long[] counts, long count, long totalValue, long maxValue)
+	{
+		this.counts = counts;
+		this.count = count;
+		this.totalValue = totalValue;
+		this.maxValue = maxValue;
+	}
+	
+	/**
+	 * Returns the number of values contained
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+	
+	/**
+	 * Returns the mean of the values contained
+	 * 
+	 * @return the mean value or {@code 0} if no values are contained
+	 */
+	public double getMean()
+	{
+		return count == 0 ? 0 : (double) totalValue / count;
+	}
+	
+	/**
+	 * Returns the maximum of the values contained
+	 * 
+	 * @return the maximum value or {@code 0} if no values are contained
+	 */
+	public long getMax()
+	{
+		return maxValue;
+	}
+	
+	/**
+	 * Returns the value that is greater than or equal to the given percentage of the values
+	 * contained. The value returned is the highest value that is recorded in the same bucket.
+	 * 
+	 * @param percentile
+	 *        the percentile between {@code 0} and {@code 100}
+	 * @return the value at the given percentile or {@code 0} if no values are contained
+	 * @throws IllegalArgumentException
+	 *         if the percentile is not between {@code 0} and {@code 100}
+	 */
+	public long getValueAtPercentile(double percentile) throws IllegalArgumentException
+	{
+		if (percentile < 0 || percentile > 100)
+		{
+			throw new IllegalArgumentException("percentile must be between 0 and 100");
+		}
+		if (count == 0)
+		{
+			return 0;
+		}
+		
+		long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long cumulativeCount = 0;
+		for (int i = 0; i < counts.length; i++)
+		{
+			cumulativeCount += counts[i];
+			if (cumulativeCount >= countAtPercentile)
+			{
+				return Math.min(LatencyHistogram.highestValueAt(i), maxValue);
+			}
+		}
+		return maxValue;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "HistogramSnapshot [count=" + count + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50)
+			+ ", p99=" + getValueAtPercentile(99) + ", max=" + maxValue + "]";
+	}
+}
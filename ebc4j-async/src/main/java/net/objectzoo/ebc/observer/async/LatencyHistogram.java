@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code LatencyHistogram} records latencies in nanoseconds in logarithmic buckets that are
+ * linearly subdivided like a HDR histogram. The buckets are sized so values are recorded with a
+ * relative error below 3.2%. Values below 64 nanoseconds are recorded exactly and values above
+ * {@link #MAX_TRACKABLE_VALUE} are recorded as that value.
+ * 
+ * Values can be recorded by any thread without locking and without allocation.
+ * 
+ * @author tilmann
+ */
+public final class LatencyHistogram
+{
+	/** The maximum value that can be recorded, about 68 seconds */
+	public static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1;
+	
+	private static final int SUB_BUCKET_BITS = 5;
+	
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+	
+	static final int BUCKET_COUNT = indexFor(MAX_TRACKABLE_VALUE) + 1;
+	
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	
+	private final LongAdder totalCount = new LongAdder();
+	
+	private final LongAdder totalValue = new LongAdder();
+	
+	private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+	
+	/**
+	 * Records the given value
+	 * 
+	 * @param value
+	 *        the value to be recorded. Negative values are recorded as {@code 0}.
+	 */
+	public void record(long value)
+	{
+		long trackedValue = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+		
+		counts.incrementAndGet(indexFor(trackedValue));
+		totalCount.increment();
+		totalValue.add(trackedValue);
+		maxValue.accumulate(trackedValue);
+	}
+	
+	/**
+	 * Creates a snapshot of the values recorded so far. Values recorded concurrently may be
+	 * partially contained.
+	 * 
+	 * @return the snapshot created
+	 */
+	public HistogramSnapshot snapshot()
+	{
+		long[] snapshotCounts = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			snapshotCounts[i] = counts.get(i);
+			count += snapshotCounts[i];
+		}
+		return new HistogramSnapshot(snapshotCounts, count, totalValue.sum(), maxValue.get());
+	}
+	
+	/**
+	 * Removes all values recorded so far
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			counts.set(i, 0);
+		}
+		totalCount.reset();
+		totalValue.reset();
+		maxValue.reset();
+	}
+	
+	/**
+	 * Returns the number of values recorded so far
+	 * 
+	 * @return the number of recorded values
+	 */
+	public long getCount()
+	{
+		return totalCount.sum();
+	}
+	
+	static int indexFor(long value)
+	{
+		if (value < LINEAR_LIMIT)
+		{
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+	}
+	
+	static long highestValueAt(int index)
+	{
+		if (index < LINEAR_LIMIT)
+		{
+			return index;
+		}
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long subBucket = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer.async;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+
+/**
+ * The {@code MetricsObserver} is an {@link EbcObserver} recording {@link EbcMetrics} for every EBC
+ * or EBC class dispatching. To start recording it has to be added to the {@link EbcObservers}.
+ * 
+ * The metrics can be queried by the snapshot methods and can be exposed as MBeans by
+ * {@link #registerMBeans(MBeanServer)}. The MBeans are named
+ * {@code net.objectzoo.ebc:type=EbcMetrics,name="<EBC name>"}.
+ * 
+ * With {@link MetricsGranularity#INSTANCE} the EBC instances are referenced by the observer until
+ * {@link #clear()} is invoked. They are identified by their {@link Object#equals(Object)} which is
+ * not overridden by the EBC base classes.
+ * 
+ * @author tilmann
+ */
+public class MetricsObserver implements EbcObserver
+{
+	/** The JMX domain of the MBeans registered */
+	public static final String JMX_DOMAIN = "net.objectzoo.ebc";
+	
+	private final MetricsGranularity granularity;
+	
+	private final ConcurrentMap<Object, EbcMetrics> metrics = new ConcurrentHashMap<>();
+	
+	private final ThreadLocal<InvocationStack> invocationStacks = ThreadLocal.withInitial(InvocationStack::new);
+	
+	private MBeanServer mbeanServer;
+	
+	/**
+	 * Creates a new {@code MetricsObserver} recording metrics for every EBC class
+	 */
+	public MetricsObserver()
+	{
+		this(MetricsGranularity.CLASS);
+	}
+	
+	/**
+	 * Creates a new {@code MetricsObserver} recording metrics with the given granularity
+	 * 
+	 * @param granularity
+	 *        the granularity of the metrics recorded
+	 * @throws IllegalArgumentException
+	 *         if the given granularity is {@code null}
+	 */
+	public MetricsObserver(MetricsGranularity granularity) throws IllegalArgumentException
+	{
+		if (granularity == null)
+		{
+			throw new IllegalArgumentException("granularity=null");
+		}
+		this.granularity = granularity;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatchStarted(Object ebc, DispatchKind kind, Object parameter)
+	{
+		invocationStacks.get().push();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void dispatchCompleted(Object ebc, DispatchKind kind, long durationNanos, Throwable error)
+	{
+		long nestedNanos = invocationStacks.get().pop(durationNanos);
+		
+		metricsFor(ebc).recordInvocation(durationNanos, durationNanos - nestedNanos, error != null);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sent(Object ebc, DispatchKind kind, Object parameter)
+	{
+		metricsFor(ebc).recordResult();
+	}
+	
+	private EbcMetrics metricsFor(Object ebc)
+	{
+		Object key = granularity == MetricsGranularity.CLASS ? ebc.getClass() : ebc;
+		EbcMetrics ebcMetrics = metrics.get(key);
+		if (ebcMetrics == null)
+		{
+			ebcMetrics = createMetrics(key, ebc);
+		}
+		return ebcMetrics;
+	}
+	
+	private synchronized EbcMetrics createMetrics(Object key, Object ebc)
+	{
+		EbcMetrics ebcMetrics = metrics.get(key);
+		if (ebcMetrics == null)
+		{
+			ebcMetrics = new EbcMetrics(nameOf(ebc));
+			metrics.put(key, ebcMetrics);
+			if (mbeanServer != null)
+			{
+				register(ebcMetrics);
+			}
+		}
+		return ebcMetrics;
+	}
+	
+	private String nameOf(Object ebc)
+	{
+		String className = ebc.getClass().getName();
+		if (granularity == MetricsGranularity.CLASS)
+		{
+			return className;
+		}
+		return className + "@" + Integer.toHexString(System.identityHashCode(ebc));
+	}
+	
+	/**
+	 * Returns the {@link EbcMetrics} recorded for the given EBC or its class depending on the
+	 * granularity of this observer
+	 * 
+	 * @param ebc
+	 *        the EBC to return the metrics for
+	 * @return the metrics recorded or {@code null} if the EBC has not dispatched yet
+	 */
+	public EbcMetrics getMetrics(Object ebc)
+	{
+		return metrics.get(granularity == MetricsGranularity.CLASS ? ebc.getClass() : ebc);
+	}
+	
+	/**
+	 * Creates snapshots of all metrics recorded so far
+	 * 
+	 * @return the snapshots ordered by the names of the EBCs
+	 */
+	public List<EbcMetricsSnapshot> snapshot()
+	{
+		List<EbcMetricsSnapshot> snapshots = new ArrayList<>();
+		for (EbcMetrics ebcMetrics : metrics.values())
+		{
+			snapshots.add(ebcMetrics.snapshot());
+		}
+		snapshots.sort(Comparator.comparing(EbcMetricsSnapshot::getName));
+		return snapshots;
+	}
+	
+	/**
+	 * Resets all metrics recorded so far to zero
+	 */
+	public void reset()
+	{
+		for (EbcMetrics ebcMetrics : metrics.values())
+		{
+			ebcMetrics.reset();
+		}
+	}
+	
+	/**
+	 * Removes all metrics recorded so far and unregisters their MBeans
+	 */
+	public synchronized void clear()
+	{
+		if (mbeanServer != null)
+		{
+			for (EbcMetrics ebcMetrics : metrics.values())
+			{
+				unregister(ebcMetrics);
+			}
+		}
+		metrics.clear();
+	}
+	
+	/**
+	 * Registers the MBeans of all metrics with the platform {@link MBeanServer}.
+	 * 
+	 * @see #registerMBeans(MBeanServer)
+	 */
+	public void registerMBeans()
+	{
+		registerMBeans(ManagementFactory.getPlatformMBeanServer());
+	}
+	
+	/**
+	 * Registers the MBeans of all metrics with the given {@link MBeanServer}. The MBeans of metrics
+	 * recorded afterwards are registered when they are created.
+	 * 
+	 * @param server
+	 *        the server to register the MBeans with
+	 * @throws IllegalArgumentException
+	 *         if the given server is {@code null}
+	 * @throws IllegalStateException
+	 *         if the MBeans are already registered or an MBean could not be registered
+	 */
+	public synchronized void registerMBeans(MBeanServer server) throws IllegalArgumentException,
+		IllegalStateException
+	{
+		if (server == null)
+		{
+			throw new IllegalArgumentException("server=null");
+		}
+		if (mbeanServer != null)
+		{
+			throw new IllegalStateException("The MBeans are already registered");
+		}
+		
+		mbeanServer = server;
+		for (EbcMetrics ebcMetrics : metrics.values())
+		{
+			register(ebcMetrics);
+		}
+	}
+	
+	/**
+	 * Unregisters the MBeans of all metrics
+	 */
+	public synchronized void unregisterMBeans()
+	{
+		if (mbeanServer == null)
+		{
+			return;
+		}
+		
+		for (EbcMetrics ebcMetrics : metrics.values())
+		{
+			unregister(ebcMetrics);
+		}
+		mbeanServer = null;
+	}
+	
+	/**
+	 * Returns the {@link ObjectName} of the MBean exposing the metrics with the given name
+	 * 
+	 * @param name
+	 *        the name of the metrics
+	 * @return the name of the MBean
+	 */
+	public static ObjectName objectNameOf(String name)
+	{
+		try
+		{
+			return new ObjectName(JMX_DOMAIN + ":type=EbcMetrics,name=" + ObjectName.quote(name));
+		}
+		catch (JMException e)
+		{
+			throw new IllegalArgumentException("Could not create object name for " + name, e);
+		}
+	}
+	
+	private void register(EbcMetrics ebcMetrics)
+	{
+		try
+		{
+			mbeanServer.registerMBean(ebcMetrics, objectNameOf(ebcMetrics.getName()));
+		}
+		catch (JMException e)
+		{
+			throw new IllegalStateException("Could not register MBean for " + ebcMetrics.getName(), e);
+		}
+	}
+	
+	private void unregister(EbcMetrics ebcMetrics)
+	{
+		try
+		{
+			mbeanServer.unregisterMBean(objectNameOf(ebcMetrics.getName()));
+		}
+		catch (JMException e)
+		{
+			throw new IllegalStateException("Could not unregister MBean for " + ebcMetrics.getName(), e);
+		}
+	}
+	
+	/**
+	 * The invocations in progress on a thread. For each one the time spent in the nested
+	 * invocations is summed up.
+	 */
+	private static final class InvocationStack
+	{
+		private long[] nestedNanos = new long[16];
+		
+		private int depth;
+		
+		void push()
+		{
+			if (depth == nestedNanos.length)
+			{
+				nestedNanos = Arrays.copyOf(nestedNanos, depth * 2);
+			}
+			nestedNanos[depth++] = 0;
+		}
+		
+		long pop(long durationNanos)
+		{
+			if (depth == 0)
+			{
+				// the invocation has been started before the observer has been added
+				return 0;
+			}
+			long nested = nestedNanos[--depth];
+			if (depth > 0)
+			{
+				nestedNanos[depth - 1] += durationNanos;
+			}
+			return nested;
+		}
+	}
+}
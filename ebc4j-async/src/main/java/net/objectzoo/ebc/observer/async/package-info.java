@@ -0,0 +1,4 @@
+/**
+ * This package contains EBC observers recording metrics exposed by JMX and a flight recorder.
+ */
+package net.objectzoo.ebc.observer.async;
@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.state.async;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.objectzoo.ebc.state.AtomicState;
+import net.objectzoo.ebc.state.ValueFactory;
+
+/**
+ * This implementation of {@link AtomicState} holds its current value in an {@link AtomicReference}
+ * shared by all threads. The initial value is created lazily and exactly once even if multiple
+ * threads access the state simultaneously.
+ * 
+ * @author tilmann
+ * 
+ * @param <Value>
+ *        the type of the state to be hold
+ */
+class AtomicReferenceState<Value> implements AtomicState<Value>
+{
+	private final AtomicReference<Value> value = new AtomicReference<Value>();
+	
+	private final ValueFactory<Value> valueFactory;
+	
+	AtomicReferenceState(ValueFactory<Value> valueFactory)
+	{
+		this.valueFactory = valueFactory;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Value get()
+	{
+		Value currentValue = value.get();
+		
+		if (currentValue == null && valueFactory != null)
+		{
+			value.compareAndSet(null, valueFactory.create());
+			currentValue = value.get();
+		}
+		
+		return currentValue;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(Value newValue)
+	{
+		value.set(newValue);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean compareAndSet(Value expectedValue, Value newValue)
+	{
+		return value.compareAndSet(expectedValue, newValue);
+	}
+}
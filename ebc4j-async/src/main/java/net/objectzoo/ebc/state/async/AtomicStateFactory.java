@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.state.async;
+
+import net.objectzoo.ebc.state.AtomicState;
+import net.objectzoo.ebc.state.StateFactory;
+import net.objectzoo.ebc.state.ValueFactory;
+
+/**
+ * A {@link StateFactory} implementation that creates {@link AtomicState}s backed by an
+ * {@link java.util.concurrent.atomic.AtomicReference}. In contrast to the
+ * {@link ThreadLocalStateFactory} all threads share the same state value. EBCs that support
+ * {@link AtomicState}s, like the {@code Join}, update it by compare and set so that they can be
+ * invoked by multiple threads simultaneously without locking.
+ * 
+ * @author tilmann
+ */
+public class AtomicStateFactory implements StateFactory
+{
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <Value> AtomicState<Value> create(ValueFactory<Value> valueFactory)
+	{
+		return new AtomicReferenceState<Value>(valueFactory);
+	}
+}
@@ -39,11 +39,17 @@ import net.objectzoo.ebc.state.ValueFactory;
  */
 class ThreadLocalState<Value> implements State<Value>
 {
-	private ValueFactory<Value> valueFactory;
+	private final ValueFactory<Value> valueFactory;
+	
+	private final int slot;
+	
+	private final long owner;
 	
 	ThreadLocalState(ValueFactory<Value> valueFactory)
 	{
 		this.valueFactory = valueFactory;
+		this.slot = ThreadLocalStateStore.allocateSlot(this);
+		this.owner = ThreadLocalStateStore.createOwnerId(slot);
 	}
 	
 	/**
@@ -53,7 +59,7 @@ class ThreadLocalState<Value> implements State<Value>
 	@Override
 	public Value get()
 	{
-		Value value = (Value) ThreadLocalStateStore.get().get(this);
+		Value value = (Value) ThreadLocalStateStore.get(slot, owner);
 		
 		if (value == null && valueFactory != null)
 		{
@@ -70,7 +76,7 @@ class ThreadLocalState<Value> implements State<Value>
 	@Override
 	public void set(Value value)
 	{
-		ThreadLocalStateStore.get().put(this, value);
+		ThreadLocalStateStore.set(slot, owner, value);
 	}
 	
 }
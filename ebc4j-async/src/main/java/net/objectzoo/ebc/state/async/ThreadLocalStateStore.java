@@ -24,36 +24,262 @@
  */
 package net.objectzoo.ebc.state.async;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * The {@code ThreadLocalStateStore} has the responsibility to save the state values per
- * {@link ThreadLocalState} and per {@link Thread}. It does so by using a {@link ThreadLocal} that
- * stores a {@link WeakHashMap} mapping between the {@link ThreadLocalState}s and their values. The
- * {@link WeakHashMap} is choosen so that EBCs/{@link ThreadLocalState}s that are garbage collected
- * automatically free their state values and do not leave memory leaking.
+ * {@link ThreadLocalState} and per {@link Thread}. Each {@link ThreadLocalState} is assigned a small
+ * integer slot when it is created and each thread stores its state values in an array indexed by
+ * these slots. Thus accessing a state value costs a {@link ThreadLocal} lookup and an array access
+ * only.
+ * 
+ * Slots of {@link ThreadLocalState}s that have been garbage collected are reclaimed and assigned to
+ * new {@link ThreadLocalState}s. To prevent a new {@link ThreadLocalState} from seeing the value of
+ * the collected previous owner of its slot each thread also stores the unique id of the owner that
+ * set the value of a slot. Whenever states have been collected each thread releases the values
+ * left behind by them on its next access to the store, so the values of collected states are not
+ * retained by pooled threads.
  * 
  * @author tilmann
  */
 public final class ThreadLocalStateStore
 {
-	private static final ThreadLocal<Map<ThreadLocalState<?>, Object>> stateStores = new ThreadLocal<Map<ThreadLocalState<?>, Object>>();
+	/**
+	 * The state values of a single thread
+	 */
+	static final class Slots
+	{
+		Object[] values = new Object[INITIAL_CAPACITY];
+		
+		long[] owners = new long[INITIAL_CAPACITY];
+		
+		int used;
+		
+		int seenReclaimCount;
+		
+		void releaseValuesOfCollectedOwners(long[] liveOwners)
+		{
+			for (int slot = 0; slot < used; slot++)
+			{
+				long owner = owners[slot];
+				if (owner != 0 && (slot >= liveOwners.length || liveOwners[slot] != owner))
+				{
+					values[slot] = null;
+					owners[slot] = 0;
+				}
+			}
+		}
+		
+		void ensureCapacity(int slot)
+		{
+			if (slot >= values.length)
+			{
+				int capacity = Math.max(values.length * 2, slot + 1);
+				values = Arrays.copyOf(values, capacity);
+				owners = Arrays.copyOf(owners, capacity);
+			}
+			if (slot >= used)
+			{
+				used = slot + 1;
+			}
+		}
+		
+		void clear()
+		{
+			Arrays.fill(values, 0, used, null);
+			Arrays.fill(owners, 0, used, 0L);
+			used = 0;
+		}
+	}
+	
+	/**
+	 * The weak reference to a {@link ThreadLocalState} used to reclaim its slot when it is collected
+	 */
+	private static final class SlotReference extends WeakReference<ThreadLocalState<?>>
+	{
+		final int slot;
+		
+		SlotReference(ThreadLocalState<?> state, int slot)
+		{
+			super(state, collectedStates);
+			this.slot = slot;
+		}
+	}
+	
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private static final ThreadLocal<Slots> stateStores = new ThreadLocal<Slots>();
+	
+	private static final ReferenceQueue<ThreadLocalState<?>> collectedStates = new ReferenceQueue<ThreadLocalState<?>>();
+	
+	private static final Set<SlotReference> slotReferences = new HashSet<SlotReference>();
+	
+	private static final Set<Integer> freeSlots = new HashSet<Integer>();
+	
+	private static int nextSlot = 0;
+	
+	private static volatile long[] liveOwners = new long[0];
+	
+	private static volatile int reclaimCount;
+	
+	private static long nextOwnerId = 1;
 	
 	private ThreadLocalStateStore()
 	{
 		// No instances will be made
 	}
 	
-	static Map<ThreadLocalState<?>, Object> get()
+	/**
+	 * Assigns a slot to the given {@link ThreadLocalState} reusing slots of collected states
+	 * 
+	 * @param state
+	 *        the state to assign a slot to
+	 * @return the slot of the state
+	 */
+	static synchronized int allocateSlot(ThreadLocalState<?> state)
+	{
+		reclaimSlots();
+		
+		int slot;
+		if (freeSlots.isEmpty())
+		{
+			slot = nextSlot++;
+		}
+		else
+		{
+			slot = freeSlots.iterator().next();
+			freeSlots.remove(slot);
+		}
+		slotReferences.add(new SlotReference(state, slot));
+		return slot;
+	}
+	
+	/**
+	 * Creates a new unique id identifying the owner of the values of the given slot
+	 * 
+	 * @param slot
+	 *        the slot allocated by the owner
+	 * @return the new id
+	 */
+	static synchronized long createOwnerId(int slot)
+	{
+		long owner = nextOwnerId++;
+		
+		long[] owners = liveOwners;
+		if (slot >= owners.length)
+		{
+			owners = Arrays.copyOf(owners, Math.max(owners.length * 2, slot + 1));
+		}
+		else
+		{
+			owners = owners.clone();
+		}
+		owners[slot] = owner;
+		liveOwners = owners;
+		
+		return owner;
+	}
+	
+	private static void reclaimSlots()
+	{
+		reclaimSlots(collectedStates.poll());
+	}
+	
+	private static void reclaimSlots(Reference<? extends ThreadLocalState<?>> collected)
+	{
+		long[] owners = null;
+		for (Reference<? extends ThreadLocalState<?>> reference = collected; reference != null; reference = collectedStates.poll())
+		{
+			SlotReference slotReference = (SlotReference) reference;
+			slotReferences.remove(slotReference);
+			freeSlots.add(slotReference.slot);
+			
+			if (owners == null)
+			{
+				owners = liveOwners.clone();
+			}
+			owners[slotReference.slot] = 0;
+		}
+		
+		if (owners != null)
+		{
+			liveOwners = owners;
+			reclaimCount++;
+		}
+	}
+	
+	private static synchronized void reclaimSlotsStartingWith(Reference<? extends ThreadLocalState<?>> collected)
+	{
+		reclaimSlots(collected);
+	}
+	
+	private static Slots currentSlots()
+	{
+		Reference<? extends ThreadLocalState<?>> collected = collectedStates.poll();
+		if (collected != null)
+		{
+			reclaimSlotsStartingWith(collected);
+		}
+		
+		Slots slots = stateStores.get();
+		if (slots != null)
+		{
+			int count = reclaimCount;
+			if (slots.seenReclaimCount != count)
+			{
+				slots.seenReclaimCount = count;
+				slots.releaseValuesOfCollectedOwners(liveOwners);
+			}
+		}
+		return slots;
+	}
+	
+	/**
+	 * Retrieve the value of the given slot for the current thread
+	 * 
+	 * @param slot
+	 *        the slot of the state
+	 * @param owner
+	 *        the owner id of the state
+	 * @return the value or {@code null} if the owner has not set a value in the current thread
+	 */
+	static Object get(int slot, long owner)
 	{
-		Map<ThreadLocalState<?>, Object> stateStore = stateStores.get();
-		if (stateStore == null)
+		Slots slots = currentSlots();
+		if (slots == null || slot >= slots.used || slots.owners[slot] != owner)
 		{
-			stateStore = new WeakHashMap<ThreadLocalState<?>, Object>();
-			stateStores.set(stateStore);
+			return null;
 		}
-		return stateStore;
+		return slots.values[slot];
+	}
+	
+	/**
+	 * Set the value of the given slot for the current thread
+	 * 
+	 * @param slot
+	 *        the slot of the state
+	 * @param owner
+	 *        the owner id of the state
+	 * @param value
+	 *        the new value
+	 */
+	static void set(int slot, long owner, Object value)
+	{
+		Slots slots = currentSlots();
+		if (slots == null)
+		{
+			slots = new Slots();
+			slots.seenReclaimCount = reclaimCount;
+			stateStores.set(slots);
+		}
+		slots.ensureCapacity(slot);
+		slots.owners[slot] = owner;
+		slots.values[slot] = value;
 	}
 	
 	/**
@@ -61,6 +287,10 @@ public final class ThreadLocalStateStore
 	 */
 	public static void clear()
 	{
-		stateStores.remove();
+		Slots slots = stateStores.get();
+		if (slots != null)
+		{
+			slots.clear();
+		}
 	}
 }
@@ -0,0 +1,207 @@
+package net.objectzoo.ebc.executor.async;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.executor.FlowFactory;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.impl.StartAndResultBase;
+import net.objectzoo.events.Event;
+
+@SuppressWarnings("javadoc")
+public class AsyncFlowExecutorTest
+{
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+	
+	static class AsyncDoubler extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			EXECUTOR.execute(() -> sendResult(parameter * 2));
+		}
+	}
+	
+	static class AsyncAnswer extends StartAndResultBase<Integer>
+	{
+		@Override
+		protected void start()
+		{
+			EXECUTOR.execute(() -> sendResult(42));
+		}
+	}
+	
+	static class SyncDoubler extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter * 2);
+		}
+	}
+	
+	static class Swallower extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			// sends no result
+		}
+	}
+	
+	static class Failing extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			throw new IllegalStateException("failed");
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private final ProcessAndResultFlow<Integer, Integer> mockFlow = mock(ProcessAndResultFlow.class);
+	
+	@SuppressWarnings("unchecked")
+	private final Event<Integer> mockResultEvent = mock(Event.class);
+	
+	@SuppressWarnings("unchecked")
+	private final Action<Integer> mockProcessAction = mock(Action.class);
+	
+	@After
+	public void drainExecutor()
+		throws Exception
+	{
+		EXECUTOR.submit(() -> null).get();
+	}
+	
+	@Test
+	public void processAsync_completes_with_result_sent_by_other_thread()
+		throws Exception
+	{
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(new AsyncDoubler(), 21);
+		
+		assertThat(result.get(5, TimeUnit.SECONDS), is(42));
+	}
+	
+	@Test
+	public void startAsync_completes_with_result_sent_by_other_thread()
+		throws Exception
+	{
+		CompletableFuture<Integer> result = AsyncFlowExecutor.startAsync(new AsyncAnswer(), 5, TimeUnit.SECONDS);
+		
+		assertThat(result.get(5, TimeUnit.SECONDS), is(42));
+	}
+	
+	@Test
+	public void processAsync_completes_with_result_sent_synchronously()
+	{
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(new SyncDoubler(), 2);
+		
+		assertThat(result.isDone(), is(true));
+		assertThat(result.join(), is(4));
+	}
+	
+	@Test
+	public void processAsync_times_out_if_no_result_is_sent()
+		throws Exception
+	{
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(new Swallower(), 1, 10,
+			TimeUnit.MILLISECONDS);
+		
+		try
+		{
+			result.get(5, TimeUnit.SECONDS);
+			fail();
+		}
+		catch (ExecutionException e)
+		{
+			assertThat(e.getCause(), instanceOf(TimeoutException.class));
+		}
+	}
+	
+	@Test
+	public void processAsync_completes_exceptionally_if_flow_throws()
+	{
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(new Failing(), 1);
+		
+		assertThat(result.isCompletedExceptionally(), is(true));
+		try
+		{
+			result.join();
+			fail();
+		}
+		catch (RuntimeException e)
+		{
+			assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+		}
+	}
+	
+	@Test
+	public void result_event_is_unsubscribed_when_result_is_sent()
+	{
+		when(mockFlow.resultEvent()).thenReturn(mockResultEvent);
+		when(mockFlow.processAction()).thenReturn(mockProcessAction);
+		
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(mockFlow, 1);
+		((ResultFuture<Integer>) result).accept(2);
+		
+		verify(mockProcessAction).accept(1);
+		verify(mockResultEvent).subscribe((ResultFuture<Integer>) result);
+		verify(mockResultEvent).unsubscribe((ResultFuture<Integer>) result);
+		assertThat(result.join(), is(2));
+	}
+	
+	@Test
+	public void result_event_is_unsubscribed_when_cancelled()
+	{
+		when(mockFlow.resultEvent()).thenReturn(mockResultEvent);
+		when(mockFlow.processAction()).thenReturn(mockProcessAction);
+		
+		CompletableFuture<Integer> result = AsyncFlowExecutor.processAsync(mockFlow, 1, 1, TimeUnit.HOURS);
+		result.cancel(true);
+		
+		verify(mockResultEvent).unsubscribe((ResultFuture<Integer>) result);
+		assertThat(result.isCancelled(), is(true));
+	}
+	
+	@Test
+	public void instance_methods_create_flows_using_factory()
+		throws Exception
+	{
+		AsyncFlowExecutor executor = new AsyncFlowExecutor(new FlowFactory()
+		{
+			@Override
+			@SuppressWarnings("unchecked")
+			public <FlowType> FlowType createFlow(Class<? extends FlowType> flowClass)
+			{
+				return flowClass == AsyncDoubler.class ? (FlowType) new AsyncDoubler() : (FlowType) new AsyncAnswer();
+			}
+		});
+		
+		assertThat(executor.processAsync(AsyncDoubler.class, 4).get(5, TimeUnit.SECONDS), is(8));
+		assertThat(executor.startAsync(AsyncAnswer.class).get(5, TimeUnit.SECONDS), is(42));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void processAsync_rejects_null_flow()
+	{
+		AsyncFlowExecutor.processAsync((AsyncDoubler) null, 1);
+	}
+}
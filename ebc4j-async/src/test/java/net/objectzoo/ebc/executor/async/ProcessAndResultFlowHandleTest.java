@@ -0,0 +1,203 @@
+package net.objectzoo.ebc.executor.async;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+
+@SuppressWarnings("javadoc")
+public class ProcessAndResultFlowHandleTest
+{
+	static class Doubler extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter * 2);
+		}
+	}
+	
+	static class Swallower extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			// sends no result
+		}
+	}
+	
+	static class EvenDoubler extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter % 2 == 0)
+			{
+				sendResult(parameter * 2);
+			}
+		}
+	}
+	
+	static class DoubleSender extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter);
+			sendResult(parameter);
+		}
+	}
+	
+	static class Recursion extends ProcessAndResultBase<Integer, Integer>
+	{
+		ProcessAndResultFlowHandle<Integer, Integer> handle;
+		
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter == 0)
+			{
+				sendResult(0);
+			}
+			else
+			{
+				sendResult(parameter + handle.apply(parameter - 1));
+			}
+		}
+	}
+	
+	private Doubler flow = new Doubler();
+	
+	private ProcessAndResultFlowHandle<Integer, Integer> sut = new ProcessAndResultFlowHandle<Integer, Integer>(
+		flow);
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_flow()
+	{
+		new ProcessAndResultFlowHandle<Integer, Integer>(null);
+	}
+	
+	@Test
+	public void apply_returns_result_of_flow()
+	{
+		assertThat(sut.apply(21), is(42));
+	}
+	
+	@Test
+	public void apply_returns_result_of_each_execution()
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			assertThat(sut.apply(i), is(i * 2));
+		}
+	}
+	
+	@Test
+	public void apply_ignores_results_sent_outside_of_execution()
+	{
+		flow.processAction().accept(1);
+		
+		assertThat(sut.apply(2), is(4));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void apply_throws_exception_if_flow_sends_no_result()
+	{
+		new ProcessAndResultFlowHandle<Integer, Integer>(new Swallower()).apply(1);
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void apply_throws_exception_if_flow_sends_two_results()
+	{
+		new ProcessAndResultFlowHandle<Integer, Integer>(new DoubleSender()).apply(1);
+	}
+	
+	@Test
+	public void apply_can_be_used_again_after_failed_execution()
+	{
+		ProcessAndResultFlowHandle<Integer, Integer> handle = new ProcessAndResultFlowHandle<Integer, Integer>(
+			new EvenDoubler());
+		try
+		{
+			handle.apply(1);
+		}
+		catch (IllegalStateException e)
+		{
+			// expected
+		}
+		
+		assertThat(handle.apply(2), is(4));
+	}
+	
+	@Test
+	public void apply_supports_nested_executions()
+	{
+		Recursion recursion = new Recursion();
+		recursion.handle = new ProcessAndResultFlowHandle<Integer, Integer>(recursion);
+		
+		assertThat(recursion.handle.apply(4), is(10));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void apply_throws_exception_after_close()
+	{
+		sut.close();
+		
+		sut.apply(1);
+	}
+	
+	@Test
+	public void close_unsubscribes_from_flow()
+	{
+		sut.close();
+		
+		ProcessAndResultFlowHandle<Integer, Integer> other = new ProcessAndResultFlowHandle<Integer, Integer>(flow);
+		assertThat(other.apply(3), is(6));
+	}
+	
+	@Test
+	public void apply_returns_results_of_simultaneous_executions_to_their_threads() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+			for (int t = 0; t < 4; t++)
+			{
+				final int offset = t * 100000;
+				futures.add(executor.submit(new Callable<Boolean>()
+				{
+					@Override
+					public Boolean call()
+					{
+						for (int i = offset; i < offset + 20000; i++)
+						{
+							if (sut.apply(i) != i * 2)
+							{
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> future : futures)
+			{
+				assertThat(future.get(), is(true));
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package net.objectzoo.ebc.executor.async;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.StartAndResultBase;
+
+@SuppressWarnings("javadoc")
+public class StartAndResultFlowHandleTest
+{
+	static class Counter extends StartAndResultBase<Integer>
+	{
+		private final AtomicInteger count = new AtomicInteger();
+		
+		@Override
+		protected void start()
+		{
+			sendResult(count.incrementAndGet());
+		}
+	}
+	
+	private StartAndResultFlowHandle<Integer> sut = new StartAndResultFlowHandle<Integer>(new Counter());
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_flow()
+	{
+		new StartAndResultFlowHandle<Integer>(null);
+	}
+	
+	@Test
+	public void get_returns_result_of_each_execution()
+	{
+		assertThat(sut.get(), is(1));
+		assertThat(sut.get(), is(2));
+		assertThat(sut.get(), is(3));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void get_throws_exception_after_close()
+	{
+		sut.close();
+		
+		sut.get();
+	}
+}
@@ -0,0 +1,69 @@
+package net.objectzoo.ebc.impl.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class AsyncEventDistributorTest
+{
+	private final Queue<Runnable> executorTasks = new LinkedList<Runnable>();
+	
+	private final List<String> invocations = new ArrayList<String>();
+	
+	@Test
+	public void accept_invokes_subscribers_by_executor()
+	{
+		AsyncEventDistributor<String> sut = new AsyncEventDistributor<String>(executorTasks::add);
+		sut.subscribe(invocations::add);
+		
+		sut.accept("a");
+		sut.accept("b");
+		
+		assertThat(invocations.isEmpty(), is(true));
+		assertThat(sut.getQueueDepth(), is(2));
+		
+		executorTasks.poll().run();
+		
+		assertThat(invocations, is(asList("a", "b")));
+		assertThat(sut.getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void unsubscribe_removes_subscriber()
+	{
+		AsyncEventDistributor<String> sut = new AsyncEventDistributor<String>(Runnable::run);
+		Consumer<String> subscriber = invocations::add;
+		sut.subscribe(subscriber);
+		sut.accept("a");
+		
+		sut.unsubscribe(subscriber);
+		sut.accept("b");
+		
+		assertThat(invocations, is(asList("a")));
+	}
+	
+	@Test
+	public void start_invokes_signal_subscribers_by_executor()
+	{
+		AsyncEvent0Distributor sut = new AsyncEvent0Distributor(executorTasks::add);
+		sut.subscribe(() -> invocations.add("signal"));
+		
+		sut.start();
+		
+		assertThat(invocations.isEmpty(), is(true));
+		assertThat(sut.getQueueDepth(), is(1));
+		
+		executorTasks.poll().run();
+		
+		assertThat(invocations, is(asList("signal")));
+	}
+}
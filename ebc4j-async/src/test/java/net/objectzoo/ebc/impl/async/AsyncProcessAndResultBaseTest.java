@@ -0,0 +1,91 @@
+package net.objectzoo.ebc.impl.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class AsyncProcessAndResultBaseTest
+{
+	static class AsyncDoubler extends AsyncProcessAndResultBase<Integer, Integer>
+	{
+		AsyncDoubler(Executor executor)
+		{
+			super(executor);
+		}
+		
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter * 2);
+		}
+	}
+	
+	static class AsyncCounter extends AsyncStartAndResultBase<Integer>
+	{
+		private int count;
+		
+		AsyncCounter(Executor executor)
+		{
+			super(executor);
+		}
+		
+		@Override
+		protected void start()
+		{
+			sendResult(++count);
+		}
+	}
+	
+	private final Queue<Runnable> executorTasks = new LinkedList<Runnable>();
+	
+	private final List<Integer> results = new ArrayList<Integer>();
+	
+	@Test
+	public void process_is_invoked_by_executor_in_order()
+	{
+		AsyncDoubler sut = new AsyncDoubler(executorTasks::add);
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(1);
+		sut.processAction().accept(2);
+		
+		assertThat(results.isEmpty(), is(true));
+		assertThat(sut.getQueueDepth(), is(2));
+		
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList(2, 4)));
+		assertThat(sut.getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void start_is_invoked_by_executor()
+	{
+		AsyncCounter sut = new AsyncCounter(executorTasks::add);
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.startAction().start();
+		sut.startAction().start();
+		
+		assertThat(sut.getQueueDepth(), is(2));
+		
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList(1, 2)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_executor()
+	{
+		new AsyncDoubler(null);
+	}
+}
@@ -0,0 +1,194 @@
+package net.objectzoo.ebc.impl.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class QueueChannelTest
+{
+	private final Queue<Runnable> executorTasks = new LinkedList<Runnable>();
+	
+	private final List<String> results = Collections.synchronizedList(new ArrayList<String>());
+	
+	private QueueChannel<String> createChannel(OverflowPolicy overflowPolicy)
+	{
+		QueueChannel<String> channel = new QueueChannel<String>(2, executorTasks::add, overflowPolicy);
+		channel.resultEvent().subscribe(results::add);
+		return channel;
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_capacity()
+	{
+		new QueueChannel<String>(0, executorTasks::add);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_overflow_policy()
+	{
+		new QueueChannel<String>(1, executorTasks::add, null);
+	}
+	
+	@Test
+	public void sends_queued_values_by_executor_in_order()
+	{
+		QueueChannel<String> sut = createChannel(OverflowPolicy.FAIL);
+		
+		sut.processAction().accept("a");
+		sut.processAction().accept("b");
+		
+		assertThat(results.isEmpty(), is(true));
+		assertThat(sut.getQueueDepth(), is(2));
+		assertThat(executorTasks.size(), is(1));
+		
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList("a", "b")));
+		assertThat(sut.getQueueDepth(), is(0));
+		assertThat(sut.getSentCount(), is(2L));
+	}
+	
+	@Test
+	public void drop_oldest_replaces_oldest_value()
+	{
+		QueueChannel<String> sut = createChannel(OverflowPolicy.DROP_OLDEST);
+		
+		sut.processAction().accept("a");
+		sut.processAction().accept("b");
+		sut.processAction().accept("c");
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList("b", "c")));
+		assertThat(sut.getDroppedCount(), is(1L));
+	}
+	
+	@Test
+	public void drop_newest_discards_received_value()
+	{
+		QueueChannel<String> sut = createChannel(OverflowPolicy.DROP_NEWEST);
+		
+		sut.processAction().accept("a");
+		sut.processAction().accept("b");
+		sut.processAction().accept("c");
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList("a", "b")));
+		assertThat(sut.getDroppedCount(), is(1L));
+	}
+	
+	@Test
+	public void fail_rejects_received_value()
+	{
+		QueueChannel<String> sut = createChannel(OverflowPolicy.FAIL);
+		sut.processAction().accept("a");
+		sut.processAction().accept("b");
+		
+		try
+		{
+			sut.processAction().accept("c");
+			throw new AssertionError("RejectedExecutionException expected");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList("a", "b")));
+		assertThat(sut.getDroppedCount(), is(1L));
+	}
+	
+	@Test
+	public void drain_continues_by_new_task_after_failing_receiver()
+	{
+		QueueChannel<String> sut = new QueueChannel<String>(2, executorTasks::add, OverflowPolicy.FAIL);
+		sut.resultEvent().subscribe(value -> {
+			if (value.equals("a"))
+			{
+				throw new IllegalStateException();
+			}
+			results.add(value);
+		});
+		sut.processAction().accept("a");
+		sut.processAction().accept("b");
+		
+		try
+		{
+			executorTasks.poll().run();
+			throw new AssertionError("IllegalStateException expected");
+		}
+		catch (IllegalStateException e)
+		{
+			// expected
+		}
+		executorTasks.poll().run();
+		
+		assertThat(results, is(asList("b")));
+	}
+	
+	@Test
+	public void rejected_drain_discards_queue()
+	{
+		QueueChannel<String> sut = new QueueChannel<String>(2, task -> {
+			throw new RejectedExecutionException();
+		});
+		
+		try
+		{
+			sut.processAction().accept("a");
+			throw new AssertionError("RejectedExecutionException expected");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		
+		assertThat(sut.getQueueDepth(), is(0));
+		assertThat(sut.getDroppedCount(), is(1L));
+	}
+	
+	@Test(timeout = 10000)
+	public void block_slows_down_sender_to_receiver() throws Exception
+	{
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			QueueChannel<String> sut = new QueueChannel<String>(1, executor, OverflowPolicy.BLOCK);
+			CountDownLatch received = new CountDownLatch(100);
+			sut.resultEvent().subscribe(value -> {
+				results.add(value);
+				received.countDown();
+			});
+			
+			for (int i = 0; i < 100; i++)
+			{
+				sut.processAction().accept(String.valueOf(i));
+				assertThat(sut.getQueueDepth() <= 1, is(true));
+			}
+			
+			assertThat(received.await(5, TimeUnit.SECONDS), is(true));
+			assertThat(results.size(), is(100));
+			assertThat(results.get(99), is("99"));
+			assertThat(sut.getDroppedCount(), is(0L));
+			assertThat(sut.getMaxLatencyNanos() >= sut.getAverageLatencyNanos(), is(true));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
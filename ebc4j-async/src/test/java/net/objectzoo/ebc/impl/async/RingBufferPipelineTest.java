@@ -0,0 +1,185 @@
+package net.objectzoo.ebc.impl.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+
+@SuppressWarnings("javadoc")
+public class RingBufferPipelineTest
+{
+	static class Increment extends ProcessAndResultBase<Integer, Integer>
+	{
+		final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+		
+		@Override
+		protected void process(Integer parameter)
+		{
+			threads.add(Thread.currentThread().getName());
+			sendResult(parameter + 1);
+		}
+	}
+	
+	static class Describe extends ProcessAndResultBase<Integer, String>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult("#" + parameter);
+		}
+	}
+	
+	static class OddOnly extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter % 2 != 0)
+			{
+				sendResult(parameter);
+			}
+		}
+	}
+	
+	static class FailOnThree extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter == 3)
+			{
+				throw new IllegalStateException("three");
+			}
+			sendResult(parameter);
+		}
+	}
+	
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	
+	private final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+	
+	@After
+	public void shutdownExecutor()
+	{
+		executor.shutdownNow();
+	}
+	
+	private void sendAndClose(RingBufferPipeline<Integer, ?> pipeline, int count)
+		throws InterruptedException
+	{
+		pipeline.resultEvent().subscribe(results::add);
+		for (int i = 0; i < count; i++)
+		{
+			pipeline.processAction().accept(i);
+		}
+		pipeline.close();
+		assertThat(pipeline.awaitTermination(5, TimeUnit.SECONDS), is(true));
+	}
+	
+	@Test
+	public void passes_values_through_all_stages_in_order()
+		throws Exception
+	{
+		for (WaitStrategy waitStrategy : WaitStrategy.values())
+		{
+			results.clear();
+			RingBufferPipeline<Integer, String> pipeline = RingBufferPipeline.from(new Increment())
+				.then(new Increment()).then(new Describe()).build(4, executor, waitStrategy);
+			
+			sendAndClose(pipeline, 1000);
+			
+			assertThat(results.size(), is(1000));
+			for (int i = 0; i < 1000; i++)
+			{
+				assertThat(results.get(i), is((Object) ("#" + (i + 2))));
+			}
+		}
+	}
+	
+	@Test
+	public void runs_each_stage_on_its_own_thread()
+		throws Exception
+	{
+		Increment first = new Increment();
+		Increment second = new Increment();
+		RingBufferPipeline<Integer, Integer> pipeline = RingBufferPipeline.from(first).then(second)
+			.build(8, executor, WaitStrategy.YIELD);
+		
+		sendAndClose(pipeline, 10);
+		
+		assertThat(new HashSet<String>(first.threads).size(), is(1));
+		assertThat(new HashSet<String>(second.threads).size(), is(1));
+		assertThat(first.threads.get(0).equals(second.threads.get(0)), is(false));
+		assertThat(first.threads.get(0).equals(Thread.currentThread().getName()), is(false));
+	}
+	
+	@Test
+	public void drops_values_without_result()
+		throws Exception
+	{
+		RingBufferPipeline<Integer, Integer> pipeline = RingBufferPipeline.from(new OddOnly())
+			.then(new Increment()).build(2, executor, WaitStrategy.PARK);
+		
+		sendAndClose(pipeline, 6);
+		
+		assertThat(results, is(asList((Object) 2, 4, 6)));
+	}
+	
+	@Test
+	public void drops_and_counts_values_a_stage_fails_to_process()
+		throws Exception
+	{
+		RingBufferPipeline<Integer, Integer> pipeline = RingBufferPipeline.from(new FailOnThree()).build(4,
+			executor, WaitStrategy.YIELD);
+		
+		sendAndClose(pipeline, 5);
+		
+		assertThat(results, is(asList((Object) 0, 1, 2, 4)));
+		assertThat(pipeline.getFailedCount(), is(1L));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void rejects_values_after_close()
+	{
+		RingBufferPipeline<Integer, Integer> pipeline = RingBufferPipeline.from(new Increment()).build(4, executor,
+			WaitStrategy.YIELD);
+		pipeline.close();
+		
+		pipeline.processAction().accept(1);
+	}
+	
+	@Test
+	public void rounds_capacity_up_to_power_of_two()
+	{
+		RingBufferPipeline<Integer, Integer> pipeline = RingBufferPipeline.from(new Increment()).then(new Increment())
+			.build(5, executor, WaitStrategy.YIELD);
+		pipeline.close();
+		
+		assertThat(pipeline.getCapacity(), is(8));
+		assertThat(pipeline.getStageCount(), is(2));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void build_throws_exception_for_non_positive_capacity()
+	{
+		RingBufferPipeline.from(new Increment()).build(0, executor, WaitStrategy.YIELD);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void from_throws_exception_for_null_stage()
+	{
+		RingBufferPipeline.from((Increment) null);
+	}
+}
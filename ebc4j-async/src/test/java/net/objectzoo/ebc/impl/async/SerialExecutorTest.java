@@ -0,0 +1,245 @@
+package net.objectzoo.ebc.impl.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SerialExecutorTest
+{
+	private final Queue<Runnable> executorTasks = new LinkedList<Runnable>();
+	
+	private final SerialExecutor sut = new SerialExecutor(executorTasks::add);
+	
+	private final List<Integer> executed = new ArrayList<Integer>();
+	
+	private Runnable task(final int number)
+	{
+		return () -> executed.add(number);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_executor()
+	{
+		new SerialExecutor(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void execute_throws_exception_for_null_task()
+	{
+		sut.execute(null);
+	}
+	
+	@Test
+	public void execute_submits_single_drain_to_executor()
+	{
+		sut.execute(task(1));
+		sut.execute(task(2));
+		sut.execute(task(3));
+		
+		assertThat(executorTasks.size(), is(1));
+		assertThat(sut.getQueueDepth(), is(3));
+	}
+	
+	@Test
+	public void drain_executes_tasks_in_order_of_submission()
+	{
+		sut.execute(task(1));
+		sut.execute(task(2));
+		sut.execute(task(3));
+		
+		executorTasks.poll().run();
+		
+		assertThat(executed, is(asList(1, 2, 3)));
+		assertThat(sut.getQueueDepth(), is(0));
+		assertThat(executorTasks.isEmpty(), is(true));
+	}
+	
+	@Test
+	public void execute_submits_new_drain_after_queue_has_been_drained()
+	{
+		sut.execute(task(1));
+		executorTasks.poll().run();
+		
+		sut.execute(task(2));
+		
+		assertThat(executorTasks.size(), is(1));
+	}
+	
+	@Test
+	public void failing_task_does_not_stop_following_tasks()
+	{
+		sut.execute(() -> {
+			throw new IllegalStateException();
+		});
+		sut.execute(task(2));
+		
+		try
+		{
+			executorTasks.poll().run();
+			fail("exception expected");
+		}
+		catch (IllegalStateException e)
+		{
+			// expected
+		}
+		executorTasks.poll().run();
+		
+		assertThat(executed, is(asList(2)));
+		assertThat(sut.getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void rejected_execution_removes_rejected_task()
+	{
+		SerialExecutor rejecting = new SerialExecutor(task -> {
+			throw new RejectedExecutionException();
+		});
+		
+		try
+		{
+			rejecting.execute(task(1));
+			fail("exception expected");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		
+		assertThat(rejecting.getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void rejected_execution_executes_tasks_accepted_from_other_submitters()
+	{
+		final SerialExecutor[] rejecting = new SerialExecutor[1];
+		rejecting[0] = new SerialExecutor(task -> {
+			// another submitter arrives while the drain is being scheduled
+			rejecting[0].execute(task(2));
+			throw new RejectedExecutionException();
+		});
+		
+		try
+		{
+			rejecting[0].execute(task(1));
+			fail("exception expected");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		
+		assertThat(executed, is(asList(2)));
+		assertThat(rejecting[0].getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void rejected_execution_keeps_executor_usable()
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		SerialExecutor rejectingOnce = new SerialExecutor(task -> {
+			if (calls.getAndIncrement() == 0)
+			{
+				throw new RejectedExecutionException();
+			}
+			task.run();
+		});
+		
+		try
+		{
+			rejectingOnce.execute(task(1));
+			fail("exception expected");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		rejectingOnce.execute(task(2));
+		
+		assertThat(executed, is(asList(2)));
+	}
+	
+	@Test
+	public void rejected_drain_after_failing_task_executes_remaining_tasks()
+	{
+		final AtomicInteger calls = new AtomicInteger();
+		final List<Runnable> drains = new ArrayList<Runnable>();
+		SerialExecutor rejectingSecond = new SerialExecutor(task -> {
+			if (calls.getAndIncrement() > 0)
+			{
+				throw new RejectedExecutionException();
+			}
+			drains.add(task);
+		});
+		rejectingSecond.execute(() -> {
+			throw new IllegalStateException();
+		});
+		rejectingSecond.execute(task(2));
+		rejectingSecond.execute(task(3));
+		
+		try
+		{
+			drains.get(0).run();
+			fail("exception expected");
+		}
+		catch (IllegalStateException e)
+		{
+			// expected
+		}
+		
+		assertThat(executed, is(asList(2, 3)));
+		assertThat(rejectingSecond.getQueueDepth(), is(0));
+	}
+	
+	@Test
+	public void tasks_submitted_by_multiple_threads_run_one_after_the_other() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			final SerialExecutor serialExecutor = new SerialExecutor(executor);
+			final AtomicInteger running = new AtomicInteger();
+			final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+			final CountDownLatch done = new CountDownLatch(4000);
+			
+			for (int i = 0; i < 4000; i++)
+			{
+				final int number = i;
+				serialExecutor.execute(() -> {
+					if (running.incrementAndGet() != 1)
+					{
+						results.add(-1);
+					}
+					results.add(number);
+					running.decrementAndGet();
+					done.countDown();
+				});
+			}
+			
+			assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+			for (int i = 0; i < 4000; i++)
+			{
+				assertThat(results.get(i), is(i));
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package net.objectzoo.ebc.impl.async;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TimerWheelTest
+{
+	private final TimerWheel sut = new TimerWheel(1, TimeUnit.MILLISECONDS, 8);
+	
+	@After
+	public void closeWheel()
+	{
+		sut.close();
+	}
+	
+	@Test
+	public void runs_task_after_delay()
+		throws Exception
+	{
+		CountDownLatch ran = new CountDownLatch(1);
+		long start = System.nanoTime();
+		
+		sut.schedule(ran::countDown, 20, TimeUnit.MILLISECONDS);
+		
+		assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20), is(true));
+		assertThat(sut.getPendingCount(), is(0));
+	}
+	
+	@Test
+	public void runs_task_with_delay_exceeding_one_rotation_after_delay()
+		throws Exception
+	{
+		CountDownLatch ran = new CountDownLatch(1);
+		long start = System.nanoTime();
+		
+		sut.schedule(ran::countDown, 30, TimeUnit.MILLISECONDS);
+		
+		assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30), is(true));
+	}
+	
+	@Test
+	public void runs_all_tasks_even_if_one_fails()
+		throws Exception
+	{
+		CountDownLatch ran = new CountDownLatch(2);
+		
+		sut.schedule(() -> {
+			throw new IllegalStateException("expected by test");
+		}, 1, TimeUnit.MILLISECONDS);
+		sut.schedule(ran::countDown, 1, TimeUnit.MILLISECONDS);
+		sut.schedule(ran::countDown, 5, TimeUnit.MILLISECONDS);
+		
+		assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+	}
+	
+	@Test
+	public void does_not_run_tasks_after_close()
+		throws Exception
+	{
+		CountDownLatch ran = new CountDownLatch(1);
+		sut.schedule(ran::countDown, 20, TimeUnit.MILLISECONDS);
+		
+		sut.close();
+		
+		assertThat(ran.await(50, TimeUnit.MILLISECONDS), is(false));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void schedule_throws_exception_after_close()
+	{
+		sut.close();
+		
+		sut.schedule(() -> {}, 1, TimeUnit.MILLISECONDS);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_tick_duration()
+	{
+		new TimerWheel(0, TimeUnit.MILLISECONDS, 8);
+	}
+}
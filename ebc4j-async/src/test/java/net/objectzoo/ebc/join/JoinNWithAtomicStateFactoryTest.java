@@ -0,0 +1,67 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.state.async.AtomicStateFactory;
+
+@SuppressWarnings("javadoc")
+public class JoinNWithAtomicStateFactoryTest
+{
+	private static final int INPUTS_PER_THREAD = 100000;
+	
+	private final List<String> results = Collections.synchronizedList(new ArrayList<String>());
+	
+	@Test
+	public void joins_inputs_like_basic_state()
+	{
+		Join3<String, String, String, String> sut = new Join3<String, String, String, String>(
+			(a, b, c) -> a + b + c, new AtomicStateFactory());
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept("b");
+		sut.input2Action().accept("c");
+		sut.input3Action().accept("d");
+		sut.input1Action().accept("e");
+		
+		assertThat(results, is(asList("acd")));
+	}
+	
+	@Test
+	public void each_completion_by_concurrent_inputs_leads_to_at_most_one_output()
+		throws Exception
+	{
+		AtomicInteger outputs = new AtomicInteger();
+		JoinN<Object> sut = new JoinN<Object>(3, inputs -> inputs[0], new AtomicStateFactory());
+		sut.resultEvent().subscribe(output -> outputs.incrementAndGet());
+		
+		Thread[] threads = new Thread[3];
+		for (int i = 0; i < threads.length; i++)
+		{
+			final int index = i;
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < INPUTS_PER_THREAD; j++)
+				{
+					sut.inputAction(index).accept(j);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		
+		assertThat(outputs.get() <= INPUTS_PER_THREAD, is(true));
+		assertThat(outputs.get() > 0, is(true));
+	}
+}
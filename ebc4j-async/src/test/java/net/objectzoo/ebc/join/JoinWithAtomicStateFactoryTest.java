@@ -0,0 +1,190 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.state.async.AtomicStateFactory;
+import net.objectzoo.ebc.util.Pair;
+
+@SuppressWarnings("javadoc")
+public class JoinWithAtomicStateFactoryTest
+{
+	private static final int THREADS = 4;
+	
+	private static final int INPUTS_PER_THREAD = 200000;
+	
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+	
+	private final List<Pair<Integer, Integer>> results = Collections.synchronizedList(new ArrayList<Pair<Integer, Integer>>());
+	
+	private Join<Integer, Integer, Pair<Integer, Integer>> createJoin(boolean resetAfterResultEvent)
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> join = new Join<Integer, Integer, Pair<Integer, Integer>>(
+			new PairOutputCreator<Integer, Integer>(), new AtomicStateFactory(), resetAfterResultEvent);
+		join.resultEvent().subscribe(results::add);
+		return join;
+	}
+	
+	@Test
+	public void joins_inputs_like_basic_state()
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(true);
+		
+		sut.input1Action().accept(11);
+		sut.input1Action().accept(12);
+		sut.input2Action().accept(21);
+		sut.input2Action().accept(22);
+		sut.input1Action().accept(13);
+		
+		assertThat(results, is(asList(new Pair<Integer, Integer>(12, 21), new Pair<Integer, Integer>(13, 22))));
+		assertThat(sut.getOverwrittenCount(), is(1L));
+	}
+	
+	@Test
+	public void without_resetAfterResultEvent_sends_result_for_each_input_after_completion()
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(false);
+		
+		sut.input1Action().accept(11);
+		sut.input2Action().accept(21);
+		sut.input2Action().accept(22);
+		sut.input1Action().accept(12);
+		
+		assertThat(results.size(), is(3));
+		assertThat(results.get(2), is(new Pair<Integer, Integer>(12, 22)));
+	}
+	
+	@Test
+	public void resetAction_resets_inputs()
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(false);
+		
+		sut.input1Action().accept(11);
+		sut.resetAction().start();
+		sut.input2Action().accept(21);
+		
+		assertThat(results.isEmpty(), is(true));
+	}
+	
+	@Test
+	public void with_resetAfterResultEvent_uses_each_input_at_most_once_under_contention() throws Exception
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(true);
+		
+		runConcurrently(sut);
+		
+		Set<Integer> usedInputs1 = new HashSet<Integer>();
+		Set<Integer> usedInputs2 = new HashSet<Integer>();
+		for (Pair<Integer, Integer> result : results)
+		{
+			assertThat("input1 used twice: " + result, usedInputs1.add(result.getItem1()), is(true));
+			assertThat("input2 used twice: " + result, usedInputs2.add(result.getItem2()), is(true));
+		}
+		assertThat(results.isEmpty(), is(false));
+	}
+	
+	@Test
+	public void without_resetAfterResultEvent_sends_exactly_one_result_per_input_after_completion() throws Exception
+	{
+		Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(false);
+		sut.input1Action().accept(-1);
+		sut.input2Action().accept(-2);
+		results.clear();
+		
+		runConcurrently(sut);
+		
+		assertThat(results.size(), is(2 * THREADS * INPUTS_PER_THREAD));
+	}
+	
+	@Test
+	public void with_resetAfterResultEvent_sends_exactly_one_result_per_round_of_simultaneous_inputs()
+		throws Exception
+	{
+		final Join<Integer, Integer, Pair<Integer, Integer>> sut = createJoin(true);
+		final int rounds = 10000;
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		Thread input1Thread = new Thread(() -> {
+			for (int i = 0; i < rounds; i++)
+			{
+				awaitQuietly(barrier);
+				sut.input1Action().accept(i);
+				awaitQuietly(barrier);
+			}
+		});
+		Thread input2Thread = new Thread(() -> {
+			for (int i = 0; i < rounds; i++)
+			{
+				awaitQuietly(barrier);
+				sut.input2Action().accept(i);
+				awaitQuietly(barrier);
+			}
+		});
+		runAndJoin(asList(input1Thread, input2Thread));
+		
+		assertThat(results.size(), is(rounds));
+		for (int i = 0; i < rounds; i++)
+		{
+			assertThat(results.get(i), is(new Pair<Integer, Integer>(i, i)));
+		}
+	}
+	
+	private void runConcurrently(final Join<Integer, Integer, Pair<Integer, Integer>> sut) throws InterruptedException
+	{
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < THREADS; t++)
+		{
+			final int offset = t * INPUTS_PER_THREAD;
+			threads.add(new Thread(() -> {
+				for (int i = offset; i < offset + INPUTS_PER_THREAD; i++)
+				{
+					sut.input1Action().accept(i);
+				}
+			}));
+			threads.add(new Thread(() -> {
+				for (int i = offset; i < offset + INPUTS_PER_THREAD; i++)
+				{
+					sut.input2Action().accept(i);
+				}
+			}));
+		}
+		runAndJoin(threads);
+	}
+	
+	private void runAndJoin(List<Thread> threads) throws InterruptedException
+	{
+		for (Thread thread : threads)
+		{
+			thread.setUncaughtExceptionHandler((t, e) -> failure.compareAndSet(null, e));
+			thread.start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		assertThat("exception in input thread: " + failure.get(), failure.get() == null, is(true));
+	}
+	
+	private static void awaitQuietly(CyclicBarrier barrier)
+	{
+		try
+		{
+			barrier.await();
+		}
+		catch (InterruptedException | BrokenBarrierException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package net.objectzoo.ebc.join.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ForkJoinCollectionsOutputCreatorTest
+{
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+	
+	private final Set<String> creatingThreads = ConcurrentHashMap.newKeySet();
+	
+	private final ForkJoinCollectionsOutputCreator<Integer, String, String> sut = new ForkJoinCollectionsOutputCreator<Integer, String, String>(
+		this::createOutputElement, pool, 10);
+	
+	private String createOutputElement(Integer input1, String input2)
+	{
+		creatingThreads.add(Thread.currentThread().getName());
+		return input1 + input2;
+	}
+	
+	@After
+	public void shutdownPool()
+	{
+		pool.shutdown();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_element_output_creator()
+	{
+		new ForkJoinCollectionsOutputCreator<Integer, String, String>(null, pool, 10);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_pool()
+	{
+		new ForkJoinCollectionsOutputCreator<Integer, String, String>(this::createOutputElement, null, 10);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_threshold()
+	{
+		new ForkJoinCollectionsOutputCreator<Integer, String, String>(this::createOutputElement, pool, 0);
+	}
+	
+	@Test
+	public void creates_output_sequentially_below_threshold()
+	{
+		List<String> output = sut.createOutput(asList(1, 2, 3), asList("a", "b"));
+		
+		assertThat(output, is(asList("1a", "2b")));
+		assertThat(creatingThreads, is(Collections.singleton(Thread.currentThread().getName())));
+	}
+	
+	@Test
+	public void creates_output_in_input_order_above_threshold()
+	{
+		List<Integer> input1 = new ArrayList<Integer>();
+		List<String> input2 = new LinkedList<String>();
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < 10000; i++)
+		{
+			input1.add(i);
+			input2.add("x" + i);
+			expected.add(i + "x" + i);
+		}
+		input2.add("exceeding");
+		
+		List<String> output = sut.createOutput(input1, input2);
+		
+		assertThat(output, is(expected));
+	}
+	
+	@Test
+	public void creates_mutable_output_below_and_above_threshold()
+	{
+		List<String> sequentialOutput = sut.createOutput(asList(1), asList("a"));
+		List<Integer> input = new ArrayList<Integer>();
+		for (int i = 0; i < 100; i++)
+		{
+			input.add(i);
+		}
+		List<String> parallelOutput = sut.createOutput(input, asList(new String[100]));
+		
+		sequentialOutput.add("added");
+		parallelOutput.add("added");
+		parallelOutput.remove(0);
+		
+		assertThat(sequentialOutput, is(asList("1a", "added")));
+		assertThat(parallelOutput.size(), is(100));
+		assertThat(parallelOutput.get(99), is("added"));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void propagates_exception_of_element_output_creator()
+	{
+		ForkJoinCollectionsOutputCreator<Integer, Integer, Integer> failingSut = new ForkJoinCollectionsOutputCreator<Integer, Integer, Integer>(
+			(i1, i2) -> {
+				throw new IllegalStateException();
+			}, pool, 1);
+		
+		failingSut.createOutput(asList(1, 2, 3), asList(1, 2, 3));
+	}
+}
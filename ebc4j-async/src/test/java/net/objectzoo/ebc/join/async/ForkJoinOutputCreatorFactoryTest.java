@@ -0,0 +1,86 @@
+package net.objectzoo.ebc.join.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.objectzoo.ebc.join.GenericJoinObjectAndCollection;
+import net.objectzoo.ebc.join.JoinCollections;
+import net.objectzoo.ebc.util.Pair;
+
+@SuppressWarnings("javadoc")
+public class ForkJoinOutputCreatorFactoryTest
+{
+	private final ForkJoinPool pool = new ForkJoinPool(4);
+	
+	private final ForkJoinOutputCreatorFactory sut = new ForkJoinOutputCreatorFactory(pool, 10);
+	
+	private final List<List<?>> results = new ArrayList<List<?>>();
+	
+	private final List<Integer> input = new ArrayList<Integer>();
+	
+	{
+		for (int i = 0; i < 1000; i++)
+		{
+			input.add(i);
+		}
+	}
+	
+	@After
+	public void shutdownPool()
+	{
+		pool.shutdown();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_pool()
+	{
+		new ForkJoinOutputCreatorFactory(null, 10);
+	}
+	
+	@Test
+	public void joinCollections_creates_output_with_factory()
+	{
+		JoinCollections<Integer, Integer, Integer> join = new JoinCollections<Integer, Integer, Integer>(
+			(i1, i2) -> i1 + i2);
+		join.setOutputCreatorFactory(sut);
+		join.resultEvent().subscribe(results::add);
+		
+		join.input1Action().accept(input);
+		join.input2Action().accept(input);
+		
+		List<Integer> expected = new ArrayList<Integer>();
+		for (Integer i : input)
+		{
+			expected.add(i * 2);
+		}
+		assertThat(results, is(asList((List<?>) expected)));
+	}
+	
+	@Test
+	public void genericJoinObjectAndCollection_creates_output_with_factory()
+	{
+		GenericJoinObjectAndCollection<String, Integer, Pair<String, Integer>> join = new GenericJoinObjectAndCollection<String, Integer, Pair<String, Integer>>()
+		{
+		};
+		join.setOutputCreatorFactory(sut);
+		join.resultEvent().subscribe(results::add);
+		
+		join.input1Action().accept("a");
+		join.input2Action().accept(input);
+		
+		List<Pair<String, Integer>> expected = new ArrayList<Pair<String, Integer>>();
+		for (Integer i : input)
+		{
+			expected.add(new Pair<String, Integer>("a", i));
+		}
+		assertThat(results, is(asList((List<?>) expected)));
+	}
+}
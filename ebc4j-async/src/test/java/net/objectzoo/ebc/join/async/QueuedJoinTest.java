@@ -0,0 +1,254 @@
+package net.objectzoo.ebc.join.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.observer.async.MetricsObserver;
+
+@SuppressWarnings("javadoc")
+public class QueuedJoinTest
+{
+	private final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+	
+	private QueuedJoin<String, Integer, String> createJoin(int capacity, OverflowPolicy overflowPolicy)
+	{
+		QueuedJoin<String, Integer, String> join = new QueuedJoin<String, Integer, String>(
+			(input1, input2) -> input1 + input2, capacity, overflowPolicy);
+		join.resultEvent().subscribe(results::add);
+		return join;
+	}
+	
+	@Test
+	public void pairs_inputs_in_order_of_arrival()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(4, OverflowPolicy.FAIL);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		sut.input1Action().accept("c");
+		sut.input2Action().accept(1);
+		sut.input2Action().accept(2);
+		sut.input2Action().accept(3);
+		sut.input2Action().accept(4);
+		sut.input1Action().accept("d");
+		
+		assertThat(results, is(asList((Object) "a1", "b2", "c3", "d4")));
+		assertThat(sut.getMatchedCount(), is(4L));
+		assertThat(sut.getDroppedCount(), is(0L));
+	}
+	
+	@Test
+	public void queues_inputs_until_paired()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(4, OverflowPolicy.FAIL);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		sut.input2Action().accept(1);
+		
+		assertThat(sut.getPendingInput1Count(), is(1));
+		assertThat(sut.getPendingInput2Count(), is(0));
+	}
+	
+	@Test
+	public void with_DROP_OLDEST_drops_oldest_queued_input()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(2, OverflowPolicy.DROP_OLDEST);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		sut.input1Action().accept("c");
+		sut.input2Action().accept(1);
+		sut.input2Action().accept(2);
+		
+		assertThat(results, is(asList((Object) "b1", "c2")));
+		assertThat(sut.getDroppedCount(), is(1L));
+	}
+	
+	@Test
+	public void with_DROP_NEWEST_drops_received_input()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(2, OverflowPolicy.DROP_NEWEST);
+		
+		sut.input2Action().accept(1);
+		sut.input2Action().accept(2);
+		sut.input2Action().accept(3);
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		sut.input1Action().accept("c");
+		
+		assertThat(results, is(asList((Object) "a1", "b2")));
+		assertThat(sut.getDroppedCount(), is(1L));
+		assertThat(sut.getPendingInput1Count(), is(1));
+	}
+	
+	@Test(expected = RejectedExecutionException.class)
+	public void with_FAIL_rejects_input_if_queue_is_full()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(1, OverflowPolicy.FAIL);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+	}
+	
+	@Test
+	public void rejected_input_is_reported_to_observers_as_error()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(1, OverflowPolicy.FAIL);
+		MetricsObserver observer = new MetricsObserver();
+		EbcObservers.add(observer);
+		try
+		{
+			sut.input1Action().accept("a");
+			sut.input1Action().accept("b");
+		}
+		catch (RejectedExecutionException e)
+		{
+			// expected
+		}
+		finally
+		{
+			EbcObservers.remove(observer);
+		}
+		
+		assertThat(observer.getMetrics(sut).getInvocationCount(), is(2L));
+		assertThat(observer.getMetrics(sut).getErrorCount(), is(1L));
+	}
+	
+	@Test
+	public void with_BLOCK_blocks_sender_until_input_is_paired() throws InterruptedException
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(1, OverflowPolicy.BLOCK);
+		CountDownLatch sent = new CountDownLatch(1);
+		
+		sut.input1Action().accept("a");
+		Thread sender = new Thread(() -> {
+			sut.input1Action().accept("b");
+			sent.countDown();
+		});
+		sender.start();
+		
+		assertThat(sent.await(50, TimeUnit.MILLISECONDS), is(false));
+		
+		sut.input2Action().accept(1);
+		
+		assertThat(sent.await(5, TimeUnit.SECONDS), is(true));
+		sut.input2Action().accept(2);
+		sender.join();
+		
+		assertThat(results, is(asList((Object) "a1", "b2")));
+		assertThat(sut.getDroppedCount(), is(0L));
+	}
+	
+	@Test
+	public void with_BLOCK_blocked_sender_pairs_with_input_queued_while_waiting() throws InterruptedException
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(1, OverflowPolicy.BLOCK);
+		
+		sut.input1Action().accept("a");
+		Thread sender = new Thread(() -> sut.input1Action().accept("b"));
+		sender.start();
+		while (sender.getState() != Thread.State.WAITING)
+		{
+			Thread.sleep(1);
+		}
+		
+		sut.input2Action().accept(1);
+		sut.input2Action().accept(2);
+		sender.join();
+		sut.input1Action().accept("c");
+		sut.input2Action().accept(3);
+		
+		assertThat(results, is(asList((Object) "a1", "b2", "c3")));
+		assertThat(sut.getPendingInput1Count(), is(0));
+		assertThat(sut.getPendingInput2Count(), is(0));
+	}
+	
+	@Test
+	public void sends_outputs_in_order_of_pairing_with_concurrent_senders() throws InterruptedException
+	{
+		CountDownLatch creatingFirstOutput = new CountDownLatch(1);
+		CountDownLatch releaseFirstOutput = new CountDownLatch(1);
+		QueuedJoin<String, Integer, String> sut = new QueuedJoin<String, Integer, String>((input1, input2) -> {
+			if (input1.equals("a"))
+			{
+				creatingFirstOutput.countDown();
+				awaitUninterruptibly(releaseFirstOutput);
+			}
+			return input1 + input2;
+		}, 4, OverflowPolicy.FAIL);
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		Thread sender = new Thread(() -> sut.input2Action().accept(1));
+		sender.start();
+		creatingFirstOutput.await();
+		
+		sut.input2Action().accept(2);
+		releaseFirstOutput.countDown();
+		sender.join();
+		
+		assertThat(results, is(asList((Object) "a1", "b2")));
+	}
+	
+	private static void awaitUninterruptibly(CountDownLatch latch)
+	{
+		try
+		{
+			latch.await();
+		}
+		catch (InterruptedException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Test
+	public void resetAction_clears_queued_inputs()
+	{
+		QueuedJoin<String, Integer, String> sut = createJoin(4, OverflowPolicy.FAIL);
+		
+		sut.input1Action().accept("a");
+		sut.resetAction().start();
+		sut.input2Action().accept(1);
+		
+		assertThat(results.isEmpty(), is(true));
+		assertThat(sut.getPendingInput1Count(), is(0));
+		assertThat(sut.getPendingInput2Count(), is(1));
+	}
+	
+	@Test
+	public void constructors_throw_exceptions_for_illegal_arguments()
+	{
+		assertIllegalArgument(() -> new QueuedJoin<String, Integer, String>(null));
+		assertIllegalArgument(() -> new QueuedJoin<String, Integer, String>((a, b) -> a + b, 0,
+			OverflowPolicy.BLOCK));
+		assertIllegalArgument(() -> new QueuedJoin<String, Integer, String>((a, b) -> a + b, 1, null));
+	}
+	
+	private static void assertIllegalArgument(Runnable constructor)
+	{
+		try
+		{
+			constructor.run();
+		}
+		catch (IllegalArgumentException e)
+		{
+			return;
+		}
+		throw new AssertionError("IllegalArgumentException expected");
+	}
+}
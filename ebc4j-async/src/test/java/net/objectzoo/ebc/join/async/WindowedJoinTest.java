@@ -0,0 +1,162 @@
+package net.objectzoo.ebc.join.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.async.TimerWheel;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.observer.async.MetricsObserver;
+import net.objectzoo.ebc.state.async.ThreadLocalStateFactory;
+
+@SuppressWarnings("javadoc")
+public class WindowedJoinTest
+{
+	private final TimerWheel timerWheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 64);
+	
+	private final List<Object> results = Collections.synchronizedList(new ArrayList<Object>());
+	
+	private final List<Object> expired = Collections.synchronizedList(new ArrayList<Object>());
+	
+	private WindowedJoin<String, Integer, String> createJoin(long windowMillis)
+	{
+		WindowedJoin<String, Integer, String> join = new WindowedJoin<String, Integer, String>(
+			(input1, input2) -> input1 + input2, windowMillis, TimeUnit.MILLISECONDS, null, timerWheel);
+		join.resultEvent().subscribe(results::add);
+		join.expiredInput1Event().subscribe(expired::add);
+		join.expiredInput2Event().subscribe(expired::add);
+		return join;
+	}
+	
+	@After
+	public void closeTimerWheel()
+	{
+		timerWheel.close();
+	}
+	
+	@Test
+	public void pairs_inputs_received_within_window()
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(10000);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(1);
+		sut.input2Action().accept(2);
+		sut.input1Action().accept("b");
+		
+		assertThat(results, is(asList((Object) "a1", "b2")));
+		assertThat(sut.getMatchedCount(), is(2L));
+	}
+	
+	@Test
+	public void inputs_are_reported_to_observers()
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(10000);
+		MetricsObserver observer = new MetricsObserver();
+		EbcObservers.add(observer);
+		try
+		{
+			sut.input1Action().accept("a");
+			sut.input2Action().accept(1);
+		}
+		finally
+		{
+			EbcObservers.remove(observer);
+		}
+		
+		assertThat(observer.getMetrics(sut).getInvocationCount(), is(2L));
+		assertThat(observer.getMetrics(sut).getResultCount(), is(1L));
+	}
+	
+	@Test
+	public void later_input_replaces_unpaired_input()
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(10000);
+		
+		sut.input1Action().accept("a");
+		sut.input1Action().accept("b");
+		sut.input2Action().accept(1);
+		
+		assertThat(results, is(asList((Object) "b1")));
+	}
+	
+	@Test
+	public void does_not_pair_input_older_than_window()
+		throws Exception
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(20);
+		sut.input1Action().accept("stale");
+		Thread.sleep(40);
+		
+		sut.input2Action().accept(1);
+		sut.input1Action().accept("fresh");
+		
+		assertThat(results, is(asList((Object) "fresh1")));
+		assertThat(expired, is(asList((Object) "stale")));
+		assertThat(sut.getExpiredCount(), is(1L));
+	}
+	
+	@Test
+	public void timer_wheel_expires_unpaired_input()
+		throws Exception
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(10);
+		CountDownLatch expiry = new CountDownLatch(1);
+		sut.expiredInput2Event().subscribe(input -> expiry.countDown());
+		
+		sut.input2Action().accept(7);
+		
+		assertThat(expiry.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(expired, is(asList((Object) 7)));
+		
+		sut.input1Action().accept("a");
+		
+		assertThat(results, is(Collections.emptyList()));
+	}
+	
+	@Test
+	public void timer_wheel_expires_inputs_of_thread_local_states()
+		throws Exception
+	{
+		WindowedJoin<String, Integer, String> sut = new WindowedJoin<String, Integer, String>(
+			(input1, input2) -> input1 + input2, 10, TimeUnit.MILLISECONDS, new ThreadLocalStateFactory(),
+			timerWheel);
+		CountDownLatch expiry = new CountDownLatch(2);
+		sut.expiredInput1Event().subscribe(input -> expiry.countDown());
+		
+		Thread other = new Thread(() -> sut.input1Action().accept("other"));
+		other.start();
+		other.join();
+		sut.input1Action().accept("this");
+		
+		assertThat(expiry.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(sut.getExpiredCount(), is(2L));
+	}
+	
+	@Test
+	public void reset_clears_stored_inputs()
+	{
+		WindowedJoin<String, Integer, String> sut = createJoin(10000);
+		
+		sut.input1Action().accept("a");
+		sut.resetAction().start();
+		sut.input2Action().accept(1);
+		
+		assertThat(results, is(Collections.emptyList()));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_window()
+	{
+		createJoin(0);
+	}
+}
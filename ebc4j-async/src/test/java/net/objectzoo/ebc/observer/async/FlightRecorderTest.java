@@ -0,0 +1,219 @@
+package net.objectzoo.ebc.observer.async;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.objectzoo.ebc.builder.Flow;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.observer.EbcObservers;
+
+@SuppressWarnings("javadoc")
+public class FlightRecorderTest
+{
+	static class Incrementer extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter < 0)
+			{
+				throw new IllegalArgumentException("negative");
+			}
+			sendResult(parameter + 1);
+		}
+	}
+	
+	private FlightRecorder recorder;
+	
+	@Before
+	public void addRecorder()
+	{
+		recorder = new FlightRecorder();
+		EbcObservers.add(recorder);
+	}
+	
+	@After
+	public void removeRecorder()
+	{
+		EbcObservers.remove(recorder);
+	}
+	
+	private void useRecorder(FlightRecorder newRecorder)
+	{
+		EbcObservers.remove(recorder);
+		recorder = newRecorder;
+		EbcObservers.add(recorder);
+	}
+	
+	private static List<String> describe(List<FlightRecord> records)
+	{
+		List<String> descriptions = new ArrayList<String>();
+		for (FlightRecord record : records)
+		{
+			descriptions.add(record.getKind() + " " + record.getPhase() + " " + record.getPayload());
+		}
+		return descriptions;
+	}
+	
+	@Test
+	public void captures_dispatches_of_a_flow_in_order()
+	{
+		recorder.setPayloadSummarizer(String::valueOf);
+		Incrementer first = new Incrementer();
+		Incrementer second = new Incrementer();
+		Flow.await(first).then(second);
+		
+		first.processAction().accept(1);
+		
+		List<FlightRecord> records = recorder.dump();
+		assertThat(describe(records), is(asList("PROCESS STARTED 1", "RESULT SENT 2", "PROCESS STARTED 2",
+			"RESULT SENT 3", "PROCESS COMPLETED null", "PROCESS COMPLETED null")));
+		assertThat(records.get(0).getComponentId(), is(System.identityHashCode(first)));
+		assertThat(records.get(2).getComponentType(), is((Object) Incrementer.class));
+		assertThat(records.get(0).getThreadName(), is(Thread.currentThread().getName()));
+		assertThat(records.get(4).getDurationNanos() >= 0, is(true));
+		assertThat(records.get(0).getDurationNanos(), is(-1L));
+	}
+	
+	@Test
+	public void captures_no_payload_by_default()
+	{
+		new Incrementer().processAction().accept(1);
+		
+		assertThat(describe(recorder.dump()), is(asList("PROCESS STARTED null", "RESULT SENT null",
+			"PROCESS COMPLETED null")));
+	}
+	
+	@Test
+	public void keeps_the_last_records_of_a_thread()
+	{
+		useRecorder(new FlightRecorder(6, 1));
+		recorder.setPayloadSummarizer(String::valueOf);
+		Incrementer incrementer = new Incrementer();
+		
+		for (int i = 0; i < 10; i++)
+		{
+			incrementer.processAction().accept(i);
+		}
+		
+		assertThat(recorder.getCapacity(), is(8));
+		assertThat(describe(recorder.dump()), is(asList("RESULT SENT 8", "PROCESS COMPLETED null", "PROCESS STARTED 8",
+			"RESULT SENT 9", "PROCESS COMPLETED null", "PROCESS STARTED 9", "RESULT SENT 10",
+			"PROCESS COMPLETED null")));
+	}
+	
+	@Test
+	public void samples_every_nth_root_dispatch_with_its_nested_dispatches()
+	{
+		useRecorder(new FlightRecorder(64, 3));
+		recorder.setPayloadSummarizer(String::valueOf);
+		Incrementer first = new Incrementer();
+		Flow.await(first).then(new Incrementer());
+		
+		for (int i = 0; i < 6; i++)
+		{
+			first.processAction().accept(i * 10);
+		}
+		
+		assertThat(describe(recorder.dump()), is(asList("PROCESS STARTED 20", "RESULT SENT 21",
+			"PROCESS STARTED 21", "RESULT SENT 22", "PROCESS COMPLETED null", "PROCESS COMPLETED null",
+			"PROCESS STARTED 50", "RESULT SENT 51", "PROCESS STARTED 51", "RESULT SENT 52",
+			"PROCESS COMPLETED null", "PROCESS COMPLETED null")));
+	}
+	
+	@Test
+	public void dumps_once_on_error()
+	{
+		List<List<FlightRecord>> dumps = new ArrayList<List<FlightRecord>>();
+		recorder.setErrorHandler(dumps::add);
+		Incrementer first = new Incrementer();
+		Incrementer second = new Incrementer();
+		Flow.await(first).then((Integer value) -> second.processAction().accept(-value));
+		
+		try
+		{
+			first.processAction().accept(1);
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+		
+		assertThat(dumps.size(), is(1));
+		assertThat(describe(dumps.get(0)), is(asList("PROCESS STARTED null", "RESULT SENT null",
+			"PROCESS STARTED null", "PROCESS FAILED java.lang.IllegalArgumentException: negative")));
+		assertThat(recorder.dump().size(), is(5));
+	}
+	
+	@Test
+	public void clear_removes_records()
+	{
+		new Incrementer().processAction().accept(1);
+		
+		recorder.clear();
+		new Incrementer().processAction().accept(1);
+		
+		assertThat(recorder.dump().size(), is(3));
+	}
+	
+	@Test
+	public void merges_records_of_all_threads()
+		throws Exception
+	{
+		Incrementer incrementer = new Incrementer();
+		Thread thread = new Thread(() -> incrementer.processAction().accept(1), "other");
+		thread.start();
+		thread.join();
+		
+		incrementer.processAction().accept(2);
+		
+		List<FlightRecord> records = recorder.dump();
+		assertThat(records.size(), is(6));
+		assertThat(records.get(0).getThreadName(), is("other"));
+		assertThat(records.get(5).getThreadName(), is(Thread.currentThread().getName()));
+	}
+	
+	@Test
+	public void clear_releases_buffers_of_terminated_threads()
+		throws Exception
+	{
+		Incrementer incrementer = new Incrementer();
+		Thread thread = new Thread(() -> incrementer.processAction().accept(1));
+		thread.start();
+		thread.join();
+		incrementer.processAction().accept(2);
+		
+		recorder.clear();
+		
+		assertThat(recorder.getBufferCount(), is(1));
+	}
+	
+	@Test
+	public void keeps_limited_number_of_buffers_of_terminated_threads()
+		throws Exception
+	{
+		Incrementer incrementer = new Incrementer();
+		for (int i = 0; i < FlightRecorder.MAX_TERMINATED_BUFFERS + 4; i++)
+		{
+			Thread thread = new Thread(() -> incrementer.processAction().accept(1));
+			thread.start();
+			thread.join();
+		}
+		
+		assertThat(recorder.getBufferCount(), is(FlightRecorder.MAX_TERMINATED_BUFFERS + 1));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void sampling_interval_below_one_is_rejected()
+	{
+		new FlightRecorder(16, 0);
+	}
+}
@@ -0,0 +1,99 @@
+package net.objectzoo.ebc.observer.async;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LatencyHistogramTest
+{
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	
+	@Test
+	public void records_small_values_exactly()
+	{
+		for (int i = 1; i <= 50; i++)
+		{
+			histogram.record(i);
+		}
+		
+		HistogramSnapshot snapshot = histogram.snapshot();
+		
+		assertThat(snapshot.getCount(), is(50L));
+		assertThat(snapshot.getMean(), is(25.5));
+		assertThat(snapshot.getValueAtPercentile(50), is(25L));
+		assertThat(snapshot.getValueAtPercentile(100), is(50L));
+		assertThat(snapshot.getMax(), is(50L));
+	}
+	
+	@Test
+	public void records_large_values_with_bounded_relative_error()
+	{
+		for (long value = 64; value < LatencyHistogram.MAX_TRACKABLE_VALUE; value = value * 3 + 7)
+		{
+			long recorded = LatencyHistogram.highestValueAt(LatencyHistogram.indexFor(value));
+			
+			assertThat(value <= recorded, is(true));
+			assertThat((double) (recorded - value) / value, lessThanOrEqualTo(0.032));
+		}
+	}
+	
+	@Test
+	public void bucket_indices_are_contiguous()
+	{
+		for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++)
+		{
+			long highest = LatencyHistogram.highestValueAt(index);
+			
+			assertThat(LatencyHistogram.indexFor(highest), is(index));
+			assertThat(LatencyHistogram.indexFor(highest + 1), is(index + 1));
+		}
+	}
+	
+	@Test
+	public void percentile_is_computed_from_buckets()
+	{
+		for (int i = 0; i < 99; i++)
+		{
+			histogram.record(1000);
+		}
+		histogram.record(1_000_000);
+		
+		HistogramSnapshot snapshot = histogram.snapshot();
+		
+		assertThat(snapshot.getValueAtPercentile(50), is(1007L));
+		assertThat(snapshot.getValueAtPercentile(99), is(1007L));
+		assertThat(snapshot.getValueAtPercentile(100), is(1_000_000L));
+	}
+	
+	@Test
+	public void clamps_values_out_of_range()
+	{
+		histogram.record(-5);
+		histogram.record(Long.MAX_VALUE);
+		
+		HistogramSnapshot snapshot = histogram.snapshot();
+		
+		assertThat(snapshot.getValueAtPercentile(50), is(0L));
+		assertThat(snapshot.getMax(), is(LatencyHistogram.MAX_TRACKABLE_VALUE));
+	}
+	
+	@Test
+	public void reset_removes_values()
+	{
+		histogram.record(100);
+		
+		histogram.reset();
+		
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.snapshot().getValueAtPercentile(99), is(0L));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalid_percentile_is_rejected()
+	{
+		histogram.snapshot().getValueAtPercentile(101);
+	}
+}
@@ -0,0 +1,164 @@
+package net.objectzoo.ebc.observer.async;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.objectzoo.ebc.builder.Flow;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.observer.EbcObservers;
+
+@SuppressWarnings("javadoc")
+public class MetricsObserverTest
+{
+	static class SlowIncrementer extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter < 0)
+			{
+				throw new IllegalArgumentException();
+			}
+			long end = System.nanoTime() + 100_000;
+			while (System.nanoTime() < end)
+			{
+				// busy wait to make this EBC slow
+			}
+			sendResult(parameter + 1);
+		}
+	}
+	
+	static class Incrementer extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	private MetricsObserver observer;
+	
+	@Before
+	public void addObserver()
+	{
+		observer = new MetricsObserver(MetricsGranularity.INSTANCE);
+		EbcObservers.add(observer);
+	}
+	
+	@After
+	public void removeObserver()
+	{
+		EbcObservers.remove(observer);
+		observer.unregisterMBeans();
+	}
+	
+	@Test
+	public void records_invocations_results_and_errors_per_instance()
+	{
+		SlowIncrementer slow = new SlowIncrementer();
+		Incrementer fast = new Incrementer();
+		Flow.await(fast).then(slow);
+		
+		fast.processAction().accept(1);
+		fast.processAction().accept(2);
+		try
+		{
+			fast.processAction().accept(-2);
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+		
+		EbcMetricsSnapshot fastSnapshot = observer.getMetrics(fast).snapshot();
+		EbcMetricsSnapshot slowSnapshot = observer.getMetrics(slow).snapshot();
+		assertThat(fastSnapshot.getInvocationCount(), is(3L));
+		assertThat(fastSnapshot.getResultCount(), is(3L));
+		assertThat(fastSnapshot.getErrorCount(), is(1L));
+		assertThat(slowSnapshot.getInvocationCount(), is(3L));
+		assertThat(slowSnapshot.getResultCount(), is(2L));
+		assertThat(slowSnapshot.getErrorCount(), is(1L));
+	}
+	
+	@Test
+	public void self_latency_excludes_nested_invocations()
+	{
+		SlowIncrementer slow = new SlowIncrementer();
+		Incrementer fast = new Incrementer();
+		Flow.await(fast).then(slow);
+		
+		fast.processAction().accept(1);
+		
+		EbcMetricsSnapshot fastSnapshot = observer.getMetrics(fast).snapshot();
+		EbcMetricsSnapshot slowSnapshot = observer.getMetrics(slow).snapshot();
+		assertThat(fastSnapshot.getLatency().getMax(), greaterThan(100_000L));
+		assertThat(slowSnapshot.getSelfLatency().getMax(), greaterThan(95_000L));
+		assertThat(fastSnapshot.getSelfLatency().getMax(), lessThanOrEqualTo(fastSnapshot.getLatency().getMax()
+			- slowSnapshot.getLatency().getMax()));
+	}
+	
+	@Test
+	public void records_per_class()
+	{
+		EbcObservers.remove(observer);
+		observer = new MetricsObserver(MetricsGranularity.CLASS);
+		EbcObservers.add(observer);
+		
+		new Incrementer().processAction().accept(1);
+		new Incrementer().processAction().accept(1);
+		
+		List<EbcMetricsSnapshot> snapshots = observer.snapshot();
+		assertThat(snapshots.size(), is(1));
+		assertThat(snapshots.get(0).getName(), is(Incrementer.class.getName()));
+		assertThat(snapshots.get(0).getInvocationCount(), is(2L));
+	}
+	
+	@Test
+	public void exposes_metrics_as_mbeans()
+		throws Exception
+	{
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		Incrementer before = new Incrementer();
+		before.processAction().accept(1);
+		
+		observer.registerMBeans(server);
+		Incrementer after = new Incrementer();
+		after.processAction().accept(1);
+		after.processAction().accept(2);
+		
+		ObjectName beforeName = MetricsObserver.objectNameOf(observer.getMetrics(before).getName());
+		ObjectName afterName = MetricsObserver.objectNameOf(observer.getMetrics(after).getName());
+		assertThat(server.getAttribute(beforeName, "InvocationCount"), is((Object) 1L));
+		assertThat(server.getAttribute(afterName, "ResultCount"), is((Object) 2L));
+		
+		observer.unregisterMBeans();
+		
+		assertThat(server.isRegistered(afterName), is(false));
+	}
+	
+	@Test
+	public void clear_removes_metrics()
+	{
+		Incrementer incrementer = new Incrementer();
+		incrementer.processAction().accept(1);
+		
+		observer.clear();
+		
+		assertThat(observer.getMetrics(incrementer), is(nullValue()));
+		assertThat(observer.snapshot().isEmpty(), is(true));
+	}
+}
@@ -0,0 +1,129 @@
+package net.objectzoo.ebc.state.async;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ThreadLocalStateTest
+{
+	@After
+	public void clearStore()
+	{
+		ThreadLocalStateStore.clear();
+	}
+	
+	@Test
+	public void get_returns_value_set_in_same_thread()
+	{
+		ThreadLocalState<String> sut = new ThreadLocalState<String>(null);
+		
+		sut.set("value");
+		
+		assertThat(sut.get(), is("value"));
+	}
+	
+	@Test
+	public void get_returns_no_value_set_in_other_thread() throws Exception
+	{
+		ThreadLocalState<String> sut = new ThreadLocalState<String>(null);
+		sut.set("value");
+		AtomicReference<String> otherThreadValue = new AtomicReference<String>("none");
+		
+		Thread thread = new Thread(() -> otherThreadValue.set(sut.get()));
+		thread.start();
+		thread.join();
+		
+		assertThat(otherThreadValue.get(), is(nullValue()));
+		assertThat(sut.get(), is("value"));
+	}
+	
+	@Test
+	public void get_creates_value_with_factory()
+	{
+		ThreadLocalState<List<String>> sut = new ThreadLocalState<List<String>>(ArrayList::new);
+		
+		List<String> value = sut.get();
+		
+		assertThat(sut.get() == value, is(true));
+	}
+	
+	@Test
+	public void clear_removes_values_of_current_thread()
+	{
+		ThreadLocalState<String> sut = new ThreadLocalState<String>(null);
+		sut.set("value");
+		
+		ThreadLocalStateStore.clear();
+		
+		assertThat(sut.get(), is(nullValue()));
+	}
+	
+	@Test
+	public void states_keep_separate_values_beyond_initial_capacity()
+	{
+		List<ThreadLocalState<Integer>> states = new ArrayList<ThreadLocalState<Integer>>();
+		for (int i = 0; i < 100; i++)
+		{
+			ThreadLocalState<Integer> state = new ThreadLocalState<Integer>(null);
+			state.set(i);
+			states.add(state);
+		}
+		
+		for (int i = 0; i < 100; i++)
+		{
+			assertThat(states.get(i).get(), is(i));
+		}
+	}
+	
+	@Test
+	public void reclaimed_slot_does_not_expose_value_of_collected_state() throws Exception
+	{
+		new ThreadLocalState<String>(null).set("collected");
+		
+		List<ThreadLocalState<String>> newStates = new ArrayList<ThreadLocalState<String>>();
+		for (int i = 0; i < 50; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+			newStates.add(new ThreadLocalState<String>(null));
+		}
+		
+		for (ThreadLocalState<String> state : newStates)
+		{
+			assertThat(state.get(), is(nullValue()));
+		}
+	}
+	
+	@Test
+	public void value_of_collected_state_is_released_on_next_access() throws Exception
+	{
+		ThreadLocalState<String> other = new ThreadLocalState<String>(null);
+		WeakReference<Object> value = setValueInCollectableState();
+		
+		for (int i = 0; i < 50 && value.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+			other.get();
+		}
+		
+		assertThat(value.get(), is(nullValue()));
+	}
+	
+	private static WeakReference<Object> setValueInCollectableState()
+	{
+		ThreadLocalState<Object> state = new ThreadLocalState<Object>(null);
+		Object value = new Object();
+		state.set(value);
+		return new WeakReference<Object>(value);
+	}
+}
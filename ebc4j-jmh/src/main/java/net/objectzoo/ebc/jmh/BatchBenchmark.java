@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.batch.AccumulateBatch;
+import net.objectzoo.ebc.batch.SplitBatch;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.BatchPassThrough;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.PassThrough;
+
+/**
+ * Compares sending single values through a chain of {@code ProcessAndResultBase} EBCs with sending
+ * them through a chain of {@code BatchProcessAndResultBase} EBCs that is adapted to single values
+ * by an {@link AccumulateBatch} and a {@link SplitBatch}. The scores are per value.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark
+{
+	static final int VALUES = 1024;
+	
+	@Param({ "4", "16" })
+	int hops;
+	
+	@Param({ "16", "256" })
+	int batchSize;
+	
+	private Consumer<Object> singleChainInput;
+	
+	private Consumer<Object> batchChainInput;
+	
+	private Blackhole blackhole;
+	
+	private final Object value = new Object();
+	
+	@Setup
+	public void setupChains(Blackhole blackhole)
+	{
+		this.blackhole = blackhole;
+		
+		PassThrough<Object> first = new PassThrough<Object>();
+		PassThrough<Object> last = first;
+		for (int i = 1; i < hops; i++)
+		{
+			PassThrough<Object> next = new PassThrough<Object>();
+			await(last).then(next);
+			last = next;
+		}
+		await(last).then(this::consumeResult);
+		singleChainInput = first.processAction();
+		
+		AccumulateBatch<Object> accumulate = new AccumulateBatch<Object>(batchSize);
+		BatchPassThrough<Object> lastBatch = new BatchPassThrough<Object>();
+		await(accumulate).then(lastBatch);
+		for (int i = 1; i < hops; i++)
+		{
+			BatchPassThrough<Object> next = new BatchPassThrough<Object>();
+			await(lastBatch).then(next);
+			lastBatch = next;
+		}
+		await(lastBatch).then(new SplitBatch<Object>()).then(this::consumeResult);
+		batchChainInput = accumulate.processAction();
+	}
+	
+	private void consumeResult(Object result)
+	{
+		blackhole.consume(result);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(VALUES)
+	public void singleChain()
+	{
+		for (int i = 0; i < VALUES; i++)
+		{
+			singleChainInput.accept(value);
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(VALUES)
+	public void batchChain()
+	{
+		for (int i = 0; i < VALUES; i++)
+		{
+			batchChainInput.accept(value);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.util.List;
+
+import net.objectzoo.ebc.impl.BatchProcessAndResultBase;
+import net.objectzoo.ebc.impl.LongProcessAndResultBase;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.impl.StartAndResultBase;
+
+/**
+ * This class contains the minimal EBCs the benchmarks are built of. They do no work on their own
+ * so that the measured costs are those of the EBC4J infrastructure only.
+ * 
+ * @author tilmann
+ */
+final class BenchmarkFlows
+{
+	private BenchmarkFlows()
+	{
+		// No instances will be made
+	}
+	
+	/**
+	 * An EBC that sends every input it processes unchanged as its result.
+	 * 
+	 * @param <T>
+	 *        the type of input and output of this EBC
+	 */
+	static class PassThrough<T> extends ProcessAndResultBase<T, T>
+	{
+		@Override
+		protected void process(T parameter)
+		{
+			sendResult(parameter);
+		}
+	}
+	
+	/**
+	 * An EBC that sends every input batch it processes unchanged as its result.
+	 * 
+	 * @param <T>
+	 *        the type of the values in the input and output batches of this EBC
+	 */
+	static class BatchPassThrough<T> extends BatchProcessAndResultBase<T, T>
+	{
+		@Override
+		protected void processBatch(List<T> batch)
+		{
+			sendResults(batch);
+		}
+	}
+	
+	/**
+	 * An EBC that sends a constant value as result whenever it is started.
+	 * 
+	 * @param <T>
+	 *        the type of output of this EBC
+	 */
+	static class ConstantSource<T> extends StartAndResultBase<T>
+	{
+		private final T value;
+		
+		ConstantSource(T value)
+		{
+			this.value = value;
+		}
+		
+		@Override
+		protected void start()
+		{
+			sendResult(value);
+		}
+	}
+	
+	/**
+	 * An EBC that adds one to every {@code Long} input and sends the sum as its result.
+	 */
+	static class BoxedIncrement extends ProcessAndResultBase<Long, Long>
+	{
+		@Override
+		protected void process(Long parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	/**
+	 * An EBC that adds one to every {@code long} input and sends the sum as its result.
+	 */
+	static class LongIncrement extends LongProcessAndResultBase
+	{
+		@Override
+		protected void process(long parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.join.JoinCollections;
+import net.objectzoo.ebc.join.JoinObjectAndCollection;
+import net.objectzoo.ebc.join.StreamingJoinCollections;
+import net.objectzoo.ebc.join.async.ForkJoinOutputCreatorFactory;
+import net.objectzoo.ebc.util.Pair;
+
+/**
+ * Measures the output creation of {@link JoinCollections} and {@link JoinObjectAndCollection} for
+ * input collections of different sizes. The {@link StreamingJoinCollections} receives the same
+ * inputs in interleaved chunks of {@value #CHUNK_SIZE} elements. The fork join variant creates the
+ * output elements using a {@link ForkJoinOutputCreatorFactory}.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class CollectionJoinBenchmark
+{
+	static final int CHUNK_SIZE = 1000;
+	
+	@Param({ "10", "1000", "100000", "1000000" })
+	int size;
+	
+	private List<String> input1;
+	
+	private List<Integer> input2;
+	
+	private JoinCollections<String, Integer, Pair<String, Integer>> joinCollections;
+	
+	private JoinObjectAndCollection<String, Integer, Pair<String, Integer>> joinObjectAndCollection;
+	
+	private StreamingJoinCollections<String, Integer, Pair<String, Integer>> streamingJoinCollections;
+	
+	private JoinCollections<String, Integer, Pair<String, Integer>> forkJoinJoinCollections;
+	
+	@Setup
+	public void setupJoins(Blackhole blackhole)
+	{
+		input1 = new ArrayList<String>(size);
+		input2 = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++)
+		{
+			input1.add(String.valueOf(i));
+			input2.add(Integer.valueOf(i));
+		}
+		
+		joinCollections = new JoinCollections<String, Integer, Pair<String, Integer>>(Pair::new);
+		joinCollections.resultEvent().subscribe(blackhole::consume);
+		
+		joinObjectAndCollection = new JoinObjectAndCollection<String, Integer, Pair<String, Integer>>(Pair::new);
+		joinObjectAndCollection.resultEvent().subscribe(blackhole::consume);
+		
+		streamingJoinCollections = new StreamingJoinCollections<String, Integer, Pair<String, Integer>>(Pair::new);
+		streamingJoinCollections.resultEvent().subscribe(blackhole::consume);
+		
+		forkJoinJoinCollections = new JoinCollections<String, Integer, Pair<String, Integer>>(Pair::new);
+		forkJoinJoinCollections.setOutputCreatorFactory(new ForkJoinOutputCreatorFactory());
+		forkJoinJoinCollections.resultEvent().subscribe(blackhole::consume);
+	}
+	
+	@Benchmark
+	public void joinCollections()
+	{
+		joinCollections.input1Action().accept(input1);
+		joinCollections.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	public void forkJoinJoinCollections()
+	{
+		forkJoinJoinCollections.input1Action().accept(input1);
+		forkJoinJoinCollections.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	public void joinObjectAndCollection()
+	{
+		joinObjectAndCollection.input1Action().accept("input1");
+		joinObjectAndCollection.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	public void streamingJoinCollections()
+	{
+		for (int from = 0; from < size; from += CHUNK_SIZE)
+		{
+			int to = Math.min(from + CHUNK_SIZE, size);
+			streamingJoinCollections.input1Action().accept(input1.subList(from, to));
+			streamingJoinCollections.input2Action().accept(input2.subList(from, to));
+		}
+		streamingJoinCollections.input1CompletedAction().start();
+		streamingJoinCollections.input2CompletedAction().start();
+	}
+}
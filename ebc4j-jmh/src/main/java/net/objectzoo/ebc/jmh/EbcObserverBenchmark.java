@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.jmh.BenchmarkFlows.PassThrough;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.observer.async.FlightRecorder;
+import net.objectzoo.ebc.observer.async.MetricsGranularity;
+import net.objectzoo.ebc.observer.async.MetricsObserver;
+
+/**
+ * Measures the cost of observing a chain of {@code ProcessAndResultBase} EBCs by the metrics and the
+ * flight recorder. With the observer {@code none} the result shows the overhead of the disabled
+ * observation compared to the {@link ProcessAndResultHopBenchmark}.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EbcObserverBenchmark
+{
+	@Param({ "none", "classMetrics", "instanceMetrics", "flightRecorder", "sampledFlightRecorder" })
+	String observer;
+	
+	@Param({ "16" })
+	int hops;
+	
+	private Consumer<Object> chainInput;
+	
+	private final Object value = new Object();
+	
+	@Setup
+	public void setupChain(Blackhole blackhole)
+	{
+		if (observer.equals("classMetrics"))
+		{
+			EbcObservers.add(new MetricsObserver(MetricsGranularity.CLASS));
+		}
+		else if (observer.equals("instanceMetrics"))
+		{
+			EbcObservers.add(new MetricsObserver(MetricsGranularity.INSTANCE));
+		}
+		else if (observer.equals("flightRecorder"))
+		{
+			EbcObservers.add(new FlightRecorder());
+		}
+		else if (observer.equals("sampledFlightRecorder"))
+		{
+			EbcObservers.add(new FlightRecorder(FlightRecorder.DEFAULT_CAPACITY, 100));
+		}
+		
+		PassThrough<Object> first = new PassThrough<Object>();
+		PassThrough<Object> last = first;
+		for (int i = 1; i < hops; i++)
+		{
+			PassThrough<Object> next = new PassThrough<Object>();
+			await(last).then(next);
+			last = next;
+		}
+		await(last).then((Consumer<Object>) blackhole::consume);
+		
+		chainInput = first.processAction();
+	}
+	
+	@TearDown
+	public void removeObservers()
+	{
+		EbcObservers.clear();
+	}
+	
+	@Benchmark
+	public void sendThroughChain()
+	{
+		chainInput.accept(value);
+	}
+}
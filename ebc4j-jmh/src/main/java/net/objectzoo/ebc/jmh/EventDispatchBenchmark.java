@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.events.impl.EventDelegate;
+import net.objectzoo.events.impl.EventDistributor;
+
+/**
+ * Compares the dispatch of the events4j {@link EventDistributor} with the
+ * {@link CopyOnWriteEventDistributor} used by the EBC base classes.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventDispatchBenchmark
+{
+	@Param({ "1", "4" })
+	int subscribers;
+	
+	private EventDelegate<Object> eventDistributor;
+	
+	private EventDelegate<Object> copyOnWriteEventDistributor;
+	
+	private final Object value = new Object();
+	
+	@Setup
+	public void setupEvents(final Blackhole blackhole)
+	{
+		eventDistributor = new EventDistributor<Object>();
+		copyOnWriteEventDistributor = new CopyOnWriteEventDistributor<Object>();
+		for (int i = 0; i < subscribers; i++)
+		{
+			eventDistributor.subscribe(parameter -> blackhole.consume(parameter));
+			copyOnWriteEventDistributor.subscribe(parameter -> blackhole.consume(parameter));
+		}
+	}
+	
+	@Benchmark
+	public void eventDistributor()
+	{
+		eventDistributor.accept(value);
+	}
+	
+	@Benchmark
+	public void copyOnWriteEventDistributor()
+	{
+		copyOnWriteEventDistributor.accept(value);
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.objectzoo.ebc.executor.FlowExecutor;
+import net.objectzoo.ebc.executor.async.ProcessAndResultFlowHandle;
+import net.objectzoo.ebc.executor.async.StartAndResultFlowHandle;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.ConstantSource;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.PassThrough;
+
+/**
+ * Measures the synchronous execution of flows with {@link FlowExecutor#processAndReturnResult}
+ * and {@link FlowExecutor#startAndReturnResult} compared to the execution by the compiled flow
+ * handles.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlowExecutorBenchmark
+{
+	private PassThrough<String> processFlow;
+	
+	private ConstantSource<String> startFlow;
+	
+	private ProcessAndResultFlowHandle<String, String> processHandle;
+	
+	private StartAndResultFlowHandle<String> startHandle;
+	
+	private final String input = "input";
+	
+	@Setup
+	public void setupFlows()
+	{
+		processFlow = new PassThrough<String>();
+		await(processFlow).then(new PassThrough<String>());
+		
+		startFlow = new ConstantSource<String>("result");
+		
+		processHandle = new ProcessAndResultFlowHandle<String, String>(processFlow);
+		startHandle = new StartAndResultFlowHandle<String>(startFlow);
+	}
+	
+	@TearDown
+	public void closeHandles()
+	{
+		processHandle.close();
+		startHandle.close();
+	}
+	
+	@Benchmark
+	public String processAndReturnResult()
+	{
+		return FlowExecutor.processAndReturnResult(processFlow, input);
+	}
+	
+	@Benchmark
+	public String startAndReturnResult()
+	{
+		return FlowExecutor.startAndReturnResult(startFlow);
+	}
+	
+	@Benchmark
+	public String processAndResultFlowHandle()
+	{
+		return processHandle.apply(input);
+	}
+	
+	@Benchmark
+	public String startAndResultFlowHandle()
+	{
+		return startHandle.get();
+	}
+}
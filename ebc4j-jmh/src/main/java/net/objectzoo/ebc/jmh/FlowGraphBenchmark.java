@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.builder.FlowGraph;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.PassThrough;
+import net.objectzoo.ebc.split.SplitProcess;
+
+/**
+ * Compares a flow of glue EBCs connected directly with the same flow recorded and compiled by a
+ * {@link FlowGraph}. Every hop of the flow consists of a {@link SplitProcess} followed by a
+ * {@link PassThrough}, so half of the hops are glue that gets inlined.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlowGraphBenchmark
+{
+	@Param({ "4", "16", "32" })
+	int hops;
+	
+	private final CopyOnWriteEventDistributor<Integer> directInput = new CopyOnWriteEventDistributor<>();
+	
+	private final CopyOnWriteEventDistributor<Integer> compiledInput = new CopyOnWriteEventDistributor<>();
+	
+	private final Integer value = Integer.valueOf(42);
+	
+	@Setup
+	public void setupFlows(Blackhole blackhole)
+	{
+		PassThrough<Integer> lastDirect = new PassThrough<>();
+		await(directInput).then(lastDirect);
+		FlowGraph graph = new FlowGraph();
+		PassThrough<Integer> lastCompiled = new PassThrough<>();
+		graph.await(compiledInput).then(lastCompiled);
+		for (int i = 1; i < hops; i++)
+		{
+			PassThrough<Integer> nextDirect = new PassThrough<>();
+			await(await(lastDirect).thenSplit()).then(nextDirect);
+			lastDirect = nextDirect;
+			
+			PassThrough<Integer> nextCompiled = new PassThrough<>();
+			graph.await(graph.await(lastCompiled).thenSplit()).then(nextCompiled);
+			lastCompiled = nextCompiled;
+		}
+		await(lastDirect).then((Consumer<Integer>) blackhole::consume);
+		graph.await(lastCompiled).then((Consumer<Integer>) blackhole::consume);
+		graph.compile();
+	}
+	
+	@Benchmark
+	public void directFlow()
+	{
+		directInput.accept(value);
+	}
+	
+	@Benchmark
+	public void compiledFlow()
+	{
+		compiledInput.accept(value);
+	}
+}
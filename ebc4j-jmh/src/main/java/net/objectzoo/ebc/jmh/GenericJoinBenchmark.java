@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.join.CollectionsOutputCreator;
+import net.objectzoo.ebc.join.ConstructableOutputCreator;
+import net.objectzoo.ebc.join.GeneratedOutputCreator;
+import net.objectzoo.ebc.join.GenericJoin;
+import net.objectzoo.ebc.join.GenericJoinCollections;
+
+/**
+ * Measures the completion of a {@link GenericJoin} and a {@link GenericJoinCollections} which
+ * construct their output using the constructor discovered from their type parameters and compares
+ * the reflective {@link ConstructableOutputCreator} with the {@link GeneratedOutputCreator}.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GenericJoinBenchmark
+{
+	@Param({ "100000" })
+	int size;
+	
+	private GenericJoin<String, Integer, JoinedValue> genericJoin;
+	
+	private GenericJoinCollections<String, Integer, JoinedValue> genericJoinCollections;
+	
+	private CollectionsOutputCreator<String, Integer, JoinedValue> constructableCollectionsCreator;
+	
+	private CollectionsOutputCreator<String, Integer, JoinedValue> generatedCollectionsCreator;
+	
+	private final String input1 = "input1";
+	
+	private final Integer input2 = Integer.valueOf(4711);
+	
+	private List<String> input1List;
+	
+	private List<Integer> input2List;
+	
+	@Setup
+	public void setupJoins(Blackhole blackhole) throws NoSuchMethodException
+	{
+		genericJoin = new GenericJoin<String, Integer, JoinedValue>()
+		{
+		};
+		genericJoin.resultEvent().subscribe(blackhole::consume);
+		
+		genericJoinCollections = new GenericJoinCollections<String, Integer, JoinedValue>()
+		{
+		};
+		genericJoinCollections.resultEvent().subscribe(blackhole::consume);
+		
+		Constructor<JoinedValue> constructor = JoinedValue.class.getConstructor(String.class, Integer.class);
+		constructableCollectionsCreator = new CollectionsOutputCreator<String, Integer, JoinedValue>(
+			new ConstructableOutputCreator<String, Integer, JoinedValue>(constructor));
+		generatedCollectionsCreator = new CollectionsOutputCreator<String, Integer, JoinedValue>(
+			new GeneratedOutputCreator<String, Integer, JoinedValue>(constructor));
+		
+		input1List = new ArrayList<String>(size);
+		input2List = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++)
+		{
+			input1List.add(String.valueOf(i));
+			input2List.add(Integer.valueOf(i));
+		}
+	}
+	
+	@Benchmark
+	public void completeGenericJoin()
+	{
+		genericJoin.input1Action().accept(input1);
+		genericJoin.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void completeGenericJoinCollections()
+	{
+		genericJoinCollections.input1Action().accept(input1List);
+		genericJoinCollections.input2Action().accept(input2List);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public Object constructableOutputCreator()
+	{
+		return constructableCollectionsCreator.createOutput(input1List, input2List);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public Object generatedOutputCreator()
+	{
+		return generatedCollectionsCreator.createOutput(input1List, input2List);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.join.Join;
+import net.objectzoo.ebc.join.JoinToPair;
+
+/**
+ * Measures the completion of a {@link Join} by invoking its {@code input1Action} and
+ * {@code input2Action} one after the other.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JoinBenchmark
+{
+	private Join<String, Integer, String> join;
+	
+	private JoinToPair<String, Integer> joinToPair;
+	
+	private final String input1 = "input1";
+	
+	private final Integer input2 = Integer.valueOf(4711);
+	
+	@Setup
+	public void setupJoins(Blackhole blackhole)
+	{
+		join = new Join<String, Integer, String>((i1, i2) -> i1);
+		join.resultEvent().subscribe(blackhole::consume);
+		
+		joinToPair = new JoinToPair<String, Integer>();
+		joinToPair.resultEvent().subscribe(blackhole::consume);
+	}
+	
+	@Benchmark
+	public void completeJoin()
+	{
+		join.input1Action().accept(input1);
+		join.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	public void completeJoinToPair()
+	{
+		joinToPair.input1Action().accept(input1);
+		joinToPair.input2Action().accept(input2);
+	}
+}
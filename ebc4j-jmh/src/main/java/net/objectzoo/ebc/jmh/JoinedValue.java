@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+/**
+ * The output type of the generic Joins used in the benchmarks. It is a public class so that its
+ * constructor can be bound by the {@code GeneratedOutputCreator}.
+ * 
+ * @author tilmann
+ */
+public class JoinedValue
+{
+	private final String item1;
+	
+	private final Integer item2;
+	
+	/**
+	 * Creates a new {@code JoinedValue}
+	 * 
+	 * @param item1
+	 *        the first joined value
+	 * @param item2
+	 *        the second joined value
+	 */
+	public JoinedValue(String item1, Integer item2)
+	{
+		this.item1 = item1;
+		this.item2 = item2;
+	}
+	
+	/**
+	 * Retrieve the first joined value
+	 * 
+	 * @return the first joined value
+	 */
+	public String getItem1()
+	{
+		return item1;
+	}
+	
+	/**
+	 * Retrieve the second joined value
+	 * 
+	 * @return the second joined value
+	 */
+	public Integer getItem2()
+	{
+		return item2;
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.join.HashJoinCollections;
+import net.objectzoo.ebc.join.JoinCollections;
+import net.objectzoo.ebc.join.KeyJoinType;
+import net.objectzoo.ebc.join.SortMergeKeys;
+import net.objectzoo.ebc.util.Pair;
+
+/**
+ * Measures joining two shuffled input collections by key, once by a {@link HashJoinCollections}
+ * and once by sorting copies of both inputs before zipping them by position using a
+ * {@link JoinCollections}. For inputs that are already sorted the {@link HashJoinCollections} is
+ * compared to a {@link JoinCollections} merging the inputs by {@link SortMergeKeys}.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class KeyJoinBenchmark
+{
+	@Param({ "1000", "100000", "1000000" })
+	int size;
+	
+	private List<Integer> input1;
+	
+	private List<Integer> input2;
+	
+	private List<Integer> sortedInput1;
+	
+	private List<Integer> sortedInput2;
+	
+	private HashJoinCollections<Integer, Integer, Integer, Pair<Integer, Integer>> hashJoinCollections;
+	
+	private JoinCollections<Integer, Integer, Pair<Integer, Integer>> joinCollections;
+	
+	private JoinCollections<Integer, Integer, Pair<Integer, Integer>> sortMergeJoinCollections;
+	
+	@Setup
+	public void setupJoins(Blackhole blackhole)
+	{
+		input1 = new ArrayList<Integer>(size);
+		input2 = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++)
+		{
+			input1.add(Integer.valueOf(i));
+			input2.add(Integer.valueOf(i));
+		}
+		sortedInput1 = new ArrayList<Integer>(input1);
+		sortedInput2 = new ArrayList<Integer>(input2);
+		Collections.shuffle(input1, new Random(1));
+		Collections.shuffle(input2, new Random(2));
+		
+		hashJoinCollections = new HashJoinCollections<Integer, Integer, Integer, Pair<Integer, Integer>>(
+			input -> input, input -> input, Pair::new, KeyJoinType.INNER);
+		hashJoinCollections.resultEvent().subscribe(blackhole::consume);
+		
+		joinCollections = new JoinCollections<Integer, Integer, Pair<Integer, Integer>>(Pair::new);
+		joinCollections.resultEvent().subscribe(blackhole::consume);
+		
+		sortMergeJoinCollections = new JoinCollections<Integer, Integer, Pair<Integer, Integer>>(Pair::new,
+			new SortMergeKeys<Integer, Integer, Integer>(input -> input, input -> input, Comparator.<Integer> naturalOrder()));
+		sortMergeJoinCollections.resultEvent().subscribe(blackhole::consume);
+	}
+	
+	@Benchmark
+	public void hashJoinCollections()
+	{
+		hashJoinCollections.input1Action().accept(input1);
+		hashJoinCollections.input2Action().accept(input2);
+	}
+	
+	@Benchmark
+	public void sortAndJoinCollections()
+	{
+		List<Integer> sorted1 = new ArrayList<Integer>(input1);
+		List<Integer> sorted2 = new ArrayList<Integer>(input2);
+		Collections.sort(sorted1);
+		Collections.sort(sorted2);
+		
+		joinCollections.input1Action().accept(sorted1);
+		joinCollections.input2Action().accept(sorted2);
+	}
+	
+	@Benchmark
+	public void hashJoinSortedCollections()
+	{
+		hashJoinCollections.input1Action().accept(sortedInput1);
+		hashJoinCollections.input2Action().accept(sortedInput2);
+	}
+	
+	@Benchmark
+	public void sortMergeJoinSortedCollections()
+	{
+		sortMergeJoinCollections.input1Action().accept(sortedInput1);
+		sortMergeJoinCollections.input2Action().accept(sortedInput2);
+	}
+}
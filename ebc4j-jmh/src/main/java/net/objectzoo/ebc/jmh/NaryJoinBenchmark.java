@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.join.Join4;
+import net.objectzoo.ebc.join.JoinToPair;
+import net.objectzoo.ebc.util.Pair;
+
+/**
+ * Measures joining four inputs, once by a {@link Join4} and once by three chained
+ * {@link JoinToPair}s producing nested {@link Pair}s.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NaryJoinBenchmark
+{
+	private Join4<String, Integer, Long, Double, String> join4;
+	
+	private JoinToPair<String, Integer> join12;
+	
+	private JoinToPair<Pair<String, Integer>, Long> join123;
+	
+	private JoinToPair<Pair<Pair<String, Integer>, Long>, Double> join1234;
+	
+	private final String input1 = "input1";
+	
+	private final Integer input2 = Integer.valueOf(4711);
+	
+	private final Long input3 = Long.valueOf(4712);
+	
+	private final Double input4 = Double.valueOf(47.13);
+	
+	@Setup
+	public void setupJoins(Blackhole blackhole)
+	{
+		join4 = new Join4<String, Integer, Long, Double, String>((i1, i2, i3, i4) -> i1);
+		join4.resultEvent().subscribe(blackhole::consume);
+		
+		join12 = new JoinToPair<String, Integer>();
+		join123 = new JoinToPair<Pair<String, Integer>, Long>();
+		join1234 = new JoinToPair<Pair<Pair<String, Integer>, Long>, Double>();
+		await(join12).then(join123.input1Action());
+		await(join123).then(join1234.input1Action());
+		await(join1234).then(pair -> blackhole.consume(pair.getItem1().getItem1().getItem1()));
+	}
+	
+	@Benchmark
+	public void completeJoin4()
+	{
+		join4.input1Action().accept(input1);
+		join4.input2Action().accept(input2);
+		join4.input3Action().accept(input3);
+		join4.input4Action().accept(input4);
+	}
+	
+	@Benchmark
+	public void completeChainedJoinToPairs()
+	{
+		join12.input1Action().accept(input1);
+		join12.input2Action().accept(input2);
+		join123.input2Action().accept(input3);
+		join1234.input2Action().accept(input4);
+	}
+}
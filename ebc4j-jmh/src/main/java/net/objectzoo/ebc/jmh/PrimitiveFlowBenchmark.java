@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.objectzoo.ebc.jmh.BenchmarkFlows.BoxedIncrement;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.LongIncrement;
+
+/**
+ * Compares sending {@code long} measurements through a chain of generic EBCs that box every value
+ * with a chain of {@code long} specialized EBCs. Run with {@code -prof gc} to see the allocation
+ * caused by the boxing.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveFlowBenchmark
+{
+	@Param({ "1", "4", "16" })
+	int hops;
+	
+	private Consumer<Long> boxedChainInput;
+	
+	private LongConsumer longChainInput;
+	
+	private Blackhole blackhole;
+	
+	private long value;
+	
+	@Setup
+	public void setupChains(Blackhole blackhole)
+	{
+		this.blackhole = blackhole;
+		
+		BoxedIncrement firstBoxed = new BoxedIncrement();
+		BoxedIncrement lastBoxed = firstBoxed;
+		LongIncrement firstLong = new LongIncrement();
+		LongIncrement lastLong = firstLong;
+		for (int i = 1; i < hops; i++)
+		{
+			BoxedIncrement nextBoxed = new BoxedIncrement();
+			await(lastBoxed).then(nextBoxed);
+			lastBoxed = nextBoxed;
+			
+			LongIncrement nextLong = new LongIncrement();
+			await(lastLong).then(nextLong);
+			lastLong = nextLong;
+		}
+		await(lastBoxed).then(this::consumeBoxedResult);
+		await(lastLong).then(this::consumeLongResult);
+		
+		boxedChainInput = firstBoxed.processAction();
+		longChainInput = firstLong.processAction();
+	}
+	
+	private void consumeBoxedResult(Long result)
+	{
+		blackhole.consume(result);
+	}
+	
+	private void consumeLongResult(long result)
+	{
+		blackhole.consume(result);
+	}
+	
+	@Benchmark
+	public void boxedChain()
+	{
+		boxedChainInput.accept(value++);
+	}
+	
+	@Benchmark
+	public void longChain()
+	{
+		longChainInput.accept(value++);
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.jmh;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.objectzoo.ebc.impl.async.QueueChannel;
+import net.objectzoo.ebc.impl.async.RingBufferPipeline;
+import net.objectzoo.ebc.impl.async.WaitStrategy;
+import net.objectzoo.ebc.jmh.BenchmarkFlows.PassThrough;
+
+/**
+ * Measures the round trip latency of a value passing a chain of {@code PassThrough} stages that run
+ * on their own threads, once connected by a {@code RingBufferPipeline} and once by
+ * {@code QueueChannel}s between the stages. The benchmark thread sends a value and spins until the
+ * result of the last stage arrived, so the sample distribution shows the hand-off latency. The
+ * {@code BUSY_SPIN} results are only meaningful with a free core for each stage and the benchmark
+ * thread.
+ * 
+ * @author tilmann
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RingBufferPipelineBenchmark
+{
+	@Param({ "1", "3" })
+	int stages;
+	
+	@Param({ "ringBuffer", "queueChannel" })
+	String engine;
+	
+	@Param({ "BUSY_SPIN", "YIELD" })
+	WaitStrategy waitStrategy;
+	
+	private ExecutorService executor;
+	
+	private RingBufferPipeline<Object, Object> pipeline;
+	
+	private Consumer<Object> input;
+	
+	private final Object value = new Object();
+	
+	private volatile long received;
+	
+	private long sent;
+	
+	@Setup
+	public void setupPipeline()
+	{
+		executor = Executors.newCachedThreadPool();
+		
+		if ("ringBuffer".equals(engine))
+		{
+			RingBufferPipeline.Builder<Object, Object> builder = RingBufferPipeline.from(new PassThrough<Object>());
+			for (int i = 1; i < stages; i++)
+			{
+				builder = builder.then(new PassThrough<Object>());
+			}
+			pipeline = builder.build(1024, executor, waitStrategy);
+			await(pipeline).then(this::receive);
+			input = pipeline.processAction();
+		}
+		else
+		{
+			QueueChannel<Object> first = new QueueChannel<Object>(1024, executor);
+			PassThrough<Object> last = new PassThrough<Object>();
+			await(first).then(last);
+			for (int i = 1; i < stages; i++)
+			{
+				QueueChannel<Object> channel = new QueueChannel<Object>(1024, executor);
+				PassThrough<Object> next = new PassThrough<Object>();
+				await(last).then(channel).then(next);
+				last = next;
+			}
+			await(last).then(this::receive);
+			input = first.processAction();
+		}
+	}
+	
+	private void receive(Object result)
+	{
+		received++;
+	}
+	
+	@TearDown
+	public void shutdown()
+	{
+		if (pipeline != null)
+		{
+			pipeline.close();
+		}
+		executor.shutdownNow();
+	}
+	
+	@Benchmark
+	public void roundTrip()
+	{
+		input.accept(value);
+		sent++;
+		while (received < sent)
+		{
+			if (waitStrategy == WaitStrategy.YIELD)
+			{
+				Thread.yield();
+			}
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.CanProcess;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.events.Event;
+import net.objectzoo.events.Event0;
+
+/**
+ * The {@code CanProcessSubscriber} exposes a {@link CanProcess} as a {@link Flow.Subscriber}.
+ * 
+ * Every item received is processed by the process action of the flow. The subscriber requests a
+ * bounded number of items in advance and requests more when half of them have been processed, so
+ * the publisher never has to push more than this prefetch.
+ * 
+ * The completion and the termination of the subscription are sent by the
+ * {@link #completedEvent()} and the {@link #errorEvent()}. If the process action throws an
+ * exception the subscription is cancelled and the exception is sent by the error event.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of items processed
+ */
+public class CanProcessSubscriber<T> implements Flow.Subscriber<T>
+{
+	/** The number of items requested in advance by default */
+	public static final int DEFAULT_PREFETCH = Flow.defaultBufferSize();
+	
+	private final Consumer<? super T> processAction;
+	
+	private final int prefetch;
+	
+	private final int replenishThreshold;
+	
+	private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+	
+	private final CopyOnWriteEvent0Distributor completedEvent = new CopyOnWriteEvent0Distributor();
+	
+	private final CopyOnWriteEventDistributor<Throwable> errorEvent = new CopyOnWriteEventDistributor<>();
+	
+	private final Action0 cancelAction = this::cancel;
+	
+	private int processedCount;
+	
+	/**
+	 * Creates a new {@code CanProcessSubscriber} requesting {@link #DEFAULT_PREFETCH} items in
+	 * advance
+	 * 
+	 * @param flow
+	 *        the flow processing the items
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public CanProcessSubscriber(CanProcess<? super T> flow) throws IllegalArgumentException
+	{
+		this(flow, DEFAULT_PREFETCH);
+	}
+	
+	/**
+	 * Creates a new {@code CanProcessSubscriber}
+	 * 
+	 * @param flow
+	 *        the flow processing the items
+	 * @param prefetch
+	 *        the number of items requested in advance
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null} or the prefetch is less than {@code 1}
+	 */
+	public CanProcessSubscriber(CanProcess<? super T> flow, int prefetch) throws IllegalArgumentException
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		if (prefetch < 1)
+		{
+			throw new IllegalArgumentException("prefetch must be at least 1");
+		}
+		this.processAction = flow.processAction();
+		this.prefetch = prefetch;
+		this.replenishThreshold = prefetch - prefetch / 2;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription newSubscription)
+	{
+		Objects.requireNonNull(newSubscription);
+		
+		if (!subscription.compareAndSet(null, newSubscription))
+		{
+			newSubscription.cancel();
+			return;
+		}
+		newSubscription.request(prefetch);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onNext(T item)
+	{
+		Objects.requireNonNull(item);
+		
+		try
+		{
+			processAction.accept(item);
+		}
+		catch (RuntimeException e)
+		{
+			cancel();
+			errorEvent.accept(e);
+			return;
+		}
+		
+		if (++processedCount >= replenishThreshold)
+		{
+			subscription.get().request(processedCount);
+			processedCount = 0;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onError(Throwable throwable)
+	{
+		Objects.requireNonNull(throwable);
+		
+		errorEvent.accept(throwable);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onComplete()
+	{
+		completedEvent.start();
+	}
+	
+	/**
+	 * This event is signaled when the publisher has completed the subscription
+	 * 
+	 * @return the completed event
+	 */
+	public Event0 completedEvent()
+	{
+		return completedEvent;
+	}
+	
+	/**
+	 * This event sends the error that has terminated the subscription
+	 * 
+	 * @return the error event
+	 */
+	public Event<Throwable> errorEvent()
+	{
+		return errorEvent;
+	}
+	
+	/**
+	 * This action cancels the subscription
+	 * 
+	 * @return the cancel action
+	 */
+	public Action0 cancelAction()
+	{
+		return cancelAction;
+	}
+	
+	private void cancel()
+	{
+		Flow.Subscription currentSubscription = subscription.get();
+		if (currentSubscription != null)
+		{
+			currentSubscription.cancel();
+		}
+	}
+}
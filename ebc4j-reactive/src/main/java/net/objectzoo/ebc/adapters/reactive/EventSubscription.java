@@ -0,0 +1,345 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+import net.objectzoo.events.Event;
+
+/**
+ * A {@link Flow.Subscription} delivering the values sent by an {@link Event} to a
+ * {@link Flow.Subscriber} as demanded. The values received without demand are kept in a bounded
+ * buffer handled according to an {@link OverflowPolicy}.
+ * 
+ * The values are delivered by whatever thread finds demand and buffered values, either the thread
+ * sending a value or the thread requesting, but never concurrently.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of values delivered
+ */
+final class EventSubscription<T> implements Flow.Subscription, Consumer<T>
+{
+	private final Flow.Subscriber<? super T> subscriber;
+	
+	private final Event<T> event;
+	
+	private final int capacity;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final Runnable progressListener;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	
+	private final Condition notFull = lock.newCondition();
+	
+	private final ArrayDeque<T> buffer = new ArrayDeque<>();
+	
+	private final AtomicLong requested = new AtomicLong();
+	
+	private final AtomicInteger drainRequests = new AtomicInteger();
+	
+	private volatile boolean cancelled;
+	
+	private volatile boolean completed;
+	
+	private volatile Throwable error;
+	
+	private volatile long droppedCount;
+	
+	/**
+	 * Creates a new {@code EventSubscription}. The subscription has to be subscribed to the event
+	 * after it has been given to the subscriber.
+	 * 
+	 * @param subscriber
+	 *        the subscriber values are delivered to
+	 * @param event
+	 *        the event sending the values
+	 * @param capacity
+	 *        the number of values buffered
+	 * @param overflowPolicy
+	 *        the policy applied if a value is received while the buffer is full
+	 * @param progressListener
+	 *        invoked after values have been delivered or the subscription has been cancelled
+	 */
+	EventSubscription(Flow.Subscriber<? super T> subscriber, Event<T> event, int capacity,
+					  OverflowPolicy overflowPolicy, Runnable progressListener)
+	{
+		this.subscriber = subscriber;
+		this.event = event;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.progressListener = progressListener;
+	}
+	
+	@Override
+	public void accept(T value)
+	{
+		if (cancelled || !buffer(value))
+		{
+			return;
+		}
+		drain();
+	}
+	
+	private boolean buffer(T value)
+	{
+		lock.lock();
+		try
+		{
+			while (buffer.size() >= capacity)
+			{
+				switch (overflowPolicy)
+				{
+					case BLOCK:
+						awaitSpace();
+						if (cancelled)
+						{
+							return false;
+						}
+						break;
+					case DROP_OLDEST:
+						buffer.poll();
+						droppedCount++;
+						break;
+					case DROP_NEWEST:
+						droppedCount++;
+						return false;
+					default:
+						droppedCount++;
+						error = new RejectedExecutionException("buffer is full");
+						return true;
+				}
+			}
+			buffer.add(value);
+			return true;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	private void awaitSpace()
+	{
+		try
+		{
+			notFull.await();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			droppedCount++;
+			throw new RejectedExecutionException("interrupted while waiting for space in the buffer", e);
+		}
+	}
+	
+	@Override
+	public void request(long n)
+	{
+		if (n <= 0)
+		{
+			error = new IllegalArgumentException("non-positive request signals are illegal: " + n);
+		}
+		else
+		{
+			requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE
+				: current + added);
+		}
+		drain();
+	}
+	
+	@Override
+	public void cancel()
+	{
+		if (cancelled)
+		{
+			return;
+		}
+		cancelled = true;
+		event.unsubscribe(this);
+		
+		lock.lock();
+		try
+		{
+			buffer.clear();
+			notFull.signalAll();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		progressListener.run();
+	}
+	
+	/**
+	 * Completes the subscription after all buffered values have been delivered
+	 */
+	void complete()
+	{
+		completed = true;
+		drain();
+	}
+	
+	/**
+	 * Terminates the subscription with the given error without delivering the buffered values
+	 * 
+	 * @param throwable
+	 *        the error the subscriber is given
+	 */
+	void fail(Throwable throwable)
+	{
+		error = throwable;
+		drain();
+	}
+	
+	/**
+	 * @return {@code true} if the subscription has been cancelled or terminated
+	 */
+	boolean isCancelled()
+	{
+		return cancelled;
+	}
+	
+	/**
+	 * @return the number of values buffered
+	 */
+	int getBufferedCount()
+	{
+		lock.lock();
+		try
+		{
+			return buffer.size();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return the number of values dropped or rejected because the buffer was full
+	 */
+	long getDroppedCount()
+	{
+		return droppedCount;
+	}
+	
+	private void drain()
+	{
+		if (drainRequests.getAndIncrement() != 0)
+		{
+			return;
+		}
+		
+		int missed = 1;
+		do
+		{
+			long delivered = deliver(requested.get());
+			if (delivered < 0)
+			{
+				return;
+			}
+			if (delivered > 0)
+			{
+				requested.accumulateAndGet(delivered, (current, taken) -> current == Long.MAX_VALUE ? current
+					: current - taken);
+				progressListener.run();
+			}
+			missed = drainRequests.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+	
+	private long deliver(long demand)
+	{
+		long delivered = 0;
+		while (true)
+		{
+			if (cancelled)
+			{
+				return -1;
+			}
+			Throwable currentError = error;
+			if (currentError != null)
+			{
+				cancel();
+				subscriber.onError(currentError);
+				return -1;
+			}
+			
+			T value = delivered < demand ? poll() : null;
+			if (value == null)
+			{
+				if (completed && getBufferedCount() == 0)
+				{
+					cancel();
+					subscriber.onComplete();
+					return -1;
+				}
+				return delivered;
+			}
+			
+			try
+			{
+				subscriber.onNext(value);
+			}
+			catch (RuntimeException e)
+			{
+				cancel();
+				throw e;
+			}
+			delivered++;
+		}
+	}
+	
+	private T poll()
+	{
+		lock.lock();
+		try
+		{
+			T value = buffer.poll();
+			if (value != null)
+			{
+				notFull.signal();
+			}
+			return value;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
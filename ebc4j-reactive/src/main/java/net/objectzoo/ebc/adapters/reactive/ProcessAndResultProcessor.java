@@ -0,0 +1,262 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+import net.objectzoo.events.Event;
+
+/**
+ * The {@code ProcessAndResultProcessor} exposes a {@link ProcessAndResultFlow} as a
+ * {@link Flow.Processor}. The items received are processed by the flow and its results are
+ * published to a single subscriber.
+ * 
+ * The results are kept in a bounded buffer until the subscriber requests them. Items are only
+ * requested from the upstream publisher as long as the items outstanding and the results buffered
+ * fit into this buffer. More items are requested when half of the buffer is available again. So a
+ * flow sending at most one result per item never overflows the buffer while a slow subscriber slows
+ * down the upstream publisher. If a flow sends more results the buffer is handled according to the
+ * {@link OverflowPolicy}.
+ * 
+ * The completion and the termination of the upstream subscription are forwarded to the subscriber
+ * and a cancellation by the subscriber is forwarded upstream.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of items processed
+ * @param <R>
+ *        the type of results published
+ */
+public class ProcessAndResultProcessor<T, R> implements Flow.Processor<T, R>
+{
+	private final Consumer<? super T> processAction;
+	
+	private final Event<R> resultEvent;
+	
+	private final int bufferCapacity;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final int replenishThreshold;
+	
+	private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+	
+	private final AtomicReference<EventSubscription<R>> downstream = new AtomicReference<>();
+	
+	private final AtomicLong outstanding = new AtomicLong();
+	
+	private volatile Throwable error;
+	
+	private volatile boolean completed;
+	
+	/**
+	 * Creates a new {@code ProcessAndResultProcessor} buffering
+	 * {@link SendsResultPublisher#DEFAULT_BUFFER_CAPACITY} results and blocking the flow if the
+	 * buffer is full
+	 * 
+	 * @param flow
+	 *        the flow processing the items
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public ProcessAndResultProcessor(ProcessAndResultFlow<? super T, R> flow) throws IllegalArgumentException
+	{
+		this(flow, SendsResultPublisher.DEFAULT_BUFFER_CAPACITY, OverflowPolicy.BLOCK);
+	}
+	
+	/**
+	 * Creates a new {@code ProcessAndResultProcessor}
+	 * 
+	 * @param flow
+	 *        the flow processing the items
+	 * @param bufferCapacity
+	 *        the number of results buffered
+	 * @param overflowPolicy
+	 *        the policy applied if a result is sent while the buffer is full
+	 * @throws IllegalArgumentException
+	 *         if the given flow or overflow policy is {@code null} or the capacity is less than
+	 *         {@code 1}
+	 */
+	public ProcessAndResultProcessor(ProcessAndResultFlow<? super T, R> flow, int bufferCapacity,
+									 OverflowPolicy overflowPolicy) throws IllegalArgumentException
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		if (bufferCapacity < 1)
+		{
+			throw new IllegalArgumentException("bufferCapacity must be at least 1");
+		}
+		if (overflowPolicy == null)
+		{
+			throw new IllegalArgumentException("overflowPolicy=null");
+		}
+		this.processAction = flow.processAction();
+		this.resultEvent = flow.resultEvent();
+		this.bufferCapacity = bufferCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.replenishThreshold = bufferCapacity - bufferCapacity / 2;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+		
+		EventSubscription<R> subscription = new EventSubscription<>(subscriber, resultEvent, bufferCapacity,
+			overflowPolicy, this::requestUpstream);
+		if (!downstream.compareAndSet(null, subscription))
+		{
+			EventSubscription<R> rejected = new EventSubscription<>(subscriber, resultEvent, 1, overflowPolicy,
+				() -> {});
+			subscriber.onSubscribe(rejected);
+			rejected.fail(new IllegalStateException("The processor supports a single subscriber only"));
+			return;
+		}
+		
+		subscriber.onSubscribe(subscription);
+		resultEvent.subscribe(subscription);
+		
+		Throwable currentError = error;
+		if (currentError != null)
+		{
+			subscription.fail(currentError);
+		}
+		else if (completed)
+		{
+			subscription.complete();
+		}
+		requestUpstream();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription subscription)
+	{
+		Objects.requireNonNull(subscription);
+		
+		if (!upstream.compareAndSet(null, subscription))
+		{
+			subscription.cancel();
+			return;
+		}
+		requestUpstream();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onNext(T item)
+	{
+		Objects.requireNonNull(item);
+		
+		outstanding.decrementAndGet();
+		try
+		{
+			processAction.accept(item);
+		}
+		catch (RuntimeException e)
+		{
+			upstream.get().cancel();
+			onError(e);
+			return;
+		}
+		requestUpstream();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onError(Throwable throwable)
+	{
+		Objects.requireNonNull(throwable);
+		
+		error = throwable;
+		EventSubscription<R> subscription = downstream.get();
+		if (subscription != null)
+		{
+			subscription.fail(throwable);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onComplete()
+	{
+		completed = true;
+		EventSubscription<R> subscription = downstream.get();
+		if (subscription != null)
+		{
+			subscription.complete();
+		}
+	}
+	
+	private void requestUpstream()
+	{
+		Flow.Subscription upstreamSubscription = upstream.get();
+		EventSubscription<R> subscription = downstream.get();
+		if (upstreamSubscription == null || subscription == null)
+		{
+			return;
+		}
+		if (subscription.isCancelled())
+		{
+			upstreamSubscription.cancel();
+			return;
+		}
+		
+		long current;
+		long free;
+		do
+		{
+			current = outstanding.get();
+			free = bufferCapacity - subscription.getBufferedCount() - current;
+			if (free <= 0 || (free < replenishThreshold && current > 0))
+			{
+				return;
+			}
+		}
+		while (!outstanding.compareAndSet(current, current + free));
+		
+		upstreamSubscription.request(free);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+import net.objectzoo.events.Event;
+
+/**
+ * The {@code SendsResultPublisher} exposes the results of a {@link SendsResult} as a
+ * {@link Flow.Publisher}.
+ * 
+ * Every {@link Flow.Subscriber} is given the results sent after it has subscribed as far as it has
+ * requested them. The results sent without demand are kept in a bounded buffer per subscriber that
+ * is handled according to an {@link OverflowPolicy}. With {@link OverflowPolicy#BLOCK} the thread
+ * sending the result is blocked until all subscribers have space in their buffers, which
+ * propagates the backpressure into the sending flow. With {@link OverflowPolicy#FAIL} a subscriber
+ * not keeping up is terminated with a {@link java.util.concurrent.RejectedExecutionException}.
+ * 
+ * As an EBC flow does not complete, the subscriptions are completed or terminated by invoking the
+ * {@link #completeAction()} or the {@link #errorAction()}.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of results published
+ */
+public class SendsResultPublisher<T> implements Flow.Publisher<T>
+{
+	/** The number of results buffered per subscriber by default */
+	public static final int DEFAULT_BUFFER_CAPACITY = Flow.defaultBufferSize();
+	
+	private final Event<T> resultEvent;
+	
+	private final int bufferCapacity;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final Set<EventSubscription<T>> subscriptions = ConcurrentHashMap.newKeySet();
+	
+	private volatile Throwable error;
+	
+	private volatile boolean completed;
+	
+	private final Action0 completeAction = this::complete;
+	
+	private final Action<Throwable> errorAction = this::fail;
+	
+	/**
+	 * Creates a new {@code SendsResultPublisher} buffering {@link #DEFAULT_BUFFER_CAPACITY} results
+	 * per subscriber and blocking the sender if a buffer is full
+	 * 
+	 * @param flow
+	 *        the flow whose results are published
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public SendsResultPublisher(SendsResult<T> flow) throws IllegalArgumentException
+	{
+		this(flow, DEFAULT_BUFFER_CAPACITY, OverflowPolicy.BLOCK);
+	}
+	
+	/**
+	 * Creates a new {@code SendsResultPublisher}
+	 * 
+	 * @param flow
+	 *        the flow whose results are published
+	 * @param bufferCapacity
+	 *        the number of results buffered per subscriber
+	 * @param overflowPolicy
+	 *        the policy applied if a result is sent while a buffer is full
+	 * @throws IllegalArgumentException
+	 *         if the given flow or overflow policy is {@code null} or the capacity is less than
+	 *         {@code 1}
+	 */
+	public SendsResultPublisher(SendsResult<T> flow, int bufferCapacity, OverflowPolicy overflowPolicy)
+		throws IllegalArgumentException
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		if (bufferCapacity < 1)
+		{
+			throw new IllegalArgumentException("bufferCapacity must be at least 1");
+		}
+		if (overflowPolicy == null)
+		{
+			throw new IllegalArgumentException("overflowPolicy=null");
+		}
+		this.resultEvent = flow.resultEvent();
+		this.bufferCapacity = bufferCapacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+		
+		EventSubscription<T> subscription = new EventSubscription<>(subscriber, resultEvent, bufferCapacity,
+			overflowPolicy, () -> {});
+		subscriptions.add(subscription);
+		subscriber.onSubscribe(subscription);
+		resultEvent.subscribe(subscription);
+		
+		Throwable currentError = error;
+		if (currentError != null)
+		{
+			subscription.fail(currentError);
+		}
+		else if (completed)
+		{
+			subscription.complete();
+		}
+		removeCancelled();
+	}
+	
+	/**
+	 * This action completes all subscriptions after their buffered results have been delivered.
+	 * Subscribers subscribing afterwards are completed immediately.
+	 * 
+	 * @return the complete action
+	 */
+	public Action0 completeAction()
+	{
+		return completeAction;
+	}
+	
+	/**
+	 * This action terminates all subscriptions with the given error without delivering their
+	 * buffered results. Subscribers subscribing afterwards are terminated immediately.
+	 * 
+	 * @return the error action
+	 */
+	public Action<Throwable> errorAction()
+	{
+		return errorAction;
+	}
+	
+	/**
+	 * Returns the number of subscriptions that have neither been cancelled nor terminated
+	 * 
+	 * @return the number of active subscriptions
+	 */
+	public int getSubscriptionCount()
+	{
+		removeCancelled();
+		return subscriptions.size();
+	}
+	
+	/**
+	 * Returns the number of results dropped or rejected for all active subscriptions because their
+	 * buffers were full
+	 * 
+	 * @return the number of dropped results
+	 */
+	public long getDroppedCount()
+	{
+		long droppedCount = 0;
+		for (EventSubscription<T> subscription : subscriptions)
+		{
+			droppedCount += subscription.getDroppedCount();
+		}
+		return droppedCount;
+	}
+	
+	private void complete()
+	{
+		completed = true;
+		for (EventSubscription<T> subscription : subscriptions)
+		{
+			subscription.complete();
+		}
+		removeCancelled();
+	}
+	
+	private void fail(Throwable throwable)
+	{
+		Objects.requireNonNull(throwable);
+		
+		error = throwable;
+		for (EventSubscription<T> subscription : subscriptions)
+		{
+			subscription.fail(throwable);
+		}
+		removeCancelled();
+	}
+	
+	private void removeCancelled()
+	{
+		subscriptions.removeIf(EventSubscription::isCancelled);
+	}
+}
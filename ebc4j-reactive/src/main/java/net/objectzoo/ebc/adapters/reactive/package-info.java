@@ -0,0 +1,4 @@
+/**
+ * This package contains adapters connecting EBCs to the reactive streams of {@link java.util.concurrent.Flow}.
+ */
+package net.objectzoo.ebc.adapters.reactive;
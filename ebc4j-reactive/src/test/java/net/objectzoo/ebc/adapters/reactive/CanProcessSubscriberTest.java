@@ -0,0 +1,115 @@
+package net.objectzoo.ebc.adapters.reactive;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ProcessBase;
+
+@SuppressWarnings("javadoc")
+public class CanProcessSubscriberTest
+{
+	static class Collector extends ProcessBase<Integer>
+	{
+		final List<Integer> values = new ArrayList<Integer>();
+		
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter < 0)
+			{
+				throw new IllegalArgumentException("negative");
+			}
+			values.add(parameter);
+		}
+	}
+	
+	private final Collector collector = new Collector();
+	
+	private final List<Object> events = new ArrayList<Object>();
+	
+	@Test
+	public void processes_all_items_of_a_publisher()
+	{
+		CanProcessSubscriber<Integer> subscriber = new CanProcessSubscriber<Integer>(collector, 2);
+		subscriber.completedEvent().subscribe(() -> events.add("completed"));
+		try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<Integer>(Runnable::run, 4))
+		{
+			publisher.subscribe(subscriber);
+			for (int i = 0; i < 10; i++)
+			{
+				publisher.submit(i);
+			}
+		}
+		
+		assertThat(collector.values, is(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+		assertThat(events, is(asList((Object) "completed")));
+	}
+	
+	@Test
+	public void requests_prefetch_and_replenishes_after_half_has_been_processed()
+	{
+		CanProcessSubscriber<Integer> subscriber = new CanProcessSubscriber<Integer>(collector, 4);
+		RecordingSubscription subscription = new RecordingSubscription();
+		
+		subscriber.onSubscribe(subscription);
+		
+		assertThat(subscription.requested, is(4L));
+		
+		subscriber.onNext(1);
+		
+		assertThat(subscription.requested, is(4L));
+		
+		subscriber.onNext(2);
+		
+		assertThat(subscription.requested, is(6L));
+	}
+	
+	@Test
+	public void cancels_and_sends_error_if_processing_fails()
+	{
+		CanProcessSubscriber<Integer> subscriber = new CanProcessSubscriber<Integer>(collector);
+		subscriber.errorEvent().subscribe(events::add);
+		RecordingSubscription subscription = new RecordingSubscription();
+		subscriber.onSubscribe(subscription);
+		
+		subscriber.onNext(-1);
+		
+		assertThat(subscription.cancelled, is(true));
+		assertThat(events.get(0) instanceof IllegalArgumentException, is(true));
+	}
+	
+	@Test
+	public void sends_error_of_publisher()
+	{
+		CanProcessSubscriber<Integer> subscriber = new CanProcessSubscriber<Integer>(collector);
+		subscriber.errorEvent().subscribe(events::add);
+		IllegalStateException error = new IllegalStateException();
+		
+		subscriber.onError(error);
+		
+		assertThat(events, is(asList((Object) error)));
+	}
+	
+	@Test
+	public void cancels_second_subscription()
+	{
+		CanProcessSubscriber<Integer> subscriber = new CanProcessSubscriber<Integer>(collector);
+		RecordingSubscription first = new RecordingSubscription();
+		RecordingSubscription second = new RecordingSubscription();
+		
+		subscriber.onSubscribe(first);
+		subscriber.onSubscribe(second);
+		subscriber.cancelAction().start();
+		
+		assertThat(second.cancelled, is(true));
+		assertThat(second.requested, is(0L));
+		assertThat(first.cancelled, is(true));
+	}
+}
@@ -0,0 +1,113 @@
+package net.objectzoo.ebc.adapters.reactive;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+
+@SuppressWarnings("javadoc")
+public class ProcessAndResultProcessorTest
+{
+	static class Describe extends ProcessAndResultBase<Integer, String>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter % 2 == 0)
+			{
+				sendResult("#" + parameter);
+			}
+		}
+	}
+	
+	private final ProcessAndResultProcessor<Integer, String> processor = new ProcessAndResultProcessor<Integer, String>(
+		new Describe(), 4, OverflowPolicy.FAIL);
+	
+	@Test
+	public void processes_items_and_publishes_results()
+	{
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<String>(Long.MAX_VALUE);
+		processor.subscribe(subscriber);
+		try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<Integer>(Runnable::run, 2))
+		{
+			publisher.subscribe(processor);
+			for (int i = 0; i < 8; i++)
+			{
+				publisher.submit(i);
+			}
+		}
+		
+		assertThat(subscriber.items, is(asList("#0", "#2", "#4", "#6")));
+		assertThat(subscriber.completed, is(true));
+	}
+	
+	@Test
+	public void requests_upstream_as_long_as_results_fit_into_the_buffer()
+	{
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<String>(0);
+		RecordingSubscription upstream = new RecordingSubscription();
+		processor.onSubscribe(upstream);
+		
+		assertThat(upstream.requested, is(0L));
+		
+		processor.subscribe(subscriber);
+		
+		assertThat(upstream.requested, is(4L));
+		
+		processor.onNext(0);
+		processor.onNext(2);
+		processor.onNext(4);
+		processor.onNext(6);
+		
+		assertThat(upstream.requested, is(4L));
+		
+		subscriber.subscription.request(2);
+		
+		assertThat(subscriber.items, is(asList("#0", "#2")));
+		assertThat(upstream.requested, is(6L));
+		assertThat(subscriber.error, is((Throwable) null));
+	}
+	
+	@Test
+	public void forwards_cancellation_upstream()
+	{
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<String>(1);
+		RecordingSubscription upstream = new RecordingSubscription();
+		processor.onSubscribe(upstream);
+		processor.subscribe(subscriber);
+		
+		subscriber.subscription.cancel();
+		
+		assertThat(upstream.cancelled, is(true));
+	}
+	
+	@Test
+	public void forwards_error_downstream()
+	{
+		RecordingSubscriber<String> subscriber = new RecordingSubscriber<String>(1);
+		processor.subscribe(subscriber);
+		IllegalStateException error = new IllegalStateException();
+		
+		processor.onError(error);
+		
+		assertThat(subscriber.error, is((Throwable) error));
+	}
+	
+	@Test
+	public void rejects_second_subscriber()
+	{
+		processor.subscribe(new RecordingSubscriber<String>(1));
+		RecordingSubscriber<String> second = new RecordingSubscriber<String>(1);
+		
+		processor.subscribe(second);
+		
+		assertThat(second.error, instanceOf(IllegalStateException.class));
+	}
+}
@@ -0,0 +1,52 @@
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+@SuppressWarnings("javadoc")
+class RecordingSubscriber<T> implements Flow.Subscriber<T>
+{
+	final List<T> items = new CopyOnWriteArrayList<T>();
+	
+	volatile Flow.Subscription subscription;
+	
+	volatile Throwable error;
+	
+	volatile boolean completed;
+	
+	private final long initialRequest;
+	
+	RecordingSubscriber(long initialRequest)
+	{
+		this.initialRequest = initialRequest;
+	}
+	
+	@Override
+	public void onSubscribe(Flow.Subscription newSubscription)
+	{
+		subscription = newSubscription;
+		if (initialRequest > 0)
+		{
+			newSubscription.request(initialRequest);
+		}
+	}
+	
+	@Override
+	public void onNext(T item)
+	{
+		items.add(item);
+	}
+	
+	@Override
+	public void onError(Throwable throwable)
+	{
+		error = throwable;
+	}
+	
+	@Override
+	public void onComplete()
+	{
+		completed = true;
+	}
+}
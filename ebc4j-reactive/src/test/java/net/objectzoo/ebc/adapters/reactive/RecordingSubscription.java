@@ -0,0 +1,23 @@
+package net.objectzoo.ebc.adapters.reactive;
+
+import java.util.concurrent.Flow;
+
+@SuppressWarnings("javadoc")
+class RecordingSubscription implements Flow.Subscription
+{
+	long requested;
+	
+	boolean cancelled;
+	
+	@Override
+	public void request(long n)
+	{
+		requested += n;
+	}
+	
+	@Override
+	public void cancel()
+	{
+		cancelled = true;
+	}
+}
@@ -0,0 +1,213 @@
+package net.objectzoo.ebc.adapters.reactive;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.impl.async.OverflowPolicy;
+
+@SuppressWarnings("javadoc")
+public class SendsResultPublisherTest
+{
+	static class Source extends ResultBase<Integer>
+	{
+		void send(Integer... values)
+		{
+			for (Integer value : values)
+			{
+				sendResult(value);
+			}
+		}
+	}
+	
+	private final Source source = new Source();
+	
+	@Test
+	public void delivers_results_as_requested()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source, 8, OverflowPolicy.FAIL);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(2);
+		publisher.subscribe(subscriber);
+		
+		source.send(1, 2, 3, 4);
+		
+		assertThat(subscriber.items, is(asList(1, 2)));
+		
+		subscriber.subscription.request(1);
+		
+		assertThat(subscriber.items, is(asList(1, 2, 3)));
+		
+		subscriber.subscription.request(Long.MAX_VALUE);
+		source.send(5);
+		
+		assertThat(subscriber.items, is(asList(1, 2, 3, 4, 5)));
+	}
+	
+	@Test
+	public void delivers_to_every_subscriber_independently()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		RecordingSubscriber<Integer> subscriber1 = new RecordingSubscriber<Integer>(1);
+		RecordingSubscriber<Integer> subscriber2 = new RecordingSubscriber<Integer>(3);
+		publisher.subscribe(subscriber1);
+		publisher.subscribe(subscriber2);
+		
+		source.send(1, 2, 3);
+		
+		assertThat(subscriber1.items, is(asList(1)));
+		assertThat(subscriber2.items, is(asList(1, 2, 3)));
+		assertThat(publisher.getSubscriptionCount(), is(2));
+	}
+	
+	@Test
+	public void drops_oldest_results_if_buffer_is_full()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source, 2,
+			OverflowPolicy.DROP_OLDEST);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		
+		source.send(1, 2, 3, 4);
+		subscriber.subscription.request(10);
+		
+		assertThat(subscriber.items, is(asList(3, 4)));
+		assertThat(publisher.getDroppedCount(), is(2L));
+	}
+	
+	@Test
+	public void drops_newest_results_if_buffer_is_full()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source, 2,
+			OverflowPolicy.DROP_NEWEST);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		
+		source.send(1, 2, 3, 4);
+		subscriber.subscription.request(10);
+		
+		assertThat(subscriber.items, is(asList(1, 2)));
+	}
+	
+	@Test
+	public void terminates_subscriber_not_keeping_up_if_failing()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source, 2, OverflowPolicy.FAIL);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		
+		source.send(1, 2, 3);
+		
+		assertThat(subscriber.error, instanceOf(RejectedExecutionException.class));
+		assertThat(publisher.getSubscriptionCount(), is(0));
+	}
+	
+	@Test
+	public void blocks_sender_until_subscriber_requests()
+		throws Exception
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source, 1, OverflowPolicy.BLOCK);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		CountDownLatch sent = new CountDownLatch(1);
+		Thread sender = new Thread(() -> {
+			source.send(1, 2);
+			sent.countDown();
+		});
+		sender.start();
+		
+		assertThat(sent.await(50, TimeUnit.MILLISECONDS), is(false));
+		
+		subscriber.subscription.request(2);
+		
+		assertThat(sent.await(5, TimeUnit.SECONDS), is(true));
+		sender.join();
+		assertThat(subscriber.items, is(asList(1, 2)));
+	}
+	
+	@Test
+	public void completes_after_buffered_results_have_been_delivered()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		source.send(1);
+		
+		publisher.completeAction().start();
+		
+		assertThat(subscriber.completed, is(false));
+		
+		subscriber.subscription.request(1);
+		
+		assertThat(subscriber.items, is(asList(1)));
+		assertThat(subscriber.completed, is(true));
+		assertThat(publisher.getSubscriptionCount(), is(0));
+	}
+	
+	@Test
+	public void completes_subscribers_subscribing_after_completion()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		publisher.completeAction().start();
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		
+		publisher.subscribe(subscriber);
+		
+		assertThat(subscriber.completed, is(true));
+	}
+	
+	@Test
+	public void terminates_subscribers_with_error()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		source.send(1);
+		IllegalStateException error = new IllegalStateException();
+		
+		publisher.errorAction().accept(error);
+		
+		assertThat(subscriber.error, is((Throwable) error));
+		assertThat(subscriber.items, is(Collections.<Integer> emptyList()));
+	}
+	
+	@Test
+	public void cancel_unsubscribes_from_the_flow()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(10);
+		publisher.subscribe(subscriber);
+		
+		subscriber.subscription.cancel();
+		source.send(1);
+		
+		assertThat(subscriber.items, is(Collections.<Integer> emptyList()));
+		assertThat(publisher.getSubscriptionCount(), is(0));
+	}
+	
+	@Test
+	public void non_positive_request_terminates_subscription()
+	{
+		SendsResultPublisher<Integer> publisher = new SendsResultPublisher<Integer>(source);
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>(0);
+		publisher.subscribe(subscriber);
+		
+		subscriber.subscription.request(0);
+		
+		assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void null_flow_is_rejected()
+	{
+		new SendsResultPublisher<Integer>(null);
+	}
+}
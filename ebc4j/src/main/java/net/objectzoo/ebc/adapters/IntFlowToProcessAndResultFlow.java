@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters;
+
+import java.util.function.Consumer;
+
+import net.objectzoo.ebc.IntProcessAndResultFlow;
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.events.Event;
+
+/**
+ * Adapts an {@link IntProcessAndResultFlow} to provide the generic {@link ProcessAndResultFlow}
+ * interface. The process input is unboxed before it is sent to the adapted flow and the results of
+ * the adapted flow are boxed if there are any subscribers to the adapter's result event.
+ * 
+ * @author tilmann
+ */
+public class IntFlowToProcessAndResultFlow implements ProcessAndResultFlow<Integer, Integer>
+{
+	private final IntProcessAndResultFlow flow;
+	
+	private final CopyOnWriteEventDistributor<Integer> resultEvent = new CopyOnWriteEventDistributor<Integer>();
+	
+	private final Consumer<Integer> processAction = this::process;
+	
+	/**
+	 * Creates a new {@code IntFlowToProcessAndResultFlow} adapting the given
+	 * {@link IntProcessAndResultFlow} instance
+	 * 
+	 * @param flow
+	 *        the {@link IntProcessAndResultFlow} to be adapted
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public IntFlowToProcessAndResultFlow(IntProcessAndResultFlow flow)
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		this.flow = flow;
+		flow.resultEvent().subscribe(this::sendResult);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Consumer<Integer> processAction()
+	{
+		return processAction;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Event<Integer> resultEvent()
+	{
+		return resultEvent;
+	}
+	
+	private void process(Integer parameter)
+	{
+		flow.processAction().accept(parameter);
+	}
+	
+	private void sendResult(int result)
+	{
+		if (resultEvent.hasSubscribers())
+		{
+			resultEvent.accept(result);
+		}
+	}
+}
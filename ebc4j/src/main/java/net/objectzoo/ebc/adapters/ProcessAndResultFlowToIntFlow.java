@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters;
+
+import java.util.function.IntConsumer;
+
+import net.objectzoo.ebc.IntProcessAndResultFlow;
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.events.CopyOnWriteIntEventDistributor;
+import net.objectzoo.ebc.events.IntEvent;
+
+/**
+ * Adapts a generic {@link ProcessAndResultFlow} of {@link Integer} values to provide the
+ * {@link IntProcessAndResultFlow} interface. The process input is boxed before it is sent to the
+ * adapted flow and the results of the adapted flow are unboxed.
+ * 
+ * @author tilmann
+ */
+public class ProcessAndResultFlowToIntFlow implements IntProcessAndResultFlow
+{
+	private final ProcessAndResultFlow<? super Integer, Integer> flow;
+	
+	private final CopyOnWriteIntEventDistributor resultEvent = new CopyOnWriteIntEventDistributor();
+	
+	private final IntConsumer processAction = this::process;
+	
+	/**
+	 * Creates a new {@code ProcessAndResultFlowToIntFlow} adapting the given
+	 * {@link ProcessAndResultFlow} instance
+	 * 
+	 * @param flow
+	 *        the {@link ProcessAndResultFlow} to be adapted
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public ProcessAndResultFlowToIntFlow(ProcessAndResultFlow<? super Integer, Integer> flow)
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		this.flow = flow;
+		flow.resultEvent().subscribe(this::sendResult);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntConsumer processAction()
+	{
+		return processAction;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntEvent resultEvent()
+	{
+		return resultEvent;
+	}
+	
+	private void process(int parameter)
+	{
+		flow.processAction().accept(parameter);
+	}
+	
+	private void sendResult(Integer result)
+	{
+		resultEvent.accept(result);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.adapters;
+
+import java.util.function.LongConsumer;
+
+import net.objectzoo.ebc.LongProcessAndResultFlow;
+import net.objectzoo.ebc.ProcessAndResultFlow;
+import net.objectzoo.ebc.events.CopyOnWriteLongEventDistributor;
+import net.objectzoo.ebc.events.LongEvent;
+
+/**
+ * Adapts a generic {@link ProcessAndResultFlow} of {@link Long} values to provide the
+ * {@link LongProcessAndResultFlow} interface. The process input is boxed before it is sent to the
+ * adapted flow and the results of the adapted flow are unboxed.
+ * 
+ * @author tilmann
+ */
+public class ProcessAndResultFlowToLongFlow implements LongProcessAndResultFlow
+{
+	private final ProcessAndResultFlow<? super Long, Long> flow;
+	
+	private final CopyOnWriteLongEventDistributor resultEvent = new CopyOnWriteLongEventDistributor();
+	
+	private final LongConsumer processAction = this::process;
+	
+	/**
+	 * Creates a new {@code ProcessAndResultFlowToLongFlow} adapting the given
+	 * {@link ProcessAndResultFlow} instance
+	 * 
+	 * @param flow
+	 *        the {@link ProcessAndResultFlow} to be adapted
+	 * @throws IllegalArgumentException
+	 *         if the given flow is {@code null}
+	 */
+	public ProcessAndResultFlowToLongFlow(ProcessAndResultFlow<? super Long, Long> flow)
+	{
+		if (flow == null)
+		{
+			throw new IllegalArgumentException("flow=null");
+		}
+		this.flow = flow;
+		flow.resultEvent().subscribe(this::sendResult);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public LongConsumer processAction()
+	{
+		return processAction;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public LongEvent resultEvent()
+	{
+		return resultEvent;
+	}
+	
+	private void process(long parameter)
+	{
+		flow.processAction().accept(parameter);
+	}
+	
+	private void sendResult(Long result)
+	{
+		resultEvent.accept(result);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+
+/**
+ * The {@code AccumulateBatch} collects the single values it processes into batches of a
+ * configurable size. Every time the batch is full it is sent as result and a new batch is started.
+ * A partially filled batch can be sent at any time by invoking the {@link #flushAction()}, e.g. at
+ * the end of the input.
+ * 
+ * The {@code AccumulateBatch} is not thread-safe. It is meant to adapt a flow of single values to an
+ * EBC extending the {@link net.objectzoo.ebc.impl.BatchProcessAndResultBase}.
+ * 
+ * @author tilmann
+ * 
+ * @param <Parameter>
+ *        the type of the values collected into batches
+ */
+public class AccumulateBatch<Parameter> extends ProcessAndResultBase<Parameter, List<Parameter>>
+{
+	private final int batchSize;
+	
+	private List<Parameter> batch;
+	
+	/**
+	 * Creates a new {@code AccumulateBatch}
+	 * 
+	 * @param batchSize
+	 *        the number of values sent in each batch
+	 * @throws IllegalArgumentException
+	 *         if the batch size is not positive
+	 */
+	public AccumulateBatch(int batchSize)
+	{
+		if (batchSize <= 0)
+		{
+			throw new IllegalArgumentException("batchSize=" + batchSize);
+		}
+		this.batchSize = batchSize;
+		this.batch = new ArrayList<Parameter>(batchSize);
+	}
+	
+	private final Action0 flushAction = this::flush;
+	
+	/**
+	 * Provides an {@link Action0} that is used to send the values collected so far as a batch even
+	 * if the batch is not full
+	 * 
+	 * @return the flush action of this EBC
+	 */
+	public Action0 flushAction()
+	{
+		return flushAction;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void process(Parameter parameter)
+	{
+		batch.add(parameter);
+		if (batch.size() >= batchSize)
+		{
+			sendBatch();
+		}
+	}
+	
+	private void flush()
+	{
+		logger.log(logLevel, "receiving flush");
+		
+		if (!batch.isEmpty())
+		{
+			sendBatch();
+		}
+	}
+	
+	private void sendBatch()
+	{
+		List<Parameter> fullBatch = batch;
+		batch = new ArrayList<Parameter>(batchSize);
+		sendResult(fullBatch);
+	}
+	
+	/**
+	 * Retrieve the number of values that have been collected but not sent yet
+	 * 
+	 * @return the number of pending values
+	 */
+	public int getPendingCount()
+	{
+		return batch.size();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.batch;
+
+import java.util.List;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * The {@code SplitBatch} sends every value of the batches it processes as a single result in the
+ * order of the batch. It is meant to adapt an EBC extending the
+ * {@link net.objectzoo.ebc.impl.BatchProcessAndResultBase} to a flow of single values. The trace
+ * logging of the results is done once per batch.
+ * 
+ * @author tilmann
+ * 
+ * @param <Parameter>
+ *        the type of the values in the batches
+ */
+public class SplitBatch<Parameter> extends ProcessAndResultBase<List<Parameter>, Parameter>
+{
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void process(List<Parameter> batch)
+	{
+		LoggingUtils.log(logger, logLevel, "sending results: ", batch);
+		
+		for (Parameter parameter : batch)
+		{
+			resultEvent.accept(parameter);
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains EBCs that convert between flows of single values and flows of batches.
+ */
+package net.objectzoo.ebc.batch;
\ No newline at end of file
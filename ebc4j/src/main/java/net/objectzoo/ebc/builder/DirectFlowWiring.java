@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.function.Consumer;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.events.Event;
+import net.objectzoo.events.Event0;
+
+/**
+ * The {@link FlowWiring} used by the DSL sentences started with {@link Flow}. It makes all
+ * connections immediately by subscribing to the events.
+ * 
+ * @author tilmann
+ */
+final class DirectFlowWiring implements FlowWiring
+{
+	static final DirectFlowWiring INSTANCE = new DirectFlowWiring();
+	
+	private DirectFlowWiring()
+	{
+		// Only the shared instance will be made
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(Object flow)
+	{
+		// Nothing to do if connecting immediately
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> void connect(Event<T> event, Consumer<? super T> consumer)
+	{
+		event.subscribe(consumer);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void connect(Event0 event, Action0 action)
+	{
+		event.subscribe(action);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void connect(Runnable subscription)
+	{
+		subscription.run();
+	}
+}
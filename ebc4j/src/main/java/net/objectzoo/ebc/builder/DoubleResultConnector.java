@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.function.DoubleConsumer;
+
+import net.objectzoo.ebc.CanProcessDouble;
+import net.objectzoo.ebc.DoubleProcessAndResultFlow;
+import net.objectzoo.ebc.SendsDoubleResult;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.events.DoubleEvent;
+
+/**
+ * Instances of this class allow the DSL like definition of EBC flows by attaching the next EBC to a
+ * flow that ended with a {@link SendsDoubleResult} or {@link DoubleEvent}. The {@code double} values are
+ * passed on without boxing until the flow is continued with {@link #thenBoxed()}.
+ * 
+ * @author tilmann
+ */
+public class DoubleResultConnector
+{
+	private DoubleEvent event;
+	
+	private final FlowWiring wiring;
+	
+	DoubleResultConnector(SendsDoubleResult flow)
+	{
+		this(flow.resultEvent());
+	}
+	
+	DoubleResultConnector(DoubleEvent theEvent)
+	{
+		this(theEvent, DirectFlowWiring.INSTANCE);
+	}
+	
+	DoubleResultConnector(SendsDoubleResult flow, FlowWiring wiring)
+	{
+		this(flow.resultEvent(), wiring);
+	}
+	
+	DoubleResultConnector(DoubleEvent theEvent, FlowWiring wiring)
+	{
+		event = theEvent;
+		this.wiring = wiring;
+	}
+	
+	/**
+	 * Attaches a {@link DoubleProcessAndResultFlow} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link DoubleProcessAndResultFlow} to be attached
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector then(DoubleProcessAndResultFlow flow)
+	{
+		then((CanProcessDouble) flow);
+		
+		return new DoubleResultConnector(flow, wiring);
+	}
+	
+	/**
+	 * Attaches a {@link CanProcessDouble} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link CanProcessDouble} to be attached
+	 */
+	public NewFlowConnector then(CanProcessDouble flow)
+	{
+		return then(flow.processAction());
+	}
+	
+	/**
+	 * Attaches a {@link DoubleConsumer} at the end of the current flow
+	 * 
+	 * @param action
+	 *        the {@link DoubleConsumer} to be attached
+	 */
+	public NewFlowConnector then(DoubleConsumer action)
+	{
+		DoubleEvent currentEvent = event;
+		wiring.connect(() -> currentEvent.subscribe(action));
+		
+		return new NewFlowConnector(wiring);
+	}
+	
+	/**
+	 * Continues the current flow with boxed {@link Double} values
+	 * 
+	 * @return a {@link SendsResultConnector} to continue the flow creation with
+	 */
+	public SendsResultConnector<Double> thenBoxed()
+	{
+		CopyOnWriteEventDistributor<Double> boxedEvent = new CopyOnWriteEventDistributor<Double>();
+		
+		then((DoubleConsumer) boxedEvent::accept);
+		
+		return new SendsResultConnector<Double>(boxedEvent, wiring);
+	}
+}
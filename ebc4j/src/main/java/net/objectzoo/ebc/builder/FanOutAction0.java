@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.List;
+
+import net.objectzoo.delegates.Action0;
+
+/**
+ * An {@link Action0} that starts several target actions in the order given. It is used by a
+ * compiled {@link FlowGraph} to connect all targets of an event with a single subscription.
+ * 
+ * @author tilmann
+ */
+final class FanOutAction0 implements Action0
+{
+	private final Action0[] targets;
+	
+	private FanOutAction0(Action0[] targets)
+	{
+		this.targets = targets;
+	}
+	
+	/**
+	 * Creates an {@link Action0} starting the given targets. A single target is returned directly
+	 * and no targets result in an action doing nothing.
+	 * 
+	 * @param targets
+	 *        the targets to be started
+	 * @return the action starting the targets
+	 */
+	static Action0 of(List<Action0> targets)
+	{
+		if (targets.size() == 1)
+		{
+			return targets.get(0);
+		}
+		return new FanOutAction0(targets.toArray(new Action0[targets.size()]));
+	}
+	
+	@Override
+	public void start()
+	{
+		for (int i = 0; i < targets.length; i++)
+		{
+			targets[i].start();
+		}
+	}
+}
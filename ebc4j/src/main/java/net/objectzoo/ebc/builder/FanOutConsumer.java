@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Consumer} that invokes several target consumers in the order given. It is used by a
+ * compiled {@link FlowGraph} to connect all targets of an event with a single subscription.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        the type of the consumed parameter
+ */
+final class FanOutConsumer<T> implements Consumer<T>
+{
+	private final Consumer<? super T>[] targets;
+	
+	private FanOutConsumer(Consumer<? super T>[] targets)
+	{
+		this.targets = targets;
+	}
+	
+	/**
+	 * Creates a {@link Consumer} invoking the given targets. A single target is returned directly
+	 * and no targets result in a consumer doing nothing.
+	 * 
+	 * @param targets
+	 *        the targets to be invoked
+	 * @return the consumer invoking the targets
+	 */
+	static <T> Consumer<T> of(List<Consumer<T>> targets)
+	{
+		if (targets.size() == 1)
+		{
+			return targets.get(0);
+		}
+		return new FanOutConsumer<T>(targets.toArray(FanOutConsumer.<T> newTargetArray(targets.size())));
+	}
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <T> Consumer<T>[] newTargetArray(int size)
+	{
+		return new Consumer[size];
+	}
+	
+	@Override
+	public void accept(T parameter)
+	{
+		for (int i = 0; i < targets.length; i++)
+		{
+			targets[i].accept(parameter);
+		}
+	}
+}
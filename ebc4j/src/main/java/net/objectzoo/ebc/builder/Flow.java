@@ -24,8 +24,14 @@
  */
 package net.objectzoo.ebc.builder;
 
+import net.objectzoo.ebc.SendsDoubleResult;
+import net.objectzoo.ebc.SendsIntResult;
+import net.objectzoo.ebc.SendsLongResult;
 import net.objectzoo.ebc.SendsResult;
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.DoubleEvent;
+import net.objectzoo.ebc.events.IntEvent;
+import net.objectzoo.ebc.events.LongEvent;
 import net.objectzoo.events.Event;
 import net.objectzoo.events.Event0;
 
@@ -93,4 +99,85 @@ public final class Flow
 	{
 		return new SendsSignalConnector(flow);
 	}
+	
+	/**
+	 * The flow started with this method waits for the given {@link IntEvent} and then continues
+	 * with whatever is attached to the returned {@link IntResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link IntEvent} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public static IntResultConnector await(IntEvent event)
+	{
+		return new IntResultConnector(event);
+	}
+	
+	/**
+	 * The flow started with this method waits for the result event of the given
+	 * {@link SendsIntResult} and then continues with whatever is attached to the returned
+	 * {@link IntResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsIntResult} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public static IntResultConnector await(SendsIntResult flow)
+	{
+		return new IntResultConnector(flow);
+	}
+	
+	/**
+	 * The flow started with this method waits for the given {@link LongEvent} and then continues
+	 * with whatever is attached to the returned {@link LongResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link LongEvent} to be waited for
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public static LongResultConnector await(LongEvent event)
+	{
+		return new LongResultConnector(event);
+	}
+	
+	/**
+	 * The flow started with this method waits for the result event of the given
+	 * {@link SendsLongResult} and then continues with whatever is attached to the returned
+	 * {@link LongResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsLongResult} to be waited for
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public static LongResultConnector await(SendsLongResult flow)
+	{
+		return new LongResultConnector(flow);
+	}
+	
+	/**
+	 * The flow started with this method waits for the given {@link DoubleEvent} and then continues
+	 * with whatever is attached to the returned {@link DoubleResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link DoubleEvent} to be waited for
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public static DoubleResultConnector await(DoubleEvent event)
+	{
+		return new DoubleResultConnector(event);
+	}
+	
+	/**
+	 * The flow started with this method waits for the result event of the given
+	 * {@link SendsDoubleResult} and then continues with whatever is attached to the returned
+	 * {@link DoubleResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsDoubleResult} to be waited for
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public static DoubleResultConnector await(SendsDoubleResult flow)
+	{
+		return new DoubleResultConnector(flow);
+	}
 }
@@ -0,0 +1,533 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.SendsDoubleResult;
+import net.objectzoo.ebc.SendsIntResult;
+import net.objectzoo.ebc.SendsLongResult;
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.events.DoubleEvent;
+import net.objectzoo.ebc.events.IntEvent;
+import net.objectzoo.ebc.events.LongEvent;
+import net.objectzoo.ebc.map.MapPairToItem1;
+import net.objectzoo.ebc.map.MapPairToItem2;
+import net.objectzoo.ebc.split.SplitProcess;
+import net.objectzoo.ebc.split.SplitProcessToSignal;
+import net.objectzoo.ebc.split.SplitSignal;
+import net.objectzoo.ebc.util.Pair;
+import net.objectzoo.events.Event;
+import net.objectzoo.events.Event0;
+
+/**
+ * A {@code FlowGraph} is used to start DSL sentences just like the ones started with {@link Flow}.
+ * In contrast to {@link Flow} the connections of the sentences are not made immediately but
+ * recorded. When all sentences of a flow have been recorded the graph is {@link #compile()
+ * compiled} into a fused execution plan:
+ * 
+ * <ul>
+ * <li>The glue EBCs {@link SplitProcess}, {@link SplitProcessToSignal}, {@link SplitSignal},
+ * {@link MapPairToItem1} and {@link MapPairToItem2} are inlined, so chains of glue collapse into a
+ * single composed function.</li>
+ * <li>Each event gets exactly one subscription. If it has a single target this is the target
+ * itself, so the event calls it directly. Otherwise the targets are invoked in the order of their
+ * connection by one fan out subscriber.</li>
+ * </ul>
+ * 
+ * The compiled plan invokes the same actions with the same values in the same order as the
+ * connections made by {@link Flow}. A glue EBC is only inlined if its output events have no
+ * subscribers when the graph is compiled, because these would be bypassed. For the same reason the
+ * output events of inlined glue EBCs must not be subscribed afterwards. The output events are still
+ * connected, so invoking the input action of an inlined glue EBC directly keeps working. The trace
+ * logging of the inlined glue EBCs is skipped.
+ * 
+ * Adapters like {@link net.objectzoo.ebc.adapters.Action0ToAction} are not treated as glue. They
+ * are recorded as the target of a connection and have no output event, so there is no further hop
+ * to collapse and the compiled plan invokes them like any other target.
+ * 
+ * @author tilmann
+ */
+public final class FlowGraph
+{
+	private final List<Connection> connections = new ArrayList<>();
+	
+	private final Recorder recorder = new Recorder();
+	
+	private final Map<Object, Boolean> inlinedFlows = new IdentityHashMap<>();
+	
+	private final Map<Object, Boolean> visitingFlows = new IdentityHashMap<>();
+	
+	private Object registeredFlow;
+	
+	private boolean compiled;
+	
+	private int subscriptionCount;
+	
+	/**
+	 * The sentence started with this method waits for the given {@link Event} and then continues
+	 * with whatever is attached to the returned {@link SendsResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link Event} to be waited for
+	 * @return an {@link SendsResultConnector} to continue the flow creation with
+	 */
+	public <T> SendsResultConnector<T> await(Event<T> event)
+	{
+		return new SendsResultConnector<T>(event, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the result event of the given
+	 * {@link SendsResult} and then continues with whatever is attached to the returned
+	 * {@link SendsResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsResult} to be waited for
+	 * @return an {@link SendsResultConnector} to continue the flow creation with
+	 */
+	public <T> SendsResultConnector<T> await(SendsResult<T> flow)
+	{
+		return new SendsResultConnector<T>(flow, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the given {@link Event0} and then continues
+	 * with whatever is attached to the returned {@link SendsSignalConnector}.
+	 * 
+	 * @param event
+	 *        the {@link Event0} to be waited for
+	 * @return an {@link SendsSignalConnector} to continue the flow creation with
+	 */
+	public SendsSignalConnector await(Event0 event)
+	{
+		return new SendsSignalConnector(event, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the signal event of the given
+	 * {@link SendsSignal} and then continues with whatever is attached to the returned
+	 * {@link SendsSignalConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsSignal} to be waited for
+	 * @return an {@link SendsSignalConnector} to continue the flow creation with
+	 */
+	public SendsSignalConnector await(SendsSignal flow)
+	{
+		return new SendsSignalConnector(flow, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the given {@link IntEvent} and then continues
+	 * with whatever is attached to the returned {@link IntResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link IntEvent} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector await(IntEvent event)
+	{
+		return new IntResultConnector(event, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the result event of the given
+	 * {@link SendsIntResult} and then continues with whatever is attached to the returned
+	 * {@link IntResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsIntResult} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector await(SendsIntResult flow)
+	{
+		return new IntResultConnector(flow, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the given {@link LongEvent} and then
+	 * continues with whatever is attached to the returned {@link LongResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link LongEvent} to be waited for
+	 * @return an {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector await(LongEvent event)
+	{
+		return new LongResultConnector(event, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the result event of the given
+	 * {@link SendsLongResult} and then continues with whatever is attached to the returned
+	 * {@link LongResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsLongResult} to be waited for
+	 * @return an {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector await(SendsLongResult flow)
+	{
+		return new LongResultConnector(flow, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the given {@link DoubleEvent} and then
+	 * continues with whatever is attached to the returned {@link DoubleResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link DoubleEvent} to be waited for
+	 * @return an {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector await(DoubleEvent event)
+	{
+		return new DoubleResultConnector(event, recorder);
+	}
+	
+	/**
+	 * The sentence started with this method waits for the result event of the given
+	 * {@link SendsDoubleResult} and then continues with whatever is attached to the returned
+	 * {@link DoubleResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsDoubleResult} to be waited for
+	 * @return an {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector await(SendsDoubleResult flow)
+	{
+		return new DoubleResultConnector(flow, recorder);
+	}
+	
+	/**
+	 * Compiles the recorded sentences into the fused execution plan and makes the connections.
+	 * 
+	 * @throws IllegalStateException
+	 *         if the graph has already been compiled or the glue EBCs are connected in a cycle
+	 */
+	public void compile()
+	{
+		checkNotCompiled();
+		compiled = true;
+		
+		for (Connection connection : connections)
+		{
+			if (isGlue(connection.flow) && hasNoSubscribers(connection.flow))
+			{
+				inlinedFlows.put(connection.flow, Boolean.TRUE);
+			}
+		}
+		
+		Map<Object, Boolean> connectedSources = new IdentityHashMap<>();
+		for (Connection connection : connections)
+		{
+			if (connection.source == null)
+			{
+				((Runnable) connection.target).run();
+				subscriptionCount++;
+			}
+			else if (connectedSources.put(connection.source, Boolean.TRUE) == null)
+			{
+				connectSource(connection.source);
+			}
+		}
+	}
+	
+	/**
+	 * Query if this graph has already been compiled
+	 * 
+	 * @return {@code true} if {@link #compile()} has been invoked and {@code false} otherwise
+	 */
+	public boolean isCompiled()
+	{
+		return compiled;
+	}
+	
+	/**
+	 * Returns the number of connections recorded by the sentences of this graph
+	 * 
+	 * @return the number of recorded connections
+	 */
+	public int getConnectionCount()
+	{
+		return connections.size();
+	}
+	
+	/**
+	 * Returns the number of glue EBCs that have been inlined by compiling this graph
+	 * 
+	 * @return the number of inlined glue EBCs
+	 */
+	public int getInlinedFlowCount()
+	{
+		return inlinedFlows.size();
+	}
+	
+	/**
+	 * Returns the number of subscriptions that have been made by compiling this graph
+	 * 
+	 * @return the number of subscriptions made
+	 */
+	public int getSubscriptionCount()
+	{
+		return subscriptionCount;
+	}
+	
+	private void checkNotCompiled()
+	{
+		if (compiled)
+		{
+			throw new IllegalStateException("The flow graph has already been compiled");
+		}
+	}
+	
+	private void record(Object source, Object target)
+	{
+		checkNotCompiled();
+		
+		connections.add(new Connection(source, target, registeredFlow));
+		registeredFlow = null;
+	}
+	
+	private static boolean isGlue(Object flow)
+	{
+		if (flow == null)
+		{
+			return false;
+		}
+		Class<?> flowClass = flow.getClass();
+		return flowClass == SplitProcess.class || flowClass == SplitProcessToSignal.class
+			|| flowClass == SplitSignal.class || flowClass == MapPairToItem1.class
+			|| flowClass == MapPairToItem2.class;
+	}
+	
+	private static boolean hasNoSubscribers(Object flow)
+	{
+		if (flow instanceof SendsResult && !hasNoSubscribers(((SendsResult<?>) flow).resultEvent()))
+		{
+			return false;
+		}
+		if (flow instanceof SendsSignal && !hasNoSubscribers(((SendsSignal) flow).signalEvent()))
+		{
+			return false;
+		}
+		return true;
+	}
+	
+	private static boolean hasNoSubscribers(Event<?> event)
+	{
+		return event instanceof CopyOnWriteEventDistributor
+			&& !((CopyOnWriteEventDistributor<?>) event).hasSubscribers();
+	}
+	
+	private static boolean hasNoSubscribers(Event0 event)
+	{
+		return event instanceof CopyOnWriteEvent0Distributor
+			&& !((CopyOnWriteEvent0Distributor) event).hasSubscribers();
+	}
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void connectSource(Object source)
+	{
+		if (source instanceof Event)
+		{
+			List<Consumer<Object>> targets = resolveConsumers(source);
+			if (!targets.isEmpty())
+			{
+				((Event) source).subscribe(FanOutConsumer.of(targets));
+				subscriptionCount++;
+			}
+		}
+		else
+		{
+			List<Action0> targets = resolveActions(source);
+			if (!targets.isEmpty())
+			{
+				((Event0) source).subscribe(FanOutAction0.of(targets));
+				subscriptionCount++;
+			}
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private List<Consumer<Object>> resolveConsumers(Object source)
+	{
+		List<Consumer<Object>> targets = new ArrayList<>();
+		List<Object> directTargets = new ArrayList<>();
+		for (Connection connection : connections)
+		{
+			if (connection.source != source || directTargets.contains(connection.target))
+			{
+				continue;
+			}
+			directTargets.add(connection.target);
+			
+			Object flow = connection.flow;
+			if (!inlinedFlows.containsKey(flow))
+			{
+				targets.add((Consumer<Object>) connection.target);
+				continue;
+			}
+			
+			enterFlow(flow);
+			if (flow instanceof SplitProcess)
+			{
+				targets.addAll(resolveConsumers(((SplitProcess<?>) flow).resultEvent()));
+			}
+			else if (flow instanceof MapPairToItem1)
+			{
+				Consumer<Object> next = FanOutConsumer.of(resolveConsumers(((MapPairToItem1<?>) flow).resultEvent()));
+				targets.add(pair -> next.accept(((Pair<?, ?>) pair).getItem1()));
+			}
+			else if (flow instanceof MapPairToItem2)
+			{
+				Consumer<Object> next = FanOutConsumer.of(resolveConsumers(((MapPairToItem2<?>) flow).resultEvent()));
+				targets.add(pair -> next.accept(((Pair<?, ?>) pair).getItem2()));
+			}
+			else if (flow instanceof SplitProcessToSignal)
+			{
+				SplitProcessToSignal<?> split = (SplitProcessToSignal<?>) flow;
+				List<Consumer<Object>> results = resolveConsumers(split.resultEvent());
+				List<Action0> signals = resolveActions(split.signalEvent());
+				if (signals.isEmpty())
+				{
+					targets.addAll(results);
+				}
+				else
+				{
+					Consumer<Object> result = FanOutConsumer.of(results);
+					Action0 signal = FanOutAction0.of(signals);
+					targets.add(parameter -> {
+						result.accept(parameter);
+						signal.start();
+					});
+				}
+			}
+			else
+			{
+				List<Action0> signals = resolveActions(((SplitSignal) flow).signalEvent());
+				if (!signals.isEmpty())
+				{
+					Action0 signal = FanOutAction0.of(signals);
+					targets.add(parameter -> signal.start());
+				}
+			}
+			leaveFlow(flow);
+		}
+		return targets;
+	}
+	
+	private List<Action0> resolveActions(Object source)
+	{
+		List<Action0> targets = new ArrayList<>();
+		List<Object> directTargets = new ArrayList<>();
+		for (Connection connection : connections)
+		{
+			if (connection.source != source || directTargets.contains(connection.target))
+			{
+				continue;
+			}
+			directTargets.add(connection.target);
+			
+			Object flow = connection.flow;
+			if (!inlinedFlows.containsKey(flow))
+			{
+				targets.add((Action0) connection.target);
+				continue;
+			}
+			
+			enterFlow(flow);
+			targets.addAll(resolveActions(((SplitSignal) flow).signalEvent()));
+			leaveFlow(flow);
+		}
+		return targets;
+	}
+	
+	private void enterFlow(Object flow)
+	{
+		if (visitingFlows.put(flow, Boolean.TRUE) != null)
+		{
+			throw new IllegalStateException("The glue EBC " + flow + " is connected in a cycle");
+		}
+	}
+	
+	private void leaveFlow(Object flow)
+	{
+		visitingFlows.remove(flow);
+	}
+	
+	private static final class Connection
+	{
+		final Object source;
+		
+		final Object target;
+		
+		final Object flow;
+		
+		Connection(Object source, Object target, Object flow)
+		{
+			this.source = source;
+			this.target = target;
+			this.flow = flow;
+		}
+	}
+	
+	private final class Recorder implements FlowWiring
+	{
+		@Override
+		public void register(Object flow)
+		{
+			checkNotCompiled();
+			
+			registeredFlow = flow;
+		}
+		
+		@Override
+		public <T> void connect(Event<T> event, Consumer<? super T> consumer)
+		{
+			record(event, consumer);
+		}
+		
+		@Override
+		public void connect(Event0 event, Action0 action)
+		{
+			record(event, action);
+		}
+		
+		@Override
+		public void connect(Runnable subscription)
+		{
+			record(null, subscription);
+		}
+	}
+}
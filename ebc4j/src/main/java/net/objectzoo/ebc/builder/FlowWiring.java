@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.function.Consumer;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.events.Event;
+import net.objectzoo.events.Event0;
+
+/**
+ * The {@code FlowWiring} is used by the connectors of the DSL to connect the EBCs of a flow. The
+ * connections are either made immediately or recorded by a {@link FlowGraph} to be made when the
+ * graph is compiled.
+ * 
+ * @author tilmann
+ */
+interface FlowWiring
+{
+	/**
+	 * Registers a flow that is going to be connected as target of the following connection
+	 * 
+	 * @param flow
+	 *        the flow to be connected
+	 */
+	void register(Object flow);
+	
+	/**
+	 * Connects the given {@link Consumer} to the given {@link Event}
+	 * 
+	 * @param event
+	 *        the event to be connected
+	 * @param consumer
+	 *        the consumer to be invoked by the event
+	 */
+	<T> void connect(Event<T> event, Consumer<? super T> consumer);
+	
+	/**
+	 * Connects the given {@link Action0} to the given {@link Event0}
+	 * 
+	 * @param event
+	 *        the event to be connected
+	 * @param action
+	 *        the action to be invoked by the event
+	 */
+	void connect(Event0 event, Action0 action);
+	
+	/**
+	 * Makes a connection that is not known to the {@code FlowWiring} by running the given
+	 * subscription
+	 * 
+	 * @param subscription
+	 *        the subscription making the connection
+	 */
+	void connect(Runnable subscription);
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.function.IntConsumer;
+
+import net.objectzoo.ebc.CanProcessInt;
+import net.objectzoo.ebc.IntProcessAndResultFlow;
+import net.objectzoo.ebc.SendsIntResult;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.events.IntEvent;
+
+/**
+ * Instances of this class allow the DSL like definition of EBC flows by attaching the next EBC to a
+ * flow that ended with a {@link SendsIntResult} or {@link IntEvent}. The {@code int} values are
+ * passed on without boxing until the flow is continued with {@link #thenBoxed()}.
+ * 
+ * @author tilmann
+ */
+public class IntResultConnector
+{
+	private IntEvent event;
+	
+	private final FlowWiring wiring;
+	
+	IntResultConnector(SendsIntResult flow)
+	{
+		this(flow.resultEvent());
+	}
+	
+	IntResultConnector(IntEvent theEvent)
+	{
+		this(theEvent, DirectFlowWiring.INSTANCE);
+	}
+	
+	IntResultConnector(SendsIntResult flow, FlowWiring wiring)
+	{
+		this(flow.resultEvent(), wiring);
+	}
+	
+	IntResultConnector(IntEvent theEvent, FlowWiring wiring)
+	{
+		event = theEvent;
+		this.wiring = wiring;
+	}
+	
+	/**
+	 * Attaches an {@link IntProcessAndResultFlow} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link IntProcessAndResultFlow} to be attached
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector then(IntProcessAndResultFlow flow)
+	{
+		then((CanProcessInt) flow);
+		
+		return new IntResultConnector(flow, wiring);
+	}
+	
+	/**
+	 * Attaches a {@link CanProcessInt} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link CanProcessInt} to be attached
+	 */
+	public NewFlowConnector then(CanProcessInt flow)
+	{
+		return then(flow.processAction());
+	}
+	
+	/**
+	 * Attaches an {@link IntConsumer} at the end of the current flow
+	 * 
+	 * @param action
+	 *        the {@link IntConsumer} to be attached
+	 */
+	public NewFlowConnector then(IntConsumer action)
+	{
+		IntEvent currentEvent = event;
+		wiring.connect(() -> currentEvent.subscribe(action));
+		
+		return new NewFlowConnector(wiring);
+	}
+	
+	/**
+	 * Continues the current flow with boxed {@link Integer} values
+	 * 
+	 * @return a {@link SendsResultConnector} to continue the flow creation with
+	 */
+	public SendsResultConnector<Integer> thenBoxed()
+	{
+		CopyOnWriteEventDistributor<Integer> boxedEvent = new CopyOnWriteEventDistributor<Integer>();
+		
+		then((IntConsumer) boxedEvent::accept);
+		
+		return new SendsResultConnector<Integer>(boxedEvent, wiring);
+	}
+}
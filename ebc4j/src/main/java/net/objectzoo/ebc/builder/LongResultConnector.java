@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.builder;
+
+import java.util.function.LongConsumer;
+
+import net.objectzoo.ebc.CanProcessLong;
+import net.objectzoo.ebc.LongProcessAndResultFlow;
+import net.objectzoo.ebc.SendsLongResult;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.events.LongEvent;
+
+/**
+ * Instances of this class allow the DSL like definition of EBC flows by attaching the next EBC to a
+ * flow that ended with a {@link SendsLongResult} or {@link LongEvent}. The {@code long} values are
+ * passed on without boxing until the flow is continued with {@link #thenBoxed()}.
+ * 
+ * @author tilmann
+ */
+public class LongResultConnector
+{
+	private LongEvent event;
+	
+	private final FlowWiring wiring;
+	
+	LongResultConnector(SendsLongResult flow)
+	{
+		this(flow.resultEvent());
+	}
+	
+	LongResultConnector(LongEvent theEvent)
+	{
+		this(theEvent, DirectFlowWiring.INSTANCE);
+	}
+	
+	LongResultConnector(SendsLongResult flow, FlowWiring wiring)
+	{
+		this(flow.resultEvent(), wiring);
+	}
+	
+	LongResultConnector(LongEvent theEvent, FlowWiring wiring)
+	{
+		event = theEvent;
+		this.wiring = wiring;
+	}
+	
+	/**
+	 * Attaches a {@link LongProcessAndResultFlow} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link LongProcessAndResultFlow} to be attached
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector then(LongProcessAndResultFlow flow)
+	{
+		then((CanProcessLong) flow);
+		
+		return new LongResultConnector(flow, wiring);
+	}
+	
+	/**
+	 * Attaches a {@link CanProcessLong} at the end of the current flow
+	 * 
+	 * @param flow
+	 *        the {@link CanProcessLong} to be attached
+	 */
+	public NewFlowConnector then(CanProcessLong flow)
+	{
+		return then(flow.processAction());
+	}
+	
+	/**
+	 * Attaches a {@link LongConsumer} at the end of the current flow
+	 * 
+	 * @param action
+	 *        the {@link LongConsumer} to be attached
+	 */
+	public NewFlowConnector then(LongConsumer action)
+	{
+		LongEvent currentEvent = event;
+		wiring.connect(() -> currentEvent.subscribe(action));
+		
+		return new NewFlowConnector(wiring);
+	}
+	
+	/**
+	 * Continues the current flow with boxed {@link Long} values
+	 * 
+	 * @return a {@link SendsResultConnector} to continue the flow creation with
+	 */
+	public SendsResultConnector<Long> thenBoxed()
+	{
+		CopyOnWriteEventDistributor<Long> boxedEvent = new CopyOnWriteEventDistributor<Long>();
+		
+		then((LongConsumer) boxedEvent::accept);
+		
+		return new SendsResultConnector<Long>(boxedEvent, wiring);
+	}
+}
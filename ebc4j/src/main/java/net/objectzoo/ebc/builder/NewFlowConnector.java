@@ -24,21 +24,29 @@
  */
 package net.objectzoo.ebc.builder;
 
+import net.objectzoo.ebc.SendsDoubleResult;
+import net.objectzoo.ebc.SendsIntResult;
+import net.objectzoo.ebc.SendsLongResult;
 import net.objectzoo.ebc.SendsResult;
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.DoubleEvent;
+import net.objectzoo.ebc.events.IntEvent;
+import net.objectzoo.ebc.events.LongEvent;
 import net.objectzoo.events.Event;
 import net.objectzoo.events.Event0;
 
 /**
- * This class contains some {@code static} methods used to continue a DSL sentence with a new flow
- * of EBCs
+ * This class contains some methods used to continue a DSL sentence with a new flow of EBCs
  * 
  * @author tilmann
  */
 public final class NewFlowConnector
 {
-	NewFlowConnector()
+	private final FlowWiring wiring;
+	
+	NewFlowConnector(FlowWiring wiring)
 	{
+		this.wiring = wiring;
 	}
 	
 	/**
@@ -51,7 +59,7 @@ public final class NewFlowConnector
 	 */
 	public <T> SendsResultConnector<T> await(Event<T> event)
 	{
-		return Flow.await(event);
+		return new SendsResultConnector<T>(event, wiring);
 	}
 	
 	/**
@@ -64,7 +72,7 @@ public final class NewFlowConnector
 	 */
 	public <T> SendsResultConnector<T> await(SendsResult<T> flow)
 	{
-		return Flow.await(flow);
+		return new SendsResultConnector<T>(flow, wiring);
 	}
 	
 	/**
@@ -77,7 +85,7 @@ public final class NewFlowConnector
 	 */
 	public SendsSignalConnector await(Event0 event)
 	{
-		return Flow.await(event);
+		return new SendsSignalConnector(event, wiring);
 	}
 	
 	/**
@@ -90,6 +98,84 @@ public final class NewFlowConnector
 	 */
 	public SendsSignalConnector await(SendsSignal flow)
 	{
-		return Flow.await(flow);
+		return new SendsSignalConnector(flow, wiring);
+	}
+	
+	/**
+	 * Waits for the given {@link IntEvent} and then continues with whatever is attached to the
+	 * returned {@link IntResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link IntEvent} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector await(IntEvent event)
+	{
+		return new IntResultConnector(event, wiring);
+	}
+	
+	/**
+	 * Waits for the result event of the given {@link SendsIntResult} and then continues with
+	 * whatever is attached to the returned {@link IntResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsIntResult} to be waited for
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector await(SendsIntResult flow)
+	{
+		return new IntResultConnector(flow, wiring);
+	}
+	
+	/**
+	 * Waits for the given {@link LongEvent} and then continues with whatever is attached to the
+	 * returned {@link LongResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link LongEvent} to be waited for
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector await(LongEvent event)
+	{
+		return new LongResultConnector(event, wiring);
+	}
+	
+	/**
+	 * Waits for the result event of the given {@link SendsLongResult} and then continues with
+	 * whatever is attached to the returned {@link LongResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsLongResult} to be waited for
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector await(SendsLongResult flow)
+	{
+		return new LongResultConnector(flow, wiring);
+	}
+	
+	/**
+	 * Waits for the given {@link DoubleEvent} and then continues with whatever is attached to the
+	 * returned {@link DoubleResultConnector}.
+	 * 
+	 * @param event
+	 *        the {@link DoubleEvent} to be waited for
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector await(DoubleEvent event)
+	{
+		return new DoubleResultConnector(event, wiring);
+	}
+	
+	/**
+	 * Waits for the result event of the given {@link SendsDoubleResult} and then continues with
+	 * whatever is attached to the returned {@link DoubleResultConnector}.
+	 * 
+	 * @param flow
+	 *        the {@link SendsDoubleResult} to be waited for
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector await(SendsDoubleResult flow)
+	{
+		return new DoubleResultConnector(flow, wiring);
 	}
 }
@@ -25,6 +25,9 @@
 package net.objectzoo.ebc.builder;
 
 import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import net.objectzoo.delegates.Action0;
 import net.objectzoo.ebc.CanProcess;
@@ -35,6 +38,9 @@ import net.objectzoo.ebc.SendsResult;
 import net.objectzoo.ebc.StartAndResultFlow;
 import net.objectzoo.ebc.StartAndSignalFlow;
 import net.objectzoo.ebc.adapters.Action0ToAction;
+import net.objectzoo.ebc.events.CopyOnWriteDoubleEventDistributor;
+import net.objectzoo.ebc.events.CopyOnWriteIntEventDistributor;
+import net.objectzoo.ebc.events.CopyOnWriteLongEventDistributor;
 import net.objectzoo.ebc.split.SplitProcess;
 import net.objectzoo.ebc.split.SplitProcessToSignal;
 import net.objectzoo.events.Event;
@@ -52,14 +58,27 @@ public class SendsResultConnector<T>
 {
 	private Event<T> event;
 	
+	private final FlowWiring wiring;
+	
 	SendsResultConnector(SendsResult<T> flow)
 	{
 		this(flow.resultEvent());
 	}
 	
 	SendsResultConnector(Event<T> theEvent)
+	{
+		this(theEvent, DirectFlowWiring.INSTANCE);
+	}
+	
+	SendsResultConnector(SendsResult<T> flow, FlowWiring wiring)
+	{
+		this(flow.resultEvent(), wiring);
+	}
+	
+	SendsResultConnector(Event<T> theEvent, FlowWiring wiring)
 	{
 		event = theEvent;
+		this.wiring = wiring;
 	}
 	
 	/**
@@ -73,7 +92,7 @@ public class SendsResultConnector<T>
 	{
 		then((CanProcess<? super T>) flow);
 		
-		return new SendsResultConnector<T2>(flow);
+		return new SendsResultConnector<T2>(flow, wiring);
 	}
 	
 	/**
@@ -87,7 +106,7 @@ public class SendsResultConnector<T>
 	{
 		then((CanProcess<? super T>) flow);
 		
-		return new SendsSignalConnector(flow);
+		return new SendsSignalConnector(flow, wiring);
 	}
 	
 	/**
@@ -98,6 +117,8 @@ public class SendsResultConnector<T>
 	 */
 	public NewFlowConnector then(CanProcess<? super T> flow)
 	{
+		wiring.register(flow);
+		
 		return then(flow.processAction());
 	}
 	
@@ -109,9 +130,9 @@ public class SendsResultConnector<T>
 	 */
 	public NewFlowConnector then(Consumer<? super T> action)
 	{
-		event.subscribe(action);
+		wiring.connect(event, action);
 		
-		return new NewFlowConnector();
+		return new NewFlowConnector(wiring);
 	}
 	
 	/**
@@ -125,7 +146,7 @@ public class SendsResultConnector<T>
 	{
 		then((CanStart) flow);
 		
-		return new SendsResultConnector<T2>(flow);
+		return new SendsResultConnector<T2>(flow, wiring);
 	}
 	
 	/**
@@ -139,7 +160,7 @@ public class SendsResultConnector<T>
 	{
 		then((CanStart) flow);
 		
-		return new SendsSignalConnector(flow);
+		return new SendsSignalConnector(flow, wiring);
 	}
 	
 	/**
@@ -150,6 +171,8 @@ public class SendsResultConnector<T>
 	 */
 	public NewFlowConnector then(CanStart flow)
 	{
+		wiring.register(flow);
+		
 		return then(flow.startAction());
 	}
 	
@@ -191,4 +214,55 @@ public class SendsResultConnector<T>
 		
 		return split;
 	}
+	
+	/**
+	 * Continues the current flow with {@code int} values converted by the given function. The
+	 * following steps of the flow receive the values without boxing.
+	 * 
+	 * @param converter
+	 *        the function converting the results of the last step to {@code int} values
+	 * @return an {@link IntResultConnector} to continue the flow creation with
+	 */
+	public IntResultConnector thenToInt(ToIntFunction<? super T> converter)
+	{
+		CopyOnWriteIntEventDistributor convertedEvent = new CopyOnWriteIntEventDistributor();
+		
+		wiring.connect(event, value -> convertedEvent.accept(converter.applyAsInt(value)));
+		
+		return new IntResultConnector(convertedEvent, wiring);
+	}
+	
+	/**
+	 * Continues the current flow with {@code long} values converted by the given function. The
+	 * following steps of the flow receive the values without boxing.
+	 * 
+	 * @param converter
+	 *        the function converting the results of the last step to {@code long} values
+	 * @return a {@link LongResultConnector} to continue the flow creation with
+	 */
+	public LongResultConnector thenToLong(ToLongFunction<? super T> converter)
+	{
+		CopyOnWriteLongEventDistributor convertedEvent = new CopyOnWriteLongEventDistributor();
+		
+		wiring.connect(event, value -> convertedEvent.accept(converter.applyAsLong(value)));
+		
+		return new LongResultConnector(convertedEvent, wiring);
+	}
+	
+	/**
+	 * Continues the current flow with {@code double} values converted by the given function. The
+	 * following steps of the flow receive the values without boxing.
+	 * 
+	 * @param converter
+	 *        the function converting the results of the last step to {@code double} values
+	 * @return a {@link DoubleResultConnector} to continue the flow creation with
+	 */
+	public DoubleResultConnector thenToDouble(ToDoubleFunction<? super T> converter)
+	{
+		CopyOnWriteDoubleEventDistributor convertedEvent = new CopyOnWriteDoubleEventDistributor();
+		
+		wiring.connect(event, value -> convertedEvent.accept(converter.applyAsDouble(value)));
+		
+		return new DoubleResultConnector(convertedEvent, wiring);
+	}
 }
@@ -43,14 +43,27 @@ public class SendsSignalConnector
 {
 	private Event0 event;
 	
+	private final FlowWiring wiring;
+	
 	SendsSignalConnector(SendsSignal flow)
 	{
 		this(flow.signalEvent());
 	}
 	
 	SendsSignalConnector(Event0 theEvent)
+	{
+		this(theEvent, DirectFlowWiring.INSTANCE);
+	}
+	
+	SendsSignalConnector(SendsSignal flow, FlowWiring wiring)
+	{
+		this(flow.signalEvent(), wiring);
+	}
+	
+	SendsSignalConnector(Event0 theEvent, FlowWiring wiring)
 	{
 		event = theEvent;
+		this.wiring = wiring;
 	}
 	
 	/**
@@ -64,7 +77,7 @@ public class SendsSignalConnector
 	{
 		then((CanStart) flow);
 		
-		return new SendsSignalConnector(flow);
+		return new SendsSignalConnector(flow, wiring);
 	}
 	
 	/**
@@ -78,7 +91,7 @@ public class SendsSignalConnector
 	{
 		then((CanStart) flow);
 		
-		return new SendsResultConnector<T>(flow);
+		return new SendsResultConnector<T>(flow, wiring);
 	}
 	
 	/**
@@ -89,6 +102,8 @@ public class SendsSignalConnector
 	 */
 	public NewFlowConnector then(CanStart flow)
 	{
+		wiring.register(flow);
+		
 		return then(flow.startAction());
 	}
 	
@@ -100,9 +115,9 @@ public class SendsSignalConnector
 	 */
 	public NewFlowConnector then(Action0 action)
 	{
-		event.subscribe(action);
+		wiring.connect(event, action);
 		
-		return new NewFlowConnector();
+		return new NewFlowConnector(wiring);
 	}
 	
 	/**
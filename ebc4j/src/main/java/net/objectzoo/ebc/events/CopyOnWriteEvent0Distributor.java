@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.events;
+
+import java.util.Objects;
+
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.events.impl.Event0Delegate;
+
+/**
+ * The {@code CopyOnWriteEvent0Distributor} is a {@link Event0Delegate} implementation that allows
+ * event distribution to multiple subscribers in the order of their subscription.
+ * 
+ * Like the {@link CopyOnWriteEventDistributor} it stores the subscribers in an immutable array
+ * that is replaced on subscription changes so that subscribers may be added and removed safely
+ * while signals are distributed without locking or allocating.
+ * 
+ * @author tilmann
+ */
+public class CopyOnWriteEvent0Distributor implements Event0Delegate
+{
+	private static final Action0[] NO_SUBSCRIBERS = new Action0[0];
+	
+	private volatile Action0[] subscribers = NO_SUBSCRIBERS;
+	
+	/**
+	 * This {@code start} implementation invokes all event subscribers in the order they have been
+	 * subscribed.
+	 */
+	@Override
+	public void start()
+	{
+		Action0[] currentSubscribers = subscribers;
+		for (int i = 0; i < currentSubscribers.length; i++)
+		{
+			currentSubscribers[i].start();
+		}
+	}
+	
+	/**
+	 * Subscribe the given {@link Action0} to this event if it is not already subscribed. This is
+	 * checked using the {@link Object#equals(Object)} of the subscriber.
+	 * 
+	 * @param action
+	 *        the {@link Action0} to be invoked when this event signals
+	 * @throws NullPointerException
+	 *         if the given action is {@code null}
+	 */
+	@Override
+	public void subscribe(Action0 action) throws IllegalArgumentException
+	{
+		Objects.requireNonNull(action);
+		
+		addSubscriber(action);
+	}
+	
+	private synchronized void addSubscriber(Action0 action)
+	{
+		subscribers = SubscriberArrays.add(subscribers, action);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unsubscribe(Action0 action) throws IllegalArgumentException
+	{
+		Objects.requireNonNull(action);
+		
+		removeSubscriber(action);
+	}
+	
+	private synchronized void removeSubscriber(Action0 action)
+	{
+		subscribers = SubscriberArrays.remove(subscribers, action);
+	}
+	
+	/**
+	 * Query if this event has any subscribers
+	 * 
+	 * @return {@code true} if at least one subscriber is subscribed and {@code false} otherwise
+	 */
+	public boolean hasSubscribers()
+	{
+		return subscribers.length > 0;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.events;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import net.objectzoo.events.impl.EventDelegate;
+
+/**
+ * The {@code CopyOnWriteEventDistributor} is a {@link EventDelegate} implementation that allows
+ * event distribution to multiple subscribers in the order of their subscription.
+ * 
+ * The subscribers are stored in an immutable array that is replaced by a changed copy on each
+ * subscription change and published by a {@code volatile} write. Thus subscribers may be added and
+ * removed by any thread while events are distributed: Every distribution invokes exactly the
+ * subscribers that have been present when it started. The distribution itself neither locks nor
+ * allocates.
+ * 
+ * @author tilmann
+ * 
+ * @param <T>
+ *        The type of the information parameter the event provides
+ */
+public class CopyOnWriteEventDistributor<T> implements EventDelegate<T>
+{
+	@SuppressWarnings("rawtypes")
+	private static final Consumer[] NO_SUBSCRIBERS = new Consumer[0];
+	
+	@SuppressWarnings("unchecked")
+	private volatile Consumer<? super T>[] subscribers = NO_SUBSCRIBERS;
+	
+	/**
+	 * This {@code accept} implementation invokes all event subscribers in the order they have been
+	 * subscribed.
+	 * 
+	 * @param parameter
+	 *        the parameter to invoke the subscribers with
+	 */
+	@Override
+	public void accept(T parameter)
+	{
+		Consumer<? super T>[] currentSubscribers = subscribers;
+		for (int i = 0; i < currentSubscribers.length; i++)
+		{
+			currentSubscribers[i].accept(parameter);
+		}
+	}
+	
+	/**
+	 * Subscribe the given {@link Consumer} to this event if it is not already subscribed. This is
+	 * checked using the {@link Object#equals(Object)} of the subscriber.
+	 * 
+	 * @param consumer
+	 *        the {@link Consumer} to be invoked when this event signals
+	 * @throws NullPointerException
+	 *         if the given consumer is {@code null}
+	 */
+	@Override
+	public void subscribe(Consumer<? super T> consumer) throws IllegalArgumentException
+	{
+		Objects.requireNonNull(consumer);
+		
+		addSubscriber(consumer);
+	}
+	
+	private synchronized void addSubscriber(Consumer<? super T> consumer)
+	{
+		subscribers = SubscriberArrays.add(subscribers, consumer);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unsubscribe(Consumer<? super T> consumer) throws IllegalArgumentException
+	{
+		Objects.requireNonNull(consumer);
+		
+		removeSubscriber(consumer);
+	}
+	
+	private synchronized void removeSubscriber(Consumer<? super T> consumer)
+	{
+		subscribers = SubscriberArrays.remove(subscribers, consumer);
+	}
+	
+	/**
+	 * Query if this event has any subscribers
+	 * 
+	 * @return {@code true} if at least one subscriber is subscribed and {@code false} otherwise
+	 */
+	public boolean hasSubscribers()
+	{
+		return subscribers.length > 0;
+	}
+}
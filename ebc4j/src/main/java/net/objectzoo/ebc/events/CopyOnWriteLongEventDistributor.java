@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.events;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * The {@code CopyOnWriteLongEventDistributor} is the {@code long} specialization of the
+ * {@link CopyOnWriteEventDistributor}. It distributes {@code long} values to multiple subscribers
+ * in the order of their subscription without boxing them.
+ * 
+ * @author tilmann
+ */
+public class CopyOnWriteLongEventDistributor implements LongEvent, LongConsumer
+{
+	private static final LongConsumer[] NO_SUBSCRIBERS = new LongConsumer[0];
+	
+	private volatile LongConsumer[] subscribers = NO_SUBSCRIBERS;
+	
+	/**
+	 * This {@code accept} implementation invokes all event subscribers in the order they have been
+	 * subscribed.
+	 * 
+	 * @param parameter
+	 *        the parameter to invoke the subscribers with
+	 */
+	@Override
+	public void accept(long parameter)
+	{
+		LongConsumer[] currentSubscribers = subscribers;
+		for (int i = 0; i < currentSubscribers.length; i++)
+		{
+			currentSubscribers[i].accept(parameter);
+		}
+	}
+	
+	/**
+	 * Subscribe the given {@link LongConsumer} to this event if it is not already subscribed. This is
+	 * checked using the {@link Object#equals(Object)} of the subscriber.
+	 * 
+	 * @param consumer
+	 *        the {@link LongConsumer} to be invoked when this event signals
+	 * @throws NullPointerException
+	 *         if the given consumer is {@code null}
+	 */
+	@Override
+	public void subscribe(LongConsumer consumer)
+	{
+		Objects.requireNonNull(consumer);
+		
+		addSubscriber(consumer);
+	}
+	
+	private synchronized void addSubscriber(LongConsumer consumer)
+	{
+		subscribers = SubscriberArrays.add(subscribers, consumer);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unsubscribe(LongConsumer consumer)
+	{
+		Objects.requireNonNull(consumer);
+		
+		removeSubscriber(consumer);
+	}
+	
+	private synchronized void removeSubscriber(LongConsumer consumer)
+	{
+		subscribers = SubscriberArrays.remove(subscribers, consumer);
+	}
+	
+	/**
+	 * Query if this event has any subscribers
+	 * 
+	 * @return {@code true} if at least one subscriber is subscribed and {@code false} otherwise
+	 */
+	public boolean hasSubscribers()
+	{
+		return subscribers.length > 0;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.events;
+
+import java.util.function.IntConsumer;
+
+/**
+ * The {@code IntEvent} is the {@code int} specialization of an event. It allows to subscribe
+ * {@link IntConsumer}s that are invoked with the {@code int} information parameter of the event
+ * without boxing it.
+ * 
+ * @author tilmann
+ */
+public interface IntEvent
+{
+	/**
+	 * Subscribe the given {@link IntConsumer} to this event
+	 * 
+	 * @param consumer
+	 *        the {@link IntConsumer} to be invoked when this event signals
+	 * @throws NullPointerException
+	 *         if the given consumer is {@code null}
+	 */
+	void subscribe(IntConsumer consumer);
+	
+	/**
+	 * Unsubscribe the given {@link IntConsumer} from this event
+	 * 
+	 * @param consumer
+	 *        the {@link IntConsumer} to be removed from this event's subscribers
+	 * @throws NullPointerException
+	 *         if the given consumer is {@code null}
+	 */
+	void unsubscribe(IntConsumer consumer);
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.events;
+
+import java.util.Arrays;
+
+/**
+ * This helper class contains the copy-on-write operations on the immutable subscriber arrays of
+ * the event distributors. The given arrays are never modified. A changed copy is returned instead.
+ * 
+ * @author tilmann
+ */
+final class SubscriberArrays
+{
+	private SubscriberArrays()
+	{
+		// No instances will be made
+	}
+	
+	/**
+	 * Appends the given subscriber to the given subscribers if it is not already contained. This is
+	 * checked using the {@link Object#equals(Object)} of the subscriber.
+	 * 
+	 * @param subscribers
+	 *        the current subscribers
+	 * @param subscriber
+	 *        the subscriber to be added
+	 * @return a new array containing the subscriber or the given array if it is already contained
+	 */
+	static <SubscriberType> SubscriberType[] add(SubscriberType[] subscribers, SubscriberType subscriber)
+	{
+		if (indexOf(subscribers, subscriber) >= 0)
+		{
+			return subscribers;
+		}
+		
+		SubscriberType[] newSubscribers = Arrays.copyOf(subscribers, subscribers.length + 1);
+		newSubscribers[subscribers.length] = subscriber;
+		return newSubscribers;
+	}
+	
+	/**
+	 * Removes the given subscriber from the given subscribers.
+	 * 
+	 * @param subscribers
+	 *        the current subscribers
+	 * @param subscriber
+	 *        the subscriber to be removed
+	 * @return a new array not containing the subscriber or the given array if it is not contained
+	 */
+	static <SubscriberType> SubscriberType[] remove(SubscriberType[] subscribers, SubscriberType subscriber)
+	{
+		int index = indexOf(subscribers, subscriber);
+		if (index < 0)
+		{
+			return subscribers;
+		}
+		
+		SubscriberType[] newSubscribers = Arrays.copyOf(subscribers, subscribers.length - 1);
+		System.arraycopy(subscribers, index + 1, newSubscribers, index, subscribers.length - index - 1);
+		return newSubscribers;
+	}
+	
+	private static int indexOf(Object[] subscribers, Object subscriber)
+	{
+		for (int i = 0; i < subscribers.length; i++)
+		{
+			if (subscribers[i].equals(subscriber))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains event implementations that are used by the EBC base classes to distribute
+ * actions and events to their subscribers.
+ */
+package net.objectzoo.ebc.events;
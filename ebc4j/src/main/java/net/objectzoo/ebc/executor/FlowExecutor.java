@@ -118,6 +118,20 @@ public class FlowExecutor
 		return startAndReturnResult(flow);
 	}
 	
+	/**
+	 * Creates a new instance of the given flow class using this executor's {@link FlowFactory}
+	 * 
+	 * @param flowClass
+	 *        the {@link Class} of the flow to be created
+	 * @return the newly created flow
+	 * @throws IllegalStateException
+	 *         if the {@link FlowFactory} did not create a flow
+	 */
+	protected <FlowType> FlowType createFlow(Class<FlowType> flowClass)
+	{
+		return FlowExecutorHelpers.createFlow(flowClass, flowCreator);
+	}
+	
 	/**
 	 * Executes the given {@link CanProcess} flow with the given input parameter
 	 * 
@@ -25,7 +25,6 @@
 package net.objectzoo.ebc.executor;
 
 import net.objectzoo.ebc.SendsResult;
-import net.objectzoo.ebc.test.MockAction;
 
 final class FlowExecutorHelpers
 {
@@ -46,14 +45,14 @@ final class FlowExecutorHelpers
 		return flow;
 	}
 	
-	static <OutputParameter> MockAction<OutputParameter> appendResultContainer(SendsResult<OutputParameter> flow)
+	static <OutputParameter> ResultCapture<OutputParameter> appendResultContainer(SendsResult<OutputParameter> flow)
 	{
-		MockAction<OutputParameter> resultContainer = new MockAction<OutputParameter>();
+		ResultCapture<OutputParameter> resultContainer = new ResultCapture<OutputParameter>();
 		flow.resultEvent().subscribe(resultContainer);
 		return resultContainer;
 	}
 	
-	static <OutputParameter> void removeResultContainer(MockAction<OutputParameter> resultContainer,
+	static <OutputParameter> void removeResultContainer(ResultCapture<OutputParameter> resultContainer,
 														SendsResult<OutputParameter> flow)
 	{
 		flow.resultEvent().unsubscribe(resultContainer);
@@ -30,7 +30,6 @@ import static net.objectzoo.ebc.executor.FlowExecutorHelpers.removeResultContain
 import java.util.function.Function;
 
 import net.objectzoo.ebc.ProcessAndResultFlow;
-import net.objectzoo.ebc.test.MockAction;
 
 /**
  * This adapter adapts an {@link ProcessAndResultFlow} to a {@link Function}. It does this by
@@ -38,6 +37,8 @@ import net.objectzoo.ebc.test.MockAction;
  * the last result send after the flow execution before finally unsubscribing from the event again
  * and returning to the caller. Doing so this implementation is inherently not thread save regarding
  * multiple simultaneous execution of the flow and flows that contain asynchronous execution chains.
+ * Flows that are executed repeatedly or by multiple threads should rather be executed by the flow
+ * handles of the {@code net.objectzoo.ebc.executor.async} package which subscribe only once.
  * 
  * @author tilmann
  * 
@@ -68,12 +69,17 @@ public class ProcessAndResultFlowToFunctionAdapter<ProcessParameter, ResultParam
 	@Override
 	public ResultParameter apply(ProcessParameter input)
 	{
-		MockAction<ResultParameter> resultContainer = appendResultContainer(flow);
+		ResultCapture<ResultParameter> resultContainer = appendResultContainer(flow);
 		
-		flow.processAction().accept(input);
+		try
+		{
+			flow.processAction().accept(input);
+		}
+		finally
+		{
+			removeResultContainer(resultContainer, flow);
+		}
 		
-		removeResultContainer(resultContainer, flow);
-		
-		return resultContainer.getLastResult();
+		return resultContainer.getResult();
 	}
 }
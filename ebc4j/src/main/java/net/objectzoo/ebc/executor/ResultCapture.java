@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.executor;
+
+import net.objectzoo.delegates.Action;
+
+/**
+ * This {@link Action} captures the result of a single synchronous flow execution. It replaces the
+ * general purpose {@code MockAction} for this task since it does not need a result list nor
+ * synchronization: It is subscribed, invoked and read by the thread executing the flow only.
+ * 
+ * @author tilmann
+ * 
+ * @param <ResultParameter>
+ *        the result parameter type of the flow
+ */
+final class ResultCapture<ResultParameter> implements Action<ResultParameter>
+{
+	private ResultParameter result;
+	
+	private boolean invoked;
+	
+	/**
+	 * Captures the given result. A flow is expected to send exactly one result per execution so
+	 * further invocations lead to an {@link AssertionError} being thrown.
+	 * 
+	 * @param parameter
+	 *        the result sent by the flow
+	 * @throws AssertionError
+	 *         if a result has already been captured
+	 */
+	@Override
+	public void accept(ResultParameter parameter)
+	{
+		if (invoked)
+		{
+			throw new AssertionError("Unexpected invocation with " + parameter
+				+ " exceeding max invocations allowed 1. Already invoked with " + result);
+		}
+		invoked = true;
+		result = parameter;
+	}
+	
+	/**
+	 * Retrieve the captured result
+	 * 
+	 * @return the captured result
+	 * @throws AssertionError
+	 *         if no result has been captured
+	 */
+	ResultParameter getResult()
+	{
+		if (!invoked)
+		{
+			throw new AssertionError("This result action has not been invoked like expected.");
+		}
+		return result;
+	}
+}
@@ -30,7 +30,6 @@ import static net.objectzoo.ebc.executor.FlowExecutorHelpers.removeResultContain
 import java.util.function.Supplier;
 
 import net.objectzoo.ebc.StartAndResultFlow;
-import net.objectzoo.ebc.test.MockAction;
 
 /**
  * This adapter adapts an {@link StartAndResultFlow} to a {@link Supplier}. It does this by
@@ -38,6 +37,8 @@ import net.objectzoo.ebc.test.MockAction;
  * the last result send after the flow execution before finally unsubscribing from the event again
  * and returning to the caller. Doing so this implementation is inherently not thread save regarding
  * multiple simultaneous execution of the flow and flows that contain asynchronous execution chains.
+ * Flows that are executed repeatedly or by multiple threads should rather be executed by the flow
+ * handles of the {@code net.objectzoo.ebc.executor.async} package which subscribe only once.
  * 
  * @author tilmann
  * 
@@ -63,12 +64,17 @@ public class StartAndResultFlowToSupplierAdapter<ResultParameter> implements
 	@Override
 	public ResultParameter get()
 	{
-		MockAction<ResultParameter> resultContainer = appendResultContainer(flow);
+		ResultCapture<ResultParameter> resultContainer = appendResultContainer(flow);
 		
-		flow.startAction().start();
+		try
+		{
+			flow.startAction().start();
+		}
+		finally
+		{
+			removeResultContainer(resultContainer, flow);
+		}
 		
-		removeResultContainer(resultContainer, flow);
-		
-		return resultContainer.getLastResult();
+		return resultContainer.getResult();
 	}
 }
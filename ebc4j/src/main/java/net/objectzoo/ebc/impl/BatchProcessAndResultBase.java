@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl;
+
+import static net.objectzoo.ebc.builder.Flow.await;
+
+import java.util.List;
+
+import net.objectzoo.ebc.CanProcess;
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * A base class for an EBC that {@link CanProcess} and {@link SendsResult} batches of values.
+ * 
+ * The implementation contains the boilerplate code required to implement the interfaces and
+ * provides trace logging of action and event invocations. In contrast to the
+ * {@link ProcessAndResultBase} a single action invocation, trace log check and event distribution
+ * carries a whole batch of values. Thus the per value overhead of the EBC infrastructure is
+ * amortized over the batch which pays off for EBCs that do only little work per value.
+ * 
+ * To connect flows that send or process single values the
+ * {@link net.objectzoo.ebc.batch.AccumulateBatch} and {@link net.objectzoo.ebc.batch.SplitBatch}
+ * EBCs can be used.
+ * 
+ * @author tilmann
+ * 
+ * @param <ProcessParameter>
+ *        the type of the values in the input batches processed by this EBC
+ * @param <ResultParameter>
+ *        the type of the values in the output batches of this EBC
+ */
+public abstract class BatchProcessAndResultBase<ProcessParameter, ResultParameter> extends
+	ProcessAndResultBoard<List<ProcessParameter>, List<ResultParameter>>
+{
+	/**
+	 * Creates a new {@code BatchProcessAndResultBase}
+	 */
+	public BatchProcessAndResultBase()
+	{
+		await(processAction).then(this::receiveBatch);
+	}
+	
+	private void receiveBatch(List<ProcessParameter> batch)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving batch to process: ", batch);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			processBatch(batch);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, batch, () -> processBatch(batch));
+	}
+	
+	/**
+	 * This method is to be provided by subclasses to actually implement what's taking place when
+	 * the process action is invoked with a batch.
+	 * 
+	 * @param batch
+	 *        the batch of parameter values for the invocation
+	 */
+	protected abstract void processBatch(List<ProcessParameter> batch);
+	
+	/**
+	 * This method can be used by subclasses to send a batch of results.
+	 * 
+	 * @param results
+	 *        the batch of result values for the invocation
+	 */
+	protected void sendResults(List<ResultParameter> results)
+	{
+		LoggingUtils.log(logger, logLevel, "sending results: ", results);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, results);
+		}
+		
+		resultEvent.accept(results);
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.impl;
+
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.objectzoo.ebc.CanProcessInt;
+import net.objectzoo.ebc.IntProcessAndResultFlow;
+import net.objectzoo.ebc.SendsIntResult;
+import net.objectzoo.ebc.events.CopyOnWriteIntEventDistributor;
+import net.objectzoo.ebc.events.IntEvent;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * A base class for an EBC that {@link CanProcessInt} and {@link SendsIntResult}. This is the
+ * {@code int} specialization of {@link ProcessAndResultBase}.
+ * 
+ * The implementation contains the boilerplate code required to implement the interfaces and
+ * provides trace logging of action and event invocations. The process action directly invokes
+ * {@link #process(int)} and the parameters are only boxed for the trace logging if it is enabled.
+ * 
+ * @author tilmann
+ */
+public abstract class IntProcessAndResultBase implements IntProcessAndResultFlow
+{
+	/** The log level used for the trace logging. Defaults to {@link Level#FINEST} */
+	protected Level logLevel = LoggingUtils.DEFAULT_EBC_LOG_LEVEL;
+	
+	/** The logger that can be used for this EBC's logging activities */
+	protected final Logger logger = LoggingUtils.getLogger(this);
+	
+	/**
+	 * This {@link CopyOnWriteIntEventDistributor} can be used by subclasses to send the result
+	 * events
+	 */
+	protected final CopyOnWriteIntEventDistributor resultEvent = new CopyOnWriteIntEventDistributor();
+	
+	private final IntConsumer processAction = this::receiveProcess;
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntConsumer processAction()
+	{
+		return processAction;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntEvent resultEvent()
+	{
+		return resultEvent;
+	}
+	
+	private void receiveProcess(int parameter)
+	{
+		if (logger.isLoggable(logLevel))
+		{
+			LoggingUtils.log(logger, logLevel, "receiving parameter to process: ", parameter);
+		}
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			process(parameter);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, parameter, () -> process(parameter));
+	}
+	
+	/**
+	 * This method is to be provided by subclasses to actually implement what's taking place when
+	 * the process action is invoked.
+	 * 
+	 * @param parameter
+	 *        the parameter value for the invocation
+	 */
+	protected abstract void process(int parameter);
+	
+	/**
+	 * This method can be used by subclasses to send the result.
+	 * 
+	 * @param parameter
+	 *        the parameter value for the invocation
+	 */
+	protected void sendResult(int parameter)
+	{
+		if (logger.isLoggable(logLevel))
+		{
+			LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
+		}
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
+		resultEvent.accept(parameter);
+	}
+}
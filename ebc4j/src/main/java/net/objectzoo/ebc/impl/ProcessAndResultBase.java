@@ -28,6 +28,9 @@ import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanProcess;
 import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 import net.objectzoo.ebc.util.LoggingUtils;
 
 /**
@@ -58,7 +61,14 @@ public abstract class ProcessAndResultBase<ProcessParameter, ResultParameter> ex
 	{
 		LoggingUtils.log(logger, logLevel, "receiving parameter to process: ", parameter);
 		
-		process(parameter);
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			process(parameter);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, parameter, () -> process(parameter));
 	}
 	
 	/**
@@ -80,6 +90,12 @@ public abstract class ProcessAndResultBase<ProcessParameter, ResultParameter> ex
 	{
 		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
 		resultEvent.accept(parameter);
 	}
 }
@@ -27,9 +27,9 @@ package net.objectzoo.ebc.impl;
 import net.objectzoo.ebc.CanProcess;
 import net.objectzoo.ebc.ProcessAndResultFlow;
 import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
 import net.objectzoo.events.Event;
 import net.objectzoo.events.impl.EventDelegate;
-import net.objectzoo.events.impl.EventDistributor;
 
 /**
  * A base class for a board that {@link CanProcess} and {@link SendsResult}.
@@ -50,7 +50,7 @@ public abstract class ProcessAndResultBoard<ProcessParameter, ResultParameter> e
 	/**
 	 * This {@link EventDelegate} can be used by subclasses to send the result events
 	 */
-	protected final EventDelegate<ResultParameter> resultEvent = new EventDistributor<ResultParameter>();
+	protected final EventDelegate<ResultParameter> resultEvent = new CopyOnWriteEventDistributor<ResultParameter>();
 	
 	@Override
 	public Event<ResultParameter> resultEvent()
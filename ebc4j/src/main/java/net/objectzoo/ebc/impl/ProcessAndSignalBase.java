@@ -28,6 +28,9 @@ import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanProcess;
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 import net.objectzoo.ebc.util.LoggingUtils;
 
 /**
@@ -56,7 +59,14 @@ public abstract class ProcessAndSignalBase<ProcessParameter> extends
 	{
 		LoggingUtils.log(logger, logLevel, "receiving parameter to process: ", parameter);
 		
-		process(parameter);
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			process(parameter);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, parameter, () -> process(parameter));
 	}
 	
 	/**
@@ -75,6 +85,12 @@ public abstract class ProcessAndSignalBase<ProcessParameter> extends
 	{
 		logger.log(logLevel, "sending singal");
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.SIGNAL, null);
+		}
+		
 		signalEvent.start();
 	}
 }
@@ -27,9 +27,9 @@ package net.objectzoo.ebc.impl;
 import net.objectzoo.ebc.CanProcess;
 import net.objectzoo.ebc.ProcessAndSignalFlow;
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
 import net.objectzoo.events.Event0;
 import net.objectzoo.events.impl.Event0Delegate;
-import net.objectzoo.events.impl.Event0Distributor;
 import net.objectzoo.events.impl.EventDelegate;
 
 /**
@@ -49,7 +49,7 @@ public abstract class ProcessAndSignalBoard<ProcessParameter> extends ProcessBoa
 	/**
 	 * This {@link Event0Delegate} can be used by subclasses to send the signal event
 	 */
-	protected final Event0Delegate signalEvent = new Event0Distributor();
+	protected final Event0Delegate signalEvent = new CopyOnWriteEvent0Distributor();
 	
 	/**
 	 * {@inheritDoc}
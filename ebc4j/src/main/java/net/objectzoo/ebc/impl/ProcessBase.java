@@ -27,6 +27,9 @@ package net.objectzoo.ebc.impl;
 import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanProcess;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 import net.objectzoo.ebc.util.LoggingUtils;
 
 /**
@@ -54,7 +57,14 @@ public abstract class ProcessBase<ProcessParameter> extends ProcessBoard<Process
 	{
 		LoggingUtils.log(logger, logLevel, "receiving parameter to process: ", parameter);
 		
-		process(parameter);
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			process(parameter);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, parameter, () -> process(parameter));
 	}
 	
 	/**
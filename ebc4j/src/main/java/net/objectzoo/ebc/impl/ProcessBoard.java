@@ -29,9 +29,9 @@ import java.util.logging.Logger;
 
 import net.objectzoo.delegates.Action;
 import net.objectzoo.ebc.CanProcess;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
 import net.objectzoo.ebc.util.LoggingUtils;
 import net.objectzoo.events.impl.EventDelegate;
-import net.objectzoo.events.impl.EventDistributor;
 
 /**
  * A base class for a board that {@link CanProcess}.
@@ -55,7 +55,7 @@ public abstract class ProcessBoard<ProcessParameter> implements CanProcess<Proce
 	/**
 	 * An {@link EventDelegate} that can be used by subclasses to obtain the process actions
 	 */
-	protected final EventDelegate<ProcessParameter> processAction = new EventDistributor<ProcessParameter>();
+	protected final EventDelegate<ProcessParameter> processAction = new CopyOnWriteEventDistributor<ProcessParameter>();
 	
 	/**
 	 * {@inheritDoc}
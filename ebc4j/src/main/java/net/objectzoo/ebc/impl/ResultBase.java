@@ -25,6 +25,9 @@
 package net.objectzoo.ebc.impl;
 
 import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 import net.objectzoo.ebc.util.LoggingUtils;
 
 /**
@@ -50,6 +53,12 @@ public abstract class ResultBase<ResultParameter> extends ResultBoard<ResultPara
 	{
 		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
 		resultEvent.accept(parameter);
 	}
 }
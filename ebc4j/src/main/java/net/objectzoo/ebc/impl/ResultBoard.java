@@ -28,10 +28,10 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
 import net.objectzoo.ebc.util.LoggingUtils;
 import net.objectzoo.events.Event;
 import net.objectzoo.events.impl.EventDelegate;
-import net.objectzoo.events.impl.EventDistributor;
 
 /**
  * A base class for a board that {@link SendsResult}.
@@ -55,7 +55,7 @@ public abstract class ResultBoard<ResultParameter> implements SendsResult<Result
 	/**
 	 * This {@link EventDelegate} can be used by subclasses to send the result events
 	 */
-	protected final EventDelegate<ResultParameter> resultEvent = new EventDistributor<ResultParameter>();
+	protected final EventDelegate<ResultParameter> resultEvent = new CopyOnWriteEventDistributor<ResultParameter>();
 	
 	/**
 	 * {@inheritDoc}
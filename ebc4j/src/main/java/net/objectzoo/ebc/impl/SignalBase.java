@@ -25,6 +25,9 @@
 package net.objectzoo.ebc.impl;
 
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 
 /**
  * A base class for an EBC that {@link SendsSignal}.
@@ -43,6 +46,12 @@ public abstract class SignalBase extends SignalBoard
 	{
 		logger.log(logLevel, "sending singal");
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.SIGNAL, null);
+		}
+		
 		signalEvent.start();
 	}
 }
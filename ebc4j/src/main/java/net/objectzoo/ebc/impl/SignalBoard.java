@@ -28,10 +28,10 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
 import net.objectzoo.ebc.util.LoggingUtils;
 import net.objectzoo.events.Event0;
 import net.objectzoo.events.impl.Event0Delegate;
-import net.objectzoo.events.impl.Event0Distributor;
 
 /**
  * A base class for a board that {@link SendsSignal}.
@@ -52,7 +52,7 @@ public abstract class SignalBoard implements SendsSignal
 	/**
 	 * This {@link Event0Delegate} can be used by subclasses to send the signal event
 	 */
-	protected final Event0Delegate signalEvent = new Event0Distributor();
+	protected final Event0Delegate signalEvent = new CopyOnWriteEvent0Distributor();
 	
 	/**
 	 * {@inheritDoc}
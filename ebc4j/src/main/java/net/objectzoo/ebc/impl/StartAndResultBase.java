@@ -28,6 +28,9 @@ import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanStart;
 import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 import net.objectzoo.ebc.util.LoggingUtils;
 
 /**
@@ -56,7 +59,14 @@ public abstract class StartAndResultBase<ResultParameter> extends
 	{
 		logger.log(logLevel, "receiving start");
 		
-		start();
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			start();
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.START, null, this::start);
 	}
 	
 	/**
@@ -75,6 +85,12 @@ public abstract class StartAndResultBase<ResultParameter> extends
 	{
 		LoggingUtils.log(logger, logLevel, "sending result: ", parameter);
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.RESULT, parameter);
+		}
+		
 		resultEvent.accept(parameter);
 	}
 }
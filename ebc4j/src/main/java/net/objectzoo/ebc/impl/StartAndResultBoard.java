@@ -27,9 +27,9 @@ package net.objectzoo.ebc.impl;
 import net.objectzoo.ebc.CanStart;
 import net.objectzoo.ebc.SendsResult;
 import net.objectzoo.ebc.StartAndResultFlow;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
 import net.objectzoo.events.Event;
 import net.objectzoo.events.impl.EventDelegate;
-import net.objectzoo.events.impl.EventDistributor;
 
 /**
  * A base class for a board that {@link CanStart} and {@link SendsResult}.
@@ -48,7 +48,7 @@ public abstract class StartAndResultBoard<ResultParameter> extends StartBoard im
 	/**
 	 * This {@link EventDelegate} can be used by subclasses to send the result events
 	 */
-	protected final EventDelegate<ResultParameter> resultEvent = new EventDistributor<ResultParameter>();
+	protected final EventDelegate<ResultParameter> resultEvent = new CopyOnWriteEventDistributor<ResultParameter>();
 	
 	/**
 	 * {@inheritDoc}
@@ -28,6 +28,9 @@ import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanStart;
 import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 
 /**
  * A base class for an EBC that {@link CanStart} and {@link SendsSignal}.
@@ -51,7 +54,14 @@ public abstract class StartAndSignalBase extends StartAndSignalBoard
 	{
 		logger.log(logLevel, "receiving start");
 		
-		start();
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			start();
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.START, null, this::start);
 	}
 	
 	/**
@@ -67,6 +77,12 @@ public abstract class StartAndSignalBase extends StartAndSignalBoard
 	{
 		logger.log(logLevel, "sending singal");
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer != null)
+		{
+			observer.sent(this, DispatchKind.SIGNAL, null);
+		}
+		
 		signalEvent.start();
 	}
 }
@@ -27,9 +27,9 @@ package net.objectzoo.ebc.impl;
 import net.objectzoo.ebc.CanStart;
 import net.objectzoo.ebc.SendsSignal;
 import net.objectzoo.ebc.StartAndSignalFlow;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
 import net.objectzoo.events.Event0;
 import net.objectzoo.events.impl.Event0Delegate;
-import net.objectzoo.events.impl.Event0Distributor;
 
 /**
  * A base class for a board that {@link CanStart} and {@link SendsSignal}.
@@ -44,7 +44,7 @@ public abstract class StartAndSignalBoard extends StartBoard implements StartAnd
 	/**
 	 * This {@link Event0Delegate} can be used by subclasses to send the signal event
 	 */
-	protected final Event0Delegate signalEvent = new Event0Distributor();
+	protected final Event0Delegate signalEvent = new CopyOnWriteEvent0Distributor();
 	
 	/**
 	 * {@inheritDoc}
@@ -27,6 +27,9 @@ package net.objectzoo.ebc.impl;
 import static net.objectzoo.ebc.builder.Flow.await;
 
 import net.objectzoo.ebc.CanStart;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
 
 /**
  * A base class for an EBC that {@link CanStart}.
@@ -50,7 +53,14 @@ public abstract class StartBase extends StartBoard
 	{
 		logger.log(logLevel, "receiving start");
 		
-		start();
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			start();
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.START, null, this::start);
 	}
 	
 	/**
@@ -29,9 +29,9 @@ import java.util.logging.Logger;
 
 import net.objectzoo.delegates.Action0;
 import net.objectzoo.ebc.CanStart;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
 import net.objectzoo.ebc.util.LoggingUtils;
 import net.objectzoo.events.impl.Event0Delegate;
-import net.objectzoo.events.impl.Event0Distributor;
 
 /**
  * A base class for a board that {@link CanStart}.
@@ -52,7 +52,7 @@ public abstract class StartBoard implements CanStart
 	/**
 	 * An {@link Event0Delegate} that can be used by subclasses to obtain the start actions
 	 */
-	protected final Event0Delegate startAction = new Event0Distributor();
+	protected final Event0Delegate startAction = new CopyOnWriteEvent0Distributor();
 	
 	/**
 	 * {@inheritDoc}
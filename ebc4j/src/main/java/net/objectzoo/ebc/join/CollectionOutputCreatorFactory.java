@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@code CollectionOutputCreatorFactory} is used to create the {@link JoinOutputCreator}s that
+ * join collection inputs element-wise. It is used to implement different strategies of creating the
+ * output elements, e.g. sequentially or in parallel.
+ * 
+ * @author tilmann
+ */
+public interface CollectionOutputCreatorFactory
+{
+	/**
+	 * Creates a new {@link JoinOutputCreator} joining two input collections to an output list in the
+	 * way of {@link CollectionsOutputCreator}
+	 * 
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the newly created Join output creator
+	 */
+	<Input1Element, Input2Element, OutputElement> JoinOutputCreator<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>> createCollectionsOutputCreator(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator);
+	
+	/**
+	 * Creates a new {@link JoinOutputCreator} joining an input object and an input collection to an
+	 * output list in the way of {@link ObjectAndCollectionOutputCreator}
+	 * 
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the newly created Join output creator
+	 */
+	<Input1, Input2Element, OutputElement> JoinOutputCreator<Input1, Collection<Input2Element>, List<OutputElement>> createObjectAndCollectionOutputCreator(JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator);
+}
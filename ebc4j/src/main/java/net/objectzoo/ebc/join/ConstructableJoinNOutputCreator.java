@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/**
+ * This {@link JoinNOutputCreator} implementation creates the output by invoking the given
+ * {@link Constructor} with the input values as arguments. The constructor is bound to a
+ * {@link MethodHandle} spreading the input array once at construction time, so the creation of an
+ * output neither copies the input array nor performs reflective access checks.
+ * 
+ * @author tilmann
+ * 
+ * @param <Output>
+ *        the type of output of this Join output creator
+ */
+public class ConstructableJoinNOutputCreator<Output> implements JoinNOutputCreator<Output>
+{
+	private static final MethodType CREATE_OUTPUT_TYPE = MethodType.methodType(Object.class, Object[].class);
+	
+	private final Constructor<? extends Output> outputConstructor;
+	
+	private final MethodHandle constructorHandle;
+	
+	/**
+	 * Crates a new {@code ConstructableJoinNOutputCreator} using the given {@link Constructor} to
+	 * create output values. If given input values do not fit the constructor signature an
+	 * {@link IllegalArgumentException} is thrown during the invocation of
+	 * {@link #createOutput(Object[])}.
+	 * 
+	 * @param outputConstructor
+	 *        the constructor used to create the output values
+	 * @throws IllegalArgumentException
+	 *         if the given constructor is {@code null} or cannot be accessed
+	 */
+	public ConstructableJoinNOutputCreator(Constructor<? extends Output> outputConstructor)
+	{
+		if (outputConstructor == null)
+		{
+			throw new IllegalArgumentException("outputConstructor=null");
+		}
+		
+		this.outputConstructor = outputConstructor;
+		try
+		{
+			outputConstructor.setAccessible(true);
+			this.constructorHandle = MethodHandles.lookup().unreflectConstructor(outputConstructor)
+				.asSpreader(Object[].class, outputConstructor.getParameterTypes().length)
+				.asType(CREATE_OUTPUT_TYPE);
+		}
+		catch (IllegalAccessException | RuntimeException e)
+		{
+			throw new IllegalArgumentException("Could not bind constructor " + outputConstructor, e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * This method can be called to create an output element by invoking the output element
+	 * constructor given at construction time with the given input values.
+	 * 
+	 * @param inputs
+	 *        the parameters for the constructor call
+	 * @return the newly created output element
+	 * @throws IllegalArgumentException
+	 *         if the construction of the output element fails
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Output createOutput(Object[] inputs)
+	{
+		try
+		{
+			return (Output) (Object) constructorHandle.invokeExact(inputs);
+		}
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			throw new IllegalArgumentException("Could not create output object using constructor "
+				+ outputConstructor, e);
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * This {@link JoinOutputCreator} implementation creates the output by invoking the given
+ * {@link Constructor} through a {@link JoinOutputCreator} that is generated once at construction
+ * time using the {@link LambdaMetafactory}. In contrast to the {@link ConstructableOutputCreator}
+ * the creation of an output therefore is a regular constructor call without the reflective access
+ * checks, the argument array allocation and the exception wrapping of
+ * {@link Constructor#newInstance(Object...)}.
+ * 
+ * Only constructors of public classes can be bound this way. Since the creator is generated in the
+ * class loader of ebc4j the output class and the constructor's parameter types must also be
+ * visible from that class loader, which is not the case e.g. for classes of plugins or web
+ * applications loaded by a child class loader. Use
+ * {@link #forConstructor(Constructor)} to obtain a {@code GeneratedOutputCreator} if possible and a
+ * {@link ConstructableOutputCreator} as fallback otherwise.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of input one of this Join output creator
+ * @param <Input2>
+ *        the type of input two of this Join output creator
+ * @param <Output>
+ *        the type of output of this Join output creator
+ */
+public class GeneratedOutputCreator<Input1, Input2, Output> implements JoinOutputCreator<Input1, Input2, Output>
+{
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(JoinOutputCreator.class);
+	
+	private static final MethodType CREATE_OUTPUT_TYPE = MethodType.methodType(Object.class, Object.class,
+		Object.class);
+	
+	private final Constructor<? extends Output> outputConstructor;
+	
+	private final JoinOutputCreator<Object, Object, Object> generatedCreator;
+	
+	/**
+	 * Creates a new {@code GeneratedOutputCreator} binding the given {@link Constructor}. The given
+	 * constructor's parameter values are not checked against the input value types of this
+	 * {@link JoinOutputCreator}. If given input values do not fit the constructor signature an
+	 * {@link IllegalArgumentException} is thrown during the invocation of
+	 * {@link #createOutput(Object, Object)}.
+	 * 
+	 * @param outputConstructor
+	 *        the constructor used to create the output values
+	 * @throws IllegalArgumentException
+	 *         if the given constructor is {@code null} or cannot be bound
+	 */
+	public GeneratedOutputCreator(Constructor<? extends Output> outputConstructor)
+	{
+		if (outputConstructor == null)
+		{
+			throw new IllegalArgumentException("outputConstructor=null");
+		}
+		
+		this.outputConstructor = outputConstructor;
+		this.generatedCreator = generateCreator(outputConstructor);
+	}
+	
+	/**
+	 * Creates a {@link JoinOutputCreator} that invokes the given {@link Constructor}. This is a
+	 * {@code GeneratedOutputCreator} if the constructor can be bound and a
+	 * {@link ConstructableOutputCreator} otherwise.
+	 * 
+	 * @param outputConstructor
+	 *        the constructor used to create the output values
+	 * @return the output creator for the given constructor
+	 * @throws IllegalArgumentException
+	 *         if the given constructor is {@code null}
+	 */
+	public static <Input1, Input2, Output> JoinOutputCreator<Input1, Input2, Output> forConstructor(Constructor<? extends Output> outputConstructor)
+	{
+		if (outputConstructor == null)
+		{
+			throw new IllegalArgumentException("outputConstructor=null");
+		}
+		
+		if (isBindable(outputConstructor))
+		{
+			try
+			{
+				return new GeneratedOutputCreator<Input1, Input2, Output>(outputConstructor);
+			}
+			catch (IllegalArgumentException e)
+			{
+				// fall back to reflection below
+			}
+		}
+		return new ConstructableOutputCreator<Input1, Input2, Output>(outputConstructor);
+	}
+	
+	private static boolean isBindable(Constructor<?> constructor)
+	{
+		if (!Modifier.isPublic(constructor.getModifiers()) || constructor.getParameterTypes().length != 2)
+		{
+			return false;
+		}
+		for (Class<?> type = constructor.getDeclaringClass(); type != null; type = type.getEnclosingClass())
+		{
+			if (!Modifier.isPublic(type.getModifiers()))
+			{
+				return false;
+			}
+		}
+		if (!isVisible(constructor.getDeclaringClass()))
+		{
+			return false;
+		}
+		for (Class<?> parameterType : constructor.getParameterTypes())
+		{
+			if (!isVisible(parameterType))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static boolean isVisible(Class<?> type)
+	{
+		while (type.isArray())
+		{
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive())
+		{
+			return true;
+		}
+		try
+		{
+			return Class.forName(type.getName(), false, GeneratedOutputCreator.class.getClassLoader()) == type;
+		}
+		catch (ClassNotFoundException e)
+		{
+			return false;
+		}
+		catch (LinkageError e)
+		{
+			return false;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static JoinOutputCreator<Object, Object, Object> generateCreator(Constructor<?> outputConstructor)
+	{
+		if (!isBindable(outputConstructor))
+		{
+			throw new IllegalArgumentException("The constructor " + outputConstructor
+				+ " is not a public constructor of a public class visible to ebc4j taking two arguments.");
+		}
+		
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle constructorHandle = lookup.unreflectConstructor(outputConstructor);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "createOutput", FACTORY_TYPE,
+				CREATE_OUTPUT_TYPE, constructorHandle, constructorHandle.type());
+			
+			return (JoinOutputCreator<Object, Object, Object>) callSite.getTarget().invoke();
+		}
+		catch (Throwable e)
+		{
+			throw new IllegalArgumentException("Could not bind constructor " + outputConstructor, e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * This method can be called to create an output element by invoking the output element
+	 * constructor given at construction time with the given input parameter values.
+	 * 
+	 * @param input1
+	 *        the input1 parameter for the constructor call
+	 * @param input2
+	 *        the input2 parameter for the constructor call
+	 * @return the newly created output element
+	 * @throws IllegalArgumentException
+	 *         if the construction of the output element fails
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Output createOutput(Input1 input1, Input2 input2)
+	{
+		try
+		{
+			return (Output) generatedCreator.createOutput(input1, input2);
+		}
+		catch (RuntimeException e)
+		{
+			throw new IllegalArgumentException("Could not create output object using constructor "
+				+ outputConstructor, e);
+		}
+	}
+}
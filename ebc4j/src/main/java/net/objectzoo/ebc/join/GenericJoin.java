@@ -221,7 +221,7 @@ public abstract class GenericJoin<Input1, Input2, Output> extends Join<Input1, I
 	private void initOutputCreator(Constructor<? extends Output> outputConstructor)
 	{
 		JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
-		outputCreator = new ConstructableOutputCreator<Input1, Input2, Output>(outputConstructor);
+		outputCreator = GeneratedOutputCreator.<Input1, Input2, Output> forConstructor(outputConstructor);
 		
 		setOutputCreator(outputCreator);
 	}
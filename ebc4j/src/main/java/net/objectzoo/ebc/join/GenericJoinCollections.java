@@ -50,6 +50,9 @@ import net.objectzoo.ebc.state.StateFactory;
  * 
  * To manually reset the Join the {@link #resetAction()} can be invoked.
  * 
+ * If both input collections are sorted by key the Join can be created with {@link SortMergeKeys}.
+ * Then the elements are not joined by position but merged by key.
+ * 
  * To use this Join create a (possibly anonymous) subclass that specifies concrete type parameters.
  * 
  * @author tilmann
@@ -205,6 +208,184 @@ public abstract class GenericJoinCollections<Input1Element, Input2Element, Outpu
 		initOutputElementCreator(outputElementType);
 	}
 	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output element determined
+	 * from this Join's output element type by taking a constructor that has the fitting parameter
+	 * types for this Join's input element types. The input elements are merged by key and both
+	 * input collections must be sorted by key.
+	 * 
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @throws IllegalArgumentException
+	 *         if the keys are {@code null} or the output element type does not have a fitting
+	 *         constructor
+	 */
+	public GenericJoinCollections(SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		super();
+		initOutputElementCreator(keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output element determined
+	 * from this Join's output element type by taking a constructor that has the fitting parameter
+	 * types for this Join's input element types. The input elements are merged by key and both
+	 * input collections must be sorted by key.
+	 * 
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the keys are {@code null} or the output element type does not have a fitting
+	 *         constructor
+	 */
+	public GenericJoinCollections(SortMergeKeys<?, Input1Element, Input2Element> keys, boolean resetAfterResultEvent)
+	{
+		super(resetAfterResultEvent);
+		initOutputElementCreator(keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output element determined
+	 * from this Join's output element type by taking a constructor that has the fitting parameter
+	 * types for this Join's input element types. The input elements are merged by key and both
+	 * input collections must be sorted by key.
+	 * 
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @throws IllegalArgumentException
+	 *         if the keys are {@code null} or the output element type does not have a fitting
+	 *         constructor
+	 */
+	public GenericJoinCollections(SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory)
+	{
+		super(stateFactory);
+		initOutputElementCreator(keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output element determined
+	 * from this Join's output element type by taking a constructor that has the fitting parameter
+	 * types for this Join's input element types. The input elements are merged by key and both
+	 * input collections must be sorted by key.
+	 * 
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the keys are {@code null} or the output element type does not have a fitting
+	 *         constructor
+	 */
+	public GenericJoinCollections(SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory,
+								  boolean resetAfterResultEvent)
+	{
+		super(stateFactory, resetAfterResultEvent);
+		initOutputElementCreator(keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output elements
+	 * determined from the given type by taking a constructor that has the fitting parameter types
+	 * for this Join's input element types. The input elements are merged by key and both input
+	 * collections must be sorted by key.
+	 * 
+	 * @param outputElementType
+	 *        the type of the output elements actually constructed in this Join
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @throws IllegalArgumentException
+	 *         if the output element type or the keys are {@code null} or the output element type
+	 *         does not have a fitting constructor
+	 */
+	public GenericJoinCollections(Class<? extends OutputElement> outputElementType,
+								  SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		super();
+		initOutputElementCreator(outputElementType, keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output elements
+	 * determined from the given type by taking a constructor that has the fitting parameter types
+	 * for this Join's input element types. The input elements are merged by key and both input
+	 * collections must be sorted by key.
+	 * 
+	 * @param outputElementType
+	 *        the type of the output elements actually constructed in this Join
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the output element type or the keys are {@code null} or the output element type
+	 *         does not have a fitting constructor
+	 */
+	public GenericJoinCollections(Class<? extends OutputElement> outputElementType,
+								  SortMergeKeys<?, Input1Element, Input2Element> keys, boolean resetAfterResultEvent)
+	{
+		super(resetAfterResultEvent);
+		initOutputElementCreator(outputElementType, keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output elements
+	 * determined from the given type by taking a constructor that has the fitting parameter types
+	 * for this Join's input element types. The input elements are merged by key and both input
+	 * collections must be sorted by key.
+	 * 
+	 * @param outputElementType
+	 *        the type of the output elements actually constructed in this Join
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @throws IllegalArgumentException
+	 *         if the output element type or the keys are {@code null} or the output element type
+	 *         does not have a fitting constructor
+	 */
+	public GenericJoinCollections(Class<? extends OutputElement> outputElementType,
+								  SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory)
+	{
+		super(stateFactory);
+		initOutputElementCreator(outputElementType, keys);
+	}
+	
+	/**
+	 * Initializes this {@code JoinCollections} with a constructor for the output elements
+	 * determined from the given type by taking a constructor that has the fitting parameter types
+	 * for this Join's input element types. The input elements are merged by key and both input
+	 * collections must be sorted by key.
+	 * 
+	 * @param outputElementType
+	 *        the type of the output elements actually constructed in this Join
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the output element type or the keys are {@code null} or the output element type
+	 *         does not have a fitting constructor
+	 */
+	public GenericJoinCollections(Class<? extends OutputElement> outputElementType,
+								  SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory,
+								  boolean resetAfterResultEvent)
+	{
+		super(stateFactory, resetAfterResultEvent);
+		initOutputElementCreator(outputElementType, keys);
+	}
+	
 	private void initOutputElementCreator(Class<? extends OutputElement> outputElementType)
 	{
 		Constructor<? extends OutputElement> outputElementConstructor;
@@ -225,9 +406,37 @@ public abstract class GenericJoinCollections<Input1Element, Input2Element, Outpu
 	private void initOutputElementCreator(Constructor<? extends OutputElement> outputConstructor)
 	{
 		JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> outputElementCreator;
-		outputElementCreator = new ConstructableOutputCreator<Input1Element, Input2Element, OutputElement>(
+		outputElementCreator = GeneratedOutputCreator.<Input1Element, Input2Element, OutputElement> forConstructor(
 			outputConstructor);
 		
 		initOutputElementCreator(outputElementCreator);
 	}
+	
+	private void initOutputElementCreator(Class<? extends OutputElement> outputElementType,
+										  SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		Constructor<? extends OutputElement> outputElementConstructor;
+		outputElementConstructor = GenericOutputConstructorUtils.<OutputElement> findOutputConstructor(getClass(),
+			outputElementType);
+		
+		initOutputElementCreator(outputElementConstructor, keys);
+	}
+	
+	private void initOutputElementCreator(SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		Constructor<? extends OutputElement> outputElementConstructor;
+		outputElementConstructor = GenericOutputConstructorUtils.<OutputElement> findOutputConstructor(getClass());
+		
+		initOutputElementCreator(outputElementConstructor, keys);
+	}
+	
+	private void initOutputElementCreator(Constructor<? extends OutputElement> outputConstructor,
+										  SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> outputElementCreator;
+		outputElementCreator = GeneratedOutputCreator.<Input1Element, Input2Element, OutputElement> forConstructor(
+			outputConstructor);
+		
+		initOutputElementCreator(outputElementCreator, keys);
+	}
 }
@@ -226,7 +226,7 @@ public abstract class GenericJoinObjectAndCollection<Input1, Input2Element, Outp
 	private void initOutputElementCreator(Constructor<? extends OutputElement> outputElementConstructor)
 	{
 		JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> outputElementCreator;
-		outputElementCreator = new ConstructableOutputCreator<Input1, Input2Element, OutputElement>(
+		outputElementCreator = GeneratedOutputCreator.<Input1, Input2Element, OutputElement> forConstructor(
 			outputElementConstructor);
 		
 		initOutputElementCreator(outputElementCreator);
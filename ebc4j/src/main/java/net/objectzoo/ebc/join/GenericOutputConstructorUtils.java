@@ -36,7 +36,8 @@ import java.lang.reflect.Constructor;
  * The types of the generic type parameters are used to determine a fitting constructor using
  * {@link Class#getGenericSuperclass()}. This approach will only work if the implementing class has
  * defined concrete type parameters. This must be ensured by making all {@link Join} subclasses that
- * do not specify concrete classes for the type parameters abstract.
+ * do not specify concrete classes for the type parameters abstract. For keyed Joins the first type
+ * parameter is the key type followed by the input and output types.
  * 
  * @author tilmann
  */
@@ -70,4 +71,41 @@ class GenericOutputConstructorUtils
 		return findConstructorWithParameters(outputType, input1Type, input2Type);
 	}
 	
+	static <Output> Constructor<? extends Output> findOutputConstructor(Class<?> genericJoinType, int inputCount)
+	{
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Class<Output> outputType = (Class) getRawGenericSuperTypeArgument(genericJoinType, inputCount);
+		
+		return findOutputConstructor(genericJoinType, inputCount, outputType);
+	}
+	
+	static <Output> Constructor<? extends Output> findOutputConstructor(Class<?> genericJoinType, int inputCount,
+																		Class<? extends Output> outputType)
+	{
+		Class<?>[] inputTypes = new Class<?>[inputCount];
+		for (int i = 0; i < inputCount; i++)
+		{
+			inputTypes[i] = getRawGenericSuperTypeArgument(genericJoinType, i);
+		}
+		
+		return findConstructorWithParameters(outputType, inputTypes);
+	}
+	
+	static <Output> Constructor<? extends Output> findKeyedOutputConstructor(Class<?> genericKeyedJoinType)
+	{
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Class<Output> outputType = (Class) getRawGenericSuperTypeArgument(genericKeyedJoinType, 3);
+		
+		return findKeyedOutputConstructor(genericKeyedJoinType, outputType);
+	}
+	
+	static <Output> Constructor<? extends Output> findKeyedOutputConstructor(Class<?> genericKeyedJoinType,
+																			 Class<? extends Output> outputType)
+	{
+		Class<?> input1Type = getRawGenericSuperTypeArgument(genericKeyedJoinType, 1);
+		Class<?> input2Type = getRawGenericSuperTypeArgument(genericKeyedJoinType, 2);
+		
+		return findOutputConstructor(input1Type, input2Type, outputType);
+	}
+	
 }
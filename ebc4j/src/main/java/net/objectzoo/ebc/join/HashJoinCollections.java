@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import net.objectzoo.ebc.state.StateFactory;
+
+/**
+ * This Join class joins two input collections of the input element types to a collection of the
+ * output element type by matching their elements by key using a {@link HashJoinOutputCreator}. The
+ * class implements the boilerplate code required to provide two input actions and a result event
+ * as well as trace logging of value input and send results. In contrast to the
+ * {@link JoinCollections} the elements are not joined by their position in the input collections
+ * but by equal keys, so the input collections do not need to be sorted or aligned. Depending on the
+ * {@link KeyJoinType} elements without a match are dropped or joined with {@code null}.
+ * 
+ * The Join waits for every input to be set at least once before creating a result event. Once both
+ * inputs have been set an output is created and sent. After that there are two different modes of
+ * operation depending on the {@code resetAfterResultEvent} parameter setting.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code true} (which is the default) then after each
+ * result event the two input values are reset and the procedure to wait for both inputs starts from
+ * the beginning.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code false} then for each following single input
+ * invocation a new output is created and sent until the Join is manually reset again. If reset the
+ * procedure to wait for both inputs starts from the beginning.
+ * 
+ * To manually reset the Join the {@link #resetAction()} can be invoked.
+ * 
+ * @author tilmann
+ * 
+ * @param <Key>
+ *        the type of the keys used to match the input elements
+ * @param <Input1Element>
+ *        the type of input one's elements
+ * @param <Input2Element>
+ *        the type of input two's elements
+ * @param <OutputElement>
+ *        the type of the output's elements
+ */
+public class HashJoinCollections<Key, Input1Element, Input2Element, OutputElement> extends
+	Join<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>>
+{
+	/**
+	 * Creates a new {@code HashJoinCollections} using the given {@link JoinOutputCreator} to join
+	 * the input elements with equal keys to the output element.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public HashJoinCollections(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+							   Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+							   JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+							   KeyJoinType joinType)
+	{
+		super();
+		initOutputElementCreator(input1KeyExtractor, input2KeyExtractor, elementOutputCreator, joinType);
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinCollections} using the given {@link JoinOutputCreator} to join
+	 * the input elements with equal keys to the output element.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public HashJoinCollections(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+							   Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+							   JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+							   KeyJoinType joinType, boolean resetAfterResultEvent)
+	{
+		super(resetAfterResultEvent);
+		initOutputElementCreator(input1KeyExtractor, input2KeyExtractor, elementOutputCreator, joinType);
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinCollections} using the given {@link JoinOutputCreator} to join
+	 * the input elements with equal keys to the output element.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @throws IllegalArgumentException
+	 *         if any of the given key extractors, output creator or join type is {@code null}
+	 */
+	public HashJoinCollections(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+							   Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+							   JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+							   KeyJoinType joinType, StateFactory stateFactory)
+	{
+		super(stateFactory);
+		initOutputElementCreator(input1KeyExtractor, input2KeyExtractor, elementOutputCreator, joinType);
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinCollections} using the given {@link JoinOutputCreator} to join
+	 * the input elements with equal keys to the output element.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if any of the given key extractors, output creator or join type is {@code null}
+	 */
+	public HashJoinCollections(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+							   Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+							   JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+							   KeyJoinType joinType, StateFactory stateFactory, boolean resetAfterResultEvent)
+	{
+		super(stateFactory, resetAfterResultEvent);
+		initOutputElementCreator(input1KeyExtractor, input2KeyExtractor, elementOutputCreator, joinType);
+	}
+	
+	HashJoinCollections()
+	{
+		super();
+	}
+	
+	HashJoinCollections(boolean resetAfterResultEvent)
+	{
+		super(resetAfterResultEvent);
+	}
+	
+	HashJoinCollections(StateFactory stateFactory)
+	{
+		super(stateFactory);
+	}
+	
+	HashJoinCollections(StateFactory stateFactory, boolean resetAfterResultEvent)
+	{
+		super(stateFactory, resetAfterResultEvent);
+	}
+	
+	void initOutputElementCreator(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+								  Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+								  JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+								  KeyJoinType joinType)
+	{
+		setOutputCreator(new HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement>(
+			input1KeyExtractor, input2KeyExtractor, elementOutputCreator, joinType));
+	}
+	
+}
@@ -0,0 +1,408 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This {@link JoinOutputCreator} implementation takes two input {@link Collection}s and creates an
+ * output {@link List} with one output value for every pair of elements that have equal keys. In
+ * contrast to the {@link CollectionsOutputCreator} the input collections do not need to be sorted or
+ * aligned by position.
+ * 
+ * The keys are obtained by the key extractors given for both inputs and compared by their
+ * {@code equals} and {@code hashCode} methods. The output creator builds a hash index on the
+ * smaller input collection and probes it with every element of the larger one, so joining is done
+ * in O(n+m) instead of comparing every pair of elements. If several elements on both sides share a
+ * key an output element is created for every combination of them.
+ * 
+ * The {@link KeyJoinType} determines whether elements without a match are kept. For these the
+ * element output creator receives {@code null} in place of the missing element. The output elements
+ * of matched pairs are created in the order of the larger input collection, the ones of unmatched
+ * elements of the smaller input collection follow grouped by key in order of first occurrence.
+ * 
+ * @author tilmann
+ * 
+ * @param <Key>
+ *        the type of the keys used to match the input elements
+ * @param <Input1Element>
+ *        the element type of the input collection one of this Join output creator
+ * @param <Input2Element>
+ *        the element type of the input collection two of this Join output creator
+ * @param <OutputElement>
+ *        the element type of the output list of this Join output creator
+ */
+public class HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> implements
+	JoinOutputCreator<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>>
+{
+	/**
+	 * The elements of the indexed input collection sharing one key. To save allocations the index
+	 * holds single elements directly and only uses a bucket for duplicate keys, for {@code null}
+	 * elements or to mark an element of an outer join as matched.
+	 */
+	private static final class Bucket
+	{
+		private final Object first;
+		
+		private List<Object> more;
+		
+		private boolean matched;
+		
+		Bucket(Object first)
+		{
+			this.first = first;
+		}
+		
+		void add(Object element)
+		{
+			if (more == null)
+			{
+				more = new ArrayList<Object>(2);
+			}
+			more.add(element);
+		}
+		
+		int size()
+		{
+			return more == null ? 1 : more.size() + 1;
+		}
+		
+		Object get(int index)
+		{
+			return index == 0 ? first : more.get(index - 1);
+		}
+	}
+	
+	private final Function<? super Input1Element, ? extends Key> input1KeyExtractor;
+	
+	private final Function<? super Input2Element, ? extends Key> input2KeyExtractor;
+	
+	private final JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
+	private final KeyJoinType joinType;
+	
+	/**
+	 * Creates a new {@code HashJoinOutputCreator} that uses the given {@link JoinOutputCreator} to
+	 * join the input elements with equal keys to the output element type.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public HashJoinOutputCreator(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+								 Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+								 JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+								 KeyJoinType joinType)
+	{
+		if (input1KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input1KeyExtractor=null");
+		}
+		if (input2KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input2KeyExtractor=null");
+		}
+		if (elementOutputCreator == null)
+		{
+			throw new IllegalArgumentException("elementOutputCreator=null");
+		}
+		if (joinType == null)
+		{
+			throw new IllegalArgumentException("joinType=null");
+		}
+		this.input1KeyExtractor = input1KeyExtractor;
+		this.input2KeyExtractor = input2KeyExtractor;
+		this.elementOutputCreator = elementOutputCreator;
+		this.joinType = joinType;
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinOutputCreator} performing an {@link KeyJoinType#INNER} join.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the new output creator
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public static <Key, Input1Element, Input2Element, OutputElement> HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> inner(
+		Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+		Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+		JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement>(input1KeyExtractor,
+			input2KeyExtractor, elementOutputCreator, KeyJoinType.INNER);
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinOutputCreator} performing a {@link KeyJoinType#LEFT_OUTER} join.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the new output creator
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public static <Key, Input1Element, Input2Element, OutputElement> HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> leftOuter(
+		Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+		Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+		JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement>(input1KeyExtractor,
+			input2KeyExtractor, elementOutputCreator, KeyJoinType.LEFT_OUTER);
+	}
+	
+	/**
+	 * Creates a new {@code HashJoinOutputCreator} performing a {@link KeyJoinType#FULL_OUTER} join.
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the new output creator
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public static <Key, Input1Element, Input2Element, OutputElement> HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> fullOuter(
+		Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+		Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+		JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new HashJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement>(input1KeyExtractor,
+			input2KeyExtractor, elementOutputCreator, KeyJoinType.FULL_OUTER);
+	}
+	
+	/**
+	 * Retrieve the {@link KeyJoinType} of this output creator
+	 * 
+	 * @return the join type
+	 */
+	public KeyJoinType getJoinType()
+	{
+		return joinType;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<OutputElement> createOutput(Collection<Input1Element> input1, Collection<Input2Element> input2)
+	{
+		List<OutputElement> output = new ArrayList<OutputElement>(Math.max(input1.size(), input2.size()));
+		
+		if (input1.size() <= input2.size())
+		{
+			joinProbingInput2(input1, input2, output);
+		}
+		else
+		{
+			joinProbingInput1(input1, input2, output);
+		}
+		
+		return output;
+	}
+	
+	private void joinProbingInput2(Collection<Input1Element> input1, Collection<Input2Element> input2,
+								   List<OutputElement> output)
+	{
+		Map<Key, Object> index = buildIndex(input1, input1KeyExtractor);
+		
+		for (Input2Element element2 : input2)
+		{
+			Key key = input2KeyExtractor.apply(element2);
+			Object entry = index.get(key);
+			if (entry instanceof Bucket)
+			{
+				Bucket bucket = (Bucket) entry;
+				bucket.matched = true;
+				for (int i = 0; i < bucket.size(); i++)
+				{
+					output.add(elementOutputCreator.createOutput(HashJoinOutputCreator.<Input1Element> element(bucket.get(i)),
+						element2));
+				}
+			}
+			else if (entry != null)
+			{
+				markMatched(index, key, entry);
+				output.add(elementOutputCreator.createOutput(HashJoinOutputCreator.<Input1Element> element(entry), element2));
+			}
+			else if (joinType == KeyJoinType.FULL_OUTER)
+			{
+				output.add(elementOutputCreator.createOutput(null, element2));
+			}
+		}
+		
+		if (joinType != KeyJoinType.INNER)
+		{
+			for (Object entry : index.values())
+			{
+				for (Object element1 : unmatchedElements(entry))
+				{
+					output.add(elementOutputCreator.createOutput(HashJoinOutputCreator.<Input1Element> element(element1),
+						null));
+				}
+			}
+		}
+	}
+	
+	private void joinProbingInput1(Collection<Input1Element> input1, Collection<Input2Element> input2,
+								   List<OutputElement> output)
+	{
+		Map<Key, Object> index = buildIndex(input2, input2KeyExtractor);
+		
+		for (Input1Element element1 : input1)
+		{
+			Key key = input1KeyExtractor.apply(element1);
+			Object entry = index.get(key);
+			if (entry instanceof Bucket)
+			{
+				Bucket bucket = (Bucket) entry;
+				bucket.matched = true;
+				for (int i = 0; i < bucket.size(); i++)
+				{
+					output.add(elementOutputCreator.createOutput(element1,
+						HashJoinOutputCreator.<Input2Element> element(bucket.get(i))));
+				}
+			}
+			else if (entry != null)
+			{
+				markMatched(index, key, entry);
+				output.add(elementOutputCreator.createOutput(element1, HashJoinOutputCreator.<Input2Element> element(entry)));
+			}
+			else if (joinType != KeyJoinType.INNER)
+			{
+				output.add(elementOutputCreator.createOutput(element1, null));
+			}
+		}
+		
+		if (joinType == KeyJoinType.FULL_OUTER)
+		{
+			for (Object entry : index.values())
+			{
+				for (Object element2 : unmatchedElements(entry))
+				{
+					output.add(elementOutputCreator.createOutput(null,
+						HashJoinOutputCreator.<Input2Element> element(element2)));
+				}
+			}
+		}
+	}
+	
+	private <Element> Map<Key, Object> buildIndex(Collection<Element> input,
+												  Function<? super Element, ? extends Key> keyExtractor)
+	{
+		Map<Key, Object> index = joinType == KeyJoinType.INNER
+			? new HashMap<Key, Object>(capacityFor(input.size()))
+			: new LinkedHashMap<Key, Object>(capacityFor(input.size()));
+		
+		for (Element element : input)
+		{
+			Key key = keyExtractor.apply(element);
+			Object entry = index.get(key);
+			if (entry == null)
+			{
+				index.put(key, element != null ? element : new Bucket(null));
+			}
+			else if (entry instanceof Bucket)
+			{
+				((Bucket) entry).add(element);
+			}
+			else
+			{
+				Bucket bucket = new Bucket(entry);
+				bucket.add(element);
+				index.put(key, bucket);
+			}
+		}
+		
+		return index;
+	}
+	
+	private void markMatched(Map<Key, Object> index, Key key, Object entry)
+	{
+		if (joinType != KeyJoinType.INNER)
+		{
+			Bucket bucket = new Bucket(entry);
+			bucket.matched = true;
+			index.put(key, bucket);
+		}
+	}
+	
+	private static List<Object> unmatchedElements(Object entry)
+	{
+		if (!(entry instanceof Bucket))
+		{
+			return Collections.singletonList(entry);
+		}
+		
+		Bucket bucket = (Bucket) entry;
+		if (bucket.matched)
+		{
+			return Collections.emptyList();
+		}
+		
+		List<Object> elements = new ArrayList<Object>(bucket.size());
+		for (int i = 0; i < bucket.size(); i++)
+		{
+			elements.add(bucket.get(i));
+		}
+		return elements;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <Element> Element element(Object entry)
+	{
+		return (Element) entry;
+	}
+	
+	private static int capacityFor(int size)
+	{
+		return (int) Math.min(Integer.MAX_VALUE, size * 4L / 3 + 1);
+	}
+}
@@ -24,9 +24,15 @@
  */
 package net.objectzoo.ebc.join;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import net.objectzoo.delegates.Action;
 import net.objectzoo.delegates.Action0;
 import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.state.AtomicState;
 import net.objectzoo.ebc.state.BasicStateFactory;
 import net.objectzoo.ebc.state.State;
 import net.objectzoo.ebc.state.StateFactory;
@@ -52,8 +58,18 @@ import net.objectzoo.ebc.util.LoggingUtils;
  * 
  * To manually reset the Join the {@link #resetAction()} can be invoked.
  * 
+ * If an input is received again before the other input has been set the previous value is
+ * overwritten without ever being part of an output. These lost inputs are counted and can be
+ * retrieved by {@link #getOverwrittenCount()}. To pair every input in order of arrival instead the
+ * {@code QueuedJoin} of the ebc4j-async module can be used.
+ * 
  * To actually create the output an instance of {@link JoinOutputCreator} is used.
  * 
+ * If the {@link StateFactory} creates {@link AtomicState}s the Join treats its input storages as
+ * immutable snapshots and updates them by compare and set. Then the inputs may be sent by multiple
+ * threads simultaneously without locking: Each completion of the inputs leads to exactly one
+ * output and with {@code resetAfterResultEvent} the inputs are reset exactly once.
+ * 
  * @author tilmann
  * 
  * @param <Input1>
@@ -84,9 +100,13 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 	
 	private final State<JoinInputStorage<Input1, Input2>> inputStorage;
 	
+	private final AtomicState<JoinInputStorage<Input1, Input2>> atomicInputStorage;
+	
 	private final boolean resetAfterResultEvent;
 	
-	private JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
+	private volatile JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
+	
+	private final AtomicLong overwrittenCount = new AtomicLong();
 	
 	/**
 	 * Creates a new {@code Join} using the given {@link JoinOutputCreator} to create the output of
@@ -192,6 +212,7 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 			stateFactory = DEFAULT_STATE_FACTORY;
 		}
 		this.inputStorage = (State) stateFactory.create(inputStorageFactory);
+		this.atomicInputStorage = inputStorage instanceof AtomicState ? (AtomicState) inputStorage : null;
 	}
 	
 	private final Action<Input1> input1action = this::processInput1;
@@ -234,15 +255,44 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 	{
 		logger.log(logLevel, "receiving reset");
 		
-		clearInput(inputStorage.get());
+		if (atomicInputStorage != null)
+		{
+			atomicInputStorage.set(new JoinInputStorage<Input1, Input2>());
+		}
+		else
+		{
+			clearInput(inputStorage.get());
+		}
 	}
 	
 	private void processInput1(Input1 input)
 	{
 		LoggingUtils.log(logger, logLevel, "receiving input1: ", input);
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput1(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput1(input));
+	}
+	
+	private void storeInput1(Input1 input)
+	{
+		if (atomicInputStorage != null)
+		{
+			processInput1Atomically(input);
+			return;
+		}
+		
 		JoinInputStorage<Input1, Input2> storage = inputStorage.get();
 		
+		if (storage.isInput1Set() && !storage.isInput2Set())
+		{
+			countOverwrittenInput();
+		}
 		storage.setInput1(input);
 		sendResultIfComplete(storage);
 	}
@@ -251,12 +301,87 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 	{
 		LoggingUtils.log(logger, logLevel, "receiving input2: ", input);
 		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput2(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput2(input));
+	}
+	
+	private void storeInput2(Input2 input)
+	{
+		if (atomicInputStorage != null)
+		{
+			processInput2Atomically(input);
+			return;
+		}
+		
 		JoinInputStorage<Input1, Input2> storage = inputStorage.get();
 		
+		if (storage.isInput2Set() && !storage.isInput1Set())
+		{
+			countOverwrittenInput();
+		}
 		storage.setInput2(input);
 		sendResultIfComplete(storage);
 	}
 	
+	private void processInput1Atomically(Input1 input)
+	{
+		JoinInputStorage<Input1, Input2> current;
+		JoinInputStorage<Input1, Input2> updated;
+		do
+		{
+			current = atomicInputStorage.get();
+			updated = current.withInput1(input);
+		}
+		while (!atomicInputStorage.compareAndSet(current, nextStoredSnapshot(updated)));
+		
+		if (current.isInput1Set() && !current.isInput2Set())
+		{
+			countOverwrittenInput();
+		}
+		sendResultIfCompleteSnapshot(updated);
+	}
+	
+	private void processInput2Atomically(Input2 input)
+	{
+		JoinInputStorage<Input1, Input2> current;
+		JoinInputStorage<Input1, Input2> updated;
+		do
+		{
+			current = atomicInputStorage.get();
+			updated = current.withInput2(input);
+		}
+		while (!atomicInputStorage.compareAndSet(current, nextStoredSnapshot(updated)));
+		
+		if (current.isInput2Set() && !current.isInput1Set())
+		{
+			countOverwrittenInput();
+		}
+		sendResultIfCompleteSnapshot(updated);
+	}
+	
+	private JoinInputStorage<Input1, Input2> nextStoredSnapshot(JoinInputStorage<Input1, Input2> updated)
+	{
+		if (resetAfterResultEvent && updated.isInputComplete())
+		{
+			return new JoinInputStorage<Input1, Input2>();
+		}
+		return updated;
+	}
+	
+	private void sendResultIfCompleteSnapshot(JoinInputStorage<Input1, Input2> snapshot)
+	{
+		if (snapshot.isInputComplete())
+		{
+			createAndSendResult(snapshot);
+		}
+	}
+	
 	private void sendResultIfComplete(JoinInputStorage<Input1, Input2> storage)
 	{
 		if (storage.isInputComplete())
@@ -281,6 +406,22 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 		storage.clearInput();
 	}
 	
+	private void countOverwrittenInput()
+	{
+		overwrittenCount.incrementAndGet();
+	}
+	
+	/**
+	 * Retrieve the number of inputs that have been overwritten before the other input has been set,
+	 * i.e. that have been dropped without being part of an output.
+	 * 
+	 * @return the number of overwritten inputs
+	 */
+	public long getOverwrittenCount()
+	{
+		return overwrittenCount.get();
+	}
+	
 	void setOutputCreator(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator)
 	{
 		if (this.outputCreator != null)
@@ -290,6 +431,11 @@ public class Join<Input1, Input2, Output> extends ResultBase<Output>
 		this.outputCreator = outputCreator;
 	}
 	
+	void replaceOutputCreator(JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator)
+	{
+		this.outputCreator = outputCreator;
+	}
+	
 	/* Just for the test */
 	static void setDefaultStateFactory(StateFactory stateFactory)
 	{
@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.ebc.state.StateFactory;
+
+/**
+ * This is a {@link JoinN} with four typed inputs that joins them using a
+ * {@link Join4OutputCreator}.
+ * 
+ * The Join waits for every input to be set at least once before creating a result event. Once all
+ * inputs have been set an output is created and sent. After that there are two different modes of
+ * operation depending on the {@code resetAfterResultEvent} parameter setting.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code true} (which is the default) then after each
+ * result event the input values are reset and the procedure to wait for all inputs starts from the
+ * beginning.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code false} then for each following single input
+ * invocation a new output is created and sent until the Join is manually reset again. If reset the
+ * procedure to wait for all inputs starts from the beginning.
+ * 
+ * To manually reset the Join the {@link #resetAction()} can be invoked.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of input one of this Join
+ * @param <Input2>
+ *        the type of input two of this Join
+ * @param <Input3>
+ *        the type of input three of this Join
+ * @param <Input4>
+ *        the type of input four of this Join
+ * @param <Output>
+ *        the type of output of this Join
+ */
+public class Join4<Input1, Input2, Input3, Input4, Output> extends JoinN<Output>
+{
+	/**
+	 * Creates a new {@code Join4} using the given {@link Join4OutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param outputCreator
+	 *        the output creator to be used
+	 */
+	public Join4(Join4OutputCreator<? super Input1, ? super Input2, ? super Input3, ? super Input4, ? extends Output> outputCreator)
+	{
+		this(outputCreator, (StateFactory) null, (Boolean) null);
+	}
+	
+	/**
+	 * Creates a new {@code Join4} using the given {@link Join4OutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 */
+	public Join4(Join4OutputCreator<? super Input1, ? super Input2, ? super Input3, ? super Input4, ? extends Output> outputCreator,
+				 boolean resetAfterResultEvent)
+	{
+		this(outputCreator, (StateFactory) null, resetAfterResultEvent);
+	}
+	
+	/**
+	 * Creates a new {@code Join4} using the given {@link Join4OutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link Join#DEFAULT_STATE_FACTORY} is used.
+	 */
+	public Join4(Join4OutputCreator<? super Input1, ? super Input2, ? super Input3, ? super Input4, ? extends Output> outputCreator,
+				 StateFactory stateFactory)
+	{
+		this(outputCreator, stateFactory, (Boolean) null);
+	}
+	
+	/**
+	 * Creates a new {@code Join4} using the given {@link Join4OutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link Join#DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the output creator is {@code null}
+	 */
+	public Join4(Join4OutputCreator<? super Input1, ? super Input2, ? super Input3, ? super Input4, ? extends Output> outputCreator,
+				 StateFactory stateFactory, Boolean resetAfterResultEvent)
+	{
+		super(4, adapt(outputCreator), stateFactory, resetAfterResultEvent);
+	}
+	
+	Join4(StateFactory stateFactory, Boolean resetAfterResultEvent)
+	{
+		super(4, stateFactory, resetAfterResultEvent);
+	}
+	
+	@SuppressWarnings("unchecked")
+	static <Input1, Input2, Input3, Input4, Output> JoinNOutputCreator<Output> adapt(Join4OutputCreator<? super Input1, ? super Input2, ? super Input3, ? super Input4, ? extends Output> outputCreator)
+	{
+		if (outputCreator == null)
+		{
+			throw new IllegalArgumentException("outputCreator=null");
+		}
+		
+		return inputs -> outputCreator.createOutput((Input1) inputs[0], (Input2) inputs[1], (Input3) inputs[2],
+			(Input4) inputs[3]);
+	}
+	
+	/**
+	 * Provides an {@link Action} that is used to send input one to this Join
+	 * 
+	 * @return the input1 action of this Join
+	 */
+	@SuppressWarnings("unchecked")
+	public Action<Input1> input1Action()
+	{
+		return (Action<Input1>) inputAction(0);
+	}
+	
+	/**
+	 * Provides an {@link Action} that is used to send input two to this Join
+	 * 
+	 * @return the input2 action of this Join
+	 */
+	@SuppressWarnings("unchecked")
+	public Action<Input2> input2Action()
+	{
+		return (Action<Input2>) inputAction(1);
+	}
+	
+	/**
+	 * Provides an {@link Action} that is used to send input three to this Join
+	 * 
+	 * @return the input3 action of this Join
+	 */
+	@SuppressWarnings("unchecked")
+	public Action<Input3> input3Action()
+	{
+		return (Action<Input3>) inputAction(2);
+	}
+	
+	/**
+	 * Provides an {@link Action} that is used to send input four to this Join
+	 * 
+	 * @return the input4 action of this Join
+	 */
+	@SuppressWarnings("unchecked")
+	public Action<Input4> input4Action()
+	{
+		return (Action<Input4>) inputAction(3);
+	}
+}
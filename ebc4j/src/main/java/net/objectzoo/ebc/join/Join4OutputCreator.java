@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+/**
+ * This interface describes objects capable of creating output for {@link Join4}s.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1>
+ *        the type of input one of this Join output creator
+ * @param <Input2>
+ *        the type of input two of this Join output creator
+ * @param <Input3>
+ *        the type of input three of this Join output creator
+ * @param <Input4>
+ *        the type of input four of this Join output creator
+ * @param <Output>
+ *        the type of output of this Join output creator
+ */
+@FunctionalInterface
+public interface Join4OutputCreator<Input1, Input2, Input3, Input4, Output>
+{
+	/**
+	 * Creates a new output object that joins the four input values
+	 * 
+	 * @param input1
+	 *        the input one value
+	 * @param input2
+	 *        the input two value
+	 * @param input3
+	 *        the input three value
+	 * @param input4
+	 *        the input four value
+	 * @return the newly created output object
+	 */
+	Output createOutput(Input1 input1, Input2 input2, Input3 input3, Input4 input4);
+}
@@ -51,6 +51,14 @@ import net.objectzoo.ebc.state.StateFactory;
  * 
  * To manually reset the Join the {@link #resetAction()} can be invoked.
  * 
+ * By default the output elements are created sequentially. To create them in a different way, e.g.
+ * in parallel, another {@link CollectionOutputCreatorFactory} can be selected by invoking
+ * {@link #setOutputCreatorFactory(CollectionOutputCreatorFactory)}.
+ * 
+ * If both input collections are sorted by key the Join can be created with {@link SortMergeKeys}.
+ * Then the elements are not joined by position but merged by key using a
+ * {@link SortMergeJoinOutputCreator}.
+ * 
  * @author tilmann
  * 
  * @param <Input1Element>
@@ -63,6 +71,10 @@ import net.objectzoo.ebc.state.StateFactory;
 public class JoinCollections<Input1Element, Input2Element, OutputElement> extends
 	Join<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>>
 {
+	private JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
+	private SortMergeKeys<?, Input1Element, Input2Element> sortMergeKeys;
+	
 	/**
 	 * Creates a new {@code JoinCollections} using the given {@link JoinOutputCreator} to join the
 	 * input elements to the output element.
@@ -128,6 +140,92 @@ public class JoinCollections<Input1Element, Input2Element, OutputElement> extend
 		initOutputElementCreator(elementOutputCreator);
 	}
 	
+	/**
+	 * Creates a new {@code JoinCollections} using the given {@link JoinOutputCreator} to join the
+	 * input elements with equal keys to the output element. Both input collections must be sorted
+	 * by key.
+	 * 
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @throws IllegalArgumentException
+	 *         if the output element creator or the keys are {@code null}
+	 */
+	public JoinCollections(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+						   SortMergeKeys<?, Input1Element, Input2Element> keys)
+	{
+		super();
+		initOutputElementCreator(elementOutputCreator, keys);
+	}
+	
+	/**
+	 * Creates a new {@code JoinCollections} using the given {@link JoinOutputCreator} to join the
+	 * input elements with equal keys to the output element. Both input collections must be sorted
+	 * by key.
+	 * 
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the output element creator or the keys are {@code null}
+	 */
+	public JoinCollections(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+						   SortMergeKeys<?, Input1Element, Input2Element> keys, boolean resetAfterResultEvent)
+	{
+		super(resetAfterResultEvent);
+		initOutputElementCreator(elementOutputCreator, keys);
+	}
+	
+	/**
+	 * Creates a new {@code JoinCollections} using the given {@link JoinOutputCreator} to join the
+	 * input elements with equal keys to the output element. Both input collections must be sorted
+	 * by key.
+	 * 
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @throws IllegalArgumentException
+	 *         if the output element creator or the keys are {@code null}
+	 */
+	public JoinCollections(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+						   SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory)
+	{
+		super(stateFactory);
+		initOutputElementCreator(elementOutputCreator, keys);
+	}
+	
+	/**
+	 * Creates a new {@code JoinCollections} using the given {@link JoinOutputCreator} to join the
+	 * input elements with equal keys to the output element. Both input collections must be sorted
+	 * by key.
+	 * 
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the sorted input elements are matched
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link #DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the output element creator or the keys are {@code null}
+	 */
+	public JoinCollections(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+						   SortMergeKeys<?, Input1Element, Input2Element> keys, StateFactory stateFactory, boolean resetAfterResultEvent)
+	{
+		super(stateFactory, resetAfterResultEvent);
+		initOutputElementCreator(elementOutputCreator, keys);
+	}
+	
 	JoinCollections()
 	{
 		super();
@@ -152,6 +250,44 @@ public class JoinCollections<Input1Element, Input2Element, OutputElement> extend
 	{
 		setOutputCreator(new CollectionsOutputCreator<Input1Element, Input2Element, OutputElement>(
 			elementOutputCreator));
+		this.elementOutputCreator = elementOutputCreator;
+	}
+	
+	<Key> void initOutputElementCreator(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator,
+										SortMergeKeys<Key, Input1Element, Input2Element> keys)
+	{
+		if (keys == null)
+		{
+			throw new IllegalArgumentException("keys=null");
+		}
+		setOutputCreator(keys.<OutputElement> createOutputCreator(elementOutputCreator));
+		this.elementOutputCreator = elementOutputCreator;
+		this.sortMergeKeys = keys;
+	}
+	
+	/**
+	 * Selects the {@link CollectionOutputCreatorFactory} used to create the output creator of this
+	 * Join. This method should be invoked before the Join receives any input.
+	 * 
+	 * @param outputCreatorFactory
+	 *        the factory creating the output creator for this Join's output element creator
+	 * @throws IllegalArgumentException
+	 *         if the given factory is {@code null}
+	 * @throws IllegalStateException
+	 *         if this Join merges its inputs by {@link SortMergeKeys}
+	 */
+	public void setOutputCreatorFactory(CollectionOutputCreatorFactory outputCreatorFactory)
+	{
+		if (outputCreatorFactory == null)
+		{
+			throw new IllegalArgumentException("outputCreatorFactory=null");
+		}
+		if (sortMergeKeys != null)
+		{
+			throw new IllegalStateException("The outputCreatorFactory cannot be selected for sort merge keys");
+		}
+		replaceOutputCreator(outputCreatorFactory.<Input1Element, Input2Element, OutputElement> createCollectionsOutputCreator(
+			elementOutputCreator));
 	}
 	
 }
@@ -80,6 +80,46 @@ public class JoinInputStorage<Input1, Input2>
 		input2Set = false;
 	}
 	
+	/**
+	 * Creates a copy of this storage with the input1 set to the given value. This storage remains
+	 * unchanged. Storages that are used as immutable snapshots must only be changed this way.
+	 * 
+	 * @param input
+	 *        the new value for input1
+	 * @return the new storage
+	 */
+	public JoinInputStorage<Input1, Input2> withInput1(Input1 input)
+	{
+		JoinInputStorage<Input1, Input2> storage = copy();
+		storage.setInput1(input);
+		return storage;
+	}
+	
+	/**
+	 * Creates a copy of this storage with the input2 set to the given value. This storage remains
+	 * unchanged. Storages that are used as immutable snapshots must only be changed this way.
+	 * 
+	 * @param input
+	 *        the new value for input2
+	 * @return the new storage
+	 */
+	public JoinInputStorage<Input1, Input2> withInput2(Input2 input)
+	{
+		JoinInputStorage<Input1, Input2> storage = copy();
+		storage.setInput2(input);
+		return storage;
+	}
+	
+	private JoinInputStorage<Input1, Input2> copy()
+	{
+		JoinInputStorage<Input1, Input2> storage = new JoinInputStorage<Input1, Input2>();
+		storage.input1 = input1;
+		storage.input1Set = input1Set;
+		storage.input2 = input2;
+		storage.input2Set = input2Set;
+		return storage;
+	}
+	
 	/**
 	 * Check whether both inputs have been set at least one time each since the input as been
 	 * cleared the last time.
@@ -91,6 +131,26 @@ public class JoinInputStorage<Input1, Input2>
 		return input1Set && input2Set;
 	}
 	
+	/**
+	 * Check whether input1 has been set since the input has been cleared the last time.
+	 * 
+	 * @return {@code true} if input1 has been set
+	 */
+	public boolean isInput1Set()
+	{
+		return input1Set;
+	}
+	
+	/**
+	 * Check whether input2 has been set since the input has been cleared the last time.
+	 * 
+	 * @return {@code true} if input2 has been set
+	 */
+	public boolean isInput2Set()
+	{
+		return input2Set;
+	}
+	
 	/**
 	 * Retrieves the input1 from this storage.
 	 * 
@@ -0,0 +1,315 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.state.AtomicState;
+import net.objectzoo.ebc.state.State;
+import net.objectzoo.ebc.state.StateFactory;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * This Join joins an arbitrary number of inputs to one output. In contrast to chained
+ * {@link JoinToPair}s it stores all inputs in a single storage, i.e. a single {@link State} is
+ * looked up per input and the output is created from the input values directly without nested
+ * pairs. The inputs that have been set are tracked by the bits of an {@code int}, so a
+ * {@code JoinN} supports up to 32 inputs.
+ * 
+ * The Join waits for every input to be set at least once before creating a result event. Once all
+ * inputs have been set an output is created and sent. After that there are two different modes of
+ * operation depending on the {@code resetAfterResultEvent} parameter setting.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code true} (which is the default) then after each
+ * result event the input values are reset and the procedure to wait for all inputs starts from the
+ * beginning.
+ * 
+ * If {@code resetAfterResultEvent} is set to {@code false} then for each following single input
+ * invocation a new output is created and sent until the Join is manually reset again. If reset the
+ * procedure to wait for all inputs starts from the beginning.
+ * 
+ * To manually reset the Join the {@link #resetAction()} can be invoked.
+ * 
+ * To actually create the output an instance of {@link JoinNOutputCreator} is used. Like the
+ * {@link Join} the {@code JoinN} updates its input storage by compare and set if the
+ * {@link StateFactory} creates {@link AtomicState}s.
+ * 
+ * @author tilmann
+ * 
+ * @param <Output>
+ *        the type of output of this Join
+ */
+public class JoinN<Output> extends ResultBase<Output>
+{
+	/** The maximum number of inputs of a {@code JoinN} */
+	public static final int MAX_INPUT_COUNT = Integer.SIZE;
+	
+	private final int inputCount;
+	
+	private final State<JoinNInputStorage> inputStorage;
+	
+	private final AtomicState<JoinNInputStorage> atomicInputStorage;
+	
+	private final boolean resetAfterResultEvent;
+	
+	private final Action<Object>[] inputActions;
+	
+	private JoinNOutputCreator<? extends Output> outputCreator;
+	
+	/**
+	 * Creates a new {@code JoinN} using the given {@link JoinNOutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param inputCount
+	 *        the number of inputs of this Join
+	 * @param outputCreator
+	 *        the output creator to be used
+	 */
+	public JoinN(int inputCount, JoinNOutputCreator<? extends Output> outputCreator)
+	{
+		this(inputCount, outputCreator, (StateFactory) null, (Boolean) null);
+	}
+	
+	/**
+	 * Creates a new {@code JoinN} using the given {@link JoinNOutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param inputCount
+	 *        the number of inputs of this Join
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 */
+	public JoinN(int inputCount, JoinNOutputCreator<? extends Output> outputCreator, boolean resetAfterResultEvent)
+	{
+		this(inputCount, outputCreator, (StateFactory) null, resetAfterResultEvent);
+	}
+	
+	/**
+	 * Creates a new {@code JoinN} using the given {@link JoinNOutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param inputCount
+	 *        the number of inputs of this Join
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link Join#DEFAULT_STATE_FACTORY} is used.
+	 */
+	public JoinN(int inputCount, JoinNOutputCreator<? extends Output> outputCreator, StateFactory stateFactory)
+	{
+		this(inputCount, outputCreator, stateFactory, (Boolean) null);
+	}
+	
+	/**
+	 * Creates a new {@code JoinN} using the given {@link JoinNOutputCreator} to create the output
+	 * of the {@code Join}.
+	 * 
+	 * @param inputCount
+	 *        the number of inputs of this Join
+	 * @param outputCreator
+	 *        the output creator to be used
+	 * @param stateFactory
+	 *        the {@link StateFactory} to be used by this {@code Join}. If {@code null} is given
+	 *        then the {@link Join#DEFAULT_STATE_FACTORY} is used.
+	 * @param resetAfterResultEvent
+	 *        if set to {@code true} the {@code Join} is automatically reset after each result event
+	 * @throws IllegalArgumentException
+	 *         if the input count is not between 2 and {@link #MAX_INPUT_COUNT} or the output
+	 *         creator is {@code null}
+	 */
+	public JoinN(int inputCount, JoinNOutputCreator<? extends Output> outputCreator, StateFactory stateFactory,
+				 Boolean resetAfterResultEvent)
+	{
+		this(inputCount, stateFactory, resetAfterResultEvent);
+		
+		if (outputCreator == null)
+		{
+			throw new IllegalArgumentException("outputCreator=null");
+		}
+		this.outputCreator = outputCreator;
+	}
+	
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	JoinN(int inputCount, StateFactory stateFactory, Boolean resetAfterResultEvent)
+	{
+		if (inputCount < 2 || inputCount > MAX_INPUT_COUNT)
+		{
+			throw new IllegalArgumentException("inputCount=" + inputCount);
+		}
+		if (stateFactory == null)
+		{
+			if (Join.DEFAULT_STATE_FACTORY == null)
+			{
+				throw new IllegalArgumentException(
+					"Either stateFactory must be given or Join.DEFAULT_STATE_FACTORY must be set.");
+			}
+			stateFactory = Join.DEFAULT_STATE_FACTORY;
+		}
+		
+		this.inputCount = inputCount;
+		this.resetAfterResultEvent = resetAfterResultEvent == null ? Join.DEFAULT_RESET_AFTER_RESULT_EVENT
+			: resetAfterResultEvent;
+		this.inputStorage = stateFactory.create(() -> new JoinNInputStorage(inputCount));
+		this.atomicInputStorage = inputStorage instanceof AtomicState ? (AtomicState) inputStorage : null;
+		this.inputActions = new Action[inputCount];
+		for (int i = 0; i < inputCount; i++)
+		{
+			final int index = i;
+			inputActions[i] = input -> processInput(index, input);
+		}
+	}
+	
+	/**
+	 * Provides an {@link Action} that is used to send the input with the given index to this Join
+	 * 
+	 * @param index
+	 *        the zero based index of the input
+	 * @return the input action of this Join
+	 * @throws IllegalArgumentException
+	 *         if there is no input with the given index
+	 */
+	public Action<Object> inputAction(int index)
+	{
+		if (index < 0 || index >= inputCount)
+		{
+			throw new IllegalArgumentException("index=" + index);
+		}
+		return inputActions[index];
+	}
+	
+	/**
+	 * Retrieve the number of inputs of this Join
+	 * 
+	 * @return the input count
+	 */
+	public int getInputCount()
+	{
+		return inputCount;
+	}
+	
+	private final Action0 resetAction = this::processReset;
+	
+	/**
+	 * Provides an {@link Action0} that is used to reset this Join
+	 * 
+	 * @return the reset action of this Join
+	 */
+	public Action0 resetAction()
+	{
+		return resetAction;
+	}
+	
+	private void processReset()
+	{
+		logger.log(logLevel, "receiving reset");
+		
+		if (atomicInputStorage != null)
+		{
+			atomicInputStorage.set(new JoinNInputStorage(inputCount));
+		}
+		else
+		{
+			inputStorage.get().clearInput();
+		}
+	}
+	
+	private void processInput(int index, Object input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput(index, input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput(index, input));
+	}
+	
+	private void storeInput(int index, Object input)
+	{
+		if (atomicInputStorage != null)
+		{
+			storeInputAtomically(index, input);
+			return;
+		}
+		
+		JoinNInputStorage storage = inputStorage.get();
+		
+		storage.setInput(index, input);
+		if (storage.isInputComplete())
+		{
+			createAndSendResult(storage);
+			
+			if (resetAfterResultEvent)
+			{
+				storage.clearInput();
+			}
+		}
+	}
+	
+	private void storeInputAtomically(int index, Object input)
+	{
+		JoinNInputStorage current;
+		JoinNInputStorage updated;
+		JoinNInputStorage stored;
+		do
+		{
+			current = atomicInputStorage.get();
+			updated = current.withInput(index, input);
+			stored = resetAfterResultEvent && updated.isInputComplete() ? new JoinNInputStorage(inputCount)
+				: updated;
+		}
+		while (!atomicInputStorage.compareAndSet(current, stored));
+		
+		if (updated.isInputComplete())
+		{
+			createAndSendResult(updated);
+		}
+	}
+	
+	private void createAndSendResult(JoinNInputStorage storage)
+	{
+		Output output = outputCreator.createOutput(storage.getInputs());
+		sendResult(output);
+	}
+	
+	void setOutputCreator(JoinNOutputCreator<? extends Output> outputCreator)
+	{
+		if (this.outputCreator != null)
+		{
+			throw new IllegalStateException("The outputCreator can only be set once");
+		}
+		this.outputCreator = outputCreator;
+	}
+}
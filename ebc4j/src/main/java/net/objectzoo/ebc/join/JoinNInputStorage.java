@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+/**
+ * The input storage of a {@link JoinN}. The input values are held in a slot array and the inputs
+ * that have been set are tracked by the bits of an {@code int} mask, so checking the storage for
+ * completeness is a single comparison regardless of the number of inputs.
+ * 
+ * @author tilmann
+ */
+final class JoinNInputStorage
+{
+	private final Object[] inputs;
+	
+	private final int completeMask;
+	
+	private int setMask;
+	
+	JoinNInputStorage(int inputCount)
+	{
+		this.inputs = new Object[inputCount];
+		this.completeMask = inputCount == Integer.SIZE ? -1 : (1 << inputCount) - 1;
+	}
+	
+	void setInput(int index, Object input)
+	{
+		inputs[index] = input;
+		setMask |= 1 << index;
+	}
+	
+	JoinNInputStorage withInput(int index, Object input)
+	{
+		JoinNInputStorage storage = new JoinNInputStorage(inputs.length);
+		System.arraycopy(inputs, 0, storage.inputs, 0, inputs.length);
+		storage.setMask = setMask;
+		storage.setInput(index, input);
+		return storage;
+	}
+	
+	void clearInput()
+	{
+		for (int i = 0; i < inputs.length; i++)
+		{
+			inputs[i] = null;
+		}
+		setMask = 0;
+	}
+	
+	boolean isInputComplete()
+	{
+		return setMask == completeMask;
+	}
+	
+	Object[] getInputs()
+	{
+		if (!isInputComplete())
+		{
+			throw new IllegalStateException("Not all inputs have been set.");
+		}
+		return inputs;
+	}
+}
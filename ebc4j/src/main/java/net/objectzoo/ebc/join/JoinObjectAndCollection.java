@@ -50,6 +50,10 @@ import net.objectzoo.ebc.state.StateFactory;
  * 
  * To manually reset the Join the {@link #resetAction()} can be invoked.
  * 
+ * By default the output elements are created sequentially. To create them in a different way, e.g.
+ * in parallel, another {@link CollectionOutputCreatorFactory} can be selected by invoking
+ * {@link #setOutputCreatorFactory(CollectionOutputCreatorFactory)}.
+ * 
  * @author tilmann
  * 
  * @param <Input1>
@@ -62,6 +66,8 @@ import net.objectzoo.ebc.state.StateFactory;
 public class JoinObjectAndCollection<Input1, Input2Element, OutputElement> extends
 	Join<Input1, Collection<Input2Element>, List<OutputElement>>
 {
+	private JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
 	/**
 	 * Creates a new {@code JoinObjectAndCollection} using the given {@link JoinOutputCreator} to
 	 * join the first input and second input elements to the output element.
@@ -151,5 +157,25 @@ public class JoinObjectAndCollection<Input1, Input2Element, OutputElement> exten
 	{
 		setOutputCreator(new ObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement>(
 			elementOutputCreator));
+		this.elementOutputCreator = elementOutputCreator;
+	}
+	
+	/**
+	 * Selects the {@link CollectionOutputCreatorFactory} used to create the output creator of this
+	 * Join. This method should be invoked before the Join receives any input.
+	 * 
+	 * @param outputCreatorFactory
+	 *        the factory creating the output creator for this Join's output element creator
+	 * @throws IllegalArgumentException
+	 *         if the given factory is {@code null}
+	 */
+	public void setOutputCreatorFactory(CollectionOutputCreatorFactory outputCreatorFactory)
+	{
+		if (outputCreatorFactory == null)
+		{
+			throw new IllegalArgumentException("outputCreatorFactory=null");
+		}
+		replaceOutputCreator(outputCreatorFactory.<Input1, Input2Element, OutputElement> createObjectAndCollectionOutputCreator(
+			elementOutputCreator));
 	}
 }
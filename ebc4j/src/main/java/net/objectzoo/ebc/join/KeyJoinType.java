@@ -0,0 +1,45 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+/**
+ * The kinds of key based collection joins performed by a {@link HashJoinOutputCreator} or a
+ * {@link SortMergeJoinOutputCreator}. The input collection one is the left and the input collection
+ * two the right side of the join. For elements without a matching element on the other side the
+ * output element creator receives {@code null} in place of the missing element.
+ * 
+ * @author tilmann
+ */
+public enum KeyJoinType
+{
+	/** Only pairs of elements with equal keys are joined */
+	INNER,
+	
+	/** Pairs of elements with equal keys are joined and elements of input one without a match are kept */
+	LEFT_OUTER,
+	
+	/** Pairs of elements with equal keys are joined and elements of both inputs without a match are kept */
+	FULL_OUTER
+}
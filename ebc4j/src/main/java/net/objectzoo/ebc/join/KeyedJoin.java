@@ -0,0 +1,381 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.observer.DispatchKind;
+import net.objectzoo.ebc.observer.EbcObserver;
+import net.objectzoo.ebc.observer.EbcObservers;
+import net.objectzoo.ebc.util.LoggingUtils;
+
+/**
+ * This Join correlates its two inputs by a key instead of joining the last values received. The key
+ * of each input value is obtained by the key extractor given for its input. An output is created
+ * and sent as soon as values with equal keys have been received on both inputs. Values that have
+ * not been matched yet are held in a hash index of pending entries per key. Thus a single
+ * {@code KeyedJoin} can serve many concurrent correlated requests even if the two inputs arrive on
+ * different threads.
+ * 
+ * If an input is received twice for the same key before it has been matched the later value wins.
+ * The earlier value is dropped without ever being part of an output. These lost inputs are counted
+ * and can be retrieved by {@link #getOverwrittenCount()}. After a match the entry for the key is removed. The number of pending entries is limited by the
+ * capacity of the Join. If an input with a new key would exceed the capacity the oldest pending
+ * entry is evicted.
+ * 
+ * The Join counts the matched and evicted entries and can report the number of currently pending
+ * entries. To clear all pending entries the {@link #resetAction()} can be invoked.
+ * 
+ * All pending entries and counters are guarded by a single lock on the index. It is only held to
+ * look up and update the entry of a key, while the key extraction, the output creation and the
+ * sending of the output happen outside of it. So the lock is not striped by key: A striped index
+ * could not keep the global eviction order of the capacity limit.
+ * 
+ * @author tilmann
+ * 
+ * @param <Key>
+ *        the type of the keys used to correlate the inputs
+ * @param <Input1>
+ *        the type of input one of this Join
+ * @param <Input2>
+ *        the type of input two of this Join
+ * @param <Output>
+ *        the type of output of this Join
+ */
+public class KeyedJoin<Key, Input1, Input2, Output> extends ResultBase<Output>
+{
+	/** The default maximum number of pending entries of a {@code KeyedJoin} */
+	public static final int DEFAULT_CAPACITY = 10000;
+	
+	private final Function<? super Input1, ? extends Key> input1KeyExtractor;
+	
+	private final Function<? super Input2, ? extends Key> input2KeyExtractor;
+	
+	private final JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator;
+	
+	private final int capacity;
+	
+	private final Map<Key, JoinInputStorage<Input1, Input2>> pendingInputs;
+	
+	private long matchedCount;
+	
+	private long evictedCount;
+	
+	private long overwrittenCount;
+	
+	/**
+	 * Creates a new {@code KeyedJoin} with the {@link #DEFAULT_CAPACITY}
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one values
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two values
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public KeyedJoin(Function<? super Input1, ? extends Key> input1KeyExtractor,
+					 Function<? super Input2, ? extends Key> input2KeyExtractor,
+					 JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator)
+	{
+		this(input1KeyExtractor, input2KeyExtractor, outputCreator, DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new {@code KeyedJoin}
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one values
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two values
+	 * @param outputCreator
+	 *        the {@link JoinOutputCreator} used to create the output values
+	 * @param capacity
+	 *        the maximum number of pending entries
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null} or the capacity is not positive
+	 */
+	public KeyedJoin(Function<? super Input1, ? extends Key> input1KeyExtractor,
+					 Function<? super Input2, ? extends Key> input2KeyExtractor,
+					 JoinOutputCreator<? super Input1, ? super Input2, ? extends Output> outputCreator, int capacity)
+	{
+		if (input1KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input1KeyExtractor=null");
+		}
+		if (input2KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input2KeyExtractor=null");
+		}
+		if (outputCreator == null)
+		{
+			throw new IllegalArgumentException("outputCreator=null");
+		}
+		if (capacity <= 0)
+		{
+			throw new IllegalArgumentException("capacity=" + capacity);
+		}
+		
+		this.input1KeyExtractor = input1KeyExtractor;
+		this.input2KeyExtractor = input2KeyExtractor;
+		this.outputCreator = outputCreator;
+		this.capacity = capacity;
+		this.pendingInputs = new LinkedHashMap<Key, JoinInputStorage<Input1, Input2>>()
+		{
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, JoinInputStorage<Input1, Input2>> eldest)
+			{
+				if (size() > KeyedJoin.this.capacity)
+				{
+					evictedCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+	
+	private final Action<Input1> input1Action = this::processInput1;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input one to this Join
+	 * 
+	 * @return the input1 action of this Join
+	 */
+	public Action<Input1> input1Action()
+	{
+		return input1Action;
+	}
+	
+	private final Action<Input2> input2Action = this::processInput2;
+	
+	/**
+	 * Provides an {@link Action} that is used to send input two to this Join
+	 * 
+	 * @return the input2 action of this Join
+	 */
+	public Action<Input2> input2Action()
+	{
+		return input2Action;
+	}
+	
+	private final Action0 resetAction = this::processReset;
+	
+	/**
+	 * Provides an {@link Action0} that is used to clear all pending entries of this Join
+	 * 
+	 * @return the reset action of this Join
+	 */
+	public Action0 resetAction()
+	{
+		return resetAction;
+	}
+	
+	private void processReset()
+	{
+		logger.log(logLevel, "receiving reset");
+		
+		synchronized (pendingInputs)
+		{
+			pendingInputs.clear();
+		}
+	}
+	
+	private void processInput1(Input1 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input1: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput1(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput1(input));
+	}
+	
+	private void storeInput1(Input1 input)
+	{
+		Key key = input1KeyExtractor.apply(input);
+		JoinInputStorage<Input1, Input2> completeStorage = null;
+		
+		synchronized (pendingInputs)
+		{
+			JoinInputStorage<Input1, Input2> storage = pendingInputs.get(key);
+			if (storage == null)
+			{
+				storage = new JoinInputStorage<Input1, Input2>();
+				storage.setInput1(input);
+				pendingInputs.put(key, storage);
+			}
+			else
+			{
+				if (storage.isInput1Set())
+				{
+					overwrittenCount++;
+				}
+				storage.setInput1(input);
+				completeStorage = removeIfComplete(key, storage);
+			}
+		}
+		
+		sendResultIfComplete(completeStorage);
+	}
+	
+	private void processInput2(Input2 input)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input2: ", input);
+		
+		EbcObserver observer = EbcObservers.current();
+		if (observer == null)
+		{
+			storeInput2(input);
+			return;
+		}
+		
+		EbcObservers.observe(observer, this, DispatchKind.PROCESS, input, () -> storeInput2(input));
+	}
+	
+	private void storeInput2(Input2 input)
+	{
+		Key key = input2KeyExtractor.apply(input);
+		JoinInputStorage<Input1, Input2> completeStorage = null;
+		
+		synchronized (pendingInputs)
+		{
+			JoinInputStorage<Input1, Input2> storage = pendingInputs.get(key);
+			if (storage == null)
+			{
+				storage = new JoinInputStorage<Input1, Input2>();
+				storage.setInput2(input);
+				pendingInputs.put(key, storage);
+			}
+			else
+			{
+				if (storage.isInput2Set())
+				{
+					overwrittenCount++;
+				}
+				storage.setInput2(input);
+				completeStorage = removeIfComplete(key, storage);
+			}
+		}
+		
+		sendResultIfComplete(completeStorage);
+	}
+	
+	private JoinInputStorage<Input1, Input2> removeIfComplete(Key key, JoinInputStorage<Input1, Input2> storage)
+	{
+		if (storage.isInputComplete())
+		{
+			pendingInputs.remove(key);
+			matchedCount++;
+			return storage;
+		}
+		return null;
+	}
+	
+	private void sendResultIfComplete(JoinInputStorage<Input1, Input2> completeStorage)
+	{
+		if (completeStorage != null)
+		{
+			Output output = outputCreator.createOutput(completeStorage.getInput1(), completeStorage.getInput2());
+			sendResult(output);
+		}
+	}
+	
+	/**
+	 * Retrieve the maximum number of pending entries of this Join
+	 * 
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return capacity;
+	}
+	
+	/**
+	 * Retrieve the number of entries currently waiting for their matching input
+	 * 
+	 * @return the number of pending entries
+	 */
+	public int getPendingCount()
+	{
+		synchronized (pendingInputs)
+		{
+			return pendingInputs.size();
+		}
+	}
+	
+	/**
+	 * Retrieve the number of entries that have been matched and sent as output so far
+	 * 
+	 * @return the number of matched entries
+	 */
+	public long getMatchedCount()
+	{
+		synchronized (pendingInputs)
+		{
+			return matchedCount;
+		}
+	}
+	
+	/**
+	 * Retrieve the number of entries that have been evicted unmatched because the capacity was
+	 * exceeded
+	 * 
+	 * @return the number of evicted entries
+	 */
+	public long getEvictedCount()
+	{
+		synchronized (pendingInputs)
+		{
+			return evictedCount;
+		}
+	}
+	
+	/**
+	 * Retrieve the number of inputs that have been overwritten by a later input with the same key
+	 * before being matched, i.e. that have been dropped without being part of an output.
+	 * 
+	 * @return the number of overwritten inputs
+	 */
+	public long getOverwrittenCount()
+	{
+		synchronized (pendingInputs)
+		{
+			return overwrittenCount;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A {@link CollectionOutputCreatorFactory} implementation that creates
+ * {@link CollectionsOutputCreator} and {@link ObjectAndCollectionOutputCreator} instances which
+ * create the output elements sequentially in the invoking thread.
+ * 
+ * @author tilmann
+ */
+public class SequentialOutputCreatorFactory implements CollectionOutputCreatorFactory
+{
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <Input1Element, Input2Element, OutputElement> JoinOutputCreator<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>> createCollectionsOutputCreator(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new CollectionsOutputCreator<Input1Element, Input2Element, OutputElement>(elementOutputCreator);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <Input1, Input2Element, OutputElement> JoinOutputCreator<Input1, Collection<Input2Element>, List<OutputElement>> createObjectAndCollectionOutputCreator(JoinOutputCreator<? super Input1, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new ObjectAndCollectionOutputCreator<Input1, Input2Element, OutputElement>(elementOutputCreator);
+	}
+}
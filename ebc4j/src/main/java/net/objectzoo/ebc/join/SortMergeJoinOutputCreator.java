@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This {@link JoinOutputCreator} implementation takes two input {@link Collection}s that are both
+ * sorted by key and creates an output {@link List} with one output value for every pair of elements
+ * that have equal keys. In contrast to the {@link HashJoinOutputCreator} no index is built: both
+ * inputs are merged in a single linear pass over their iterators. Only the elements of input two
+ * sharing the current key are buffered to join them with every element of input one having the
+ * same key, so for unique keys the extra memory required is constant.
+ * 
+ * The keys, their order, the {@link KeyJoinType} and whether the sort order is verified are given
+ * by {@link SortMergeKeys}. If the sort order is verified an {@link IllegalArgumentException} is
+ * thrown as soon as an element with a smaller key than its predecessor is found. Otherwise unsorted
+ * inputs lead to missing matches. The output elements are created in the order of their keys.
+ * 
+ * @author tilmann
+ * 
+ * @param <Key>
+ *        the type of the keys used to match the input elements
+ * @param <Input1Element>
+ *        the element type of the input collection one of this Join output creator
+ * @param <Input2Element>
+ *        the element type of the input collection two of this Join output creator
+ * @param <OutputElement>
+ *        the element type of the output list of this Join output creator
+ */
+public class SortMergeJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> implements
+	JoinOutputCreator<Collection<Input1Element>, Collection<Input2Element>, List<OutputElement>>
+{
+	/**
+	 * Iterates over one sorted input collection keeping the current element and its key
+	 */
+	private final class Cursor<Element>
+	{
+		private final Iterator<Element> iterator;
+		
+		private final Function<? super Element, ? extends Key> keyExtractor;
+		
+		private final String inputName;
+		
+		private boolean started;
+		
+		private boolean valid;
+		
+		private Element element;
+		
+		private Key key;
+		
+		Cursor(Collection<Element> input, Function<? super Element, ? extends Key> keyExtractor, String inputName)
+		{
+			this.iterator = input.iterator();
+			this.keyExtractor = keyExtractor;
+			this.inputName = inputName;
+			advance();
+		}
+		
+		void advance()
+		{
+			valid = iterator.hasNext();
+			if (valid)
+			{
+				Key previousKey = key;
+				element = iterator.next();
+				key = keyExtractor.apply(element);
+				if (verifySorted && started && keyComparator.compare(previousKey, key) > 0)
+				{
+					throw new IllegalArgumentException(inputName + " is not sorted by key: " + previousKey + " > "
+						+ key);
+				}
+				started = true;
+			}
+		}
+	}
+	
+	private final Function<? super Input1Element, ? extends Key> input1KeyExtractor;
+	
+	private final Function<? super Input2Element, ? extends Key> input2KeyExtractor;
+	
+	private final Comparator<? super Key> keyComparator;
+	
+	private final KeyJoinType joinType;
+	
+	private final boolean verifySorted;
+	
+	private final JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
+	/**
+	 * Creates a new {@code SortMergeJoinOutputCreator} that uses the given {@link JoinOutputCreator}
+	 * to join the input elements with equal keys to the output element type.
+	 * 
+	 * @param keys
+	 *        the {@link SortMergeKeys} describing how the input elements are matched
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public SortMergeJoinOutputCreator(SortMergeKeys<Key, Input1Element, Input2Element> keys,
+									  JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		if (keys == null)
+		{
+			throw new IllegalArgumentException("keys=null");
+		}
+		if (elementOutputCreator == null)
+		{
+			throw new IllegalArgumentException("elementOutputCreator=null");
+		}
+		this.input1KeyExtractor = keys.getInput1KeyExtractor();
+		this.input2KeyExtractor = keys.getInput2KeyExtractor();
+		this.keyComparator = keys.getKeyComparator();
+		this.joinType = keys.getJoinType();
+		this.verifySorted = keys.isVerifySorted();
+		this.elementOutputCreator = elementOutputCreator;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<OutputElement> createOutput(Collection<Input1Element> input1, Collection<Input2Element> input2)
+	{
+		List<OutputElement> output = new ArrayList<OutputElement>(Math.max(input1.size(), input2.size()));
+		
+		Cursor<Input1Element> cursor1 = new Cursor<Input1Element>(input1, input1KeyExtractor, "input1");
+		Cursor<Input2Element> cursor2 = new Cursor<Input2Element>(input2, input2KeyExtractor, "input2");
+		List<Input2Element> run2 = new ArrayList<Input2Element>(1);
+		
+		while (cursor1.valid && cursor2.valid)
+		{
+			int comparison = keyComparator.compare(cursor1.key, cursor2.key);
+			if (comparison < 0)
+			{
+				if (joinType != KeyJoinType.INNER)
+				{
+					output.add(elementOutputCreator.createOutput(cursor1.element, null));
+				}
+				cursor1.advance();
+			}
+			else if (comparison > 0)
+			{
+				if (joinType == KeyJoinType.FULL_OUTER)
+				{
+					output.add(elementOutputCreator.createOutput(null, cursor2.element));
+				}
+				cursor2.advance();
+			}
+			else
+			{
+				mergeRun(cursor1, cursor2, run2, output);
+			}
+		}
+		
+		if (joinType != KeyJoinType.INNER)
+		{
+			for (; cursor1.valid; cursor1.advance())
+			{
+				output.add(elementOutputCreator.createOutput(cursor1.element, null));
+			}
+		}
+		if (joinType == KeyJoinType.FULL_OUTER)
+		{
+			for (; cursor2.valid; cursor2.advance())
+			{
+				output.add(elementOutputCreator.createOutput(null, cursor2.element));
+			}
+		}
+		
+		return output;
+	}
+	
+	private void mergeRun(Cursor<Input1Element> cursor1, Cursor<Input2Element> cursor2, List<Input2Element> run2,
+						  List<OutputElement> output)
+	{
+		Key runKey = cursor2.key;
+		
+		run2.clear();
+		do
+		{
+			run2.add(cursor2.element);
+			cursor2.advance();
+		}
+		while (cursor2.valid && keyComparator.compare(cursor2.key, runKey) == 0);
+		
+		do
+		{
+			for (int i = 0; i < run2.size(); i++)
+			{
+				output.add(elementOutputCreator.createOutput(cursor1.element, run2.get(i)));
+			}
+			cursor1.advance();
+		}
+		while (cursor1.valid && keyComparator.compare(cursor1.key, runKey) == 0);
+	}
+}
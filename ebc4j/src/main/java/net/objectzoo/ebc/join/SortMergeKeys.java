@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Describes how the elements of two input collections that are already sorted by key are matched
+ * by a {@link SortMergeJoinOutputCreator}: the key extractors of both inputs, the {@link Comparator}
+ * defining the sort order of the keys, the {@link KeyJoinType} and whether the sort order of the
+ * inputs is verified while merging. Instances are given to the {@link JoinCollections} and
+ * {@link GenericJoinCollections} constructors to join their inputs by key instead of by position.
+ * 
+ * @author tilmann
+ * 
+ * @param <Key>
+ *        the type of the keys used to match the input elements
+ * @param <Input1Element>
+ *        the type of input one's elements
+ * @param <Input2Element>
+ *        the type of input two's elements
+ */
+public class SortMergeKeys<Key, Input1Element, Input2Element>
+{
+	private final Function<? super Input1Element, ? extends Key> input1KeyExtractor;
+	
+	private final Function<? super Input2Element, ? extends Key> input2KeyExtractor;
+	
+	private final Comparator<? super Key> keyComparator;
+	
+	private final KeyJoinType joinType;
+	
+	private final boolean verifySorted;
+	
+	/**
+	 * Creates new {@code SortMergeKeys} for an {@link KeyJoinType#INNER} join that does not verify
+	 * the sort order of the inputs
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param keyComparator
+	 *        the comparator defining the order both inputs are sorted by
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public SortMergeKeys(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+						 Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+						 Comparator<? super Key> keyComparator)
+	{
+		this(input1KeyExtractor, input2KeyExtractor, keyComparator, KeyJoinType.INNER, false);
+	}
+	
+	/**
+	 * Creates new {@code SortMergeKeys}
+	 * 
+	 * @param input1KeyExtractor
+	 *        the function obtaining the key of input one's elements
+	 * @param input2KeyExtractor
+	 *        the function obtaining the key of input two's elements
+	 * @param keyComparator
+	 *        the comparator defining the order both inputs are sorted by
+	 * @param joinType
+	 *        the {@link KeyJoinType} determining whether unmatched elements are kept
+	 * @param verifySorted
+	 *        if set to {@code true} the sort order of the inputs is verified while merging
+	 * @throws IllegalArgumentException
+	 *         if any of the given arguments is {@code null}
+	 */
+	public SortMergeKeys(Function<? super Input1Element, ? extends Key> input1KeyExtractor,
+						 Function<? super Input2Element, ? extends Key> input2KeyExtractor,
+						 Comparator<? super Key> keyComparator, KeyJoinType joinType, boolean verifySorted)
+	{
+		if (input1KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input1KeyExtractor=null");
+		}
+		if (input2KeyExtractor == null)
+		{
+			throw new IllegalArgumentException("input2KeyExtractor=null");
+		}
+		if (keyComparator == null)
+		{
+			throw new IllegalArgumentException("keyComparator=null");
+		}
+		if (joinType == null)
+		{
+			throw new IllegalArgumentException("joinType=null");
+		}
+		this.input1KeyExtractor = input1KeyExtractor;
+		this.input2KeyExtractor = input2KeyExtractor;
+		this.keyComparator = keyComparator;
+		this.joinType = joinType;
+		this.verifySorted = verifySorted;
+	}
+	
+	/**
+	 * Creates a {@link SortMergeJoinOutputCreator} merging the inputs as described by these keys
+	 * 
+	 * @param <OutputElement>
+	 *        the type of the output's elements
+	 * @param elementOutputCreator
+	 *        the Join output creator used to create the output elements
+	 * @return the new output creator
+	 * @throws IllegalArgumentException
+	 *         if the element output creator is {@code null}
+	 */
+	public <OutputElement> SortMergeJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement> createOutputCreator(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		return new SortMergeJoinOutputCreator<Key, Input1Element, Input2Element, OutputElement>(this,
+			elementOutputCreator);
+	}
+	
+	Function<? super Input1Element, ? extends Key> getInput1KeyExtractor()
+	{
+		return input1KeyExtractor;
+	}
+	
+	Function<? super Input2Element, ? extends Key> getInput2KeyExtractor()
+	{
+		return input2KeyExtractor;
+	}
+	
+	Comparator<? super Key> getKeyComparator()
+	{
+		return keyComparator;
+	}
+	
+	/**
+	 * Retrieve the {@link KeyJoinType} of the join
+	 * 
+	 * @return the join type
+	 */
+	public KeyJoinType getJoinType()
+	{
+		return joinType;
+	}
+	
+	/**
+	 * Check whether the sort order of the inputs is verified while merging
+	 * 
+	 * @return {@code true} if the sort order is verified
+	 */
+	public boolean isVerifySorted()
+	{
+		return verifySorted;
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.join;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import net.objectzoo.delegates.Action;
+import net.objectzoo.delegates.Action0;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
+import net.objectzoo.ebc.impl.ResultBase;
+import net.objectzoo.ebc.util.LoggingUtils;
+import net.objectzoo.events.Event0;
+import net.objectzoo.events.impl.Event0Delegate;
+
+/**
+ * This Join is the streaming variant of {@link JoinCollections}. Instead of waiting for two complete
+ * input collections it receives the elements of both inputs one by one or in chunks and joins them
+ * element-wise as soon as an element is available on both inputs. The joined output elements of each
+ * input are sent immediately as a chunk with the result event. Only elements that have not been
+ * joined yet are held by the Join so its memory is proportional to the skew between the two inputs
+ * instead of their total size. Like {@link JoinCollections} the Join accepts {@code null} input
+ * elements and passes them on to the output creator.
+ * 
+ * The end of each input is signaled by invoking its completed action. Once one input has been
+ * completed and all its elements have been joined any further elements of the other input are
+ * ignored like the exceeding items of {@link JoinCollections}. When both inputs have been completed
+ * the {@link #completedEvent()} is sent and the Join starts over waiting for new input elements.
+ * 
+ * The Join sends its result and completed events while holding its internal lock so that the output
+ * chunks are sent in the order they have been joined even if the inputs arrive on different
+ * threads. To manually discard all pending elements and start over the {@link #resetAction()} can
+ * be invoked.
+ * 
+ * @author tilmann
+ * 
+ * @param <Input1Element>
+ *        the type of input one's elements
+ * @param <Input2Element>
+ *        the type of input two's elements
+ * @param <OutputElement>
+ *        the type of the output's elements
+ */
+public class StreamingJoinCollections<Input1Element, Input2Element, OutputElement> extends
+	ResultBase<List<OutputElement>>
+{
+	private final JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator;
+	
+	private final LinkedList<Input1Element> pendingInput1 = new LinkedList<Input1Element>();
+	
+	private final LinkedList<Input2Element> pendingInput2 = new LinkedList<Input2Element>();
+	
+	private final Object lock = new Object();
+	
+	private boolean input1Completed;
+	
+	private boolean input2Completed;
+	
+	/**
+	 * Creates a new {@code StreamingJoinCollections} using the given {@link JoinOutputCreator} to
+	 * join the input elements to the output element.
+	 * 
+	 * @param elementOutputCreator
+	 *        the output element creator to be used
+	 * @throws IllegalArgumentException
+	 *         if the given output element creator is {@code null}
+	 */
+	public StreamingJoinCollections(JoinOutputCreator<? super Input1Element, ? super Input2Element, ? extends OutputElement> elementOutputCreator)
+	{
+		if (elementOutputCreator == null)
+		{
+			throw new IllegalArgumentException("elementOutputCreator=null");
+		}
+		this.elementOutputCreator = elementOutputCreator;
+	}
+	
+	private final Action<Collection<Input1Element>> input1Action = this::processInput1;
+	
+	/**
+	 * Provides an {@link Action} that is used to send a chunk of input one's elements to this Join
+	 * 
+	 * @return the input1 action of this Join
+	 */
+	public Action<Collection<Input1Element>> input1Action()
+	{
+		return input1Action;
+	}
+	
+	private final Action<Input1Element> input1ElementAction = this::processInput1Element;
+	
+	/**
+	 * Provides an {@link Action} that is used to send a single element of input one to this Join
+	 * 
+	 * @return the input1 element action of this Join
+	 */
+	public Action<Input1Element> input1ElementAction()
+	{
+		return input1ElementAction;
+	}
+	
+	private final Action0 input1CompletedAction = this::processInput1Completed;
+	
+	/**
+	 * Provides an {@link Action0} that is used to signal that all elements of input one have been
+	 * sent to this Join
+	 * 
+	 * @return the input1 completed action of this Join
+	 */
+	public Action0 input1CompletedAction()
+	{
+		return input1CompletedAction;
+	}
+	
+	private final Action<Collection<Input2Element>> input2Action = this::processInput2;
+	
+	/**
+	 * Provides an {@link Action} that is used to send a chunk of input two's elements to this Join
+	 * 
+	 * @return the input2 action of this Join
+	 */
+	public Action<Collection<Input2Element>> input2Action()
+	{
+		return input2Action;
+	}
+	
+	private final Action<Input2Element> input2ElementAction = this::processInput2Element;
+	
+	/**
+	 * Provides an {@link Action} that is used to send a single element of input two to this Join
+	 * 
+	 * @return the input2 element action of this Join
+	 */
+	public Action<Input2Element> input2ElementAction()
+	{
+		return input2ElementAction;
+	}
+	
+	private final Action0 input2CompletedAction = this::processInput2Completed;
+	
+	/**
+	 * Provides an {@link Action0} that is used to signal that all elements of input two have been
+	 * sent to this Join
+	 * 
+	 * @return the input2 completed action of this Join
+	 */
+	public Action0 input2CompletedAction()
+	{
+		return input2CompletedAction;
+	}
+	
+	private final Action0 resetAction = this::processReset;
+	
+	/**
+	 * Provides an {@link Action0} that is used to discard all pending elements of this Join
+	 * 
+	 * @return the reset action of this Join
+	 */
+	public Action0 resetAction()
+	{
+		return resetAction;
+	}
+	
+	private final Event0Delegate completedEvent = new CopyOnWriteEvent0Distributor();
+	
+	/**
+	 * Provides the {@link Event0} that is sent when both inputs of this Join have been completed
+	 * 
+	 * @return the completed event of this Join
+	 */
+	public Event0 completedEvent()
+	{
+		return completedEvent;
+	}
+	
+	private void processInput1Element(Input1Element element)
+	{
+		processInput1(Collections.singletonList(element));
+	}
+	
+	private void processInput1(Collection<Input1Element> chunk)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input1: ", chunk);
+		
+		synchronized (lock)
+		{
+			if (input1Completed)
+			{
+				throw new IllegalStateException("input1 has already been completed");
+			}
+			
+			List<OutputElement> output = new ArrayList<OutputElement>(Math.min(chunk.size(),
+				pendingInput2.size()));
+			Iterator<Input1Element> chunkIter = chunk.iterator();
+			
+			while (chunkIter.hasNext() && !pendingInput2.isEmpty())
+			{
+				output.add(elementOutputCreator.createOutput(chunkIter.next(), pendingInput2.poll()));
+			}
+			if (!input2Completed)
+			{
+				while (chunkIter.hasNext())
+				{
+					pendingInput1.add(chunkIter.next());
+				}
+			}
+			
+			sendOutput(output);
+		}
+	}
+	
+	private void processInput2Element(Input2Element element)
+	{
+		processInput2(Collections.singletonList(element));
+	}
+	
+	private void processInput2(Collection<Input2Element> chunk)
+	{
+		LoggingUtils.log(logger, logLevel, "receiving input2: ", chunk);
+		
+		synchronized (lock)
+		{
+			if (input2Completed)
+			{
+				throw new IllegalStateException("input2 has already been completed");
+			}
+			
+			List<OutputElement> output = new ArrayList<OutputElement>(Math.min(chunk.size(),
+				pendingInput1.size()));
+			Iterator<Input2Element> chunkIter = chunk.iterator();
+			
+			while (chunkIter.hasNext() && !pendingInput1.isEmpty())
+			{
+				output.add(elementOutputCreator.createOutput(pendingInput1.poll(), chunkIter.next()));
+			}
+			if (!input1Completed)
+			{
+				while (chunkIter.hasNext())
+				{
+					pendingInput2.add(chunkIter.next());
+				}
+			}
+			
+			sendOutput(output);
+		}
+	}
+	
+	private void sendOutput(List<OutputElement> output)
+	{
+		if (!output.isEmpty())
+		{
+			sendResult(output);
+		}
+	}
+	
+	private void processInput1Completed()
+	{
+		logger.log(logLevel, "receiving input1 completed");
+		
+		synchronized (lock)
+		{
+			input1Completed = true;
+			// Elements of input two that are still pending will never be joined
+			pendingInput2.clear();
+			sendCompletedIfComplete();
+		}
+	}
+	
+	private void processInput2Completed()
+	{
+		logger.log(logLevel, "receiving input2 completed");
+		
+		synchronized (lock)
+		{
+			input2Completed = true;
+			// Elements of input one that are still pending will never be joined
+			pendingInput1.clear();
+			sendCompletedIfComplete();
+		}
+	}
+	
+	private void sendCompletedIfComplete()
+	{
+		if (input1Completed && input2Completed)
+		{
+			reset();
+			
+			logger.log(logLevel, "sending completed");
+			
+			completedEvent.start();
+		}
+	}
+	
+	private void processReset()
+	{
+		logger.log(logLevel, "receiving reset");
+		
+		synchronized (lock)
+		{
+			reset();
+		}
+	}
+	
+	private void reset()
+	{
+		pendingInput1.clear();
+		pendingInput2.clear();
+		input1Completed = false;
+		input2Completed = false;
+	}
+	
+	/**
+	 * Retrieve the number of elements received that are waiting for their counterpart on the other
+	 * input
+	 * 
+	 * @return the number of pending elements
+	 */
+	public int getPendingCount()
+	{
+		synchronized (lock)
+		{
+			return pendingInput1.size() + pendingInput2.size();
+		}
+	}
+}
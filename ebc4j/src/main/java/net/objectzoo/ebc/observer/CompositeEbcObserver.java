@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer;
+
+/**
+ * An {@link EbcObserver} notifying several observers in the order given.
+ * 
+ * @author tilmann
+ */
+final class CompositeEbcObserver implements EbcObserver
+{
+	private final EbcObserver[] observers;
+	
+	CompositeEbcObserver(EbcObserver[] observers)
+	{
+		this.observers = observers;
+	}
+	
+	@Override
+	public void dispatchStarted(Object ebc, DispatchKind kind, Object parameter)
+	{
+		for (EbcObserver observer : observers)
+		{
+			observer.dispatchStarted(ebc, kind, parameter);
+		}
+	}
+	
+	@Override
+	public void dispatchCompleted(Object ebc, DispatchKind kind, long durationNanos, Throwable error)
+	{
+		for (EbcObserver observer : observers)
+		{
+			observer.dispatchCompleted(ebc, kind, durationNanos, error);
+		}
+	}
+	
+	@Override
+	public void sent(Object ebc, DispatchKind kind, Object parameter)
+	{
+		for (EbcObserver observer : observers)
+		{
+			observer.sent(ebc, kind, parameter);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer;
+
+/**
+ * An {@code EbcObserver} is notified about the dispatches of the EBCs derived from the base classes
+ * in {@link net.objectzoo.ebc.impl} and the joins in {@link net.objectzoo.ebc.join} when it has been
+ * added to the {@link EbcObservers}.
+ * 
+ * The notifications are made synchronously by the thread dispatching. So for each thread the
+ * {@link #dispatchStarted(Object, DispatchKind, Object)} and
+ * {@link #dispatchCompleted(Object, DispatchKind, long, Throwable)} notifications are
+ * nested properly and the {@link #sent(Object, DispatchKind, Object)} notifications of a dispatch
+ * are made between them. Implementations must be thread-safe and should return quickly.
+ * 
+ * @author tilmann
+ */
+public interface EbcObserver
+{
+	/**
+	 * Notifies that the given EBC starts to process a parameter or starts to run.
+	 * 
+	 * @param ebc
+	 *        the EBC dispatching
+	 * @param kind
+	 *        either {@link DispatchKind#PROCESS} or {@link DispatchKind#START}
+	 * @param parameter
+	 *        the parameter processed or {@code null} for {@link DispatchKind#START}
+	 */
+	void dispatchStarted(Object ebc, DispatchKind kind, Object parameter);
+	
+	/**
+	 * Notifies that the given EBC has completed a dispatch previously started.
+	 * 
+	 * @param ebc
+	 *        the EBC dispatching
+	 * @param kind
+	 *        either {@link DispatchKind#PROCESS} or {@link DispatchKind#START}
+	 * @param durationNanos
+	 *        the duration of the dispatch in nanoseconds including the dispatches triggered
+	 *        synchronously by the EBC
+	 * @param error
+	 *        the exception or error that has terminated the dispatch or {@code null} if it has
+	 *        completed normally
+	 */
+	void dispatchCompleted(Object ebc, DispatchKind kind, long durationNanos, Throwable error);
+	
+	/**
+	 * Notifies that the given EBC sends a result or a signal. The notification is made before the
+	 * subscribers of the event are invoked.
+	 * 
+	 * @param ebc
+	 *        the EBC sending
+	 * @param kind
+	 *        either {@link DispatchKind#RESULT} or {@link DispatchKind#SIGNAL}
+	 * @param parameter
+	 *        the result sent or {@code null} for {@link DispatchKind#SIGNAL}
+	 */
+	void sent(Object ebc, DispatchKind kind, Object parameter);
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.observer;
+
+import java.util.Arrays;
+
+/**
+ * The {@code EbcObservers} hold the {@link EbcObserver}s notified by the EBC base classes and
+ * contain the helpers used by the base classes to make the notifications.
+ * 
+ * When no observer has been added the base classes only read a single {@code volatile} field per
+ * dispatch. The parameters of the specialized EBCs for primitive values are only boxed while an
+ * observer has been added.
+ * 
+ * @author tilmann
+ */
+public final class EbcObservers
+{
+	private static final EbcObserver[] NO_OBSERVERS = new EbcObserver[0];
+	
+	private static EbcObserver[] observers = NO_OBSERVERS;
+	
+	private static volatile EbcObserver current;
+	
+	private EbcObservers()
+	{
+		// No instances will be made
+	}
+	
+	/**
+	 * Adds the given {@link EbcObserver} to be notified about all following dispatches if it is not
+	 * already added. Several observers are notified in the order they have been added.
+	 * 
+	 * @param observer
+	 *        the observer to be added
+	 * @throws IllegalArgumentException
+	 *         if the given observer is {@code null}
+	 */
+	public static synchronized void add(EbcObserver observer) throws IllegalArgumentException
+	{
+		if (observer == null)
+		{
+			throw new IllegalArgumentException("observer=null");
+		}
+		if (Arrays.asList(observers).contains(observer))
+		{
+			return;
+		}
+		
+		EbcObserver[] newObservers = Arrays.copyOf(observers, observers.length + 1);
+		newObservers[observers.length] = observer;
+		update(newObservers);
+	}
+	
+	/**
+	 * Removes the given {@link EbcObserver} so it is not notified anymore.
+	 * 
+	 * @param observer
+	 *        the observer to be removed
+	 */
+	public static synchronized void remove(EbcObserver observer)
+	{
+		int index = Arrays.asList(observers).indexOf(observer);
+		if (index < 0)
+		{
+			return;
+		}
+		
+		EbcObserver[] newObservers = new EbcObserver[observers.length - 1];
+		System.arraycopy(observers, 0, newObservers, 0, index);
+		System.arraycopy(observers, index + 1, newObservers, index, newObservers.length - index);
+		update(newObservers);
+	}
+	
+	/**
+	 * Removes all {@link EbcObserver}s.
+	 */
+	public static synchronized void clear()
+	{
+		update(NO_OBSERVERS);
+	}
+	
+	private static void update(EbcObserver[] newObservers)
+	{
+		observers = newObservers;
+		if (newObservers.length == 0)
+		{
+			current = null;
+		}
+		else if (newObservers.length == 1)
+		{
+			current = newObservers[0];
+		}
+		else
+		{
+			current = new CompositeEbcObserver(newObservers);
+		}
+	}
+	
+	/**
+	 * Returns the {@link EbcObserver} to be notified about the dispatch about to take place
+	 * 
+	 * @return the observer notifying all observers added or {@code null} if there are none
+	 */
+	public static EbcObserver current()
+	{
+		return current;
+	}
+	
+	/**
+	 * Runs the given dispatch of an EBC and notifies the given {@link EbcObserver} about its start
+	 * and its completion. The completion is notified even if the dispatch is terminated by an
+	 * {@link Error} or a checked exception thrown sneakily. If the given observer is {@code null}
+	 * the dispatch is run without any notification. Callers on a hot path check for a
+	 * {@code null} observer themselves so the dispatch is not even created while no observer has
+	 * been added.
+	 * 
+	 * @param observer
+	 *        the observer to be notified or {@code null}
+	 * @param ebc
+	 *        the EBC dispatching
+	 * @param kind
+	 *        either {@link DispatchKind#PROCESS} or {@link DispatchKind#START}
+	 * @param parameter
+	 *        the parameter processed or {@code null} for {@link DispatchKind#START}
+	 * @param dispatch
+	 *        the dispatch to be run
+	 */
+	public static void observe(EbcObserver observer, Object ebc, DispatchKind kind, Object parameter,
+							   Runnable dispatch)
+	{
+		if (observer == null)
+		{
+			dispatch.run();
+			return;
+		}
+		
+		observer.dispatchStarted(ebc, kind, parameter);
+		long startNanos = System.nanoTime();
+		Throwable error = null;
+		try
+		{
+			dispatch.run();
+		}
+		catch (Throwable e)
+		{
+			error = e;
+			throw e;
+		}
+		finally
+		{
+			observer.dispatchCompleted(ebc, kind, System.nanoTime() - startNanos, error);
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains the service provider interface used to observe the dispatching of EBCs.
+ */
+package net.objectzoo.ebc.observer;
@@ -25,9 +25,9 @@
 package net.objectzoo.ebc.split;
 
 import net.objectzoo.ebc.ProcessAndSignalFlow;
+import net.objectzoo.ebc.events.CopyOnWriteEvent0Distributor;
 import net.objectzoo.ebc.impl.ProcessAndResultBase;
 import net.objectzoo.events.Event0;
-import net.objectzoo.events.impl.Event0Distributor;
 
 /**
  * The {@code SplitProcessToSignal} distributes the process and its parameter to multiple regular
@@ -41,7 +41,7 @@ import net.objectzoo.events.impl.Event0Distributor;
 public class SplitProcessToSignal<Parameter> extends ProcessAndResultBase<Parameter, Parameter>
 	implements ProcessAndSignalFlow<Parameter>
 {
-	private final Event0Distributor signalEvent = new Event0Distributor();
+	private final CopyOnWriteEvent0Distributor signalEvent = new CopyOnWriteEvent0Distributor();
 	
 	/**
 	 * {@inheritDoc}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License
+ * 
+ * Copyright (C) 2011 Tilmann Kuhn
+ * 
+ * http://www.object-zoo.net
+ * 
+ * mailto:ebc4j@object-zoo.net
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package net.objectzoo.ebc.state;
+
+/**
+ * An {@code AtomicState} is a {@link State} that additionally supports an atomic compare and set
+ * operation. EBCs holding immutable state values use it to update their state without locking
+ * even if they are invoked by multiple threads simultaneously.
+ * 
+ * @author tilmann
+ * 
+ * @param <Value>
+ *        the type of the state to be hold
+ */
+public interface AtomicState<Value> extends State<Value>
+{
+	/**
+	 * Set the current state to the new value if the current value is the expected value. The values
+	 * are compared by identity.
+	 * 
+	 * @param expectedValue
+	 *        the value expected to be the current value of the state
+	 * @param newValue
+	 *        the new value for the state
+	 * @return {@code true} if the state has been set and {@code false} if the current value was not
+	 *         the expected value
+	 */
+	boolean compareAndSet(Value expectedValue, Value newValue);
+}
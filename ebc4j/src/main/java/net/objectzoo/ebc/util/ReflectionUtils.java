@@ -77,6 +77,55 @@ public class ReflectionUtils
 			+ parameter2Type.getName() + " as arguments.");
 	}
 	
+	/**
+	 * Tries to find a {@link Constructor} in the object type that takes the given parameter types as
+	 * parameters.
+	 * 
+	 * @param objectType
+	 *        the object type to find the constructor in
+	 * @param parameterTypes
+	 *        the parameter types in the order of the constructor's parameters
+	 * @return the found constructor
+	 * @throws IllegalArgumentException
+	 *         if no fitting constructor can be found
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Constructor<T> findConstructorWithParameters(Class<T> objectType, Class<?>... parameterTypes)
+	{
+		for (Constructor<?> constructor : objectType.getConstructors())
+		{
+			if (isApplicable(constructor.getParameterTypes(), parameterTypes))
+			{
+				constructor.setAccessible(true);
+				return (Constructor<T>) constructor;
+			}
+		}
+		
+		StringBuilder parameterNames = new StringBuilder();
+		for (Class<?> parameterType : parameterTypes)
+		{
+			parameterNames.append(parameterNames.length() == 0 ? "" : ", ").append(parameterType.getName());
+		}
+		throw new IllegalArgumentException("The object type " + objectType.getName()
+			+ " does not have a constructor taking " + parameterNames + " as arguments.");
+	}
+	
+	private static boolean isApplicable(Class<?>[] constructorParameterTypes, Class<?>[] parameterTypes)
+	{
+		if (constructorParameterTypes.length != parameterTypes.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < parameterTypes.length; i++)
+		{
+			if (!constructorParameterTypes[i].isAssignableFrom(parameterTypes[i]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	/**
 	 * Retrieve the raw type of the generic super class' type argument. This will only work
 	 * correctly when the given concrete generic type specifies concrete classes for the type
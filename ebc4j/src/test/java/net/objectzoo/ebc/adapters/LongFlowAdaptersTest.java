@@ -0,0 +1,71 @@
+package net.objectzoo.ebc.adapters;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.LongProcessAndResultBase;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+
+@SuppressWarnings("javadoc")
+public class LongFlowAdaptersTest
+{
+	static class LongIncrementer extends LongProcessAndResultBase
+	{
+		@Override
+		protected void process(long parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	static class BoxedIncrementer extends ProcessAndResultBase<Long, Long>
+	{
+		@Override
+		protected void process(Long parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	private final List<Long> results = new ArrayList<Long>();
+	
+	@Test
+	public void longFlowToProcessAndResultFlow_boxes_and_unboxes()
+	{
+		LongFlowToProcessAndResultFlow sut = new LongFlowToProcessAndResultFlow(new LongIncrementer());
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(1L);
+		
+		assertThat(results, is(asList(2L)));
+	}
+	
+	@Test
+	public void processAndResultFlowToLongFlow_boxes_and_unboxes()
+	{
+		ProcessAndResultFlowToLongFlow sut = new ProcessAndResultFlowToLongFlow(new BoxedIncrementer());
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(1L);
+		
+		assertThat(results, is(asList(2L)));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void longFlowToProcessAndResultFlow_throws_exception_for_null()
+	{
+		new LongFlowToProcessAndResultFlow(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void processAndResultFlowToLongFlow_throws_exception_for_null()
+	{
+		new ProcessAndResultFlowToLongFlow(null);
+	}
+}
@@ -0,0 +1,63 @@
+package net.objectzoo.ebc.batch;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class AccumulateBatchTest
+{
+	private final AccumulateBatch<String> sut = new AccumulateBatch<String>(2);
+	
+	private final List<List<String>> batches = new ArrayList<List<String>>();
+	
+	{
+		sut.resultEvent().subscribe(batches::add);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_batch_size()
+	{
+		new AccumulateBatch<String>(0);
+	}
+	
+	@Test
+	public void sends_full_batches()
+	{
+		sut.processAction().accept("a");
+		
+		assertThat(batches.isEmpty(), is(true));
+		assertThat(sut.getPendingCount(), is(1));
+		
+		sut.processAction().accept("b");
+		sut.processAction().accept("c");
+		sut.processAction().accept("d");
+		
+		assertThat(batches, is(asList(asList("a", "b"), asList("c", "d"))));
+		assertThat(sut.getPendingCount(), is(0));
+	}
+	
+	@Test
+	public void flush_sends_partial_batch()
+	{
+		sut.processAction().accept("a");
+		
+		sut.flushAction().start();
+		
+		assertThat(batches, is(asList(asList("a"))));
+	}
+	
+	@Test
+	public void flush_without_pending_values_sends_nothing()
+	{
+		sut.flushAction().start();
+		
+		assertThat(batches, is(Collections.<List<String>> emptyList()));
+	}
+}
@@ -0,0 +1,27 @@
+package net.objectzoo.ebc.batch;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SplitBatchTest
+{
+	@Test
+	public void sends_values_of_batch_in_order()
+	{
+		SplitBatch<String> sut = new SplitBatch<String>();
+		List<String> results = new ArrayList<String>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(asList("a", "b"));
+		sut.processAction().accept(asList("c"));
+		
+		assertThat(results, is(asList("a", "b", "c")));
+	}
+}
@@ -0,0 +1,179 @@
+package net.objectzoo.ebc.builder;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.SendsResult;
+import net.objectzoo.ebc.SendsSignal;
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.map.MapPairToItem1;
+import net.objectzoo.ebc.map.MapPairToItem2;
+import net.objectzoo.ebc.split.SplitProcess;
+import net.objectzoo.ebc.split.SplitProcessToSignal;
+import net.objectzoo.ebc.split.SplitSignal;
+import net.objectzoo.ebc.util.Pair;
+
+@SuppressWarnings("javadoc")
+public class FlowGraphTest
+{
+	static class Incrementer extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	private final List<Object> log = new ArrayList<Object>();
+	
+	private final CopyOnWriteEventDistributor<Pair<String, Integer>> source = new CopyOnWriteEventDistributor<Pair<String, Integer>>();
+	
+	private FlowGraph graph;
+	
+	private <T> SendsResultConnector<T> awaitResult(SendsResult<T> flow)
+	{
+		return graph == null ? Flow.await(flow) : graph.await(flow);
+	}
+	
+	private SendsSignalConnector awaitSignal(SendsSignal flow)
+	{
+		return graph == null ? Flow.await(flow) : graph.await(flow);
+	}
+	
+	private SplitProcess<Pair<String, Integer>> wireExampleFlow()
+	{
+		SplitProcess<Pair<String, Integer>> split = (graph == null ? Flow.await(source) : graph.await(source)).thenSplit();
+		
+		awaitResult(split).then(new MapPairToItem1<String>()).then(item1 -> log.add("item1 " + item1));
+		SplitProcessToSignal<Integer> item2Split = awaitResult(split).then(new MapPairToItem2<Integer>())
+			.then(new Incrementer())
+			.thenSplitProcessToSignal();
+		awaitResult(item2Split).then(item2 -> log.add("item2 " + item2));
+		awaitSignal(item2Split).then(() -> log.add("item2 done"));
+		awaitResult(split).then(pair -> log.add("pair " + pair.getItem1()));
+		
+		SplitSignal signalSplit = awaitSignal(awaitResult(split).thenSplitProcessToSignal()).thenSplit();
+		awaitSignal(signalSplit).then(() -> log.add("signal 1"));
+		awaitSignal(signalSplit).then(() -> log.add("signal 2"));
+		
+		return split;
+	}
+	
+	private List<Object> runExampleFlow()
+	{
+		log.clear();
+		source.accept(new Pair<String, Integer>("a", 1));
+		source.accept(new Pair<String, Integer>("b", 2));
+		return new ArrayList<Object>(log);
+	}
+	
+	@Test
+	public void compiled_flow_is_equivalent_to_direct_flow()
+	{
+		wireExampleFlow();
+		List<Object> expected = runExampleFlow();
+		
+		FlowGraphTest fusedTest = new FlowGraphTest();
+		fusedTest.graph = new FlowGraph();
+		fusedTest.wireExampleFlow();
+		fusedTest.graph.compile();
+		
+		assertThat(fusedTest.runExampleFlow(), is(expected));
+		assertThat(expected.size(), is(12));
+	}
+	
+	@Test
+	public void compiling_inlines_glue_and_subscribes_each_event_once()
+	{
+		graph = new FlowGraph();
+		wireExampleFlow();
+		graph.compile();
+		
+		assertThat(graph.isCompiled(), is(true));
+		assertThat(graph.getConnectionCount(), is(13));
+		assertThat(graph.getInlinedFlowCount(), is(6));
+		assertThat(graph.getSubscriptionCount(), is(9));
+	}
+	
+	@Test
+	public void inlined_glue_keeps_working_when_invoked_directly()
+	{
+		graph = new FlowGraph();
+		SplitProcess<Pair<String, Integer>> split = wireExampleFlow();
+		graph.compile();
+		
+		split.processAction().accept(new Pair<String, Integer>("c", 3));
+		
+		assertThat(log, is(asList((Object) "item1 c", "item2 4", "item2 done", "pair c", "signal 1", "signal 2")));
+	}
+	
+	@Test
+	public void glue_with_external_subscribers_is_not_inlined()
+	{
+		graph = new FlowGraph();
+		SplitProcess<String> split = new SplitProcess<String>();
+		CopyOnWriteEventDistributor<String> event = new CopyOnWriteEventDistributor<String>();
+		Flow.await(split).then(value -> log.add("external " + value));
+		graph.await(event).then(split).then(value -> log.add("graph " + value));
+		graph.compile();
+		
+		event.accept("x");
+		
+		assertThat(graph.getInlinedFlowCount(), is(0));
+		assertThat(log, is(asList((Object) "external x", "graph x")));
+	}
+	
+	@Test
+	public void action0_adapter_stays_target_of_inlined_glue()
+	{
+		graph = new FlowGraph();
+		CopyOnWriteEventDistributor<String> event = new CopyOnWriteEventDistributor<String>();
+		SplitProcess<String> split = graph.await(event).thenSplit();
+		graph.await(split).then(() -> log.add("started"));
+		graph.await(split).then(value -> log.add("value " + value));
+		graph.compile();
+		
+		event.accept("x");
+		
+		assertThat(graph.getInlinedFlowCount(), is(1));
+		assertThat(graph.getSubscriptionCount(), is(2));
+		assertThat(log, is(asList((Object) "started", "value x")));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void glue_connected_in_a_cycle_is_rejected()
+	{
+		graph = new FlowGraph();
+		SplitProcess<String> split1 = new SplitProcess<String>();
+		SplitProcess<String> split2 = new SplitProcess<String>();
+		graph.await(split1).then(split2).then(split1);
+		
+		graph.compile();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void compiling_twice_is_rejected()
+	{
+		graph = new FlowGraph();
+		graph.compile();
+		
+		graph.compile();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void recording_after_compiling_is_rejected()
+	{
+		graph = new FlowGraph();
+		graph.compile();
+		
+		graph.await(source).then(log::add);
+	}
+}
@@ -0,0 +1,54 @@
+package net.objectzoo.ebc.builder;
+
+import static java.util.Arrays.asList;
+import static net.objectzoo.ebc.builder.Flow.await;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.events.CopyOnWriteEventDistributor;
+import net.objectzoo.ebc.events.CopyOnWriteLongEventDistributor;
+import net.objectzoo.ebc.impl.LongProcessAndResultBase;
+
+@SuppressWarnings("javadoc")
+public class LongResultConnectorTest
+{
+	static class LongIncrementer extends LongProcessAndResultBase
+	{
+		@Override
+		protected void process(long parameter)
+		{
+			sendResult(parameter + 1);
+		}
+	}
+	
+	private final List<Object> results = new ArrayList<Object>();
+	
+	@Test
+	public void connects_long_flows()
+	{
+		CopyOnWriteLongEventDistributor event = new CopyOnWriteLongEventDistributor();
+		LongIncrementer incrementer1 = new LongIncrementer();
+		LongIncrementer incrementer2 = new LongIncrementer();
+		
+		await(event).then(incrementer1).then(incrementer2).then((long value) -> results.add(value));
+		event.accept(1L);
+		
+		assertThat(results, is(asList((Object) 3L)));
+	}
+	
+	@Test
+	public void converts_to_long_and_back_to_boxed()
+	{
+		CopyOnWriteEventDistributor<String> event = new CopyOnWriteEventDistributor<String>();
+		
+		await(event).thenToLong(Long::parseLong).then(new LongIncrementer()).thenBoxed().then(results::add);
+		event.accept("41");
+		
+		assertThat(results, is(asList((Object) 42L)));
+	}
+}
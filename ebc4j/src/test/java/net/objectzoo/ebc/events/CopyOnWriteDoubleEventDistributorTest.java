@@ -0,0 +1,75 @@
+package net.objectzoo.ebc.events;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CopyOnWriteDoubleEventDistributorTest
+{
+	private CopyOnWriteDoubleEventDistributor sut = new CopyOnWriteDoubleEventDistributor();
+	
+	private List<String> invocations = new ArrayList<String>();
+	
+	private DoubleConsumer subscriber(final String name)
+	{
+		return parameter -> invocations.add(name + ":" + parameter);
+	}
+	
+	@Test
+	public void accept_without_subscribers_does_nothing()
+	{
+		sut.accept(1.5);
+		
+		assertThat(sut.hasSubscribers(), is(false));
+	}
+	
+	@Test
+	public void accept_invokes_subscribers_in_order_of_subscription()
+	{
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber("b"));
+		
+		sut.accept(1.5);
+		
+		assertThat(invocations, is(asList("a:" + 1.5, "b:" + 1.5)));
+	}
+	
+	@Test
+	public void subscribe_ignores_subscriber_already_subscribed()
+	{
+		DoubleConsumer subscriber = subscriber("a");
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber);
+		
+		sut.accept(1.5);
+		
+		assertThat(invocations, is(asList("a:" + 1.5)));
+	}
+	
+	@Test
+	public void unsubscribe_removes_subscriber()
+	{
+		DoubleConsumer subscriber = subscriber("b");
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber);
+		
+		sut.unsubscribe(subscriber);
+		sut.accept(1.5);
+		
+		assertThat(invocations, is(asList("a:" + 1.5)));
+		assertThat(sut.hasSubscribers(), is(true));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void subscribe_throws_exception_for_null()
+	{
+		sut.subscribe(null);
+	}
+}
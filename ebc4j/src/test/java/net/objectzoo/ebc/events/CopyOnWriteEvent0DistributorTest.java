@@ -0,0 +1,75 @@
+package net.objectzoo.ebc.events;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.delegates.Action0;
+
+@SuppressWarnings("javadoc")
+public class CopyOnWriteEvent0DistributorTest
+{
+	private CopyOnWriteEvent0Distributor sut = new CopyOnWriteEvent0Distributor();
+	
+	private List<String> invocations = new ArrayList<String>();
+	
+	private Action0 subscriber(final String name)
+	{
+		return new Action0()
+		{
+			@Override
+			public void start()
+			{
+				invocations.add(name);
+			}
+		};
+	}
+	
+	@Test
+	public void start_invokes_subscribers_in_order_of_subscription()
+	{
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber("b"));
+		
+		sut.start();
+		
+		assertThat(invocations, is(asList("a", "b")));
+	}
+	
+	@Test
+	public void subscribe_ignores_subscriber_already_subscribed()
+	{
+		Action0 subscriber = subscriber("a");
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber);
+		
+		sut.start();
+		
+		assertThat(invocations, is(asList("a")));
+	}
+	
+	@Test
+	public void unsubscribe_removes_subscriber()
+	{
+		Action0 subscriber = subscriber("a");
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber("b"));
+		
+		sut.unsubscribe(subscriber);
+		sut.start();
+		
+		assertThat(invocations, is(asList("b")));
+		assertThat(sut.hasSubscribers(), is(true));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void subscribe_throws_exception_for_null()
+	{
+		sut.subscribe(null);
+	}
+}
@@ -0,0 +1,122 @@
+package net.objectzoo.ebc.events;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CopyOnWriteEventDistributorTest
+{
+	private CopyOnWriteEventDistributor<String> sut = new CopyOnWriteEventDistributor<String>();
+	
+	private List<String> invocations = new ArrayList<String>();
+	
+	private Consumer<String> subscriber(final String name)
+	{
+		return new Consumer<String>()
+		{
+			@Override
+			public void accept(String parameter)
+			{
+				invocations.add(name + ":" + parameter);
+			}
+		};
+	}
+	
+	@Test
+	public void accept_without_subscribers_does_nothing()
+	{
+		sut.accept("foo");
+		
+		assertThat(sut.hasSubscribers(), is(false));
+	}
+	
+	@Test
+	public void accept_invokes_subscribers_in_order_of_subscription()
+	{
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber("b"));
+		sut.subscribe(subscriber("c"));
+		
+		sut.accept("foo");
+		
+		assertThat(invocations, is(asList("a:foo", "b:foo", "c:foo")));
+	}
+	
+	@Test
+	public void subscribe_ignores_subscriber_already_subscribed()
+	{
+		Consumer<String> subscriber = subscriber("a");
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber);
+		
+		sut.accept("foo");
+		
+		assertThat(invocations, is(asList("a:foo")));
+	}
+	
+	@Test
+	public void unsubscribe_removes_subscriber()
+	{
+		Consumer<String> subscriber = subscriber("b");
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber("c"));
+		
+		sut.unsubscribe(subscriber);
+		sut.accept("foo");
+		
+		assertThat(invocations, is(asList("a:foo", "c:foo")));
+	}
+	
+	@Test
+	public void unsubscribe_ignores_unknown_subscriber()
+	{
+		sut.subscribe(subscriber("a"));
+		
+		sut.unsubscribe(subscriber("b"));
+		sut.accept("foo");
+		
+		assertThat(invocations, is(asList("a:foo")));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void subscribe_throws_exception_for_null()
+	{
+		sut.subscribe(null);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void unsubscribe_throws_exception_for_null()
+	{
+		sut.unsubscribe(null);
+	}
+	
+	@Test
+	public void subscription_changes_during_accept_take_effect_with_next_accept()
+	{
+		final Consumer<String> late = subscriber("late");
+		final Consumer<String> removed = subscriber("removed");
+		sut.subscribe(new Consumer<String>()
+		{
+			@Override
+			public void accept(String parameter)
+			{
+				sut.subscribe(late);
+				sut.unsubscribe(removed);
+			}
+		});
+		sut.subscribe(removed);
+		
+		sut.accept("1");
+		sut.accept("2");
+		
+		assertThat(invocations, is(asList("removed:1", "late:2")));
+	}
+}
@@ -0,0 +1,75 @@
+package net.objectzoo.ebc.events;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class CopyOnWriteIntEventDistributorTest
+{
+	private CopyOnWriteIntEventDistributor sut = new CopyOnWriteIntEventDistributor();
+	
+	private List<String> invocations = new ArrayList<String>();
+	
+	private IntConsumer subscriber(final String name)
+	{
+		return parameter -> invocations.add(name + ":" + parameter);
+	}
+	
+	@Test
+	public void accept_without_subscribers_does_nothing()
+	{
+		sut.accept(1);
+		
+		assertThat(sut.hasSubscribers(), is(false));
+	}
+	
+	@Test
+	public void accept_invokes_subscribers_in_order_of_subscription()
+	{
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber("b"));
+		
+		sut.accept(1);
+		
+		assertThat(invocations, is(asList("a:" + 1, "b:" + 1)));
+	}
+	
+	@Test
+	public void subscribe_ignores_subscriber_already_subscribed()
+	{
+		IntConsumer subscriber = subscriber("a");
+		sut.subscribe(subscriber);
+		sut.subscribe(subscriber);
+		
+		sut.accept(1);
+		
+		assertThat(invocations, is(asList("a:" + 1)));
+	}
+	
+	@Test
+	public void unsubscribe_removes_subscriber()
+	{
+		IntConsumer subscriber = subscriber("b");
+		sut.subscribe(subscriber("a"));
+		sut.subscribe(subscriber);
+		
+		sut.unsubscribe(subscriber);
+		sut.accept(1);
+		
+		assertThat(invocations, is(asList("a:" + 1)));
+		assertThat(sut.hasSubscribers(), is(true));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void subscribe_throws_exception_for_null()
+	{
+		sut.subscribe(null);
+	}
+}
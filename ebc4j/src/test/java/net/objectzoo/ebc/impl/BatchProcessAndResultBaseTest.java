@@ -0,0 +1,53 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class BatchProcessAndResultBaseTest
+{
+	static class BatchLength extends BatchProcessAndResultBase<String, Integer>
+	{
+		List<List<String>> batches = new ArrayList<List<String>>();
+		
+		@Override
+		protected void processBatch(List<String> batch)
+		{
+			batches.add(batch);
+			List<Integer> results = new ArrayList<Integer>(batch.size());
+			for (String parameter : batch)
+			{
+				results.add(parameter.length());
+			}
+			sendResults(results);
+		}
+	}
+	
+	@Test
+	public void process_action_invoke_calls_processBatch()
+	{
+		BatchLength sut = new BatchLength();
+		
+		sut.processAction().accept(asList("a", "bb"));
+		
+		assertThat(sut.batches, is(asList(asList("a", "bb"))));
+	}
+	
+	@Test
+	public void sendResults_sends_batch_as_single_result_event()
+	{
+		BatchLength sut = new BatchLength();
+		List<List<Integer>> results = new ArrayList<List<Integer>>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(asList("a", "bb", "ccc"));
+		
+		assertThat(results, is(asList(asList(1, 2, 3))));
+	}
+}
@@ -0,0 +1,31 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleResultBaseTest
+{
+	static class DoubleResultImpl extends DoubleResultBase
+	{
+		
+	}
+	
+	@Test
+	public void sendResult_sends_result_event()
+	{
+		DoubleResultImpl sut = new DoubleResultImpl();
+		List<Double> results = new ArrayList<Double>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.sendResult(3.5);
+		
+		assertThat(results, is(asList((Double) 3.5)));
+	}
+}
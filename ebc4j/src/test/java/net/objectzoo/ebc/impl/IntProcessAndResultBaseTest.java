@@ -0,0 +1,45 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntProcessAndResultBaseTest
+{
+	static class Doubler extends IntProcessAndResultBase
+	{
+		@Override
+		protected void process(int parameter)
+		{
+			sendResult(parameter * 2);
+		}
+	}
+	
+	private final List<Integer> results = new ArrayList<Integer>();
+	
+	@Test
+	public void process_action_invoke_calls_process_and_sends_result()
+	{
+		Doubler sut = new Doubler();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(1);
+		sut.processAction().accept(2);
+		
+		assertThat(results, is(asList((Integer) (1 * 2), (Integer) (2 * 2))));
+	}
+	
+	@Test
+	public void processAction_returns_same_instance()
+	{
+		Doubler sut = new Doubler();
+		
+		assertThat(sut.processAction() == sut.processAction(), is(true));
+	}
+}
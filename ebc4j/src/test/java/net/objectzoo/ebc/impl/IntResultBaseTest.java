@@ -0,0 +1,31 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntResultBaseTest
+{
+	static class IntResultImpl extends IntResultBase
+	{
+		
+	}
+	
+	@Test
+	public void sendResult_sends_result_event()
+	{
+		IntResultImpl sut = new IntResultImpl();
+		List<Integer> results = new ArrayList<Integer>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.sendResult(3);
+		
+		assertThat(results, is(asList((Integer) 3)));
+	}
+}
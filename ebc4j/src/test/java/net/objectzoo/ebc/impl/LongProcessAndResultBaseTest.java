@@ -0,0 +1,45 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongProcessAndResultBaseTest
+{
+	static class Doubler extends LongProcessAndResultBase
+	{
+		@Override
+		protected void process(long parameter)
+		{
+			sendResult(parameter * 2);
+		}
+	}
+	
+	private final List<Long> results = new ArrayList<Long>();
+	
+	@Test
+	public void process_action_invoke_calls_process_and_sends_result()
+	{
+		Doubler sut = new Doubler();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.processAction().accept(1L);
+		sut.processAction().accept(2L);
+		
+		assertThat(results, is(asList((Long) (1L * 2), (Long) (2L * 2))));
+	}
+	
+	@Test
+	public void processAction_returns_same_instance()
+	{
+		Doubler sut = new Doubler();
+		
+		assertThat(sut.processAction() == sut.processAction(), is(true));
+	}
+}
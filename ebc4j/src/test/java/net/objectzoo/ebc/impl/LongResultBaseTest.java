@@ -0,0 +1,31 @@
+package net.objectzoo.ebc.impl;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongResultBaseTest
+{
+	static class LongResultImpl extends LongResultBase
+	{
+		
+	}
+	
+	@Test
+	public void sendResult_sends_result_event()
+	{
+		LongResultImpl sut = new LongResultImpl();
+		List<Long> results = new ArrayList<Long>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.sendResult(3L);
+		
+		assertThat(results, is(asList((Long) 3L)));
+	}
+}
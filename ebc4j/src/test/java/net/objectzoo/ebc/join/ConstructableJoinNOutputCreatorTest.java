@@ -0,0 +1,57 @@
+package net.objectzoo.ebc.join;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ConstructableJoinNOutputCreatorTest
+{
+	public static class FailingObject
+	{
+		public FailingObject(String s)
+		{
+			if (s.equals("error"))
+			{
+				throw new AssertionError(s);
+			}
+			throw new IllegalStateException(s);
+		}
+	}
+	
+	private final ConstructableJoinNOutputCreator<FailingObject> sut = createOutputCreator();
+	
+	private static ConstructableJoinNOutputCreator<FailingObject> createOutputCreator()
+	{
+		try
+		{
+			return new ConstructableJoinNOutputCreator<FailingObject>(FailingObject.class.getConstructor(String.class));
+		}
+		catch (NoSuchMethodException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Test
+	public void createOutput_wraps_exception_of_constructor()
+	{
+		try
+		{
+			sut.createOutput(new Object[] { "exception" });
+		}
+		catch (IllegalArgumentException e)
+		{
+			assertThat(e.getCause() instanceof IllegalStateException, is(true));
+			return;
+		}
+		throw new AssertionError("IllegalArgumentException expected");
+	}
+	
+	@Test(expected = AssertionError.class)
+	public void createOutput_rethrows_error_of_constructor()
+	{
+		sut.createOutput(new Object[] { "error" });
+	}
+}
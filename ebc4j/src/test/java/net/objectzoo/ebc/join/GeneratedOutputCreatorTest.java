@@ -0,0 +1,111 @@
+package net.objectzoo.ebc.join;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+@SuppressWarnings({ "rawtypes", "unchecked", "javadoc" })
+public class GeneratedOutputCreatorTest
+{
+	static class HiddenObject
+	{
+		public HiddenObject(String s, Integer i)
+		{
+			// nothing to do
+		}
+	}
+	
+	public static class FailingObject
+	{
+		public FailingObject(String s, Integer i)
+		{
+			throw new IllegalStateException("failing");
+		}
+	}
+	
+	@Test
+	public void creates_TestObject_with_given_constructor()
+	{
+		GeneratedOutputCreator sut = new GeneratedOutputCreator<String, Integer, TestObject>(
+			(Constructor) TestObject.class.getConstructors()[0]);
+		
+		Object result = sut.createOutput("1", 1);
+		
+		assertThat(result, instanceOf(TestObject.class));
+		TestObject result2 = (TestObject) result;
+		assertThat(result2.s, is("1"));
+		assertThat(result2.i, is(1));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_constructor()
+	{
+		new GeneratedOutputCreator<String, Integer, TestObject>(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_constructor_of_non_public_class()
+	{
+		new GeneratedOutputCreator<String, Integer, HiddenObject>(
+			(Constructor) HiddenObject.class.getConstructors()[0]);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void createOutput_throws_exception_for_inputs_not_fitting_constructor()
+	{
+		GeneratedOutputCreator sut = new GeneratedOutputCreator<String, Integer, TestObject>(
+			(Constructor) TestObject.class.getConstructors()[0]);
+		
+		sut.createOutput(1, "1");
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void createOutput_throws_exception_if_constructor_fails()
+	{
+		GeneratedOutputCreator sut = new GeneratedOutputCreator<String, Integer, FailingObject>(
+			(Constructor) FailingObject.class.getConstructors()[0]);
+		
+		sut.createOutput("1", 1);
+	}
+	
+	@Test
+	public void forConstructor_returns_GeneratedOutputCreator_for_public_class()
+	{
+		JoinOutputCreator result = GeneratedOutputCreator.forConstructor(TestObject.class.getConstructors()[0]);
+		
+		assertThat(result, instanceOf(GeneratedOutputCreator.class));
+	}
+	
+	@Test
+	public void forConstructor_falls_back_to_ConstructableOutputCreator_for_non_public_class()
+	{
+		JoinOutputCreator result = GeneratedOutputCreator.forConstructor(HiddenObject.class.getConstructors()[0]);
+		
+		assertThat(result, instanceOf(ConstructableOutputCreator.class));
+		assertThat(result.createOutput("1", 1), instanceOf(HiddenObject.class));
+	}
+	
+	@Test
+	public void forConstructor_falls_back_to_ConstructableOutputCreator_for_class_of_child_class_loader()
+		throws Exception
+	{
+		URL testClasses = TestObject.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader childLoader = new URLClassLoader(new URL[] { testClasses }, null))
+		{
+			Class<?> childTestObject = childLoader.loadClass(TestObject.class.getName());
+			
+			JoinOutputCreator sut = GeneratedOutputCreator.forConstructor(childTestObject.getConstructor(String.class,
+				Integer.class));
+			Object result = sut.createOutput("1", 1);
+			
+			assertThat(sut, instanceOf(ConstructableOutputCreator.class));
+			assertThat(result.getClass() == childTestObject, is(true));
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class GenericHashJoinCollectionsTest
+{
+	@Test
+	public void sends_list_of_TestObject_joined_by_key()
+	{
+		MockAction<List<TestObject>> result = new MockAction<List<TestObject>>();
+		
+		GenericHashJoinCollections<Integer, String, Integer, TestObject> sut = new GenericHashJoinCollections<Integer, String, Integer, TestObject>(
+			String::length, input2 -> input2, KeyJoinType.LEFT_OUTER)
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept(asList("bb", "ccc", "a"));
+		sut.input2Action().accept(asList(1, 2));
+		
+		assertThat(result.getLastResult(),
+			is(asList(new TestObject("bb", 2), new TestObject("ccc", null), new TestObject("a", 1))));
+	}
+	
+	@Test
+	public void sends_list_of_SubTestObject_joined_by_key()
+	{
+		MockAction<List<TestObject>> result = new MockAction<List<TestObject>>();
+		
+		GenericHashJoinCollections<Integer, String, Integer, TestObject> sut = new GenericHashJoinCollections<Integer, String, Integer, TestObject>(
+			SubTestObject.class, String::length, input2 -> input2, KeyJoinType.INNER, false)
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept(asList("bb", "a"));
+		sut.input2Action().accept(asList(1, 2));
+		
+		assertThat(result.getLastResult(),
+			is(asList((TestObject) new SubTestObject("a", 1), new SubTestObject("bb", 2))));
+	}
+}
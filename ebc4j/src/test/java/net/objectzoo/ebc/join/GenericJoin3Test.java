@@ -0,0 +1,84 @@
+package net.objectzoo.ebc.join;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class GenericJoin3Test
+{
+	public static class Triple
+	{
+		final String s;
+		
+		final Integer i;
+		
+		final Long l;
+		
+		public Triple(String s, Integer i, Long l)
+		{
+			this.s = s;
+			this.i = i;
+			this.l = l;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return s + i + l;
+		}
+	}
+	
+	public static class SubTriple extends Triple
+	{
+		public SubTriple(String s, Number i, Object l)
+		{
+			super(s + "!", (Integer) i, (Long) l);
+		}
+	}
+	
+	private final MockAction<Triple> result = new MockAction<Triple>();
+	
+	@Test
+	public void sends_output_constructed_from_inputs()
+	{
+		GenericJoin3<String, Integer, Long, Triple> sut = new GenericJoin3<String, Integer, Long, Triple>()
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		sut.input3Action().accept(3L);
+		
+		assertThat(result.getLastResult().toString(), is("a23"));
+	}
+	
+	@Test
+	public void sends_output_of_given_type_constructed_from_inputs()
+	{
+		GenericJoin3<String, Integer, Long, Triple> sut = new GenericJoin3<String, Integer, Long, Triple>(
+			SubTriple.class, false)
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		sut.input3Action().accept(3L);
+		
+		assertThat(result.getLastResult() instanceof SubTriple, is(true));
+		assertThat(result.getLastResult().toString(), is("a!23"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_if_output_type_has_no_fitting_constructor()
+	{
+		new GenericJoin3<String, Long, Long, Triple>()
+		{
+		};
+	}
+}
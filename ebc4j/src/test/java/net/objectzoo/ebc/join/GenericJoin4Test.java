@@ -0,0 +1,39 @@
+package net.objectzoo.ebc.join;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class GenericJoin4Test
+{
+	public static class Quadruple
+	{
+		final String value;
+		
+		public Quadruple(String s, Integer i, Long l, Character c)
+		{
+			this.value = s + i + l + c;
+		}
+	}
+	
+	@Test
+	public void sends_output_constructed_from_inputs()
+	{
+		MockAction<Quadruple> result = new MockAction<Quadruple>();
+		GenericJoin4<String, Integer, Long, Character, Quadruple> sut = new GenericJoin4<String, Integer, Long, Character, Quadruple>()
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		sut.input3Action().accept(3L);
+		sut.input4Action().accept('d');
+		
+		assertThat(result.getLastResult().value, is("a23d"));
+	}
+}
@@ -29,6 +29,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.junit.Test;
 
@@ -75,4 +76,43 @@ public class GenericJoinCollectionsTest
 			result.getLastResult(),
 			is((Collection) asList(new SubTestObject("String1", 1), new SubTestObject("String2", 2))));
 	}
+	
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void with_sortMergeKeys_sends_collection_of_TestObject_merged_by_key()
+	{
+		MockAction<Collection<TestObject>> result = new MockAction<Collection<TestObject>>();
+		
+		GenericJoinCollections<String, Integer, TestObject> sut = new GenericJoinCollections<String, Integer, TestObject>(
+			new SortMergeKeys<Integer, String, Integer>(String::length, input2 -> input2,
+				Comparator.<Integer> naturalOrder(), KeyJoinType.LEFT_OUTER, true))
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept(asList("a", "bb", "ccc"));
+		sut.input2Action().accept(asList(1, 3));
+		
+		assertThat(result.getLastResult(),
+			is((Collection) asList(new TestObject("a", 1), new TestObject("bb", null), new TestObject("ccc", 3))));
+	}
+	
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void with_sortMergeKeys_sends_collection_of_SubTestObject_merged_by_key()
+	{
+		MockAction<Collection<TestObject>> result = new MockAction<Collection<TestObject>>();
+		
+		GenericJoinCollections<String, Integer, TestObject> sut = new GenericJoinCollections<String, Integer, TestObject>(
+			SubTestObject.class, new SortMergeKeys<Integer, String, Integer>(String::length, input2 -> input2,
+				Comparator.<Integer> naturalOrder()), false)
+		{
+		};
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept(asList("a", "bb"));
+		sut.input2Action().accept(asList(2, 3));
+		
+		assertThat(result.getLastResult(), is((Collection) asList(new SubTestObject("bb", 2))));
+	}
 }
@@ -0,0 +1,36 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class HashJoinCollectionsTest
+{
+	@Test
+	public void sends_elements_joined_by_key_after_both_inputs()
+	{
+		MockAction<List<String>> result = new MockAction<List<String>>();
+		HashJoinCollections<Integer, String, Integer, String> sut = new HashJoinCollections<Integer, String, Integer, String>(
+			String::length, input2 -> input2, (input1, input2) -> input1 + input2, KeyJoinType.INNER);
+		sut.resultEvent().subscribe(result);
+		
+		sut.input1Action().accept(asList("bb", "a"));
+		sut.input2Action().accept(asList(1, 2));
+		
+		assertThat(result.getLastResult(), is(asList("a1", "bb2")));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_key_extractor()
+	{
+		new HashJoinCollections<Integer, String, Integer, String>(null, input2 -> input2,
+			(input1, input2) -> input1 + input2, KeyJoinType.INNER);
+	}
+}
@@ -0,0 +1,106 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class HashJoinOutputCreatorTest
+{
+	private static final JoinOutputCreator<String, Integer, String> CONCAT = (input1, input2) -> input1 + input2;
+	
+	private static HashJoinOutputCreator<Integer, String, Integer, String> createSut(KeyJoinType joinType)
+	{
+		return new HashJoinOutputCreator<Integer, String, Integer, String>(String::length, input2 -> input2, CONCAT,
+			joinType);
+	}
+	
+	@Test
+	public void inner_join_creates_output_for_elements_with_equal_keys()
+	{
+		List<String> result = createSut(KeyJoinType.INNER).createOutput(asList("bb", "a", "dddd"), asList(1, 2, 3, 4, 5));
+		
+		assertThat(result, is(asList("a1", "bb2", "dddd4")));
+	}
+	
+	@Test
+	public void inner_join_indexes_smaller_input1_and_keeps_order_of_input2()
+	{
+		List<String> result = createSut(KeyJoinType.INNER).createOutput(asList("ccc", "a"), asList(3, 2, 1));
+		
+		assertThat(result, is(asList("ccc3", "a1")));
+	}
+	
+	@Test
+	public void inner_join_creates_output_for_every_combination_of_duplicate_keys()
+	{
+		List<String> result = createSut(KeyJoinType.INNER).createOutput(asList("a", "b", "cc"), asList(1, 1, 2, 2, 9));
+		
+		assertThat(result, is(asList("a1", "b1", "a1", "b1", "cc2", "cc2")));
+	}
+	
+	@Test
+	public void left_outer_join_keeps_unmatched_input1_elements_when_input1_is_smaller()
+	{
+		List<String> result = createSut(KeyJoinType.LEFT_OUTER).createOutput(asList("a", "ccc"), asList(1, 2, 4));
+		
+		assertThat(result, is(asList("a1", "cccnull")));
+	}
+	
+	@Test
+	public void left_outer_join_keeps_unmatched_input1_elements_when_input1_is_larger()
+	{
+		List<String> result = createSut(KeyJoinType.LEFT_OUTER).createOutput(asList("a", "ccc", "bb"), asList(2));
+		
+		assertThat(result, is(asList("anull", "cccnull", "bb2")));
+	}
+	
+	@Test
+	public void full_outer_join_keeps_unmatched_elements_of_both_inputs()
+	{
+		List<String> result = createSut(KeyJoinType.FULL_OUTER).createOutput(asList("a", "ccc"), asList(4, 1, 2));
+		
+		assertThat(result, is(asList("null4", "a1", "null2", "cccnull")));
+	}
+	
+	@Test
+	public void full_outer_join_keeps_unmatched_elements_when_input1_is_larger()
+	{
+		List<String> result = createSut(KeyJoinType.FULL_OUTER).createOutput(asList("a", "ccc", "bb"), asList(2, 4));
+		
+		assertThat(result, is(asList("anull", "cccnull", "bb2", "null4")));
+	}
+	
+	@Test
+	public void full_outer_join_keeps_unmatched_duplicate_and_null_elements()
+	{
+		HashJoinOutputCreator<Integer, String, Integer, String> sut = new HashJoinOutputCreator<Integer, String, Integer, String>(
+			input1 -> input1 == null ? 0 : input1.length(), input2 -> input2, CONCAT, KeyJoinType.FULL_OUTER);
+		
+		List<String> result = sut.createOutput(asList("a", "b", "cc", "dd", null), asList(1, 1, 3, 4, 5, 6));
+		
+		assertThat(result, is(asList("a1", "b1", "a1", "b1", "null3", "null4", "null5", "null6", "ccnull", "ddnull",
+			"nullnull")));
+	}
+	
+	@Test
+	public void static_factories_create_output_creators_of_their_join_type()
+	{
+		assertThat(HashJoinOutputCreator.inner(String::length, (Integer input2) -> input2, CONCAT).getJoinType(),
+			is(KeyJoinType.INNER));
+		assertThat(HashJoinOutputCreator.leftOuter(String::length, (Integer input2) -> input2, CONCAT).getJoinType(),
+			is(KeyJoinType.LEFT_OUTER));
+		assertThat(HashJoinOutputCreator.fullOuter(String::length, (Integer input2) -> input2, CONCAT).getJoinType(),
+			is(KeyJoinType.FULL_OUTER));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_joinType()
+	{
+		createSut(null);
+	}
+}
@@ -0,0 +1,36 @@
+package net.objectzoo.ebc.join;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class Join3Test
+{
+	private final MockAction<String> result = new MockAction<String>();
+	
+	private final Join3<String, Integer, Long, String> sut = new Join3<String, Integer, Long, String>(
+		(s, i, l) -> s + i + l);
+	
+	@Test
+	public void sends_output_created_from_all_inputs()
+	{
+		sut.resultEvent().subscribe(result);
+		
+		sut.input3Action().accept(3L);
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		
+		assertThat(result.getLastResult(), is("a23"));
+		assertThat(sut.getInputCount(), is(3));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_outputCreator()
+	{
+		new Join3<String, Integer, Long, String>(null);
+	}
+}
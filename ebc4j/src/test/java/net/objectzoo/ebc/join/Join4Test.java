@@ -0,0 +1,50 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.test.MockAction;
+
+@SuppressWarnings("javadoc")
+public class Join4Test
+{
+	private final MockAction<String> result = new MockAction<String>();
+	
+	@Test
+	public void sends_output_created_from_all_inputs()
+	{
+		Join4<String, Integer, Long, Character, String> sut = new Join4<String, Integer, Long, Character, String>(
+			(s, i, l, c) -> s + i + l + c);
+		sut.resultEvent().subscribe(result);
+		
+		sut.input4Action().accept('d');
+		sut.input3Action().accept(3L);
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		
+		assertThat(result.getLastResult(), is("a23d"));
+	}
+	
+	@Test
+	public void without_resetAfterResultEvent_sends_new_result_for_changing_input()
+	{
+		Join4<String, Integer, Long, Character, String> sut = new Join4<String, Integer, Long, Character, String>(
+			(s, i, l, c) -> s + i + l + c, false);
+		List<String> results = new ArrayList<String>();
+		sut.resultEvent().subscribe(results::add);
+		
+		sut.input1Action().accept("a");
+		sut.input2Action().accept(2);
+		sut.input3Action().accept(3L);
+		sut.input4Action().accept('d');
+		sut.input2Action().accept(5);
+		
+		assertThat(results, is(asList("a23d", "a53d")));
+	}
+}
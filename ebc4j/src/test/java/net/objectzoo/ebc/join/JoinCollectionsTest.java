@@ -1,10 +1,13 @@
 package net.objectzoo.ebc.join;
 
 import static java.util.Arrays.asList;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Comparator;
+
 import org.junit.Test;
 
 import net.objectzoo.delegates.Action;
@@ -29,4 +32,55 @@ public class JoinCollectionsTest
 		
 		verify(mockAction).accept(asList("out1", "out2"));
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void uses_output_creator_of_selected_factory()
+	{
+		Action mockAction = mock(Action.class);
+		JoinOutputCreator mockOutputCreator = mock(JoinOutputCreator.class);
+		JoinOutputCreator mockCollectionsOutputCreator = mock(JoinOutputCreator.class);
+		CollectionOutputCreatorFactory mockFactory = mock(CollectionOutputCreatorFactory.class);
+		sut.resultEvent().subscribe(mockAction);
+		sut.initOutputElementCreator(mockOutputCreator);
+		when(mockFactory.createCollectionsOutputCreator(mockOutputCreator)).thenReturn(mockCollectionsOutputCreator);
+		when(mockCollectionsOutputCreator.createOutput(any(), any())).thenReturn(asList("out"));
+		
+		sut.setOutputCreatorFactory(mockFactory);
+		sut.input1Action().accept(asList(1));
+		sut.input2Action().accept(asList("A"));
+		
+		verify(mockAction).accept(asList("out"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void setOutputCreatorFactory_throws_exception_for_null()
+	{
+		sut.setOutputCreatorFactory(null);
+	}
+	
+	@Test
+	public void with_sortMergeKeys_sends_elements_merged_by_key()
+	{
+		Action mockAction = mock(Action.class);
+		JoinOutputCreator mockOutputCreator = mock(JoinOutputCreator.class);
+		sut.resultEvent().subscribe(mockAction);
+		sut.initOutputElementCreator(mockOutputCreator, new SortMergeKeys<Integer, Integer, String>(input1 -> input1,
+			String::length, Comparator.<Integer> naturalOrder()));
+		when(mockOutputCreator.createOutput(2, "BB")).thenReturn("out2");
+		when(mockOutputCreator.createOutput(3, "CCC")).thenReturn("out3");
+		
+		sut.input1Action().accept(asList(1, 2, 3));
+		sut.input2Action().accept(asList("BB", "CCC"));
+		
+		verify(mockAction).accept(asList("out2", "out3"));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void with_sortMergeKeys_setOutputCreatorFactory_throws_exception()
+	{
+		sut.initOutputElementCreator(mock(JoinOutputCreator.class), new SortMergeKeys<Integer, Integer, String>(
+			input1 -> input1, String::length, Comparator.<Integer> naturalOrder()));
+		
+		sut.setOutputCreatorFactory(new SequentialOutputCreatorFactory());
+	}
+}
@@ -0,0 +1,134 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.objectzoo.ebc.state.BasicStateFactory;
+
+@SuppressWarnings("javadoc")
+public class JoinNTest
+{
+	private final List<List<Object>> results = new ArrayList<List<Object>>();
+	
+	private JoinN<List<Object>> createJoin(int inputCount, boolean resetAfterResultEvent)
+	{
+		JoinN<List<Object>> join = new JoinN<List<Object>>(inputCount,
+			inputs -> new ArrayList<Object>(Arrays.asList(inputs)), resetAfterResultEvent);
+		join.resultEvent().subscribe(results::add);
+		return join;
+	}
+	
+	@Test
+	public void waits_for_all_inputs_to_continue()
+	{
+		JoinN<List<Object>> sut = createJoin(3, true);
+		
+		sut.inputAction(0).accept("a");
+		sut.inputAction(2).accept("c");
+		
+		assertThat(results.isEmpty(), is(true));
+		
+		sut.inputAction(1).accept("b");
+		
+		assertThat(results, is(asList(asList((Object) "a", "b", "c"))));
+	}
+	
+	@Test
+	public void creates_output_for_last_inputs()
+	{
+		JoinN<List<Object>> sut = createJoin(2, true);
+		
+		sut.inputAction(0).accept("a");
+		sut.inputAction(0).accept("b");
+		sut.inputAction(1).accept("c");
+		
+		assertThat(results, is(asList(asList((Object) "b", "c"))));
+	}
+	
+	@Test
+	public void with_resetAfterResultEvent_resets_inputs_after_result()
+	{
+		JoinN<List<Object>> sut = createJoin(2, true);
+		
+		sut.inputAction(0).accept("a");
+		sut.inputAction(1).accept("b");
+		sut.inputAction(1).accept("c");
+		
+		assertThat(results.size(), is(1));
+	}
+	
+	@Test
+	public void without_resetAfterResultEvent_sends_new_result_for_each_changing_input()
+	{
+		JoinN<List<Object>> sut = createJoin(2, false);
+		
+		sut.inputAction(0).accept("a");
+		sut.inputAction(1).accept("b");
+		sut.inputAction(1).accept("c");
+		
+		assertThat(results, is(asList(asList((Object) "a", "b"), asList((Object) "a", "c"))));
+	}
+	
+	@Test
+	public void resetAction_resets_inputs()
+	{
+		JoinN<List<Object>> sut = createJoin(2, false);
+		
+		sut.inputAction(0).accept("a");
+		sut.resetAction().start();
+		sut.inputAction(1).accept("b");
+		
+		assertThat(results.isEmpty(), is(true));
+	}
+	
+	@Test
+	public void supports_maximum_number_of_inputs()
+	{
+		JoinN<List<Object>> sut = createJoin(JoinN.MAX_INPUT_COUNT, true);
+		
+		for (int i = 0; i < JoinN.MAX_INPUT_COUNT; i++)
+		{
+			assertThat(results.isEmpty(), is(true));
+			sut.inputAction(i).accept(i);
+		}
+		
+		assertThat(results.size(), is(1));
+		assertThat(results.get(0).get(31), is((Object) 31));
+	}
+	
+	@Test
+	public void constructors_throw_exceptions_for_invalid_input_count()
+	{
+		for (int inputCount : new int[] { 1, JoinN.MAX_INPUT_COUNT + 1 })
+		{
+			try
+			{
+				createJoin(inputCount, true);
+				throw new AssertionError("no exception for inputCount=" + inputCount);
+			}
+			catch (IllegalArgumentException e)
+			{
+				// expected
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_outputCreator()
+	{
+		new JoinN<Object>(2, null, new BasicStateFactory(), null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void inputAction_throws_exception_for_unknown_index()
+	{
+		createJoin(2, true).inputAction(2);
+	}
+}
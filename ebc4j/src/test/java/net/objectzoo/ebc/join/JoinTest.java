@@ -1,5 +1,7 @@
 package net.objectzoo.ebc.join;
 
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
@@ -122,6 +124,32 @@ public class JoinTest
 		verify(mockOutputCreator, times(3)).createOutput(anyObject(), anyObject());
 	}
 	
+	@Test
+	public void counts_inputs_overwritten_before_the_other_input_is_set()
+	{
+		sut.input1Action().accept(11);
+		sut.input1Action().accept(12);
+		sut.input1Action().accept(13);
+		sut.input2Action().accept(21);
+		sut.input2Action().accept(22);
+		sut.input2Action().accept(23);
+		
+		assertThat(sut.getOverwrittenCount(), is(3L));
+	}
+	
+	@Test
+	public void without_resetAfterResultEvent_does_not_count_joined_inputs_as_overwritten()
+	{
+		sut = new Join(mockOutputCreator, false);
+		
+		sut.input1Action().accept(11);
+		sut.input2Action().accept(21);
+		sut.input2Action().accept(22);
+		sut.input1Action().accept(12);
+		
+		assertThat(sut.getOverwrittenCount(), is(0L));
+	}
+	
 	@Test
 	public void resetAction_resets_input1()
 	{
@@ -0,0 +1,169 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class KeyedJoinTest
+{
+	private final List<String> results = Collections.synchronizedList(new ArrayList<String>());
+	
+	private KeyedJoin<Integer, String, String, String> createJoin(int capacity)
+	{
+		KeyedJoin<Integer, String, String, String> join = new KeyedJoin<Integer, String, String, String>(
+			KeyedJoinTest::keyOf, KeyedJoinTest::keyOf, (i1, i2) -> i1 + "+" + i2, capacity);
+		join.resultEvent().subscribe(results::add);
+		return join;
+	}
+	
+	private static Integer keyOf(String value)
+	{
+		return Integer.valueOf(value.substring(0, value.indexOf(':')));
+	}
+	
+	private KeyedJoin<Integer, String, String, String> sut = createJoin(3);
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_key_extractor()
+	{
+		new KeyedJoin<Integer, String, String, String>(null, KeyedJoinTest::keyOf, (i1, i2) -> i1);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_non_positive_capacity()
+	{
+		createJoin(0);
+	}
+	
+	@Test
+	public void joins_inputs_with_equal_keys()
+	{
+		sut.input1Action().accept("1:a");
+		sut.input1Action().accept("2:a");
+		sut.input2Action().accept("2:b");
+		sut.input2Action().accept("1:b");
+		
+		assertThat(results, is(asList("2:a+2:b", "1:a+1:b")));
+		assertThat(sut.getPendingCount(), is(0));
+		assertThat(sut.getMatchedCount(), is(2L));
+	}
+	
+	@Test
+	public void later_input_with_same_key_wins()
+	{
+		sut.input1Action().accept("1:a");
+		sut.input1Action().accept("1:c");
+		sut.input2Action().accept("1:b");
+		
+		assertThat(results, is(asList("1:c+1:b")));
+	}
+	
+	@Test
+	public void counts_inputs_overwritten_before_being_matched()
+	{
+		sut.input1Action().accept("1:a");
+		sut.input1Action().accept("1:c");
+		sut.input2Action().accept("2:b");
+		sut.input2Action().accept("2:d");
+		sut.input2Action().accept("1:b");
+		sut.input1Action().accept("2:a");
+		
+		assertThat(sut.getOverwrittenCount(), is(2L));
+		assertThat(sut.getMatchedCount(), is(2L));
+	}
+	
+	@Test
+	public void matched_key_starts_over()
+	{
+		sut.input1Action().accept("1:a");
+		sut.input2Action().accept("1:b");
+		sut.input2Action().accept("1:d");
+		
+		assertThat(results, is(asList("1:a+1:b")));
+		assertThat(sut.getPendingCount(), is(1));
+	}
+	
+	@Test
+	public void evicts_oldest_pending_entry_when_capacity_is_exceeded()
+	{
+		sut.input1Action().accept("1:a");
+		sut.input1Action().accept("2:a");
+		sut.input1Action().accept("3:a");
+		sut.input1Action().accept("4:a");
+		sut.input2Action().accept("1:b");
+		
+		assertThat(results.isEmpty(), is(true));
+		assertThat(sut.getEvictedCount(), is(2L));
+		assertThat(sut.getPendingCount(), is(3));
+	}
+	
+	@Test
+	public void reset_clears_pending_entries()
+	{
+		sut.input1Action().accept("1:a");
+		
+		sut.resetAction().start();
+		sut.input2Action().accept("1:b");
+		
+		assertThat(results.isEmpty(), is(true));
+		assertThat(sut.getPendingCount(), is(1));
+	}
+	
+	@Test
+	public void joins_inputs_arriving_on_different_threads() throws Exception
+	{
+		final KeyedJoin<Integer, String, String, String> join = createJoin(100000);
+		final int count = 20000;
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread input1Thread = new Thread(() -> {
+			awaitQuietly(start);
+			for (int i = 0; i < count; i++)
+			{
+				join.input1Action().accept(i + ":a");
+			}
+		});
+		Thread input2Thread = new Thread(() -> {
+			awaitQuietly(start);
+			for (int i = count - 1; i >= 0; i--)
+			{
+				join.input2Action().accept(i + ":b");
+			}
+		});
+		input1Thread.start();
+		input2Thread.start();
+		start.countDown();
+		input1Thread.join();
+		input2Thread.join();
+		
+		Set<String> expected = new HashSet<String>();
+		for (int i = 0; i < count; i++)
+		{
+			expected.add(i + ":a+" + i + ":b");
+		}
+		assertThat(new HashSet<String>(results), is(expected));
+		assertThat(join.getMatchedCount(), is((long) count));
+		assertThat(join.getPendingCount(), is(0));
+	}
+	
+	private static void awaitQuietly(CountDownLatch latch)
+	{
+		try
+		{
+			latch.await();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SortMergeJoinOutputCreatorTest
+{
+	private static final JoinOutputCreator<String, Integer, String> CONCAT = (input1, input2) -> input1 + input2;
+	
+	private static SortMergeJoinOutputCreator<Integer, String, Integer, String> createSut(KeyJoinType joinType,
+																						 boolean verifySorted)
+	{
+		return new SortMergeKeys<Integer, String, Integer>(String::length, input2 -> input2,
+			Comparator.<Integer> naturalOrder(), joinType, verifySorted).createOutputCreator(CONCAT);
+	}
+	
+	@Test
+	public void inner_join_creates_output_for_elements_with_equal_keys()
+	{
+		List<String> result = createSut(KeyJoinType.INNER, false).createOutput(asList("a", "bb", "dddd"),
+			asList(1, 2, 3, 4, 5));
+		
+		assertThat(result, is(asList("a1", "bb2", "dddd4")));
+	}
+	
+	@Test
+	public void inner_join_creates_output_for_every_combination_of_duplicate_key_runs()
+	{
+		List<String> result = createSut(KeyJoinType.INNER, false).createOutput(asList("a", "b", "cc", "ddd"),
+			asList(1, 1, 3, 3));
+		
+		assertThat(result, is(asList("a1", "a1", "b1", "b1", "ddd3", "ddd3")));
+	}
+	
+	@Test
+	public void left_outer_join_keeps_unmatched_input1_elements()
+	{
+		List<String> result = createSut(KeyJoinType.LEFT_OUTER, false).createOutput(asList("a", "bb", "ccc", "dddd"),
+			asList(2, 3));
+		
+		assertThat(result, is(asList("anull", "bb2", "ccc3", "ddddnull")));
+	}
+	
+	@Test
+	public void full_outer_join_keeps_unmatched_elements_of_both_inputs_in_key_order()
+	{
+		List<String> result = createSut(KeyJoinType.FULL_OUTER, false).createOutput(asList("bb", "dddd"),
+			asList(1, 2, 3, 5));
+		
+		assertThat(result, is(asList("null1", "bb2", "null3", "ddddnull", "null5")));
+	}
+	
+	@Test
+	public void joins_empty_inputs()
+	{
+		List<String> result = createSut(KeyJoinType.FULL_OUTER, true).createOutput(asList("a"), asList());
+		
+		assertThat(result, is(asList("anull")));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void with_verifySorted_throws_exception_for_unsorted_input1()
+	{
+		createSut(KeyJoinType.INNER, true).createOutput(asList("a", "ccc", "bb"), asList(1, 2, 3));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void with_verifySorted_throws_exception_for_unsorted_input2()
+	{
+		createSut(KeyJoinType.FULL_OUTER, true).createOutput(asList("a"), asList(1, 3, 2));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void keys_constructor_throws_exception_for_null_keyComparator()
+	{
+		new SortMergeKeys<Integer, String, Integer>(String::length, input2 -> input2, null);
+	}
+}
@@ -0,0 +1,137 @@
+package net.objectzoo.ebc.join;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class StreamingJoinCollectionsTest
+{
+	private final List<Object> events = new ArrayList<Object>();
+	
+	private final StreamingJoinCollections<String, Integer, String> sut = createJoin();
+	
+	private StreamingJoinCollections<String, Integer, String> createJoin()
+	{
+		StreamingJoinCollections<String, Integer, String> join = new StreamingJoinCollections<String, Integer, String>(
+			(s, i) -> s + i);
+		join.resultEvent().subscribe(events::add);
+		join.completedEvent().subscribe(() -> events.add("completed"));
+		return join;
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_throws_exception_for_null_output_creator()
+	{
+		new StreamingJoinCollections<String, Integer, String>(null);
+	}
+	
+	@Test
+	public void joins_elements_as_soon_as_both_are_available()
+	{
+		sut.input1Action().accept(asList("a", "b", "c"));
+		
+		assertThat(events.isEmpty(), is(true));
+		assertThat(sut.getPendingCount(), is(3));
+		
+		sut.input2Action().accept(asList(1, 2));
+		
+		assertThat(events, is(asList((Object) asList("a1", "b2"))));
+		assertThat(sut.getPendingCount(), is(1));
+		
+		sut.input2ElementAction().accept(3);
+		sut.input2ElementAction().accept(4);
+		
+		assertThat(events, is(asList((Object) asList("a1", "b2"), asList("c3"))));
+		assertThat(sut.getPendingCount(), is(1));
+	}
+	
+	@Test
+	public void joins_pending_null_elements()
+	{
+		sut.input1Action().accept(asList("a", null));
+		sut.input2ElementAction().accept(null);
+		sut.input2ElementAction().accept(2);
+		
+		assertThat(events, is(asList((Object) asList("anull"), asList("null2"))));
+		assertThat(sut.getPendingCount(), is(0));
+	}
+	
+	@Test
+	public void sends_completed_when_both_inputs_completed()
+	{
+		sut.input1ElementAction().accept("a");
+		sut.input2ElementAction().accept(1);
+		sut.input1CompletedAction().start();
+		
+		assertThat(events, is(asList((Object) asList("a1"))));
+		
+		sut.input2CompletedAction().start();
+		
+		assertThat(events, is(asList((Object) asList("a1"), "completed")));
+		assertThat(sut.getPendingCount(), is(0));
+	}
+	
+	@Test
+	public void ignores_exceeding_elements_after_other_input_completed()
+	{
+		sut.input1Action().accept(asList("a", "b"));
+		sut.input1CompletedAction().start();
+		sut.input2Action().accept(asList(1, 2, 3));
+		sut.input2ElementAction().accept(4);
+		
+		assertThat(events, is(asList((Object) asList("a1", "b2"))));
+		assertThat(sut.getPendingCount(), is(0));
+	}
+	
+	@Test
+	public void discards_pending_elements_when_other_input_completed()
+	{
+		sut.input1Action().accept(asList("a", "b"));
+		sut.input2CompletedAction().start();
+		
+		assertThat(sut.getPendingCount(), is(0));
+		
+		sut.input1CompletedAction().start();
+		
+		assertThat(events, is(asList((Object) "completed")));
+	}
+	
+	@Test
+	public void starts_over_after_completed()
+	{
+		sut.input1CompletedAction().start();
+		sut.input2CompletedAction().start();
+		
+		sut.input1ElementAction().accept("a");
+		sut.input2ElementAction().accept(1);
+		
+		assertThat(events, is(asList("completed", asList("a1"))));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void input_after_completed_throws_exception()
+	{
+		sut.input1CompletedAction().start();
+		
+		sut.input1ElementAction().accept("a");
+	}
+	
+	@Test
+	public void reset_discards_pending_elements()
+	{
+		sut.input1Action().accept(asList("a", "b"));
+		sut.input1CompletedAction().start();
+		
+		sut.resetAction().start();
+		sut.input2ElementAction().accept(1);
+		sut.input1ElementAction().accept("c");
+		
+		assertThat(events, is(asList((Object) asList("c1"))));
+	}
+}
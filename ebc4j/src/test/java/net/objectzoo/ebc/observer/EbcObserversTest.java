@@ -0,0 +1,209 @@
+package net.objectzoo.ebc.observer;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.objectzoo.ebc.impl.ProcessAndResultBase;
+import net.objectzoo.ebc.impl.StartAndSignalBase;
+import net.objectzoo.ebc.join.JoinToPair;
+import net.objectzoo.ebc.join.KeyedJoin;
+
+@SuppressWarnings("javadoc")
+public class EbcObserversTest
+{
+	static class RecordingObserver implements EbcObserver
+	{
+		final String name;
+		
+		final List<String> records;
+		
+		RecordingObserver(String name, List<String> records)
+		{
+			this.name = name;
+			this.records = records;
+		}
+		
+		@Override
+		public void dispatchStarted(Object ebc, DispatchKind kind, Object parameter)
+		{
+			records.add(name + " started " + kind + " " + parameter);
+		}
+		
+		@Override
+		public void dispatchCompleted(Object ebc, DispatchKind kind, long durationNanos, Throwable error)
+		{
+			records.add(name + " completed " + kind + " " + (error == null ? "normally" : error.getMessage()));
+		}
+		
+		@Override
+		public void sent(Object ebc, DispatchKind kind, Object parameter)
+		{
+			records.add(name + " sent " + kind + " " + parameter);
+		}
+	}
+	
+	static class Doubler extends ProcessAndResultBase<Integer, Integer>
+	{
+		@Override
+		protected void process(Integer parameter)
+		{
+			if (parameter < 0)
+			{
+				throw new IllegalArgumentException("negative");
+			}
+			if (parameter == 0)
+			{
+				throw new AssertionError("zero");
+			}
+			sendResult(parameter * 2);
+		}
+	}
+	
+	static class Signaller extends StartAndSignalBase
+	{
+		@Override
+		protected void start()
+		{
+			sendSignal();
+		}
+	}
+	
+	private final List<String> records = new ArrayList<String>();
+	
+	@After
+	public void clearObservers()
+	{
+		EbcObservers.clear();
+	}
+	
+	@Test
+	public void no_observer_is_current_by_default()
+	{
+		assertThat(EbcObservers.current(), is(nullValue()));
+	}
+	
+	@Test
+	public void observer_is_notified_about_process_and_result()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		
+		new Doubler().processAction().accept(21);
+		
+		assertThat(records, is(asList("o started PROCESS 21", "o sent RESULT 42", "o completed PROCESS normally")));
+	}
+	
+	@Test
+	public void observer_is_notified_about_start_and_signal()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		
+		new Signaller().startAction().start();
+		
+		assertThat(records, is(asList("o started START null", "o sent SIGNAL null", "o completed START normally")));
+	}
+	
+	@Test
+	public void observer_is_notified_about_failed_process()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		
+		try
+		{
+			new Doubler().processAction().accept(-1);
+			fail();
+		}
+		catch (IllegalArgumentException e)
+		{
+			assertThat(records, is(asList("o started PROCESS -1", "o completed PROCESS negative")));
+		}
+	}
+	
+	@Test
+	public void observer_is_notified_about_process_failed_with_error()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		
+		try
+		{
+			new Doubler().processAction().accept(0);
+			fail();
+		}
+		catch (AssertionError e)
+		{
+			assertThat(e.getMessage(), is("zero"));
+			assertThat(records, is(asList("o started PROCESS 0", "o completed PROCESS zero")));
+		}
+	}
+	
+	@Test
+	public void observer_is_notified_about_join_inputs()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		JoinToPair<String, String> join = new JoinToPair<String, String>();
+		
+		join.input1Action().accept("a");
+		join.input2Action().accept("b");
+		
+		assertThat(records, is(asList("o started PROCESS a", "o completed PROCESS normally", "o started PROCESS b",
+			"o sent RESULT Pair [item1=a, item2=b]", "o completed PROCESS normally")));
+	}
+	
+	@Test
+	public void observer_is_notified_about_keyed_join_inputs()
+	{
+		EbcObservers.add(new RecordingObserver("o", records));
+		KeyedJoin<String, String, String, String> join = new KeyedJoin<String, String, String, String>(
+			input -> input.substring(0, 1), input -> input.substring(0, 1), (input1, input2) -> input1 + input2);
+		
+		join.input1Action().accept("a1");
+		join.input2Action().accept("a2");
+		
+		assertThat(records, is(asList("o started PROCESS a1", "o completed PROCESS normally", "o started PROCESS a2",
+			"o sent RESULT a1a2", "o completed PROCESS normally")));
+	}
+	
+	@Test
+	public void several_observers_are_notified_in_order_of_adding()
+	{
+		RecordingObserver observer1 = new RecordingObserver("1", records);
+		RecordingObserver observer2 = new RecordingObserver("2", records);
+		EbcObservers.add(observer1);
+		EbcObservers.add(observer2);
+		EbcObservers.add(observer1);
+		
+		new Signaller().startAction().start();
+		
+		assertThat(records, is(asList("1 started START null", "2 started START null", "1 sent SIGNAL null",
+			"2 sent SIGNAL null", "1 completed START normally", "2 completed START normally")));
+	}
+	
+	@Test
+	public void removed_observer_is_not_notified()
+	{
+		RecordingObserver observer1 = new RecordingObserver("1", records);
+		RecordingObserver observer2 = new RecordingObserver("2", records);
+		EbcObservers.add(observer1);
+		EbcObservers.add(observer2);
+		
+		EbcObservers.remove(observer1);
+		
+		assertThat(EbcObservers.current(), is((EbcObserver) observer2));
+		EbcObservers.remove(observer2);
+		assertThat(EbcObservers.current(), is(nullValue()));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void adding_null_is_rejected()
+	{
+		EbcObservers.add(null);
+	}
+}
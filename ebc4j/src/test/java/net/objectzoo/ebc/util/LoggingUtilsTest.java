@@ -0,0 +1,116 @@
+package net.objectzoo.ebc.util;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LoggingUtilsTest
+{
+	static class LoggingEbc
+	{
+		// used as logger name only
+	}
+	
+	private final List<String> messages = new ArrayList<String>();
+	
+	private final Handler handler = new Handler()
+	{
+		@Override
+		public void publish(LogRecord record)
+		{
+			messages.add(record.getMessage());
+		}
+		
+		@Override
+		public void flush()
+		{
+			// nothing to flush
+		}
+		
+		@Override
+		public void close()
+		{
+			// nothing to close
+		}
+	};
+	
+	private final Logger sut = LoggingUtils.getLogger(LoggingEbc.class);
+	
+	@Before
+	public void addHandler()
+	{
+		sut.addHandler(handler);
+		sut.setUseParentHandlers(false);
+		sut.setLevel(Level.FINE);
+	}
+	
+	@After
+	public void removeHandler()
+	{
+		sut.removeHandler(handler);
+		sut.setUseParentHandlers(true);
+		sut.setLevel(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void getLogger_throws_exception_for_null_class()
+	{
+		LoggingUtils.getLogger((Class<?>) null);
+	}
+	
+	@Test
+	public void getLogger_returns_shared_logger_per_class()
+	{
+		assertThat(LoggingUtils.getLogger(new LoggingEbc()), sameInstance(sut));
+		assertThat(Logger.getLogger(LoggingEbc.class.getName()), sameInstance(sut));
+	}
+	
+	@Test
+	public void log_logs_message_and_parameter_for_enabled_level()
+	{
+		LoggingUtils.log(sut, Level.FINE, "message: ", 42);
+		
+		assertThat(messages, is(asList("message: 42")));
+	}
+	
+	@Test
+	public void log_ignores_disabled_level_without_building_message()
+	{
+		Object failingParameter = new Object()
+		{
+			@Override
+			public String toString()
+			{
+				throw new AssertionError("message built for disabled level");
+			}
+		};
+		
+		LoggingUtils.log(sut, Level.FINEST, "message: ", failingParameter);
+		
+		assertThat(messages.isEmpty(), is(true));
+	}
+	
+	@Test
+	public void log_follows_level_changes_of_logger()
+	{
+		sut.setLevel(Level.INFO);
+		LoggingUtils.log(sut, Level.FINE, "first: ", 1);
+		sut.setLevel(Level.FINEST);
+		LoggingUtils.log(sut, Level.FINE, "second: ", 2);
+		
+		assertThat(messages, is(asList("second: 2")));
+	}
+}